@@ -284,6 +284,54 @@ if [[ ! -z "$ZEPPELIN_IMPERSONATE_USER" ]]; then
   fi
 fi
 
+# Class data sharing (AppCDS) archive of this interpreter setting, which is regenerated when
+# the classpath changes. Java 13+ dumps the archive when the interpreter process exits,
+# Java 10-12 dumps the list of loaded classes first, then builds the archive in background.
+if [[ "${ZEPPELIN_INTP_CDS_ENABLED}" == "true" ]]; then
+  if [[ "${JVM_VERSION}" -lt 10 ]]; then
+    echo "Class data sharing archive requires Java 10 or newer, skip it"
+  else
+    CDS_DIR="${ZEPPELIN_INTP_CDS_DIR:-${ZEPPELIN_PID_DIR}/cds}/${INTERPRETER_SETTING_NAME:-${INTERPRETER_ID}}"
+    mkdir -p "${CDS_DIR}"
+    CDS_CLASSPATH="${ZEPPELIN_INTP_CLASSPATH_OVERRIDES}:${ZEPPELIN_INTP_CLASSPATH}"
+    CDS_CLASSPATH_FILES="$(echo "${CDS_CLASSPATH}" | tr ':' '\n')"
+    if [[ -n "${SPARK_SUBMIT}" ]]; then
+      CDS_CLASSPATH_FILES+=$'\n'"$(ls -d "${SPARK_HOME}"/jars/* 2> /dev/null)"
+    fi
+    # hash of java version, classpath, and size and modification time of each classpath entry
+    CDS_HASH=$( (echo "${jvmver} ${SPARK_SUBMIT_OPTIONS}";
+      echo "${CDS_CLASSPATH_FILES}" | while read -r f; do
+        [[ -n "${f}" && -e "${f}" ]] && ls -ldL "${f}" 2> /dev/null | awk '{$1=$2=$3=$4=""; print}'
+      done) | cksum | awk '{print $1}')
+    CDS_ARCHIVE="${CDS_DIR}/${CDS_HASH}.jsa"
+    CDS_CLASSLIST="${CDS_DIR}/${CDS_HASH}.classlist"
+    if [[ -f "${CDS_ARCHIVE}" ]]; then
+      JAVA_INTP_OPTS+=" -XX:SharedArchiveFile=${CDS_ARCHIVE} -Xshare:auto"
+    else
+      # remove the files of the previous classpath
+      for f in "${CDS_DIR}"/*; do
+        if [[ -f "${f}" && "$(basename "${f}")" != "${CDS_HASH}."* ]]; then
+          rm -f "${f}"
+        fi
+      done
+      CDS_TMP_FILE="${CDS_DIR}/${CDS_HASH}.$$.tmp"
+      if [[ "${JVM_VERSION}" -ge 13 ]]; then
+        JAVA_INTP_OPTS+=" -XX:ArchiveClassesAtExit=${CDS_TMP_FILE}"
+        CDS_DUMP_TARGET="${CDS_ARCHIVE}"
+      elif [[ -z "${SPARK_SUBMIT}" ]]; then
+        if [[ -f "${CDS_CLASSLIST}" ]]; then
+          (${ZEPPELIN_RUNNER} -Xshare:dump -XX:SharedClassListFile="${CDS_CLASSLIST}" \
+            -XX:SharedArchiveFile="${CDS_TMP_FILE}" -cp "${CDS_CLASSPATH}" > /dev/null 2>&1 \
+            && mv -f "${CDS_TMP_FILE}" "${CDS_ARCHIVE}") &
+        else
+          JAVA_INTP_OPTS+=" -XX:DumpLoadedClassList=${CDS_TMP_FILE}"
+          CDS_DUMP_TARGET="${CDS_CLASSLIST}"
+        fi
+      fi
+    fi
+  fi
+fi
+
 if [[ -n "${SPARK_SUBMIT}" ]]; then
     INTERPRETER_RUN_COMMAND+=' '` echo ${SPARK_SUBMIT} --class ${ZEPPELIN_SERVER} --driver-class-path \"${ZEPPELIN_INTP_CLASSPATH_OVERRIDES}:${ZEPPELIN_INTP_CLASSPATH}\" --driver-java-options \"${JAVA_INTP_OPTS}\" ${SPARK_SUBMIT_OPTIONS} ${ZEPPELIN_SPARK_CONF} ${SPARK_APP_JAR} ${CALLBACK_HOST} ${PORT} \"${INTP_GROUP_ID}\" ${INTP_PORT}`
 else
@@ -327,4 +375,8 @@ function shutdown_hook() {
 
 wait
 
+if [[ -n "${CDS_DUMP_TARGET}" ]] && [[ -s "${CDS_TMP_FILE}" ]]; then
+  mv -f "${CDS_TMP_FILE}" "${CDS_DUMP_TARGET}"
+fi
+rm -f "${CDS_TMP_FILE}" > /dev/null 2> /dev/null
 rm -f "${ZEPPELIN_PID}" > /dev/null 2> /dev/null
@@ -36,12 +36,12 @@ import org.apache.zeppelin.flink.FlinkShims;
 import org.apache.zeppelin.flink.JobManager;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.InetAddress;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -55,6 +55,7 @@ public abstract class AbstractStreamSqlJob {
   private static Logger LOGGER = LoggerFactory.getLogger(AbstractStreamSqlJob.class);
 
   private static AtomicInteger SQL_INDEX = new AtomicInteger(0);
+  private static AtomicInteger REFRESH_SEQUENCE = new AtomicInteger(0);
   protected StreamExecutionEnvironment senv;
   protected TableEnvironment stenv;
   protected JobManager jobManager;
@@ -65,7 +66,9 @@ public abstract class AbstractStreamSqlJob {
   protected volatile boolean enableToRefresh = true;
   protected int defaultParallelism;
   protected FlinkShims flinkShims;
-  protected ScheduledExecutorService refreshScheduler = Executors.newScheduledThreadPool(1);
+  protected String refreshSchedulerName =
+      "StreamSqlRefresh-" + REFRESH_SEQUENCE.incrementAndGet() + "-";
+  protected ScheduledExecutorService refreshScheduler;
 
   public AbstractStreamSqlJob(StreamExecutionEnvironment senv,
                               TableEnvironment stenv,
@@ -151,6 +154,8 @@ public abstract class AbstractStreamSqlJob {
       long delay = 1000L;
       long period = Long.parseLong(
               context.getLocalProperties().getOrDefault("refreshInterval", "3000"));
+      refreshScheduler =
+          ExecutorFactory.singleton().createOrGetScheduled(refreshSchedulerName, 1);
       refreshScheduler.scheduleAtFixedRate(new RefreshTask(context), delay, period, MILLISECONDS);
 
       ResultRetrievalThread retrievalThread = new ResultRetrievalThread(refreshScheduler);
@@ -171,7 +176,7 @@ public abstract class AbstractStreamSqlJob {
       LOGGER.error("Fail to run stream sql job", e);
       throw new IOException("Fail to run stream sql job", e);
     } finally {
-      refreshScheduler.shutdownNow();
+      ExecutorFactory.singleton().shutdownNow(refreshSchedulerName);
     }
   }
 
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster;
+
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Queue cluster event messages per topic and send them to the other cluster servers in batches.
+ *
+ * A batch is sent as one frame: FRAME_MAGIC, the frame format version, flags, and the
+ * length-prefixed UTF-8 messages, gzip compressed when they are larger than the compress
+ * threshold. Data that does not start with FRAME_MAGIC is decoded as a single plain message,
+ * which is how events were sent before batching.
+ */
+public class ClusterEventBatcher {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClusterEventBatcher.class);
+
+  // 0xBE never starts an UTF-8 string, so a frame can't be mistaken for a plain message
+  static final byte FRAME_MAGIC = (byte) 0xBE;
+  static final byte FRAME_VERSION = 1;
+  static final byte FLAG_GZIP = 0x01;
+
+  private static final AtomicInteger BATCHER_SEQUENCE = new AtomicInteger();
+
+  private final long batchInterval;
+  private final int compressThreshold;
+  // (topic, frame) -> send to the other cluster servers
+  private final BiConsumer<String, byte[]> sender;
+  // server and client of the cluster can run in the same process, each has its own pool
+  private final String flushExecutorName =
+      "ClusterEventBatcher-" + BATCHER_SEQUENCE.incrementAndGet() + "-";
+
+  // topic -> messages waiting for the next flush
+  private final Map<String, List<String>> pendingMessages = new LinkedHashMap<>();
+  private ScheduledExecutorService flushExecutor = null;
+  private boolean flushScheduled = false;
+
+  /**
+   * @param batchInterval milliseconds to queue messages before sending them,
+   *                      0 sends every message immediately
+   * @param compressThreshold frames larger than this number of bytes are gzip compressed,
+   *                          a negative value disables compression
+   */
+  public ClusterEventBatcher(long batchInterval, int compressThreshold,
+                             BiConsumer<String, byte[]> sender) {
+    this.batchInterval = batchInterval;
+    this.compressThreshold = compressThreshold;
+    this.sender = sender;
+  }
+
+  public void send(String topic, String message) {
+    if (batchInterval <= 0) {
+      sender.accept(topic, encode(Collections.singletonList(message), compressThreshold));
+      return;
+    }
+
+    synchronized (pendingMessages) {
+      pendingMessages.computeIfAbsent(topic, k -> new ArrayList<>()).add(message);
+      if (!flushScheduled) {
+        if (flushExecutor == null) {
+          flushExecutor = ExecutorFactory.singleton().createOrGetScheduled(flushExecutorName, 1);
+        }
+        flushExecutor.schedule(this::flush, batchInterval, TimeUnit.MILLISECONDS);
+        flushScheduled = true;
+      }
+    }
+  }
+
+  /**
+   * Send all the queued messages, one frame per topic.
+   */
+  public void flush() {
+    Map<String, List<String>> batches;
+    synchronized (pendingMessages) {
+      batches = new LinkedHashMap<>(pendingMessages);
+      pendingMessages.clear();
+      flushScheduled = false;
+    }
+
+    for (Map.Entry<String, List<String>> entry : batches.entrySet()) {
+      try {
+        sender.accept(entry.getKey(), encode(entry.getValue(), compressThreshold));
+      } catch (Exception e) {
+        LOGGER.error("Fail to send {} cluster events of topic {}",
+            entry.getValue().size(), entry.getKey(), e);
+      }
+    }
+  }
+
+  public void shutdown() {
+    synchronized (pendingMessages) {
+      if (flushExecutor != null) {
+        ExecutorFactory.singleton().shutdownNow(flushExecutorName);
+        flushExecutor = null;
+      }
+    }
+    flush();
+  }
+
+  public static byte[] encode(List<String> messages, int compressThreshold) {
+    try {
+      ByteArrayOutputStream payload = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(payload);
+      out.writeInt(messages.size());
+      for (String message : messages) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+      }
+      out.flush();
+
+      boolean compress = compressThreshold >= 0 && payload.size() > compressThreshold;
+      ByteArrayOutputStream frame = new ByteArrayOutputStream(payload.size() + 3);
+      frame.write(FRAME_MAGIC);
+      frame.write(FRAME_VERSION);
+      frame.write(compress ? FLAG_GZIP : 0);
+      if (compress) {
+        try (GZIPOutputStream gzip = new GZIPOutputStream(frame)) {
+          payload.writeTo(gzip);
+        }
+      } else {
+        payload.writeTo(frame);
+      }
+      return frame.toByteArray();
+    } catch (IOException e) {
+      // only in memory streams are involved
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public static List<String> decode(byte[] data) {
+    if (data.length == 0 || data[0] != FRAME_MAGIC) {
+      return Collections.singletonList(new String(data, StandardCharsets.UTF_8));
+    }
+    if (data.length < 3 || data[1] != FRAME_VERSION) {
+      throw new IllegalArgumentException("Unsupported cluster event frame version: "
+          + (data.length < 2 ? "none" : data[1]));
+    }
+
+    try {
+      InputStream payload = new ByteArrayInputStream(data, 3, data.length - 3);
+      if ((data[2] & FLAG_GZIP) != 0) {
+        payload = new GZIPInputStream(payload);
+      }
+      try (DataInputStream in = new DataInputStream(payload)) {
+        int count = in.readInt();
+        List<String> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          byte[] bytes = new byte[in.readInt()];
+          in.readFully(bytes);
+          messages.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return messages;
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Invalid cluster event frame", e);
+    }
+  }
+}
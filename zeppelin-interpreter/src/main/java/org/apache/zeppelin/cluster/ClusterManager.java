@@ -21,6 +21,8 @@ import io.atomix.cluster.MemberId;
 import io.atomix.cluster.Node;
 import io.atomix.cluster.messaging.MessagingService;
 import io.atomix.cluster.messaging.impl.NettyMessagingService;
+import io.atomix.primitive.event.PrimitiveEvent;
+import io.atomix.primitive.operation.OperationId;
 import io.atomix.primitive.operation.OperationType;
 import io.atomix.primitive.operation.PrimitiveOperation;
 import io.atomix.primitive.operation.impl.DefaultOperationId;
@@ -106,7 +108,7 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ExecutionException;
@@ -146,9 +148,20 @@ public abstract class ClusterManager {
 
   protected AtomicBoolean running = new AtomicBoolean(true);
 
-  // Write data through the queue to prevent failure due to network exceptions
-  private ConcurrentLinkedQueue<ClusterMetaEntity> clusterMetaQueue
-      = new ConcurrentLinkedQueue<>();
+  // Write data through the queue to prevent failure due to network exceptions,
+  // the metadata queued while a write is in progress is written in one raft command
+  private LinkedBlockingDeque<ClusterMetaEntity> clusterMetaQueue
+      = new LinkedBlockingDeque<>();
+  private static final int MAX_META_BATCH_SIZE = 500;
+  private final Object clusterMetaWriteLock = new Object();
+  // The metadata taken from the queue and being written, reads merge it with the queue
+  // until it is in the cluster metadata
+  private List<ClusterMetaEntity> flushingMeta = Collections.emptyList();
+  private final Object pendingMetaLock = new Object();
+
+  // Number of changes of the watched metadata published by the ClusterStateMachine
+  private long clusterMetaChanges = 0;
+  private final Object clusterMetaChangeLock = new Object();
 
   // zeppelin server host & port
   protected String zeplServerHost = "";
@@ -244,7 +257,10 @@ public abstract class ClusterManager {
 
         raftClient.connect(clusterMemberIds).join();
 
-        raftSessionClient = createProxy(raftClient);
+        SessionClient sessionClient = createProxy(raftClient);
+        sessionClient.addEventListener(ClusterStateMachine.META_CHANGED,
+            ClusterManager.this::onClusterMetaChanged);
+        raftSessionClient = sessionClient;
 
         LOGGER.info("RaftClientThread run() <<<");
       }
@@ -256,34 +272,23 @@ public abstract class ClusterManager {
       public void run() {
         try {
           while (getRunning().get()) {
-            ClusterMetaEntity metaEntity = clusterMetaQueue.peek();
-            if (null != metaEntity) {
-              // Determine whether the client is connected
-              int retry = 0;
-              while (!raftInitialized()) {
-                retry++;
-                if (0 == retry % 30) {
-                  LOGGER.warn("Raft incomplete initialization! retry[{}]", retry);
-                }
-                Thread.sleep(100);
-              }
-              boolean success = false;
-              switch (metaEntity.getOperation()) {
-                case DELETE_OPERATION:
-                  success = deleteClusterMeta(metaEntity);
-                  break;
-                case PUT_OPERATION:
-                  success = putClusterMeta(metaEntity);
-                  break;
-              }
-              if (true == success) {
-                // The operation was successfully deleted
-                clusterMetaQueue.remove(metaEntity);
-                LOGGER.info("Cluster Meta Consume success! {}", metaEntity);
-              } else {
-                LOGGER.error("Cluster Meta Consume faild!");
+            // Wait for metadata to write
+            ClusterMetaEntity metaEntity = clusterMetaQueue.pollFirst(1, TimeUnit.SECONDS);
+            if (null == metaEntity) {
+              continue;
+            }
+            clusterMetaQueue.offerFirst(metaEntity);
+
+            // Determine whether the client is connected
+            int retry = 0;
+            while (!raftInitialized()) {
+              retry++;
+              if (0 == retry % 30) {
+                LOGGER.warn("Raft incomplete initialization! retry[{}]", retry);
               }
-            } else {
+              Thread.sleep(100);
+            }
+            if (!flushClusterMeta()) {
               Thread.sleep(100);
             }
           }
@@ -301,6 +306,7 @@ public abstract class ClusterManager {
     }
 
     running.set(false);
+    flushClusterMeta();
 
     try {
       if (null != raftSessionClient) {
@@ -318,6 +324,15 @@ public abstract class ClusterManager {
     }
   }
 
+  // host and port of this server in the cluster, the other servers send events to it by them
+  public String getClusterHost() {
+    return zeplServerHost;
+  }
+
+  public int getClusterPort() {
+    return raftServerPort;
+  }
+
   public String getClusterNodeName() {
     if (isTest) {
       // Start three cluster servers in the test case at the same time,
@@ -335,74 +350,177 @@ public abstract class ClusterManager {
     return hostName;
   }
 
-  // put metadata into cluster metadata
-  private boolean putClusterMeta(ClusterMetaEntity entity) {
-    if (!raftInitialized()) {
-      LOGGER.error("Raft incomplete initialization!");
-      return false;
-    }
+  // Write the queued metadata to the cluster metadata in one raft command
+  private boolean flushClusterMeta() {
+    synchronized (clusterMetaWriteLock) {
+      if (clusterMetaQueue.isEmpty()) {
+        return true;
+      }
+      if (!raftInitialized()) {
+        LOGGER.error("Raft incomplete initialization!");
+        return false;
+      }
 
-    ClusterMetaType metaType = entity.getMetaType();
-    String metaKey = entity.getKey();
-    HashMap<String, Object> newMetaValue = entity.getValues();
+      List<ClusterMetaEntity> entities = new ArrayList<>();
+      synchronized (pendingMetaLock) {
+        clusterMetaQueue.drainTo(entities, MAX_META_BATCH_SIZE);
+        flushingMeta = entities;
+      }
+      ArrayList<ClusterMetaEntity> batch = mergeClusterMeta(entities);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("flushClusterMeta {} entities in {} operations",
+            entities.size(), batch.size());
+      }
 
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("putClusterMeta {} {}", metaType, metaKey);
+      try {
+        raftSessionClient.execute(operation(ClusterStateMachine.PUT_ALL,
+            clientSerializer.encode(batch))).get(3, TimeUnit.SECONDS);
+        synchronized (pendingMetaLock) {
+          flushingMeta = Collections.emptyList();
+        }
+        return true;
+      } catch (InterruptedException | ExecutionException | TimeoutException e) {
+        LOGGER.error("Cluster Meta Consume failed!", e);
+        // retry them before the metadata queued since
+        synchronized (pendingMetaLock) {
+          for (int i = entities.size() - 1; i >= 0; i--) {
+            clusterMetaQueue.offerFirst(entities.get(i));
+          }
+          flushingMeta = Collections.emptyList();
+        }
+        return false;
+      }
     }
+  }
 
-    // add cluster name
-    newMetaValue.put(ClusterMeta.SERVER_HOST, zeplServerHost);
-    newMetaValue.put(ClusterMeta.SERVER_PORT, raftServerPort);
+  // Merge the puts of the same metadata, as the state machine merges the values of a put
+  // into the existing metadata, except when the metadata is deleted in between.
+  // The entities are not changed, the merged puts are copies.
+  static ArrayList<ClusterMetaEntity> mergeClusterMeta(List<ClusterMetaEntity> entities) {
+    ArrayList<ClusterMetaEntity> merged = new ArrayList<>();
+    // type/key -> last entity of the metadata in merged
+    Map<String, ClusterMetaEntity> lastEntities = new HashMap<>();
+    for (ClusterMetaEntity entity : entities) {
+      String metaKey = entity.getMetaType() + "/" + entity.getKey();
+      ClusterMetaEntity last = lastEntities.get(metaKey);
+      if (entity.getOperation() == PUT_OPERATION
+          && null != last && last.getOperation() == PUT_OPERATION) {
+        last.getValues().putAll(entity.getValues());
+      } else {
+        if (entity.getOperation() == PUT_OPERATION) {
+          entity = new ClusterMetaEntity(PUT_OPERATION, entity.getMetaType(),
+              entity.getKey(), entity.getValues());
+        }
+        merged.add(entity);
+        lastEntities.put(metaKey, entity);
+      }
+    }
+    return merged;
+  }
 
-    raftSessionClient.execute(operation(ClusterStateMachine.PUT,
-        clientSerializer.encode(entity)))
-        .<Long>thenApply(clientSerializer::decode);
-    return true;
+  // Apply the metadata not yet written to the cluster metadata to the result of a read,
+  // the same way the state machine applies them
+  static void applyClusterMeta(HashMap<String, HashMap<String, Object>> clusterMeta,
+                               ClusterMetaType metaType, String metaKey,
+                               List<ClusterMetaEntity> entities) {
+    for (ClusterMetaEntity entity : entities) {
+      if (entity.getMetaType() != metaType
+          || (!StringUtils.isEmpty(metaKey) && !metaKey.equals(entity.getKey()))) {
+        continue;
+      }
+      if (entity.getOperation() == PUT_OPERATION) {
+        clusterMeta.computeIfAbsent(entity.getKey(), k -> new HashMap<>())
+            .putAll(entity.getValues());
+      } else if (entity.getOperation() == DELETE_OPERATION) {
+        clusterMeta.remove(entity.getKey());
+      }
+    }
   }
 
   // put metadata into cluster metadata
   public void putClusterMeta(ClusterMetaType type, String key, HashMap<String, Object> values) {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("putClusterMeta {} {}", type, key);
+    }
+
     ClusterMetaEntity metaEntity = new ClusterMetaEntity(PUT_OPERATION, type, key, values);
+    // add cluster name
+    metaEntity.getValues().put(ClusterMeta.SERVER_HOST, zeplServerHost);
+    metaEntity.getValues().put(ClusterMeta.SERVER_PORT, raftServerPort);
+    clusterMetaQueue.offerLast(metaEntity);
+  }
 
-    boolean result = putClusterMeta(metaEntity);
-    if (false == result) {
-      LOGGER.warn("putClusterMeta failure, Cache metadata to queue.");
-      clusterMetaQueue.add(metaEntity);
-    }
+  // delete metadata from cluster metadata
+  public void deleteClusterMeta(ClusterMetaType type, String key) {
+    // Need to pay attention to delete metadata operations
+    LOGGER.info("deleteClusterMeta {} {}", type, key);
+
+    ClusterMetaEntity metaEntity = new ClusterMetaEntity(DELETE_OPERATION, type, key, null);
+    clusterMetaQueue.offerLast(metaEntity);
   }
 
-  // delete metadata by cluster metadata
-  private boolean deleteClusterMeta(ClusterMetaEntity entity) {
-    ClusterMetaType metaType = entity.getMetaType();
-    String metaKey = entity.getKey();
+  /**
+   * Let the ClusterStateMachine publish the changes of the metadata to this client,
+   * an empty key watches all the metadata of the type.
+   */
+  public void watchClusterMeta(ClusterMetaType type, String key) {
+    executeWatch(ClusterStateMachine.WATCH, type, key);
+  }
 
-    // Need to pay attention to delete metadata operations
-    LOGGER.info("deleteClusterMeta {} {}", metaType, metaKey);
+  public void unwatchClusterMeta(ClusterMetaType type, String key) {
+    executeWatch(ClusterStateMachine.UNWATCH, type, key);
+  }
 
+  private void executeWatch(OperationId operationId, ClusterMetaType type, String key) {
     if (!raftInitialized()) {
       LOGGER.error("Raft incomplete initialization!");
-      return false;
+      return;
     }
-
-    raftSessionClient.execute(operation(
-        ClusterStateMachine.REMOVE,
-        clientSerializer.encode(entity)))
-        .<Long>thenApply(clientSerializer::decode)
-        .thenAccept(result -> {
-          LOGGER.info("deleteClusterMeta {}", result);
+    ClusterMetaEntity entity = new ClusterMetaEntity(GET_OPERATION, type, key, null);
+    raftSessionClient.execute(operation(operationId, clientSerializer.encode(entity)))
+        .whenComplete((r, e) -> {
+          if (null != e) {
+            LOGGER.warn("Fail to {} cluster meta {} {}", operationId.id(), type, key, e);
+          }
         });
+  }
 
-    return true;
+  private void onClusterMetaChanged(PrimitiveEvent event) {
+    if (LOGGER.isDebugEnabled()) {
+      ClusterMetaEntity entity = clientSerializer.decode(event.value());
+      LOGGER.debug("onClusterMetaChanged {} {}", entity.getMetaType(), entity.getKey());
+    }
+    synchronized (clusterMetaChangeLock) {
+      clusterMetaChanges++;
+      clusterMetaChangeLock.notifyAll();
+    }
   }
 
-  // delete metadata from cluster metadata
-  public void deleteClusterMeta(ClusterMetaType type, String key) {
-    ClusterMetaEntity metaEntity = new ClusterMetaEntity(DELETE_OPERATION, type, key, null);
+  /**
+   * @return the number of changes of the watched metadata this client was notified of
+   */
+  public long getClusterMetaChanges() {
+    synchronized (clusterMetaChangeLock) {
+      return clusterMetaChanges;
+    }
+  }
 
-    boolean result = deleteClusterMeta(metaEntity);
-    if (false == result) {
-      LOGGER.warn("deleteClusterMeta faild, Cache data to queue.");
-      clusterMetaQueue.add(metaEntity);
+  /**
+   * Wait until a change of the watched metadata is published after the given number of changes,
+   * or the timeout elapses.
+   *
+   * @return the number of changes of the watched metadata this client was notified of
+   */
+  public long awaitClusterMetaChange(long lastChanges, long timeoutMs)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + timeoutMs;
+    synchronized (clusterMetaChangeLock) {
+      long remaining = timeoutMs;
+      while (clusterMetaChanges == lastChanges && remaining > 0) {
+        clusterMetaChangeLock.wait(remaining);
+        remaining = deadline - System.currentTimeMillis();
+      }
+      return clusterMetaChanges;
     }
   }
 
@@ -415,6 +533,14 @@ public abstract class ClusterManager {
       return clusterMeta;
     }
 
+    // the metadata written by this client but not yet in the cluster metadata,
+    // taken before the read so that none is missed when it is flushed meanwhile
+    List<ClusterMetaEntity> pendingMeta;
+    synchronized (pendingMetaLock) {
+      pendingMeta = new ArrayList<>(flushingMeta);
+      pendingMeta.addAll(clusterMetaQueue);
+    }
+
     ClusterMetaEntity entity = new ClusterMetaEntity(GET_OPERATION, metaType, metaKey, null);
 
     byte[] mateData = null;
@@ -432,6 +558,7 @@ public abstract class ClusterManager {
     if (null != mateData) {
       clusterMeta = clientSerializer.decode(mateData);
     }
+    applyClusterMeta(clusterMeta, metaType, metaKey, pendingMeta);
 
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("getClusterMeta >>> {}", clusterMeta.toString());
@@ -443,40 +570,51 @@ public abstract class ClusterManager {
   public InterpreterClient getIntpProcessStatus(String intpName,
                                                 int timeout,
                                                 ClusterCallback<HashMap<String, Object>> callback) {
+    // Waiting for a change of the interpreter meta is woken as soon as the ClusterStateMachine
+    // publishes it, the interval only bounds the wait when a notification is lost.
     final int CHECK_META_INTERVAL = 1000;
-    int MAX_RETRY_GET_META = timeout / CHECK_META_INTERVAL;
+    long deadline = System.currentTimeMillis() + timeout;
     int retryGetMeta = 0;
-    while (retryGetMeta++ < MAX_RETRY_GET_META) {
-      HashMap<String, Object> intpMeta = getClusterMeta(INTP_PROCESS_META, intpName).get(intpName);
-      if (interpreterMetaOnline(intpMeta)) {
-        // connect exist Interpreter Process
-        String intpTSrvHost = (String) intpMeta.get(INTP_TSERVER_HOST);
-        int intpTSrvPort = (int) intpMeta.get(INTP_TSERVER_PORT);
-        LOGGER.info("interpreter thrift {}:{} service is online!", intpTSrvHost, intpTSrvPort);
-
-        // Check if the interpreter thrift service is available
-        boolean remoteIntpAccessible =
-            RemoteInterpreterUtils.checkIfRemoteEndpointAccessible(intpTSrvHost, intpTSrvPort);
-        if (remoteIntpAccessible) {
-          LOGGER.info("interpreter thrift {}:{} accessible!", intpTSrvHost, intpTSrvPort);
-          return callback.online(intpMeta);
+    watchClusterMeta(INTP_PROCESS_META, intpName);
+    try {
+      while (System.currentTimeMillis() < deadline) {
+        retryGetMeta++;
+        long metaChanges = getClusterMetaChanges();
+        HashMap<String, Object> intpMeta
+            = getClusterMeta(INTP_PROCESS_META, intpName).get(intpName);
+        if (interpreterMetaOnline(intpMeta)) {
+          // connect exist Interpreter Process
+          String intpTSrvHost = (String) intpMeta.get(INTP_TSERVER_HOST);
+          int intpTSrvPort = (int) intpMeta.get(INTP_TSERVER_PORT);
+          LOGGER.info("interpreter thrift {}:{} service is online!", intpTSrvHost, intpTSrvPort);
+
+          // Check if the interpreter thrift service is available
+          boolean remoteIntpAccessible =
+              RemoteInterpreterUtils.checkIfRemoteEndpointAccessible(intpTSrvHost, intpTSrvPort);
+          if (remoteIntpAccessible) {
+            LOGGER.info("interpreter thrift {}:{} accessible!", intpTSrvHost, intpTSrvPort);
+            return callback.online(intpMeta);
+          } else {
+            LOGGER.error("interpreter thrift {}:{} service is not available!",
+                intpTSrvHost, intpTSrvPort);
+            try {
+              Thread.sleep(CHECK_META_INTERVAL);
+              LOGGER.warn("retry {} times to get {} meta!", retryGetMeta, intpName);
+            } catch (InterruptedException e) {
+              LOGGER.error(e.getMessage(), e);
+            }
+          }
         } else {
-          LOGGER.error("interpreter thrift {}:{} service is not available!",
-              intpTSrvHost, intpTSrvPort);
           try {
-            Thread.sleep(CHECK_META_INTERVAL);
-            LOGGER.warn("retry {} times to get {} meta!", retryGetMeta, intpName);
+            awaitClusterMetaChange(metaChanges,
+                Math.min(CHECK_META_INTERVAL, deadline - System.currentTimeMillis()));
           } catch (InterruptedException e) {
             LOGGER.error(e.getMessage(), e);
           }
         }
-      } else {
-        try {
-          Thread.sleep(CHECK_META_INTERVAL);
-        } catch (InterruptedException e) {
-          LOGGER.error(e.getMessage(), e);
-        }
       }
+    } finally {
+      unwatchClusterMeta(INTP_PROCESS_META, intpName);
     }
 
     LOGGER.error("retry {} times not get {} meta!", retryGetMeta, intpName);
@@ -591,6 +729,7 @@ public abstract class ClusterManager {
   protected static final Serializer clientSerializer = Serializer.using(Namespace.builder()
       .register(ReadConsistency.class)
       .register(ClusterMetaEntity.class)
+      .register(ArrayList.class)
       .register(ClusterMetaOperation.class)
       .register(ClusterMetaType.class)
       .register(HashMap.class)
@@ -34,8 +34,11 @@ import io.atomix.utils.net.Address;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.cluster.event.ClusterEventListener;
 import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.apache.zeppelin.cluster.placement.PlacementEngine;
 import org.apache.zeppelin.cluster.protocol.RaftServerMessagingProtocol;
+import org.apache.zeppelin.cluster.sharding.NoteOwnership;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,10 +48,12 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 
+import static org.apache.zeppelin.cluster.meta.ClusterMetaType.INTP_PROCESS_META;
 import static org.apache.zeppelin.cluster.meta.ClusterMetaType.SERVER_META;
 
 /**
@@ -77,8 +82,19 @@ public class ClusterManagerServer extends ClusterManager {
   public static String CLUSTER_AUTH_EVENT_TOPIC = "CLUSTER_AUTH_EVENT_TOPIC";
   public static String CLUSTER_INTP_SETTING_EVENT_TOPIC = "CLUSTER_INTP_SETTING_EVENT_TOPIC";
 
+  private volatile PlacementEngine placementEngine = null;
+
+  private final ClusterEventBatcher clusterEventBatcher;
+
+  // owners of the notes, only when zeppelin.cluster.note.sharding is enabled
+  private volatile NoteOwnership noteOwnership = null;
+  private static final String NOTE_OWNERSHIP_EXECUTOR = "NoteOwnershipRefresher-";
+  private ScheduledExecutorService noteOwnershipRefresher = null;
+
   private ClusterManagerServer(ZeppelinConfiguration zConf) {
     super(zConf);
+    clusterEventBatcher = new ClusterEventBatcher(zConf.getClusterEventBatchInterval(),
+        zConf.getClusterEventCompressThreshold(), this::sendClusterEvent);
   }
 
   public static ClusterManagerServer getInstance(ZeppelinConfiguration zConf) {
@@ -102,6 +118,15 @@ public class ClusterManagerServer extends ClusterManager {
     clusterMonitor = new ClusterMonitor(this);
     clusterMonitor.start(SERVER_META, clusterName);
 
+    if (zConf.isClusterNoteSharding()) {
+      // the online servers change at most once a heartbeat
+      noteOwnershipRefresher =
+          ExecutorFactory.singleton().createOrGetScheduled(NOTE_OWNERSHIP_EXECUTOR, 1);
+      long interval = zConf.getClusterHeartbeatInterval();
+      noteOwnershipRefresher.scheduleWithFixedDelay(this::refreshNoteOwnership,
+          interval, interval, TimeUnit.MILLISECONDS);
+    }
+
     super.start();
   }
 
@@ -219,6 +244,7 @@ public class ClusterManagerServer extends ClusterManager {
         meta.put(ClusterMeta.SERVER_HOST, zeplServerHost);
         meta.put(ClusterMeta.SERVER_PORT, raftServerPort);
         meta.put(ClusterMeta.SERVER_START_TIME, LocalDateTime.now());
+        meta.put(ClusterMeta.SERVER_HTTP_ADDRESS, getServerHttpAddress());
         putClusterMeta(SERVER_META, nodeName, meta);
 
         LOGGER.info("RaftServer run() <<<");
@@ -232,6 +258,11 @@ public class ClusterManagerServer extends ClusterManager {
       return;
     }
 
+    clusterEventBatcher.shutdown();
+    if (noteOwnershipRefresher != null) {
+      ExecutorFactory.singleton().shutdownNow(NOTE_OWNERSHIP_EXECUTOR);
+    }
+
     try {
       // delete local machine meta
       deleteClusterMeta(SERVER_META, getClusterNodeName());
@@ -288,6 +319,88 @@ public class ClusterManagerServer extends ClusterManager {
     return idleNodeMeta;
   }
 
+  /**
+   * Choose the server node to launch the process of the interpreter group on, and reserve
+   * it in the cluster meta until the process is online. Expired reservations are removed
+   * from the cluster meta.
+   *
+   * @return meta of the chosen server, null if no server is online
+   */
+  public HashMap<String, Object> placeInterpreterProcess(String intpGroupId) {
+    synchronized (this) {
+      if (placementEngine == null) {
+        placementEngine = new PlacementEngine(zConf);
+      }
+    }
+    HashMap<String, HashMap<String, Object>> intpMeta = getClusterMeta(INTP_PROCESS_META, "");
+    for (String expiredIntpGroupId : placementEngine.getExpiredReservations(intpMeta)) {
+      if (!expiredIntpGroupId.equals(intpGroupId)) {
+        deleteClusterMeta(INTP_PROCESS_META, expiredIntpGroupId);
+      }
+    }
+    HashMap<String, Object> nodeMeta = placementEngine.place(intpGroupId,
+        getClusterMeta(SERVER_META, ""), intpMeta);
+    HashMap<String, Object> reservation = placementEngine.getReservation(intpGroupId);
+    if (nodeMeta != null && reservation != null) {
+      putClusterMeta(INTP_PROCESS_META, intpGroupId, new HashMap<>(reservation));
+    }
+    return nodeMeta;
+  }
+
+  /**
+   * Release the reservation of the node for the interpreter group, e.g. after its launch failed.
+   */
+  public void releaseInterpreterProcessPlacement(String intpGroupId) {
+    if (placementEngine == null) {
+      return;
+    }
+    placementEngine.release(intpGroupId);
+    // the process may get online after its launch timed out, keep its meta then
+    HashMap<String, Object> meta = getClusterMeta(INTP_PROCESS_META, intpGroupId).get(intpGroupId);
+    if (meta == null || PlacementEngine.isReservation(meta)) {
+      deleteClusterMeta(INTP_PROCESS_META, intpGroupId);
+    }
+  }
+
+  private String getServerHttpAddress() {
+    if (zConf.useSsl()) {
+      return "https://" + zeplServerHost + ":" + zConf.getServerSslPort();
+    }
+    return "http://" + zeplServerHost + ":" + zConf.getServerPort();
+  }
+
+  /**
+   * @return owners of the notes in the cluster, null if note sharding is disabled
+   */
+  public NoteOwnership getNoteOwnership() {
+    if (!zConf.isClusterMode() || !zConf.isClusterNoteSharding()) {
+      return null;
+    }
+    synchronized (this) {
+      if (noteOwnership == null) {
+        noteOwnership = new NoteOwnership(getClusterNodeName());
+      }
+    }
+    return noteOwnership;
+  }
+
+  /**
+   * Whether this server runs the paragraphs and the cron job of the note, which is always
+   * true unless note sharding is enabled.
+   */
+  public boolean isNoteOwner(String noteId) {
+    NoteOwnership ownership = getNoteOwnership();
+    return ownership == null || ownership.isOwner(noteId);
+  }
+
+  private void refreshNoteOwnership() {
+    try {
+      getNoteOwnership().update(getClusterMeta(SERVER_META, ""));
+    } catch (Exception e) {
+      LOGGER.warn("Fail to refresh the note owners", e);
+    }
+  }
+
   public void unicastClusterEvent(String host, int port, String topic, String msg) {
     LOGGER.info("send unicastClusterEvent host:{} port:{} topic:{} message:{}",
         host, port, topic, msg);
@@ -296,7 +409,7 @@ public class ClusterManagerServer extends ClusterManager {
     CompletableFuture<byte[]> response = messagingService.sendAndReceive(address,
         topic, msg.getBytes(), Duration.ofSeconds(2));
     response.whenComplete((r, e) -> {
-      if (null == e) {
+      if (null != e) {
         LOGGER.error(e.getMessage(), e);
       }
     });
@@ -306,6 +419,11 @@ public class ClusterManagerServer extends ClusterManager {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("send broadcastClusterEvent message {}", msg);
     }
+    clusterEventBatcher.send(topic, msg);
+  }
+
+  // send a batch of cluster events to all the other cluster servers
+  private void sendClusterEvent(String topic, byte[] data) {
     for (Node node : clusterNodes) {
       if (StringUtils.equals(node.address().host(), zeplServerHost)
           && node.address().port() == raftServerPort) {
@@ -314,60 +432,64 @@ public class ClusterManagerServer extends ClusterManager {
       }
 
       CompletableFuture<byte[]> response = messagingService.sendAndReceive(node.address(),
-          topic, msg.getBytes(), Duration.ofSeconds(2));
+          topic, data, Duration.ofSeconds(2));
       response.whenComplete((r, e) -> {
-        if (null == e) {
+        if (null != e) {
           LOGGER.error(e.getMessage(), e);
-        } else {
-          LOGGER.info("broadcastClusterNoteEvent success! {}", msg);
+        } else if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug("broadcastClusterEvent success! topic:{}, {} bytes", topic, data.length);
         }
       });
     }
   }
 
   private BiFunction<Address, byte[], byte[]> subscribeClusterIntpEvent = (address, data) -> {
-    String message = new String(data);
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("subscribeClusterIntpEvent() {}", message);
-    }
-    for (ClusterEventListener eventListener : clusterIntpEventListeners) {
-      eventListener.onClusterEvent(message);
+    for (String message : ClusterEventBatcher.decode(data)) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("subscribeClusterIntpEvent() {}", message);
+      }
+      for (ClusterEventListener eventListener : clusterIntpEventListeners) {
+        eventListener.onClusterEvent(message);
+      }
     }
 
     return null;
   };
 
   private BiFunction<Address, byte[], byte[]> subscribeClusterNoteEvent = (address, data) -> {
-    String message = new String(data);
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("subscribeClusterNoteEvent() {}", message);
-    }
-    for (ClusterEventListener eventListener : clusterNoteEventListeners) {
-      eventListener.onClusterEvent(message);
+    for (String message : ClusterEventBatcher.decode(data)) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("subscribeClusterNoteEvent() {}", message);
+      }
+      for (ClusterEventListener eventListener : clusterNoteEventListeners) {
+        eventListener.onClusterEvent(message);
+      }
     }
 
     return null;
   };
 
   private BiFunction<Address, byte[], byte[]> subscribeClusterAuthEvent = (address, data) -> {
-    String message = new String(data);
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("subscribeClusterAuthEvent() {}", message);
-    }
-    for (ClusterEventListener eventListener : clusterAuthEventListeners) {
-      eventListener.onClusterEvent(message);
+    for (String message : ClusterEventBatcher.decode(data)) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("subscribeClusterAuthEvent() {}", message);
+      }
+      for (ClusterEventListener eventListener : clusterAuthEventListeners) {
+        eventListener.onClusterEvent(message);
+      }
     }
 
     return null;
   };
 
   private BiFunction<Address, byte[], byte[]> subscribeIntpSettingEvent = (address, data) -> {
-    String message = new String(data);
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("subscribeIntpSettingEvent() {}", message);
-    }
-    for (ClusterEventListener eventListener : clusterIntpSettingEventListeners) {
-      eventListener.onClusterEvent(message);
+    for (String message : ClusterEventBatcher.decode(data)) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("subscribeIntpSettingEvent() {}", message);
+      }
+      for (ClusterEventListener eventListener : clusterIntpSettingEventListeners) {
+        eventListener.onClusterEvent(message);
+      }
     }
 
     return null;
@@ -20,6 +20,7 @@ import com.sun.management.OperatingSystemMXBean;
 import org.apache.zeppelin.cluster.meta.ClusterMeta;
 import org.apache.zeppelin.cluster.meta.ClusterMetaType;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.util.ProcessMemory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +69,14 @@ public class ClusterMonitor {
   // and the interperterGroupID when monitoring the interperter processes
   private String metaKey;
 
+  // Heartbeats only carry the fields changed since they were last sent, besides the heartbeat
+  // time and status. Every FULL_HEARTBEAT_INTERVAL heartbeats all the fields are sent again.
+  private static final int FULL_HEARTBEAT_INTERVAL = 10;
+  // Numbers are considered changed when they differ by more than this fraction
+  private static final double CHANGE_TOLERANCE = 0.01;
+  private int heartbeatCount = 0;
+  private Map<String, Object> sentHeartbeatMeta = new HashMap<>();
+
   public ClusterMonitor(ClusterManager clusterManagerServer) {
     this.clusterManager = clusterManagerServer;
 
@@ -179,8 +188,34 @@ public class ClusterMonitor {
     HashMap<String, Object> mapMonitorUtil = new HashMap<>();
     mapMonitorUtil.put(ClusterMeta.LATEST_HEARTBEAT, LocalDateTime.now());
     mapMonitorUtil.put(ClusterMeta.STATUS, ClusterMeta.ONLINE_STATUS);
+    mapMonitorUtil.put(ClusterMeta.INTP_MEMORY_USED, ProcessMemory.currentMemoryUsed());
+
+    clusterManager.putClusterMeta(INTP_PROCESS_META, metaKey, changedHeartbeatMeta(mapMonitorUtil));
+  }
+
+  // the fields of the heartbeat to send
+  HashMap<String, Object> changedHeartbeatMeta(HashMap<String, Object> heartbeatMeta) {
+    boolean fullHeartbeat = heartbeatCount++ % FULL_HEARTBEAT_INTERVAL == 0;
+    HashMap<String, Object> changedMeta = new HashMap<>();
+    for (Map.Entry<String, Object> entry : heartbeatMeta.entrySet()) {
+      String key = entry.getKey();
+      if (fullHeartbeat
+          || key.equals(ClusterMeta.LATEST_HEARTBEAT) || key.equals(ClusterMeta.STATUS)
+          || valueChanged(sentHeartbeatMeta.get(key), entry.getValue())) {
+        changedMeta.put(key, entry.getValue());
+        sentHeartbeatMeta.put(key, entry.getValue());
+      }
+    }
+    return changedMeta;
+  }
 
-    clusterManager.putClusterMeta(INTP_PROCESS_META, metaKey, mapMonitorUtil);
+  private static boolean valueChanged(Object previous, Object current) {
+    if (previous instanceof Number && current instanceof Number) {
+      double previousValue = ((Number) previous).doubleValue();
+      double currentValue = ((Number) current).doubleValue();
+      return Math.abs(currentValue - previousValue) > Math.abs(previousValue) * CHANGE_TOLERANCE;
+    }
+    return !Objects.equals(previous, current);
   }
 
   // send the usage of each service
@@ -220,7 +255,7 @@ public class ClusterMonitor {
     mapMonitorUtil.put(ClusterMeta.STATUS, ClusterMeta.ONLINE_STATUS);
 
     String clusterName = clusterManager.getClusterNodeName();
-    clusterManager.putClusterMeta(SERVER_META, clusterName, mapMonitorUtil);
+    clusterManager.putClusterMeta(SERVER_META, clusterName, changedHeartbeatMeta(mapMonitorUtil));
   }
 
   private UsageUtil getMachineUsage() {
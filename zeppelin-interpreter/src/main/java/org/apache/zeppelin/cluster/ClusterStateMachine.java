@@ -17,19 +17,26 @@
 package org.apache.zeppelin.cluster;
 
 import com.google.common.collect.Maps;
+import io.atomix.primitive.event.EventType;
 import io.atomix.primitive.operation.OperationId;
 import io.atomix.primitive.service.AbstractPrimitiveService;
 import io.atomix.primitive.service.BackupOutput;
 import io.atomix.primitive.service.BackupInput;
 import io.atomix.primitive.service.Commit;
 import io.atomix.primitive.service.ServiceExecutor;
+import io.atomix.primitive.session.Session;
+import io.atomix.primitive.session.SessionId;
 import io.atomix.utils.serializer.Serializer;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.cluster.meta.ClusterMeta;
 import org.apache.zeppelin.cluster.meta.ClusterMetaEntity;
 import org.apache.zeppelin.cluster.meta.ClusterMetaType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 /**
@@ -37,6 +44,8 @@ import java.util.Map;
  * The cluster state is implemented as a snapshot state machine.
  * The state machine stores the service and process metadata information of the cluster.
  * Metadata information can be manipulated by put, get, remove, index, and snapshot.
+ * Sessions can watch metadata, the state machine publishes META_CHANGED to them
+ * when the metadata is put or removed.
  */
 public class ClusterStateMachine extends AbstractPrimitiveService {
   private static Logger logger = LoggerFactory.getLogger(ClusterStateMachine.class);
@@ -47,6 +56,17 @@ public class ClusterStateMachine extends AbstractPrimitiveService {
   public static final OperationId GET = OperationId.query("get");
   public static final OperationId REMOVE = OperationId.command("remove");
   public static final OperationId INDEX = OperationId.command("index");
+  // put or remove a batch of metadata in one command
+  public static final OperationId PUT_ALL = OperationId.command("putAll");
+  public static final OperationId WATCH = OperationId.command("watch");
+  public static final OperationId UNWATCH = OperationId.command("unwatch");
+
+  // Published to the watching sessions, the value is a ClusterMetaEntity of the changed meta
+  public static final EventType META_CHANGED = EventType.from("metaChanged");
+
+  // metaType/metaKey -> sessions watching the metadata, an empty metaKey watches a whole type.
+  // Watches are not part of the snapshot, the watching clients also poll the metadata.
+  private Map<String, Map<SessionId, Session>> watchers = new HashMap<>();
 
   public ClusterStateMachine() {
     super(ClusterPrimitiveType.INSTANCE);
@@ -63,11 +83,33 @@ public class ClusterStateMachine extends AbstractPrimitiveService {
     executor.register(GET, this::get);
     executor.register(REMOVE, this::remove);
     executor.register(INDEX, this::index);
+    executor.register(PUT_ALL, this::putAll);
+    executor.register(WATCH, this::watch);
+    executor.register(UNWATCH, this::unwatch);
   }
 
   protected long put(Commit<ClusterMetaEntity> commit) {
     clusterMeta.put(commit.value().getMetaType(),
         commit.value().getKey(), commit.value().getValues());
+    publishChange(commit.value());
+    return commit.index();
+  }
+
+  protected long putAll(Commit<ArrayList<ClusterMetaEntity>> commit) {
+    for (ClusterMetaEntity entity : commit.value()) {
+      switch (entity.getOperation()) {
+        case PUT_OPERATION:
+          clusterMeta.put(entity.getMetaType(), entity.getKey(), entity.getValues());
+          break;
+        case DELETE_OPERATION:
+          clusterMeta.remove(entity.getMetaType(), entity.getKey());
+          break;
+        default:
+          logger.warn("Unsupported operation {} in putAll", entity.getOperation());
+          continue;
+      }
+      publishChange(entity);
+    }
     return commit.index();
   }
 
@@ -77,9 +119,76 @@ public class ClusterStateMachine extends AbstractPrimitiveService {
 
   protected long remove(Commit<ClusterMetaEntity> commit) {
     clusterMeta.remove(commit.value().getMetaType(), commit.value().getKey());
+    publishChange(commit.value());
+    return commit.index();
+  }
+
+  protected long watch(Commit<ClusterMetaEntity> commit) {
+    String watchKey = watchKey(commit.value().getMetaType(), commit.value().getKey());
+    watchers.computeIfAbsent(watchKey, k -> new HashMap<>())
+        .put(commit.session().sessionId(), commit.session());
     return commit.index();
   }
 
+  protected long unwatch(Commit<ClusterMetaEntity> commit) {
+    String watchKey = watchKey(commit.value().getMetaType(), commit.value().getKey());
+    Map<SessionId, Session> sessions = watchers.get(watchKey);
+    if (null != sessions) {
+      sessions.remove(commit.session().sessionId());
+      if (sessions.isEmpty()) {
+        watchers.remove(watchKey);
+      }
+    }
+    return commit.index();
+  }
+
+  private static String watchKey(ClusterMetaType metaType, String metaKey) {
+    return metaType + "/" + (null == metaKey ? "" : metaKey);
+  }
+
+  // notify the sessions watching the metadata or its type
+  private void publishChange(ClusterMetaEntity entity) {
+    if (watchers.isEmpty()) {
+      return;
+    }
+
+    ClusterMetaEntity change = new ClusterMetaEntity(entity.getOperation(),
+        entity.getMetaType(), entity.getKey(), null);
+    publish(watchers.get(watchKey(entity.getMetaType(), entity.getKey())), change);
+    if (!StringUtils.isEmpty(entity.getKey())) {
+      publish(watchers.get(watchKey(entity.getMetaType(), "")), change);
+    }
+  }
+
+  private void publish(Map<SessionId, Session> sessions, ClusterMetaEntity change) {
+    if (null != sessions) {
+      for (Session session : sessions.values()) {
+        session.publish(META_CHANGED, change);
+      }
+    }
+  }
+
+  private void removeWatches(Session session) {
+    Iterator<Map.Entry<String, Map<SessionId, Session>>> iter = watchers.entrySet().iterator();
+    while (iter.hasNext()) {
+      Map<SessionId, Session> sessions = iter.next().getValue();
+      sessions.remove(session.sessionId());
+      if (sessions.isEmpty()) {
+        iter.remove();
+      }
+    }
+  }
+
+  @Override
+  public void onExpire(Session session) {
+    removeWatches(session);
+  }
+
+  @Override
+  public void onClose(Session session) {
+    removeWatches(session);
+  }
+
   protected long index(Commit<Void> commit) {
     return commit.index();
   }
@@ -28,6 +28,16 @@ public enum ClusterEvent {
   BROADCAST_PARAGRAPH,
   BROADCAST_PARAGRAPHS,
   BROADCAST_NEW_PARAGRAPH,
+  // paragraph without the whole note, results may be omitted
+  PARAGRAPH_PATCH,
+  // status (or progress) of a paragraph, based on the last PARAGRAPH_PATCH
+  PARAGRAPH_STATUS,
+  PARAGRAPH_APPEND_OUTPUT,
+  PARAGRAPH_UPDATE_OUTPUT,
+  // websocket request of a note, forwarded to the server owning the note
+  FORWARD_NOTE_REQUEST,
+  // failure of a forwarded request, sent back to the server which forwarded it
+  FORWARD_NOTE_REPLY,
   UPDATE_NOTE_PERMISSIONS,
   // CLUSTER_AUTH_EVENT_TOPIC
   SET_ROLES,
@@ -24,18 +24,26 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class ClusterMessage {
+  // Version 2 added the paragraph delta events, messages of older servers have version 0
+  public static final int FORMAT_VERSION = 2;
+
   public ClusterEvent clusterEvent;
+  private int version = FORMAT_VERSION;
   private Map<String, String> data = new HashMap<>();
 
+  // no pretty printing, messages are sent to every server of the cluster
   private static Gson gson = new GsonBuilder()
       .setDateFormat("yyyy-MM-dd'T'HH:mm:ssZ")
-      .setPrettyPrinting()
       .registerTypeAdapterFactory(Input.TypeAdapterFactory).create();
 
   public ClusterMessage(ClusterEvent event) {
     this.clusterEvent = event;
   }
 
+  public int getVersion() {
+    return version;
+  }
+
   public ClusterMessage put(String k, String v) {
     data.put(k, v);
     return this;
@@ -38,12 +38,16 @@ public class ClusterMeta implements Serializable {
   public static String SERVER_HOST          = "SERVER_HOST";
   public static String SERVER_PORT          = "SERVER_PORT";
   public static String SERVER_START_TIME    = "SERVER_START_TIME";
+  // scheme://host:port of the rest api and websocket of the zeppelin-server
+  public static String SERVER_HTTP_ADDRESS  = "SERVER_HTTP_ADDRESS";
 
   // interperter-process meta
   public static String INTP_PROCESS_NAME    = "INTP_PROCESS_NAME";
   public static String INTP_TSERVER_HOST    = "INTP_TSERVER_HOST";
   public static String INTP_TSERVER_PORT    = "INTP_TSERVER_PORT";
   public static String INTP_START_TIME      = "INTP_START_TIME";
+  public static String INTP_MEMORY_USED     = "INTP_MEMORY_USED";
+  public static String INTP_RESERVED_TIME   = "INTP_RESERVED_TIME";
 
   // zeppelin-server resource usage
   public static String CPU_CAPACITY         = "CPU_CAPACITY";
@@ -57,6 +61,8 @@ public class ClusterMeta implements Serializable {
   public static String STATUS               = "STATUS";
   public static String ONLINE_STATUS        = "ONLINE";
   public static String OFFLINE_STATUS       = "OFFLINE";
+  // interperter-process which is being launched on the node reserved for it
+  public static String RESERVED_STATUS      = "RESERVED";
   public static String INTP_PROCESS_COUNT   = "INTP_PROCESS_COUNT";
   public static String INTP_PROCESS_LIST    = "INTP_PROCESS_LIST";
 
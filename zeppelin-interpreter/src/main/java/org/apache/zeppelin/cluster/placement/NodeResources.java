@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.cluster.placement;
+
+import java.util.HashMap;
+
+/**
+ * Resources of a zeppelin server node as seen by the {@link PlacementEngine}: usage reported by
+ * the heartbeat of the node, plus the interpreter processes running on it and the launches
+ * reserved on it which are not visible in its usage yet.
+ */
+public class NodeResources {
+  private final String nodeName;
+  private final HashMap<String, Object> meta;
+  private final long cpuUsed;
+  private final long cpuCapacity;
+  private final long memoryUsed;
+  private final long memoryCapacity;
+
+  private int processes = 0;
+  private int reservations = 0;
+  private long reservedMemory = 0;
+  private double load = 0;
+
+  public NodeResources(String nodeName, HashMap<String, Object> meta, long cpuUsed,
+                       long cpuCapacity, long memoryUsed, long memoryCapacity) {
+    this.nodeName = nodeName;
+    this.meta = meta;
+    this.cpuUsed = cpuUsed;
+    this.cpuCapacity = cpuCapacity;
+    this.memoryUsed = memoryUsed;
+    this.memoryCapacity = memoryCapacity;
+  }
+
+  public String getNodeName() {
+    return nodeName;
+  }
+
+  public HashMap<String, Object> getMeta() {
+    return meta;
+  }
+
+  public int getProcesses() {
+    return processes;
+  }
+
+  public int getReservations() {
+    return reservations;
+  }
+
+  public long getMemoryAvailable() {
+    return memoryCapacity - memoryUsed - reservedMemory;
+  }
+
+  public double getCpuLoad() {
+    return cpuCapacity <= 0 ? 1 : (double) cpuUsed / cpuCapacity;
+  }
+
+  public double getMemoryLoad() {
+    return memoryCapacity <= 0 ? 1 : (double) (memoryUsed + reservedMemory) / memoryCapacity;
+  }
+
+  /**
+   * Load between 0 and 1 combining cpu, memory and interpreter processes, relative to
+   * the other candidate nodes for the process count.
+   */
+  public double getLoad() {
+    return load;
+  }
+
+  void addProcess() {
+    processes++;
+  }
+
+  void addReservation(long memory) {
+    reservations++;
+    reservedMemory += memory;
+  }
+
+  void setLoad(double load) {
+    this.load = load;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s(cpu: %.2f, memory: %.2f, processes: %d, reservations: %d)",
+        nodeName, getCpuLoad(), getMemoryLoad(), processes, reservations);
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.cluster.placement;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Choose the zeppelin server node to launch an interpreter process on in cluster mode.
+ *
+ * Nodes are scored on cpu, memory and the number of interpreter processes by a
+ * {@link PlacementPolicy}. As the usage in the heartbeat of a node is up to a heartbeat interval
+ * stale, and a new process takes a while to show up in it, each placement is recorded as a
+ * reservation in the interpreter process meta (status RESERVED) until the process is online or
+ * the interpreter connect timeout elapses. Reserved launches count as processes and reserved
+ * memory, so that concurrent launches from all servers spread across the nodes. Reservations
+ * are removed from the meta when their launch fails or after they expire.
+ */
+public class PlacementEngine {
+  private static final Logger LOGGER = LoggerFactory.getLogger(PlacementEngine.class);
+
+  private final PlacementPolicy policy;
+  private final long reservationMemory;
+  private final long reservationTimeout;
+
+  // InterpreterGroupId -> reservation of this server, it takes a while before
+  // a reservation is visible in the cluster meta
+  private final Map<String, HashMap<String, Object>> localReservations =
+      new ConcurrentHashMap<>();
+
+  public PlacementEngine(ZeppelinConfiguration zConf) {
+    this(createPolicy(zConf.getClusterPlacementPolicy()),
+        zConf.getClusterPlacementReservationMemory(),
+        zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT));
+  }
+
+  public PlacementEngine(PlacementPolicy policy, long reservationMemory,
+                         long reservationTimeout) {
+    this.policy = policy;
+    this.reservationMemory = reservationMemory;
+    this.reservationTimeout = reservationTimeout;
+    LOGGER.info("PlacementEngine is created with policy: {}, reservationMemory: {}",
+        policy.getClass().getSimpleName(), reservationMemory);
+  }
+
+  static PlacementPolicy createPolicy(String name) {
+    switch (name.toLowerCase()) {
+      case "spread":
+        return new SpreadPlacementPolicy();
+      case "binpack":
+        return new BinPackPlacementPolicy();
+      case "affinity":
+        return new AffinityPlacementPolicy();
+      default:
+        try {
+          return (PlacementPolicy) Class.forName(name).newInstance();
+        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException
+            | ClassCastException e) {
+          throw new IllegalArgumentException("Invalid placement policy: " + name, e);
+        }
+    }
+  }
+
+  /**
+   * Choose the node for the process of the interpreter group and reserve it.
+   *
+   * @param serverMeta meta of all zeppelin servers in the cluster
+   * @param intpMeta meta of all interpreter processes in the cluster
+   * @return meta of the chosen server, null if no server is online
+   */
+  public synchronized HashMap<String, Object> place(
+      String intpGroupId,
+      Map<String, HashMap<String, Object>> serverMeta,
+      Map<String, HashMap<String, Object>> intpMeta) {
+    long now = System.currentTimeMillis();
+    List<NodeResources> nodes = collectNodes(serverMeta, intpMeta, now);
+    if (nodes.isEmpty()) {
+      return null;
+    }
+
+    List<NodeResources> candidates = new ArrayList<>();
+    for (NodeResources node : nodes) {
+      if (node.getMemoryAvailable() >= reservationMemory && node.getCpuLoad() < 1) {
+        candidates.add(node);
+      }
+    }
+    if (candidates.isEmpty()) {
+      LOGGER.warn("No node has enough resources for interpreter process {}, choose among all "
+          + "nodes: {}", intpGroupId, nodes);
+      candidates = nodes;
+    }
+
+    HashMap<String, Object> previous = intpMeta.get(intpGroupId);
+    String previousNodeName =
+        previous == null ? null : (String) previous.get(ClusterMeta.NODE_NAME);
+    NodeResources chosen = null;
+    double chosenScore = 0;
+    for (NodeResources node : candidates) {
+      double score = policy.score(node, previousNodeName);
+      if (chosen == null || score > chosenScore) {
+        chosen = node;
+        chosenScore = score;
+      }
+    }
+    LOGGER.info("Place interpreter process {} on {}, candidates: {}",
+        intpGroupId, chosen.getNodeName(), candidates);
+
+    localReservations.put(intpGroupId, createReservation(chosen.getNodeName(), now));
+    return chosen.getMeta();
+  }
+
+  /**
+   * Meta to put into the interpreter process meta to record the reservation of a node.
+   */
+  public HashMap<String, Object> getReservation(String intpGroupId) {
+    return localReservations.get(intpGroupId);
+  }
+
+  /**
+   * Release the reservation of the interpreter group, e.g. after its launch failed.
+   */
+  public void release(String intpGroupId) {
+    localReservations.remove(intpGroupId);
+  }
+
+  /**
+   * Interpreter groups whose reservation in the cluster meta expired without their process
+   * getting online, e.g. the server which placed it is gone, to remove from the cluster meta.
+   */
+  public List<String> getExpiredReservations(Map<String, HashMap<String, Object>> intpMeta) {
+    long now = System.currentTimeMillis();
+    List<String> expired = new ArrayList<>();
+    for (Map.Entry<String, HashMap<String, Object>> entry : intpMeta.entrySet()) {
+      if (isReservation(entry.getValue())
+          && now - getLong(entry.getValue(), ClusterMeta.INTP_RESERVED_TIME) >= reservationTimeout
+          && !localReservations.containsKey(entry.getKey())) {
+        expired.add(entry.getKey());
+      }
+    }
+    return expired;
+  }
+
+  /**
+   * Whether the meta is a reservation, and not the meta of a process which was online.
+   */
+  public static boolean isReservation(Map<String, Object> meta) {
+    return meta.containsKey(ClusterMeta.INTP_RESERVED_TIME)
+        && !meta.containsKey(ClusterMeta.INTP_TSERVER_HOST)
+        && !ClusterMeta.ONLINE_STATUS.equals(meta.get(ClusterMeta.STATUS));
+  }
+
+  static HashMap<String, Object> createReservation(String nodeName, long time) {
+    HashMap<String, Object> reservation = new HashMap<>();
+    reservation.put(ClusterMeta.NODE_NAME, nodeName);
+    reservation.put(ClusterMeta.STATUS, ClusterMeta.RESERVED_STATUS);
+    reservation.put(ClusterMeta.INTP_RESERVED_TIME, time);
+    // the leader marks the reservation offline after the heartbeat timeout,
+    // it is still counted until the reservation timeout
+    reservation.put(ClusterMeta.LATEST_HEARTBEAT, LocalDateTime.now());
+    return reservation;
+  }
+
+  List<NodeResources> collectNodes(Map<String, HashMap<String, Object>> serverMeta,
+                                   Map<String, HashMap<String, Object>> intpMeta,
+                                   long now) {
+    Map<String, NodeResources> nodes = new HashMap<>();
+    for (Map.Entry<String, HashMap<String, Object>> entry : serverMeta.entrySet()) {
+      HashMap<String, Object> meta = entry.getValue();
+      if (!ClusterMeta.ONLINE_STATUS.equals(meta.get(ClusterMeta.STATUS))) {
+        continue;
+      }
+      String nodeName = StringUtils.defaultIfEmpty(
+          (String) meta.get(ClusterMeta.NODE_NAME), entry.getKey());
+      nodes.put(nodeName, new NodeResources(nodeName, meta,
+          getLong(meta, ClusterMeta.CPU_USED), getLong(meta, ClusterMeta.CPU_CAPACITY),
+          getLong(meta, ClusterMeta.MEMORY_USED), getLong(meta, ClusterMeta.MEMORY_CAPACITY)));
+    }
+
+    // reservations in the cluster meta, overridden by the newer ones of this server
+    Map<String, HashMap<String, Object>> processes = new HashMap<>(intpMeta);
+    for (Map.Entry<String, HashMap<String, Object>> entry : localReservations.entrySet()) {
+      HashMap<String, Object> meta = processes.get(entry.getKey());
+      if (meta == null || !ClusterMeta.ONLINE_STATUS.equals(meta.get(ClusterMeta.STATUS))) {
+        processes.put(entry.getKey(), entry.getValue());
+      }
+    }
+    for (Map.Entry<String, HashMap<String, Object>> entry : processes.entrySet()) {
+      HashMap<String, Object> meta = entry.getValue();
+      NodeResources node = nodes.get((String) meta.get(ClusterMeta.NODE_NAME));
+      if (ClusterMeta.ONLINE_STATUS.equals(meta.get(ClusterMeta.STATUS))) {
+        if (node != null) {
+          node.addProcess();
+        }
+        localReservations.remove(entry.getKey());
+      } else if (now - getLong(meta, ClusterMeta.INTP_RESERVED_TIME) < reservationTimeout) {
+        if (node != null) {
+          node.addReservation(reservationMemory);
+        }
+      } else {
+        localReservations.remove(entry.getKey());
+      }
+    }
+
+    int maxProcesses = 0;
+    for (NodeResources node : nodes.values()) {
+      maxProcesses = Math.max(maxProcesses, node.getProcesses() + node.getReservations());
+    }
+    for (NodeResources node : nodes.values()) {
+      double processLoad = maxProcesses == 0 ? 0 :
+          (double) (node.getProcesses() + node.getReservations()) / maxProcesses;
+      node.setLoad((Math.min(node.getCpuLoad(), 1) + Math.min(node.getMemoryLoad(), 1)
+          + processLoad) / 3);
+    }
+    return new ArrayList<>(nodes.values());
+  }
+
+  private static long getLong(Map<String, Object> meta, String key) {
+    Object value = meta.get(key);
+    return value instanceof Number ? ((Number) value).longValue() : 0;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.cluster.placement;
+
+/**
+ * Policy of the {@link PlacementEngine} to choose the node of a new interpreter process.
+ * Implementations need a public no-arg constructor to be configured by class name
+ * in zeppelin.cluster.placement.policy.
+ */
+public interface PlacementPolicy {
+
+  /**
+   * Score of launching the interpreter process on the node, the node with the highest
+   * score is chosen.
+   *
+   * @param node candidate node with enough resources for a new process
+   * @param previousNodeName node of the previous process of the interpreter group, or null
+   */
+  double score(NodeResources node, String previousNodeName);
+}
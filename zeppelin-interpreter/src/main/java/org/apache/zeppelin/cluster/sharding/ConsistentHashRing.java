@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Consistent hash ring of the cluster servers. Each server is placed on the ring at a number of
+ * virtual nodes, and a key is owned by the first server clockwise from the hash of the key.
+ * When a server joins or leaves, only the keys of its virtual nodes move to other servers.
+ */
+public class ConsistentHashRing {
+
+  private final TreeMap<Long, String> ring = new TreeMap<>();
+  private final Set<String> members;
+
+  public ConsistentHashRing(Collection<String> members, int virtualNodes) {
+    this.members = Collections.unmodifiableSet(new TreeSet<>(members));
+    for (String member : this.members) {
+      for (int i = 0; i < virtualNodes; i++) {
+        ring.put(hash(member + "#" + i), member);
+      }
+    }
+  }
+
+  /**
+   * @return the member owning the key, null if the ring is empty
+   */
+  public String getOwner(String key) {
+    if (ring.isEmpty()) {
+      return null;
+    }
+    Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+    if (entry == null) {
+      entry = ring.firstEntry();
+    }
+    return entry.getValue();
+  }
+
+  public Set<String> getMembers() {
+    return members;
+  }
+
+  public boolean isEmpty() {
+    return members.isEmpty();
+  }
+
+  // the first 8 bytes of the md5 digest, which is the same on every server
+  static long hash(String key) {
+    try {
+      byte[] digest = MessageDigest.getInstance("MD5")
+          .digest(key.getBytes(StandardCharsets.UTF_8));
+      long hash = 0;
+      for (int i = 0; i < 8; i++) {
+        hash = (hash << 8) | (digest[i] & 0xFF);
+      }
+      return hash;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
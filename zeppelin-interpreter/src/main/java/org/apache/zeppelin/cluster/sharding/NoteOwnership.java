@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.sharding;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Owner of each note among the online zeppelin servers when note sharding is enabled in cluster
+ * mode. The owner runs the paragraphs and the cron job of the note, so that the note is only
+ * kept in memory and executed on one server. The owners are looked up on a
+ * {@link ConsistentHashRing} of the online servers, which is rebuilt from the server meta of
+ * the cluster by {@link #update(Map)}.
+ *
+ * Before the server meta is known, every server owns every note, i.e. behaves as without
+ * sharding.
+ */
+public class NoteOwnership {
+  private static final Logger LOGGER = LoggerFactory.getLogger(NoteOwnership.class);
+
+  static final int VIRTUAL_NODES = 128;
+
+  private final String localNodeName;
+
+  private volatile ConsistentHashRing ring =
+      new ConsistentHashRing(Collections.emptyList(), VIRTUAL_NODES);
+  // NodeName -> server meta of the online servers
+  private volatile Map<String, HashMap<String, Object>> members = Collections.emptyMap();
+
+  private final List<NoteOwnershipListener> listeners = new CopyOnWriteArrayList<>();
+
+  public NoteOwnership(String localNodeName) {
+    this.localNodeName = localNodeName;
+  }
+
+  /**
+   * Rebuild the ring if the online servers in the server meta have changed.
+   *
+   * @return true if the owners have changed
+   */
+  public synchronized boolean update(Map<String, HashMap<String, Object>> serverMeta) {
+    Map<String, HashMap<String, Object>> online = new TreeMap<>();
+    for (Map.Entry<String, HashMap<String, Object>> entry : serverMeta.entrySet()) {
+      HashMap<String, Object> meta = entry.getValue();
+      if (meta != null && ClusterMeta.ONLINE_STATUS.equals(meta.get(ClusterMeta.STATUS))) {
+        online.put(entry.getKey(), meta);
+      }
+    }
+    members = online;
+    if (online.keySet().equals(ring.getMembers())) {
+      return false;
+    }
+
+    LOGGER.info("Note owners changed, servers {} -> {}", ring.getMembers(), online.keySet());
+    ring = new ConsistentHashRing(online.keySet(), VIRTUAL_NODES);
+    for (NoteOwnershipListener listener : listeners) {
+      try {
+        listener.onOwnershipChanged(this);
+      } catch (Exception e) {
+        LOGGER.error("Fail to notify the change of note owners", e);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return node name of the server owning the note
+   */
+  public String getOwner(String noteId) {
+    String owner = ring.getOwner(noteId);
+    return owner == null ? localNodeName : owner;
+  }
+
+  /**
+   * @return server meta of the owner of the note, null if it is this server
+   */
+  public HashMap<String, Object> getOwnerMeta(String noteId) {
+    String owner = getOwner(noteId);
+    if (StringUtils.equals(owner, localNodeName)) {
+      return null;
+    }
+    return members.get(owner);
+  }
+
+  public boolean isOwner(String noteId) {
+    return StringUtils.equals(getOwner(noteId), localNodeName);
+  }
+
+  public String getLocalNodeName() {
+    return localNodeName;
+  }
+
+  public void addListener(NoteOwnershipListener listener) {
+    listeners.add(listener);
+  }
+
+  public void removeListener(NoteOwnershipListener listener) {
+    listeners.remove(listener);
+  }
+}
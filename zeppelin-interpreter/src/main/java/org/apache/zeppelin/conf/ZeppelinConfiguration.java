@@ -439,6 +439,18 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getRelativeDir(ConfVars.ZEPPELIN_RECOVERY_DIR);
   }
 
+  public int getRecoveryParallelism() {
+    return getInt(ConfVars.ZEPPELIN_RECOVERY_PARALLELISM);
+  }
+
+  public int getRecoveryTimeout() {
+    return getInt(ConfVars.ZEPPELIN_RECOVERY_TIMEOUT);
+  }
+
+  public int getRecoveryJournalCompactionThreshold() {
+    return getInt(ConfVars.ZEPPELIN_RECOVERY_JOURNAL_COMPACTION_THRESHOLD);
+  }
+
   public String getNotebookStorageClass() {
     return getString(ConfVars.ZEPPELIN_NOTEBOOK_STORAGE);
   }
@@ -600,6 +612,10 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getString(ConfVars.ZEPPELIN_INTERPRETER_DEP_MVNREPO);
   }
 
+  public boolean isInterpreterDepOffline() {
+    return getBoolean(ConfVars.ZEPPELIN_INTERPRETER_DEP_OFFLINE);
+  }
+
   public String getRelativeDir(ConfVars c) {
     return getRelativeDir(getString(c));
   }
@@ -620,6 +636,50 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getString(ConfVars.ZEPPELIN_INTERPRETER_RPC_PORTRANGE);
   }
 
+  public boolean isInterpreterRpcCompressionEnabled() {
+    return getBoolean(ConfVars.ZEPPELIN_INTERPRETER_RPC_COMPRESSION_ENABLED);
+  }
+
+  public String getInterpreterRpcCompressionCodec() {
+    return getString(ConfVars.ZEPPELIN_INTERPRETER_RPC_COMPRESSION_CODEC);
+  }
+
+  public int getInterpreterRpcCompressionLevel() {
+    return getInt(ConfVars.ZEPPELIN_INTERPRETER_RPC_COMPRESSION_LEVEL);
+  }
+
+  public int getInterpreterRpcCompressionThreshold() {
+    return getInt(ConfVars.ZEPPELIN_INTERPRETER_RPC_COMPRESSION_THRESHOLD);
+  }
+
+  public boolean isInterpreterRpcNonblockingEnabled() {
+    return getBoolean(ConfVars.ZEPPELIN_INTERPRETER_RPC_NONBLOCKING_ENABLED);
+  }
+
+  public int getInterpreterRpcSelectorThreads() {
+    return getInt(ConfVars.ZEPPELIN_INTERPRETER_RPC_NONBLOCKING_SELECTOR_THREADS);
+  }
+
+  public int getInterpreterRpcWorkerThreads() {
+    return getInt(ConfVars.ZEPPELIN_INTERPRETER_RPC_NONBLOCKING_WORKER_THREADS);
+  }
+
+  public boolean isInterpreterRpcMultiplexedEnabled() {
+    return getBoolean(ConfVars.ZEPPELIN_INTERPRETER_RPC_MULTIPLEXED_ENABLED);
+  }
+
+  public boolean isInterpreterCdsEnabled() {
+    return getBoolean(ConfVars.ZEPPELIN_INTERPRETER_CDS_ENABLED);
+  }
+
+  public int getParagraphResultCacheMaxEntries() {
+    return getInt(ConfVars.ZEPPELIN_PARAGRAPH_RESULT_CACHE_MAX_ENTRIES);
+  }
+
+  public long getParagraphResultCacheMaxBytes() {
+    return getLong(ConfVars.ZEPPELIN_PARAGRAPH_RESULT_CACHE_MAX_BYTES);
+  }
+
   public boolean isWindowsPath(String path){
     return path.matches("^[A-Za-z]:\\\\.*");
   }
@@ -749,6 +809,22 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getString(ConfVars.ZEPPELIN_NOTEBOOK_CRON_FOLDERS);
   }
 
+  public int getZeppelinNotebookCronMaxConcurrency() {
+    return getInt(ConfVars.ZEPPELIN_NOTEBOOK_CRON_MAX_CONCURRENCY);
+  }
+
+  public int getZeppelinNotebookCronMaxConcurrencyPerInterpreter() {
+    return getInt(ConfVars.ZEPPELIN_NOTEBOOK_CRON_MAX_CONCURRENCY_PER_INTERPRETER);
+  }
+
+  public long getZeppelinNotebookCronMaxJitter() {
+    return getInt(ConfVars.ZEPPELIN_NOTEBOOK_CRON_MAX_JITTER);
+  }
+
+  public String getZeppelinNotebookCronMisfirePolicy() {
+    return getString(ConfVars.ZEPPELIN_NOTEBOOK_CRON_MISFIRE_POLICY);
+  }
+
   public Boolean isZeppelinNotebookCollaborativeModeEnable() {
     return getBoolean(ConfVars.ZEPPELIN_NOTEBOOK_COLLABORATIVE_MODE_ENABLE);
   }
@@ -806,6 +882,26 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getInt(ConfVars.ZEPPELIN_CLUSTER_HEARTBEAT_TIMEOUT);
   }
 
+  public String getClusterPlacementPolicy() {
+    return getString(ConfVars.ZEPPELIN_CLUSTER_PLACEMENT_POLICY);
+  }
+
+  public long getClusterPlacementReservationMemory() {
+    return getLong(ConfVars.ZEPPELIN_CLUSTER_PLACEMENT_RESERVATION_MEMORY);
+  }
+
+  public long getClusterEventBatchInterval() {
+    return getLong(ConfVars.ZEPPELIN_CLUSTER_EVENT_BATCH_INTERVAL);
+  }
+
+  public int getClusterEventCompressThreshold() {
+    return getInt(ConfVars.ZEPPELIN_CLUSTER_EVENT_COMPRESS_THRESHOLD);
+  }
+
+  public boolean isClusterNoteSharding() {
+    return getBoolean(ConfVars.ZEPPELIN_CLUSTER_NOTE_SHARDING);
+  }
+
   public RUN_MODE getRunMode() {
     String mode = getString(ConfVars.ZEPPELIN_RUN_MODE);
     if ("auto".equalsIgnoreCase(mode)) { // auto detect
@@ -852,6 +948,18 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getString(ConfVars.ZEPPELIN_DOCKER_CONTAINER_IMAGE);
   }
 
+  public String getDockerPayloadCacheDir() {
+    return getRelativeDir(ConfVars.ZEPPELIN_DOCKER_PAYLOAD_CACHE_DIR);
+  }
+
+  public int getDockerPayloadCacheSize() {
+    return getInt(ConfVars.ZEPPELIN_DOCKER_PAYLOAD_CACHE_SIZE);
+  }
+
+  public boolean isDockerPayloadMount() {
+    return getBoolean(ConfVars.ZEPPELIN_DOCKER_PAYLOAD_MOUNT);
+  }
+
   public Map<String, String> dumpConfigurations(Predicate<String> predicate) {
     Map<String, String> properties = new HashMap<>();
 
@@ -915,6 +1023,7 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_INTERPRETER_LOCALREPO("zeppelin.interpreter.localRepo", "local-repo"),
     ZEPPELIN_INTERPRETER_DEP_MVNREPO("zeppelin.interpreter.dep.mvnRepo",
         "https://repo1.maven.org/maven2/"),
+    ZEPPELIN_INTERPRETER_DEP_OFFLINE("zeppelin.interpreter.dep.offline", false),
     ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT("zeppelin.interpreter.connect.timeout", 60000),
     ZEPPELIN_INTERPRETER_MAX_POOL_SIZE("zeppelin.interpreter.max.poolsize", 10),
     ZEPPELIN_INTERPRETER_GROUP_DEFAULT("zeppelin.interpreter.group.default", "spark"),
@@ -929,10 +1038,22 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_NOTEBOOK_RUN_REV("zeppelin.notebook.run.rev", null), // revision id for ZEPPELIN_NOTEBOOK_RUN_ID.
     ZEPPELIN_NOTEBOOK_RUN_SERVICE_CONTEXT("zeppelin.notebook.run.servicecontext", null), // base64 encoded serialized service context to be used ZEPPELIN_NOTEBOOK_RUN_ID.
     ZEPPELIN_NOTEBOOK_RUN_AUTOSHUTDOWN("zeppelin.notebook.run.autoshutdown", true), // after specified note (ZEPPELIN_NOTEBOOK_RUN_ID) run, shutdown zeppelin server
+    // number of paragraphs running at the same time when running all paragraphs of a note
+    ZEPPELIN_NOTEBOOK_RUN_ALL_PARALLELISM("zeppelin.notebook.runAll.parallelism", 1),
+    // max number of entries and total size in bytes of the paragraph result cache
+    ZEPPELIN_PARAGRAPH_RESULT_CACHE_MAX_ENTRIES("zeppelin.paragraph.resultCache.maxEntries", 1000),
+    ZEPPELIN_PARAGRAPH_RESULT_CACHE_MAX_BYTES("zeppelin.paragraph.resultCache.maxBytes", 64 * 1024 * 1024L),
 
     ZEPPELIN_RECOVERY_DIR("zeppelin.recovery.dir", "recovery"),
     ZEPPELIN_RECOVERY_STORAGE_CLASS("zeppelin.recovery.storage.class",
         "org.apache.zeppelin.interpreter.recovery.NullRecoveryStorage"),
+    // number of interpreter processes reconnected in parallel when zeppelin server starts
+    ZEPPELIN_RECOVERY_PARALLELISM("zeppelin.recovery.parallelism", 16),
+    // time in ms to wait for reconnecting to one interpreter process
+    ZEPPELIN_RECOVERY_TIMEOUT("zeppelin.recovery.timeout", 10000),
+    // number of recovery journal entries that triggers compacting the journal into the snapshot
+    ZEPPELIN_RECOVERY_JOURNAL_COMPACTION_THRESHOLD(
+        "zeppelin.recovery.journal.compaction.threshold", 1000),
     ZEPPELIN_PLUGINS_DIR("zeppelin.plugins.dir", "plugins"),
 
     // use specified notebook (id) as homescreen
@@ -1010,6 +1131,22 @@ public class ZeppelinConfiguration extends XMLConfiguration {
 
     ZEPPELIN_SERVER_RPC_PORTRANGE("zeppelin.server.rpc.portRange", ":"),
     ZEPPELIN_INTERPRETER_RPC_PORTRANGE("zeppelin.interpreter.rpc.portRange", ":"),
+    ZEPPELIN_INTERPRETER_RPC_COMPRESSION_ENABLED("zeppelin.interpreter.rpc.compression.enabled",
+        false),
+    ZEPPELIN_INTERPRETER_RPC_COMPRESSION_CODEC("zeppelin.interpreter.rpc.compression.codec",
+        "deflate"),
+    ZEPPELIN_INTERPRETER_RPC_COMPRESSION_LEVEL("zeppelin.interpreter.rpc.compression.level", 1),
+    ZEPPELIN_INTERPRETER_RPC_COMPRESSION_THRESHOLD(
+        "zeppelin.interpreter.rpc.compression.threshold", 64 * 1024),
+    ZEPPELIN_INTERPRETER_RPC_NONBLOCKING_ENABLED("zeppelin.interpreter.rpc.nonblocking.enabled",
+        false),
+    ZEPPELIN_INTERPRETER_RPC_NONBLOCKING_SELECTOR_THREADS(
+        "zeppelin.interpreter.rpc.nonblocking.selectorThreads", 2),
+    ZEPPELIN_INTERPRETER_RPC_NONBLOCKING_WORKER_THREADS(
+        "zeppelin.interpreter.rpc.nonblocking.workerThreads", 16),
+    ZEPPELIN_INTERPRETER_RPC_MULTIPLEXED_ENABLED("zeppelin.interpreter.rpc.multiplexed.enabled",
+        false),
+    ZEPPELIN_INTERPRETER_CDS_ENABLED("zeppelin.interpreter.cds.enabled", false),
 
     ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_CLASS("zeppelin.interpreter.lifecyclemanager.class",
         "org.apache.zeppelin.interpreter.lifecycle.NullLifecycleManager"),
@@ -1017,9 +1154,18 @@ public class ZeppelinConfiguration extends XMLConfiguration {
         "zeppelin.interpreter.lifecyclemanager.timeout.checkinterval", 6000L),
     ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_TIMEOUT_THRESHOLD(
         "zeppelin.interpreter.lifecyclemanager.timeout.threshold", 3600000L),
+    ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_MEMORY_HIGH_WATERMARK(
+        "zeppelin.interpreter.lifecyclemanager.memory.highWatermark", 0.9f),
+    ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_MEMORY_LOW_WATERMARK(
+        "zeppelin.interpreter.lifecyclemanager.memory.lowWatermark", 0.8f),
+    ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_MEMORY_MIN_IDLE_TIME(
+        "zeppelin.interpreter.lifecyclemanager.memory.minIdleTime", 60000L),
 
     ZEPPELIN_INTERPRETER_YARN_MONITOR_INTERVAL_SECS(
             "zeppelin.interpreter.yarn.monitor.interval_secs", 10),
+    // the check interval of a running yarn app is doubled after each check until this max
+    ZEPPELIN_INTERPRETER_YARN_MONITOR_MAX_INTERVAL_SECS(
+            "zeppelin.interpreter.yarn.monitor.max_interval_secs", 60),
 
     ZEPPELIN_INTERPRETER_SCHEDULER_POOL_SIZE("zeppelin.scheduler.threadpool.size", 100),
 
@@ -1028,6 +1174,12 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_CLUSTER_ADDR("zeppelin.cluster.addr", ""),
     ZEPPELIN_CLUSTER_HEARTBEAT_INTERVAL("zeppelin.cluster.heartbeat.interval", 3000),
     ZEPPELIN_CLUSTER_HEARTBEAT_TIMEOUT("zeppelin.cluster.heartbeat.timeout", 9000),
+    ZEPPELIN_CLUSTER_PLACEMENT_POLICY("zeppelin.cluster.placement.policy", "spread"),
+    ZEPPELIN_CLUSTER_PLACEMENT_RESERVATION_MEMORY("zeppelin.cluster.placement.reservation.memory",
+        1073741824L),
+    ZEPPELIN_CLUSTER_EVENT_BATCH_INTERVAL("zeppelin.cluster.event.batch.interval", 50L),
+    ZEPPELIN_CLUSTER_EVENT_COMPRESS_THRESHOLD("zeppelin.cluster.event.compress.threshold", 4096),
+    ZEPPELIN_CLUSTER_NOTE_SHARDING("zeppelin.cluster.note.sharding", false),
 
     ZEPPELIN_RUN_MODE("zeppelin.run.mode", "auto"),              // auto | local | k8s | Docker
 
@@ -1039,6 +1191,9 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_K8S_SERVICE_NAME("zeppelin.k8s.service.name", "zeppelin-server"),
 
     ZEPPELIN_DOCKER_CONTAINER_IMAGE("zeppelin.docker.container.image", "apache/zeppelin:" + Util.getVersion()),
+    ZEPPELIN_DOCKER_PAYLOAD_CACHE_DIR("zeppelin.docker.payload.cache.dir", "run/docker-payload"),
+    ZEPPELIN_DOCKER_PAYLOAD_CACHE_SIZE("zeppelin.docker.payload.cache.size", 10),
+    ZEPPELIN_DOCKER_PAYLOAD_MOUNT("zeppelin.docker.payload.mount", false),
 
     ZEPPELIN_IMPERSONATE_SPARK_PROXY_USER("zeppelin.impersonate.spark.proxy.user", true),
     ZEPPELIN_NOTEBOOK_GIT_REMOTE_URL("zeppelin.notebook.git.remote.url", ""),
@@ -1049,6 +1204,13 @@ public class ZeppelinConfiguration extends XMLConfiguration {
             true),
     ZEPPELIN_NOTEBOOK_CRON_ENABLE("zeppelin.notebook.cron.enable", false),
     ZEPPELIN_NOTEBOOK_CRON_FOLDERS("zeppelin.notebook.cron.folders", null),
+    // max number of notes run by cron at the same time, in total and per interpreter setting
+    ZEPPELIN_NOTEBOOK_CRON_MAX_CONCURRENCY("zeppelin.notebook.cron.maxConcurrency", 10),
+    ZEPPELIN_NOTEBOOK_CRON_MAX_CONCURRENCY_PER_INTERPRETER("zeppelin.notebook.cron.maxConcurrencyPerInterpreter", 0),
+    // max delay in milliseconds of the start of a cron run, to spread notes sharing the same cron
+    ZEPPELIN_NOTEBOOK_CRON_MAX_JITTER("zeppelin.notebook.cron.maxJitter", 0),
+    ZEPPELIN_NOTEBOOK_CRON_MISFIRE_POLICY("zeppelin.notebook.cron.misfirePolicy", "fire_once"),
+    ZEPPELIN_NOTEBOOK_JOB_EXECUTOR_THREADS("zeppelin.notebook.jobExecutor.threads", 50),
     ZEPPELIN_PROXY_URL("zeppelin.proxy.url", null),
     ZEPPELIN_PROXY_USER("zeppelin.proxy.user", null),
     ZEPPELIN_PROXY_PASSWORD("zeppelin.proxy.password", null),
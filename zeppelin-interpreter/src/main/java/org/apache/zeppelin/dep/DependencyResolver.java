@@ -46,6 +46,10 @@ import org.sonatype.aether.util.filter.PatternExclusionsDependencyFilter;
 /**
  * Deps resolver.
  * Add new dependencies from mvn repo (at runtime) to Zeppelin.
+ * Resolved classpaths are remembered in a {@link ResolutionCache} next to the local repository,
+ * cached classpaths are served concurrently, and in offline mode only cached classpaths are
+ * served. Resolutions share the repository session and the local repository, so they run one
+ * at a time.
  */
 public class DependencyResolver extends AbstractDependencyResolver {
   private Logger logger = LoggerFactory.getLogger(DependencyResolver.class);
@@ -54,8 +58,30 @@ public class DependencyResolver extends AbstractDependencyResolver {
                                                     "org.apache.zeppelin:zeppelin-interpreter",
                                                     "org.apache.zeppelin:zeppelin-server"};
 
+  private final ResolutionCache resolutionCache;
+  private final Object resolutionLock = new Object();
+  private volatile boolean offline = false;
+
   public DependencyResolver(String localRepoPath) {
     super(localRepoPath);
+    this.resolutionCache = new ResolutionCache(
+        new File(Booter.resolveLocalRepoPath(localRepoPath), ResolutionCache.CACHE_FILE_NAME));
+  }
+
+  /**
+   * In offline mode no repository is contacted, artifacts are only served from the
+   * resolution cache.
+   */
+  public void setOffline(boolean offline) {
+    this.offline = offline;
+  }
+
+  public boolean isOffline() {
+    return offline;
+  }
+
+  ResolutionCache getResolutionCache() {
+    return resolutionCache;
   }
 
   public List<File> load(String artifact)
@@ -63,7 +89,7 @@ public class DependencyResolver extends AbstractDependencyResolver {
     return load(artifact, new LinkedList<String>());
   }
   
-  public synchronized List<File> load(String artifact, Collection<String> excludes)
+  public List<File> load(String artifact, Collection<String> excludes)
       throws RepositoryException, IOException {
     if (StringUtils.isBlank(artifact)) {
       // Skip dependency loading if artifact is empty
@@ -124,6 +150,45 @@ public class DependencyResolver extends AbstractDependencyResolver {
     allExclusions.addAll(excludes);
     allExclusions.addAll(Arrays.asList(exclusions));
 
+    String key;
+    synchronized (repos) {
+      key = ResolutionCache.createKey(artifact, allExclusions, repos);
+    }
+    List<File> cached = getCachedFiles(artifact, key);
+    if (cached != null) {
+      return cached;
+    }
+    if (offline) {
+      throw new RepositoryException(String.format(
+          "Cannot fetch dependencies for %s, it is not cached and offline mode is enabled",
+          artifact));
+    }
+    synchronized (resolutionLock) {
+      // it may be resolved by another thread in the meantime
+      cached = getCachedFiles(artifact, key);
+      if (cached != null) {
+        return cached;
+      }
+      List<File> files = resolveFromMvn(artifact, allExclusions);
+      resolutionCache.put(key, files);
+      return files;
+    }
+  }
+
+  private List<File> getCachedFiles(String artifact, String key) {
+    if (!offline && !ResolutionCache.isStable(artifact)) {
+      return null;
+    }
+    List<File> cached = resolutionCache.get(key);
+    if (cached == null) {
+      return null;
+    }
+    logger.debug("load {} from resolution cache", artifact);
+    return new LinkedList<>(cached);
+  }
+
+  private List<File> resolveFromMvn(String artifact, Collection<String> allExclusions)
+      throws RepositoryException {
     List<ArtifactResult> listOfArtifact;
     listOfArtifact = getArtifactsWithDep(artifact, allExclusions);
 
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.dep;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonatype.aether.repository.RemoteRepository;
+
+/**
+ * Persistent cache of resolved classpaths, kept next to the local repository.
+ * Entries are keyed by artifact coordinates, exclusions and the repository set, so that
+ * the same dependency can be served again without walking the dependency graph, or
+ * without any network access at all in offline mode.
+ */
+public class ResolutionCache {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResolutionCache.class);
+
+  static final String CACHE_FILE_NAME = "zeppelin-resolution-cache.json";
+
+  private static final Gson GSON = new Gson();
+
+  private final File cacheFile;
+  private final Map<String, List<String>> entries = new ConcurrentHashMap<>();
+
+  public ResolutionCache(File cacheFile) {
+    this.cacheFile = cacheFile;
+    load();
+  }
+
+  public static String createKey(String artifact,
+                                 Collection<String> excludes,
+                                 Collection<RemoteRepository> repos) {
+    TreeSet<String> sortedExcludes = new TreeSet<>(excludes);
+    TreeSet<String> sortedRepos = new TreeSet<>();
+    for (RemoteRepository repo : repos) {
+      sortedRepos.add(repo.getId() + "=" + repo.getUrl());
+    }
+    return artifact + "|" + String.join(",", sortedExcludes) + "|" + String.join(",", sortedRepos);
+  }
+
+  /**
+   * Whether the resolution of this artifact may be served from the cache while online.
+   * Snapshots, version ranges and meta versions can change upstream, so they are always
+   * resolved again unless the resolver is offline.
+   */
+  public static boolean isStable(String artifact) {
+    return !(artifact.endsWith("-SNAPSHOT") || artifact.contains("[") || artifact.contains("(")
+        || artifact.endsWith(":LATEST") || artifact.endsWith(":RELEASE"));
+  }
+
+  /**
+   * Return the cached classpath of the key, or null when it is not cached or any of
+   * its files has been removed from the local repository since.
+   */
+  public List<File> get(String key) {
+    List<String> paths = entries.get(key);
+    if (paths == null) {
+      return null;
+    }
+    List<File> files = new ArrayList<>(paths.size());
+    for (String path : paths) {
+      File file = new File(path);
+      if (!file.isFile()) {
+        LOGGER.debug("Drop cached resolution of {}, {} no longer exists", key, path);
+        entries.remove(key, paths);
+        return null;
+      }
+      files.add(file);
+    }
+    return files;
+  }
+
+  public void put(String key, List<File> files) {
+    List<String> paths = new ArrayList<>(files.size());
+    for (File file : files) {
+      paths.add(file.getAbsolutePath());
+    }
+    entries.put(key, paths);
+    save();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  private void load() {
+    if (!cacheFile.isFile()) {
+      return;
+    }
+    try {
+      String json = FileUtils.readFileToString(cacheFile, StandardCharsets.UTF_8);
+      Map<String, List<String>> saved =
+          GSON.fromJson(json, new TypeToken<Map<String, List<String>>>() {}.getType());
+      if (saved != null) {
+        entries.putAll(saved);
+      }
+    } catch (IOException | JsonParseException e) {
+      LOGGER.warn("Unable to read dependency resolution cache " + cacheFile
+          + ", starting with an empty one", e);
+    }
+  }
+
+  private synchronized void save() {
+    try {
+      File dir = cacheFile.getAbsoluteFile().getParentFile();
+      FileUtils.forceMkdir(dir);
+      File tmpFile = File.createTempFile(CACHE_FILE_NAME, ".tmp", dir);
+      FileUtils.writeStringToFile(tmpFile, GSON.toJson(entries), StandardCharsets.UTF_8);
+      Files.move(tmpFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOGGER.warn("Unable to write dependency resolution cache " + cacheFile, e);
+    }
+  }
+}
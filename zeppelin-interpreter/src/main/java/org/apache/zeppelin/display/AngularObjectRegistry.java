@@ -17,10 +17,17 @@
 
 package org.apache.zeppelin.display;
 
-import java.util.HashMap;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * AngularObjectRegistry keeps all the object that binded to Angular Display System.
@@ -29,14 +36,25 @@ import java.util.Map;
  *  - Paragraphscope : AngularObject is valid in specific paragraph
  *  - Notebook scope: AngularObject is valid in a single notebook
  *  - Global scope : Shared to all notebook that uses the same interpreter group
+ *
+ * Updates of AngularObjects can be coalesced (see {@link #setUpdateCoalesceInterval(long)}),
+ * then only the latest value of each object updated within the interval is sent to the listener,
+ * in one batch.
  */
 public class AngularObjectRegistry {
-  Map<String, Map<String, AngularObject>> registry = new HashMap<>();
+  private static final Logger LOGGER = LoggerFactory.getLogger(AngularObjectRegistry.class);
+
+  volatile Map<String, Map<String, AngularObject>> registry = new ConcurrentHashMap<>();
   private final String GLOBAL_KEY = "_GLOBAL_";
   private AngularObjectRegistryListener listener;
   private String interpreterGroupId;
   private AngularObjectListener angularObjectListener;
 
+  // 0 means every update is sent to the listener immediately
+  private volatile long updateCoalesceIntervalMs = 0;
+  // objects updated since last flush, guarded by itself
+  private final Map<AngularObject, AngularObject> pendingUpdates = new LinkedHashMap<>();
+
   public AngularObjectRegistry(final String interpreterGroupId,
       final AngularObjectRegistryListener listener) {
     this.interpreterGroupId = interpreterGroupId;
@@ -45,7 +63,11 @@ public class AngularObjectRegistry {
       @Override
       public void updated(AngularObject updatedObject) {
         if (listener != null) {
-          listener.onUpdateAngularObject(interpreterGroupId, updatedObject);
+          if (updateCoalesceIntervalMs > 0) {
+            scheduleUpdate(updatedObject);
+          } else {
+            listener.onUpdateAngularObject(interpreterGroupId, updatedObject);
+          }
         }
       }
     };
@@ -55,6 +77,54 @@ public class AngularObjectRegistry {
     return listener;
   }
 
+  /**
+   * Coalesce updates of the same AngularObject within the given interval.
+   *
+   * @param intervalMs interval in milliseconds, 0 to send every update immediately
+   */
+  public void setUpdateCoalesceInterval(long intervalMs) {
+    this.updateCoalesceIntervalMs = Math.max(0, intervalMs);
+    if (updateCoalesceIntervalMs == 0) {
+      flushUpdates();
+    }
+  }
+
+  public long getUpdateCoalesceInterval() {
+    return updateCoalesceIntervalMs;
+  }
+
+  private void scheduleUpdate(AngularObject ao) {
+    boolean schedule;
+    synchronized (pendingUpdates) {
+      schedule = pendingUpdates.isEmpty();
+      // keep the position of the first update, so objects are flushed in update order
+      pendingUpdates.put(ao, ao);
+    }
+    if (schedule) {
+      ExecutorFactory.singleton().createOrGetScheduled("AngularObjectUpdate", 1)
+          .schedule(this::flushUpdates, updateCoalesceIntervalMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Send pending coalesced updates to the listener.
+   */
+  public void flushUpdates() {
+    List<AngularObject> updates;
+    synchronized (pendingUpdates) {
+      if (pendingUpdates.isEmpty()) {
+        return;
+      }
+      updates = new ArrayList<>(pendingUpdates.values());
+      pendingUpdates.clear();
+    }
+    try {
+      listener.onUpdateAngularObjects(interpreterGroupId, updates);
+    } catch (Exception e) {
+      LOGGER.warn("Fail to send {} AngularObject updates", updates.size(), e);
+    }
+  }
+
   /**
    * Add object into registry
    *
@@ -85,14 +155,8 @@ public class AngularObjectRegistry {
   }
   
   private Map<String, AngularObject> getRegistryForKey(String noteId, String paragraphId) {
-    synchronized (registry) {
-      String key = getRegistryKey(noteId, paragraphId);
-      if (!registry.containsKey(key)) {
-        registry.put(key, new HashMap<String, AngularObject>());
-      }
-      
-      return registry.get(key);
-    }
+    String key = getRegistryKey(noteId, paragraphId);
+    return registry.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
   }
 
   /**
@@ -113,12 +177,10 @@ public class AngularObjectRegistry {
                            boolean emit) {
     AngularObject ao = createNewAngularObject(name, o, noteId, paragraphId);
 
-    synchronized (registry) {
-      Map<String, AngularObject> noteLocalRegistry = getRegistryForKey(noteId, paragraphId);
-      noteLocalRegistry.put(name, ao);
-      if (listener != null && emit) {
-        listener.onAddAngularObject(interpreterGroupId, ao);
-      }
+    Map<String, AngularObject> noteLocalRegistry = getRegistryForKey(noteId, paragraphId);
+    noteLocalRegistry.put(name, ao);
+    if (listener != null && emit) {
+      listener.onAddAngularObject(interpreterGroupId, ao);
     }
 
     return ao;
@@ -155,14 +217,18 @@ public class AngularObjectRegistry {
    * @return removed object. null if object is not found in registry
    */
   public AngularObject remove(String name, String noteId, String paragraphId, boolean emit) {
-    synchronized (registry) {
-      Map<String, AngularObject> r = getRegistryForKey(noteId, paragraphId);
-      AngularObject o = r.remove(name);
-      if (listener != null && emit) {
-        listener.onRemoveAngularObject(interpreterGroupId, o);
+    Map<String, AngularObject> r = getRegistryForKey(noteId, paragraphId);
+    AngularObject o = r.remove(name);
+    if (o != null) {
+      // pending update of the removed object must not be sent after the removal
+      synchronized (pendingUpdates) {
+        pendingUpdates.remove(o);
       }
-      return o;
     }
+    if (listener != null && emit) {
+      listener.onRemoveAngularObject(interpreterGroupId, o);
+    }
+    return o;
   }
 
   /**
@@ -176,11 +242,9 @@ public class AngularObjectRegistry {
    * @param paragraphId paragraphId
    */
   public void removeAll(String noteId, String paragraphId) {
-    synchronized (registry) {
-      List<AngularObject> all = getAll(noteId, paragraphId);
-      for (AngularObject ao : all) {
-        remove(ao.getName(), noteId, paragraphId);
-      }
+    List<AngularObject> all = getAll(noteId, paragraphId);
+    for (AngularObject ao : all) {
+      remove(ao.getName(), noteId, paragraphId);
     }
   }
 
@@ -192,10 +256,8 @@ public class AngularObjectRegistry {
    * @return angularobject. null when not found
    */
   public AngularObject get(String name, String noteId, String paragraphId) {
-    synchronized (registry) {
-      Map<String, AngularObject> r = getRegistryForKey(noteId, paragraphId);
-      return r.get(name);
-    }
+    Map<String, AngularObject> r = getRegistryForKey(noteId, paragraphId);
+    return r.get(name);
   }
 
   /**
@@ -206,11 +268,9 @@ public class AngularObjectRegistry {
    */
   public List<AngularObject> getAll(String noteId, String paragraphId) {
     List<AngularObject> all = new LinkedList<>();
-    synchronized (registry) {
-      Map<String, AngularObject> r = getRegistryForKey(noteId, paragraphId);
-      if (r != null) {
-        all.addAll(r.values());
-      }
+    Map<String, AngularObject> r = getRegistryForKey(noteId, paragraphId);
+    if (r != null) {
+      all.addAll(r.values());
     }
     return all;
   }
@@ -225,15 +285,13 @@ public class AngularObjectRegistry {
    */
   public List<AngularObject> getAllWithGlobal(String noteId) {
     List<AngularObject> all = new LinkedList<>();
-    synchronized (registry) {
-      Map<String, AngularObject> global = getRegistryForKey(null, null);
-      if (global != null) {
-        all.addAll(global.values());
-      }
-      for (String key : registry.keySet()) {
-        if (key.startsWith(noteId)) {
-          all.addAll(registry.get(key).values());
-        }
+    Map<String, AngularObject> global = getRegistryForKey(null, null);
+    if (global != null) {
+      all.addAll(global.values());
+    }
+    for (Map.Entry<String, Map<String, AngularObject>> entry : registry.entrySet()) {
+      if (entry.getKey().startsWith(noteId)) {
+        all.addAll(entry.getValue().values());
       }
     }
     return all;
@@ -248,11 +306,13 @@ public class AngularObjectRegistry {
   }
 
   public void setRegistry(Map<String, Map<String, AngularObject>> registry) {
-    this.registry = registry;
-    for (Map<String, AngularObject> map : registry.values()) {
-      for (AngularObject ao : map.values()) {
+    Map<String, Map<String, AngularObject>> newRegistry = new ConcurrentHashMap<>();
+    for (Map.Entry<String, Map<String, AngularObject>> entry : registry.entrySet()) {
+      for (AngularObject ao : entry.getValue().values()) {
         ao.setListener(angularObjectListener);
       }
+      newRegistry.put(entry.getKey(), new ConcurrentHashMap<>(entry.getValue()));
     }
+    this.registry = newRegistry;
   }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.zeppelin.display;
 
+import java.util.List;
+
 /**
  *
  * Listener class for angular object operations, such as add, update, remove.
@@ -25,4 +27,15 @@ public interface AngularObjectRegistryListener {
   void onAddAngularObject(String interpreterGroupId, AngularObject angularObject);
   void onUpdateAngularObject(String interpreterGroupId, AngularObject angularObject);
   void onRemoveAngularObject(String interpreterGroupId, AngularObject angularObject);
+
+  /**
+   * Called with the coalesced updates when AngularObjectRegistry coalesces updates.
+   * Implementations can override it to send the updates in one batch.
+   */
+  default void onUpdateAngularObjects(String interpreterGroupId,
+                                      List<AngularObject> angularObjects) {
+    for (AngularObject angularObject : angularObjects) {
+      onUpdateAngularObject(interpreterGroupId, angularObject);
+    }
+  }
 }
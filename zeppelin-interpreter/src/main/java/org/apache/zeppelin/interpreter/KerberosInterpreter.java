@@ -19,12 +19,13 @@ package org.apache.zeppelin.interpreter;
 
 import java.util.Properties;
 import java.util.concurrent.Callable;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.zeppelin.annotation.ZeppelinApi;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,8 +47,13 @@ import org.slf4j.LoggerFactory;
  */
 public abstract class KerberosInterpreter extends AbstractInterpreter {
 
+  private static final String KERBEROS_LOGIN_EXECUTOR = "KerberosLogin-";
+
   private Integer kinitFailCount = 0;
   private ScheduledExecutorService scheduledExecutorService;
+  // the pool is shared by all the interpreters, so the tasks of this one are cancelled on close
+  private volatile boolean kerberosLoginStopped;
+  private volatile Future<?> kerberosLoginFuture;
   private static Logger logger = LoggerFactory.getLogger(KerberosInterpreter.class);
 
   public KerberosInterpreter(Properties property) {
@@ -127,16 +133,21 @@ public abstract class KerberosInterpreter extends AbstractInterpreter {
   }
 
   private ScheduledExecutorService startKerberosLoginThread() {
-    scheduledExecutorService = Executors.newScheduledThreadPool(1);
+    scheduledExecutorService =
+        ExecutorFactory.singleton().createOrGetScheduled(KERBEROS_LOGIN_EXECUTOR, 1);
+    kerberosLoginStopped = false;
 
-    scheduledExecutorService.submit(new Callable() {
+    kerberosLoginFuture = scheduledExecutorService.submit(new Callable() {
       public Object call() throws Exception {
+        if (kerberosLoginStopped) {
+          return null;
+        }
 
         if (runKerberosLogin()) {
           logger.info("Ran runKerberosLogin command successfully.");
           kinitFailCount = 0;
           // schedule another kinit run with a fixed delay.
-          scheduledExecutorService
+          kerberosLoginFuture = scheduledExecutorService
               .schedule(this, getKerberosRefreshInterval(), TimeUnit.MILLISECONDS);
         } else {
           kinitFailCount++;
@@ -146,7 +157,7 @@ public abstract class KerberosInterpreter extends AbstractInterpreter {
             logger.error("runKerberosLogin failed for  max attempts, calling close interpreter.");
             close();
           } else {
-            scheduledExecutorService.submit(this);
+            kerberosLoginFuture = scheduledExecutorService.submit(this);
           }
         }
         return null;
@@ -157,8 +168,9 @@ public abstract class KerberosInterpreter extends AbstractInterpreter {
   }
 
   private void shutdownExecutorService() {
-    if (scheduledExecutorService != null) {
-      scheduledExecutorService.shutdown();
+    kerberosLoginStopped = true;
+    if (kerberosLoginFuture != null) {
+      kerberosLoginFuture.cancel(false);
     }
   }
 
@@ -18,6 +18,8 @@
 package org.apache.zeppelin.interpreter.launcher;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
@@ -52,6 +54,10 @@ public abstract class InterpreterLauncher {
    * @return
    */
   protected int getConnectTimeout() {
+    return getConnectTimeout(properties);
+  }
+
+  protected int getConnectTimeout(Properties properties) {
     int connectTimeout =
         zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_CONNECT_TIMEOUT);
     if (properties != null && properties.containsKey(
@@ -62,6 +68,28 @@ public abstract class InterpreterLauncher {
     return connectTimeout;
   }
 
+  /**
+   * Env of the interpreter process to use the same thrift rpc mode and compression as zeppelin
+   * server, it's read before zeppelin-site.xml which may not be available to the interpreter
+   * process.
+   */
+  protected Map<String, String> buildRpcEnv() {
+    Map<String, String> env = new HashMap<>();
+    env.put(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_NONBLOCKING_ENABLED.name(),
+        String.valueOf(zConf.isInterpreterRpcNonblockingEnabled()));
+    env.put(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_MULTIPLEXED_ENABLED.name(),
+        String.valueOf(zConf.isInterpreterRpcMultiplexedEnabled()));
+    env.put(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_COMPRESSION_ENABLED.name(),
+        String.valueOf(zConf.isInterpreterRpcCompressionEnabled()));
+    env.put(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_COMPRESSION_CODEC.name(),
+        zConf.getInterpreterRpcCompressionCodec());
+    env.put(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_COMPRESSION_LEVEL.name(),
+        String.valueOf(zConf.getInterpreterRpcCompressionLevel()));
+    env.put(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_COMPRESSION_THRESHOLD.name(),
+        String.valueOf(zConf.getInterpreterRpcCompressionThreshold()));
+    return env;
+  }
+
   public static String escapeSpecialCharacter(String command) {
     StringBuilder builder = new StringBuilder();
     for (char c : command.toCharArray()) {
@@ -19,10 +19,20 @@ package org.apache.zeppelin.interpreter.recovery;
 
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.launcher.InterpreterClient;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 
 /**
@@ -32,8 +42,13 @@ import java.util.Map;
  */
 public abstract class RecoveryStorage {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(RecoveryStorage.class);
+  private static final String RECOVERY_EXECUTOR = "InterpreterRecovery-";
+
   protected ZeppelinConfiguration zConf;
-  protected Map<String, InterpreterClient> restoredClients;
+  protected Map<String, InterpreterClient> restoredClients = new ConcurrentHashMap<>();
+  // interpreterGroupId -> reconnecting to the restored InterpreterClient, true if it succeeds
+  private final Map<String, FutureTask<Boolean>> recoveries = new ConcurrentHashMap<>();
 
   // TODO(zjffdu) The constructor is inconsistent between base class and its implementation.
   //  The implementation actually use InterpreterSettingManager, the interface should also use it.
@@ -68,38 +83,112 @@ public abstract class RecoveryStorage {
 
 
   /**
-   * It is called after constructor
+   * It is called after constructor. The restored InterpreterClients are reconnected in parallel
+   * in background, so it returns without waiting for any interpreter process. The one that is
+   * used before its turn is reconnected at once, see getInterpreterClient.
    *
    * @throws IOException
    */
   public void init() throws IOException {
-    Map<String, InterpreterClient> restoredClientsInStorage= restore();
-    this.restoredClients = new HashMap<String, InterpreterClient>();
+    Map<String, InterpreterClient> restoredClientsInStorage = restore();
+    if (restoredClientsInStorage.isEmpty()) {
+      return;
+    }
+    LOGGER.info("Recovering {} interpreter processes", restoredClientsInStorage.size());
+    Queue<FutureTask<Boolean>> pendingRecoveries = new ConcurrentLinkedQueue<>();
     for (Map.Entry<String, InterpreterClient> entry : restoredClientsInStorage.entrySet()) {
-      if (entry.getValue().recover()) {
-        this.restoredClients.put(entry.getKey(), entry.getValue());
-      } else {
-        onInterpreterClientStop(entry.getValue());
+      FutureTask<Boolean> recovery =
+          new FutureTask<>(() -> recover(entry.getKey(), entry.getValue()));
+      restoredClients.put(entry.getKey(), entry.getValue());
+      recoveries.put(entry.getKey(), recovery);
+      pendingRecoveries.add(recovery);
+    }
+    // the pool is unbounded so that getInterpreterClient doesn't wait for a free thread, the
+    // parallelism is bounded by the number of workers taking the pending recoveries
+    ExecutorService recoveryExecutor =
+        ExecutorFactory.singleton().createOrGetCached(RECOVERY_EXECUTOR);
+    int parallelism = Math.min(zConf.getRecoveryParallelism(), pendingRecoveries.size());
+    for (int i = 0; i < parallelism; i++) {
+      recoveryExecutor.execute(() -> {
+        FutureTask<Boolean> recovery;
+        while ((recovery = pendingRecoveries.poll()) != null) {
+          recovery.run();
+        }
+      });
+    }
+  }
+
+  private boolean recover(String interpreterGroupId, InterpreterClient client) {
+    // probe it first, so that a terminated interpreter process fails fast
+    if (client.isRunning() && client.recover()) {
+      LOGGER.info("Recovered interpreter process {}:{} of interpreter group: {}",
+          client.getHost(), client.getPort(), interpreterGroupId);
+      return true;
+    }
+    LOGGER.warn("Unable to recover interpreter process {}:{} of interpreter group: {}",
+        client.getHost(), client.getPort(), interpreterGroupId);
+    onRecoveryFailure(interpreterGroupId, client);
+    return false;
+  }
+
+  private void onRecoveryFailure(String interpreterGroupId, InterpreterClient client) {
+    if (restoredClients.remove(interpreterGroupId, client)) {
+      try {
+        onInterpreterClientStop(client);
+      } catch (IOException e) {
+        LOGGER.warn("Fail to store recovery data of interpreter group: " + interpreterGroupId, e);
       }
     }
   }
 
   /**
    * Get InterpreterClient that is associated with this interpreterGroupId, return null when there's
-   * no such InterpreterClient.
+   * no such InterpreterClient or it can't be reconnected in zeppelin.recovery.timeout.
    *
    * @param interpreterGroupId
    * @return InterpreterClient
    */
   public InterpreterClient getInterpreterClient(String interpreterGroupId) {
-    if (restoredClients.containsKey(interpreterGroupId)) {
-      return restoredClients.get(interpreterGroupId);
-    } else {
-      return null;
+    InterpreterClient client = restoredClients.get(interpreterGroupId);
+    FutureTask<Boolean> recovery = recoveries.get(interpreterGroupId);
+    if (client == null || recovery == null) {
+      return client;
+    }
+    if (!recovery.isDone()) {
+      // reconnect it now instead of waiting for its turn, it is no-op if it is started already
+      ExecutorFactory.singleton().createOrGetCached(RECOVERY_EXECUTOR).execute(recovery);
+    }
+    try {
+      if (recovery.get(zConf.getRecoveryTimeout(), TimeUnit.MILLISECONDS)) {
+        return client;
+      }
+    } catch (TimeoutException e) {
+      LOGGER.warn("Recovering interpreter process {}:{} of interpreter group: {} is time out in"
+          + " {} ms", client.getHost(), client.getPort(), interpreterGroupId,
+          zConf.getRecoveryTimeout());
+      onRecoveryFailure(interpreterGroupId, client);
+      recovery.cancel(true);
+      // a new interpreter process is launched instead, don't leave this one running. Best
+      // effort and in background, it may be as unresponsive as it is on recovering.
+      ExecutorFactory.singleton().createOrGetCached(RECOVERY_EXECUTOR).execute(() -> {
+        try {
+          client.stop();
+        } catch (RuntimeException re) {
+          LOGGER.warn("Fail to stop interpreter process {}:{} of interpreter group: {}",
+              client.getHost(), client.getPort(), interpreterGroupId, re);
+        }
+      });
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      LOGGER.warn("Fail to recover interpreter group: " + interpreterGroupId, e.getCause());
+      onRecoveryFailure(interpreterGroupId, client);
     }
+    return null;
   }
 
   public void removeInterpreterClient(String interpreterGroupId) {
     this.restoredClients.remove(interpreterGroupId);
+    this.recoveries.remove(interpreterGroupId);
   }
 }
@@ -0,0 +1,380 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.TByteArrayOutputStream;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.thrift.transport.TTransportFactory;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Thrift transport which compresses messages larger than a threshold.
+ *
+ * Each message is sent as a frame: magic byte, codec byte, uncompressed length, payload length
+ * and payload. The reading side detects from the first byte of a connection whether the peer
+ * sends frames or plain thrift messages, so it can always talk to a peer without compression.
+ * The server side only sends frames back to a client which sent frames, which makes compression
+ * effectively negotiated by the client.
+ */
+public class CompressedTransport extends TTransport {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CompressedTransport.class);
+
+  // thrift binary protocol messages never start with this byte
+  static final byte MAGIC = 0x5A;
+  private static final int HEADER_SIZE = 10;
+
+  /**
+   * Compression codec.
+   */
+  public enum Codec {
+    NONE((byte) 0),
+    DEFLATE((byte) 1);
+
+    private final byte id;
+
+    Codec(byte id) {
+      this.id = id;
+    }
+
+    static Codec fromId(byte id) throws TTransportException {
+      for (Codec codec : values()) {
+        if (codec.id == id) {
+          return codec;
+        }
+      }
+      throw new TTransportException("Unknown compression codec: " + id);
+    }
+  }
+
+  private enum ReadMode {
+    UNKNOWN,
+    PLAIN,
+    FRAMED
+  }
+
+  private final TTransport transport;
+  private final Codec codec;
+  private final int threshold;
+  // client always sends frames, server only when the client does
+  private final boolean client;
+
+  private final TByteArrayOutputStream writeBuffer = new TByteArrayOutputStream(1024);
+  private final TByteArrayOutputStream compressBuffer = new TByteArrayOutputStream(1024);
+  private final TMemoryInputTransport readBuffer = new TMemoryInputTransport(new byte[0]);
+  private final byte[] header = new byte[HEADER_SIZE];
+  private final Deflater deflater;
+  private final Inflater inflater = new Inflater();
+
+  private volatile ReadMode readMode = ReadMode.UNKNOWN;
+  // first byte of a plain connection, consumed while detecting the read mode
+  private int pendingByte = -1;
+  // called once when the transport is closed
+  private volatile Runnable closeListener;
+
+  public CompressedTransport(TTransport transport, Codec codec, int level, int threshold,
+                             boolean client) {
+    this.transport = transport;
+    this.codec = codec;
+    this.threshold = threshold;
+    this.client = client;
+    this.deflater = new Deflater(level);
+  }
+
+  @Override
+  public boolean isOpen() {
+    return transport.isOpen();
+  }
+
+  @Override
+  public void open() throws TTransportException {
+    transport.open();
+  }
+
+  @Override
+  public void close() {
+    transport.close();
+    deflater.end();
+    inflater.end();
+    Runnable listener = closeListener;
+    closeListener = null;
+    if (listener != null) {
+      listener.run();
+    }
+  }
+
+  private boolean isWriteFramed() {
+    return client || readMode == ReadMode.FRAMED;
+  }
+
+  @Override
+  public int read(byte[] buf, int off, int len) throws TTransportException {
+    if (readMode == ReadMode.UNKNOWN) {
+      detectReadMode();
+    }
+    if (readMode == ReadMode.PLAIN) {
+      if (pendingByte >= 0 && len > 0) {
+        buf[off] = (byte) pendingByte;
+        pendingByte = -1;
+        return 1;
+      }
+      return transport.read(buf, off, len);
+    }
+
+    int got = readBuffer.read(buf, off, len);
+    if (got > 0) {
+      return got;
+    }
+    readFrame(false);
+    return readBuffer.read(buf, off, len);
+  }
+
+  private void detectReadMode() throws TTransportException {
+    transport.readAll(header, 0, 1);
+    if (header[0] == MAGIC) {
+      readMode = ReadMode.FRAMED;
+      readFrame(true);
+    } else {
+      pendingByte = header[0] & 0xFF;
+      readMode = ReadMode.PLAIN;
+    }
+  }
+
+  private void readFrame(boolean magicConsumed) throws TTransportException {
+    int offset = magicConsumed ? 1 : 0;
+    transport.readAll(header, offset, HEADER_SIZE - offset);
+    if (header[0] != MAGIC) {
+      throw new TTransportException("Invalid frame header: " + header[0]);
+    }
+    Codec frameCodec = Codec.fromId(header[1]);
+    int length = decodeInt(header, 2);
+    int payloadLength = decodeInt(header, 6);
+    if (length < 0 || payloadLength < 0) {
+      throw new TTransportException("Invalid frame length: " + length + ", " + payloadLength);
+    }
+
+    byte[] payload = new byte[payloadLength];
+    transport.readAll(payload, 0, payloadLength);
+    if (frameCodec == Codec.NONE) {
+      readBuffer.reset(payload);
+      return;
+    }
+
+    byte[] data = new byte[length];
+    try {
+      inflater.reset();
+      inflater.setInput(payload);
+      int inflated = 0;
+      while (inflated < length && !inflater.finished()) {
+        inflated += inflater.inflate(data, inflated, length - inflated);
+      }
+      if (inflated != length) {
+        throw new TTransportException("Expected " + length + " bytes but got " + inflated);
+      }
+    } catch (DataFormatException e) {
+      throw new TTransportException("Fail to decompress frame", e);
+    }
+    readBuffer.reset(data);
+  }
+
+  @Override
+  public void write(byte[] buf, int off, int len) throws TTransportException {
+    if (isWriteFramed()) {
+      writeBuffer.write(buf, off, len);
+    } else {
+      transport.write(buf, off, len);
+    }
+  }
+
+  @Override
+  public void flush() throws TTransportException {
+    if (isWriteFramed()) {
+      byte[] data = writeBuffer.get();
+      int length = writeBuffer.len();
+      try {
+        if (codec != Codec.NONE && length >= threshold && compress(data, length)) {
+          writeFrame(codec, length, compressBuffer.get(), compressBuffer.len());
+        } else {
+          writeFrame(Codec.NONE, length, data, length);
+        }
+      } finally {
+        writeBuffer.reset();
+        compressBuffer.reset();
+      }
+    }
+    transport.flush();
+  }
+
+  /**
+   * Compress data into compressBuffer, return false when the data is not compressible.
+   */
+  private boolean compress(byte[] data, int length) {
+    deflater.reset();
+    deflater.setInput(data, 0, length);
+    deflater.finish();
+    byte[] chunk = new byte[8192];
+    while (!deflater.finished()) {
+      int n = deflater.deflate(chunk);
+      compressBuffer.write(chunk, 0, n);
+      if (compressBuffer.len() >= length) {
+        return false;
+      }
+    }
+    LOGGER.debug("Compressed thrift message from {} to {} bytes", length, compressBuffer.len());
+    return true;
+  }
+
+  private void writeFrame(Codec frameCodec, int length, byte[] payload, int payloadLength)
+      throws TTransportException {
+    header[0] = MAGIC;
+    header[1] = frameCodec.id;
+    encodeInt(length, header, 2);
+    encodeInt(payloadLength, header, 6);
+    transport.write(header, 0, HEADER_SIZE);
+    transport.write(payload, 0, payloadLength);
+  }
+
+  @Override
+  public byte[] getBuffer() {
+    return readMode == ReadMode.FRAMED ? readBuffer.getBuffer() : null;
+  }
+
+  @Override
+  public int getBufferPosition() {
+    return readMode == ReadMode.FRAMED ? readBuffer.getBufferPosition() : 0;
+  }
+
+  @Override
+  public int getBytesRemainingInBuffer() {
+    return readMode == ReadMode.FRAMED ? readBuffer.getBytesRemainingInBuffer() : -1;
+  }
+
+  @Override
+  public void consumeBuffer(int len) {
+    if (readMode == ReadMode.FRAMED) {
+      readBuffer.consumeBuffer(len);
+    }
+  }
+
+  private static void encodeInt(int value, byte[] buf, int off) {
+    buf[off] = (byte) (0xff & (value >> 24));
+    buf[off + 1] = (byte) (0xff & (value >> 16));
+    buf[off + 2] = (byte) (0xff & (value >> 8));
+    buf[off + 3] = (byte) (0xff & (value));
+  }
+
+  private static int decodeInt(byte[] buf, int off) {
+    return ((buf[off] & 0xff) << 24) |
+        ((buf[off + 1] & 0xff) << 16) |
+        ((buf[off + 2] & 0xff) << 8) |
+        ((buf[off + 3] & 0xff));
+  }
+
+  /**
+   * Creates CompressedTransport for both sides of the connection. When the thrift servers run
+   * in non-blocking mode, see {@link ThriftServerFactory}, client transports are framed instead
+   * and nothing is compressed.
+   */
+  public static class Factory extends TTransportFactory {
+    // transport of each open server connection, by the underlying transport. The input and the
+    // output transport of a connection must be the same instance to share its read mode, so the
+    // connection is wrapped once and the entry is removed when the connection is closed.
+    private final Map<TTransport, CompressedTransport> serverTransports = new IdentityHashMap<>();
+
+    private final Codec codec;
+    private final int level;
+    private final int threshold;
+    private final boolean framed;
+
+    public Factory(Codec codec, int level, int threshold) {
+      this(codec, level, threshold, false);
+    }
+
+    public Factory(Codec codec, int level, int threshold, boolean framed) {
+      this.codec = codec;
+      this.level = level;
+      this.threshold = threshold;
+      this.framed = framed;
+    }
+
+    public static Factory create(ZeppelinConfiguration zConf) {
+      boolean framed = zConf.isInterpreterRpcNonblockingEnabled();
+      Codec codec = Codec.NONE;
+      if (zConf.isInterpreterRpcCompressionEnabled() && !framed) {
+        codec = Codec.valueOf(zConf.getInterpreterRpcCompressionCodec().toUpperCase());
+      }
+      return new Factory(codec, zConf.getInterpreterRpcCompressionLevel(),
+          zConf.getInterpreterRpcCompressionThreshold(), framed);
+    }
+
+    /**
+     * Transport for the server side, the same instance is returned for the same connection
+     * until it's closed.
+     */
+    @Override
+    public TTransport getTransport(TTransport trans) {
+      if (trans instanceof CompressedTransport) {
+        return trans;
+      }
+      synchronized (serverTransports) {
+        CompressedTransport transport = serverTransports.get(trans);
+        if (transport == null) {
+          transport = new CompressedTransport(trans, codec, level, threshold, false);
+          transport.closeListener = () -> {
+            synchronized (serverTransports) {
+              serverTransports.remove(trans);
+            }
+          };
+          serverTransports.put(trans, transport);
+        }
+        return transport;
+      }
+    }
+
+    int getServerTransportCount() {
+      synchronized (serverTransports) {
+        return serverTransports.size();
+      }
+    }
+
+    /**
+     * Transport for the client side, the plain transport is returned when compression is
+     * disabled so that nothing changes on the wire.
+     */
+    public TTransport getClientTransport(TTransport trans) {
+      if (framed) {
+        // results of a paragraph can be larger than the default limit of 16MB
+        return new TFramedTransport(trans, Integer.MAX_VALUE);
+      }
+      if (codec == Codec.NONE) {
+        return trans;
+      }
+      return new CompressedTransport(trans, codec, level, threshold, true);
+    }
+  }
+}
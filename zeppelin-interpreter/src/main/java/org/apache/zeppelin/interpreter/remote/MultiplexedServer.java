@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.ServerContext;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TServerEventHandler;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Server side of {@link MultiplexedTransport}.
+ *
+ * Each connection has one thread reading the frames. The requests are processed concurrently
+ * by the given pool and each response is sent back as soon as it is ready, so a long running
+ * call like interpret doesn't hold back the other calls of the same connection.
+ */
+public class MultiplexedServer extends TServer {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MultiplexedServer.class);
+
+  private final ExecutorService workers;
+  private final ThreadFactory readerThreadFactory =
+      new SchedulerThreadFactory("MultiplexedServer-reader-");
+  private final Set<TTransport> connections = ConcurrentHashMap.newKeySet();
+  private volatile boolean stopped;
+
+  public MultiplexedServer(Args args, ExecutorService workers) {
+    super(args);
+    this.workers = workers;
+  }
+
+  @Override
+  public void serve() {
+    try {
+      serverTransport_.listen();
+    } catch (TTransportException e) {
+      LOGGER.error("Fail to listen", e);
+      return;
+    }
+    if (getEventHandler() != null) {
+      getEventHandler().preServe();
+    }
+    setServing(true);
+    while (!stopped) {
+      try {
+        TTransport connection = serverTransport_.accept();
+        Thread reader = readerThreadFactory.newThread(() -> handle(connection));
+        reader.setDaemon(true);
+        reader.start();
+      } catch (TTransportException e) {
+        if (!stopped) {
+          LOGGER.warn("Fail to accept connection", e);
+        }
+      }
+    }
+    for (TTransport connection : connections) {
+      connection.close();
+    }
+    setServing(false);
+  }
+
+  @Override
+  public void stop() {
+    stopped = true;
+    serverTransport_.interrupt();
+  }
+
+  private void handle(TTransport connection) {
+    connections.add(connection);
+    TProcessor processor = processorFactory_.getProcessor(connection);
+    TServerEventHandler eventHandler = getEventHandler();
+    TProtocol protocol = inputProtocolFactory_.getProtocol(connection);
+    ServerContext context = null;
+    if (eventHandler != null) {
+      context = eventHandler.createContext(protocol, protocol);
+    }
+    byte[] header = new byte[MultiplexedTransport.HEADER_SIZE];
+    try {
+      while (!stopped) {
+        byte[] request = MultiplexedTransport.readFrame(connection, header);
+        int streamId = MultiplexedTransport.getStreamId(header);
+        if (eventHandler != null) {
+          eventHandler.processContext(context, connection, connection);
+        }
+        workers.execute(() -> process(processor, connection, streamId, request));
+      }
+    } catch (TTransportException e) {
+      LOGGER.debug("Connection is closed", e);
+    } catch (RejectedExecutionException e) {
+      LOGGER.warn("Fail to process request, close connection", e);
+    } finally {
+      if (eventHandler != null) {
+        eventHandler.deleteContext(context, protocol, protocol);
+      }
+      connections.remove(connection);
+      connection.close();
+    }
+  }
+
+  private void process(TProcessor processor, TTransport connection, int streamId,
+                       byte[] request) {
+    TMemoryBuffer response = new TMemoryBuffer(1024);
+    try {
+      processor.process(inputProtocolFactory_.getProtocol(new TMemoryInputTransport(request)),
+          outputProtocolFactory_.getProtocol(response));
+      synchronized (connection) {
+        MultiplexedTransport.writeFrame(connection, streamId, response.getArray(),
+            response.length());
+      }
+    } catch (TException e) {
+      // the client can't match the response anymore, fail all the calls of the connection
+      LOGGER.warn("Fail to process request of stream {}, close connection", streamId, e);
+      connection.close();
+    }
+  }
+}
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.TByteArrayOutputStream;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client side of the multiplexed interpreter RPC, many concurrent calls share one long-lived
+ * connection.
+ *
+ * Each thrift client works on its own stream returned by {@link #openStream()}, streams are
+ * cheap so {@link PooledRemoteClient} can keep as many of them as there are calls in flight.
+ * A request is sent as a frame of its stream id, used as request id, and the thrift message.
+ * {@link MultiplexedServer} processes the frames concurrently and sends each response back with
+ * the id of its request as soon as it is ready, so responses can arrive in any order. A reader
+ * thread hands them to the waiting streams. When the connection fails, all the calls in flight
+ * fail and the next stream opens a new connection.
+ */
+public class MultiplexedTransport {
+  private static final Logger LOGGER = LoggerFactory.getLogger(MultiplexedTransport.class);
+
+  // payload length and stream id
+  static final int HEADER_SIZE = 8;
+
+  private final String name;
+  private final SupplierWithIO<TTransport> connector;
+  private final ThreadFactory readerThreadFactory;
+  private final AtomicInteger streamIds = new AtomicInteger();
+  private Connection connection;
+  private boolean closed;
+
+  /**
+   * @param name prefix of the name of the reader threads
+   * @param connector opens a new connection to the server
+   */
+  public MultiplexedTransport(String name, SupplierWithIO<TTransport> connector) {
+    this.name = name;
+    this.connector = connector;
+    this.readerThreadFactory = new SchedulerThreadFactory(name + "-reader-");
+  }
+
+  /**
+   * Open a new stream, connect to the server if there is no open connection.
+   */
+  public synchronized TTransport openStream() throws IOException {
+    if (closed) {
+      throw new IOException("MultiplexedTransport " + name + " is closed");
+    }
+    if (connection == null || !connection.open) {
+      connection = new Connection(connector.getWithIO());
+      Thread reader = readerThreadFactory.newThread(connection);
+      reader.setDaemon(true);
+      reader.start();
+    }
+    return connection.newStream(streamIds.incrementAndGet());
+  }
+
+  public synchronized void close() {
+    closed = true;
+    if (connection != null) {
+      connection.fail(new TTransportException(TTransportException.NOT_OPEN,
+          "MultiplexedTransport " + name + " is closed"));
+    }
+  }
+
+  static void writeFrame(TTransport transport, int streamId, byte[] payload, int length)
+      throws TTransportException {
+    byte[] header = new byte[HEADER_SIZE];
+    encodeInt(length, header, 0);
+    encodeInt(streamId, header, 4);
+    transport.write(header, 0, HEADER_SIZE);
+    transport.write(payload, 0, length);
+    transport.flush();
+  }
+
+  /**
+   * Read the next frame, header is filled with the length and the stream id of the frame.
+   */
+  static byte[] readFrame(TTransport transport, byte[] header) throws TTransportException {
+    transport.readAll(header, 0, HEADER_SIZE);
+    int length = decodeInt(header, 0);
+    if (length < 0) {
+      throw new TTransportException("Invalid frame length: " + length);
+    }
+    byte[] payload = new byte[length];
+    transport.readAll(payload, 0, length);
+    return payload;
+  }
+
+  static int getStreamId(byte[] header) {
+    return decodeInt(header, 4);
+  }
+
+  private static void encodeInt(int value, byte[] buf, int off) {
+    buf[off] = (byte) (0xff & (value >> 24));
+    buf[off + 1] = (byte) (0xff & (value >> 16));
+    buf[off + 2] = (byte) (0xff & (value >> 8));
+    buf[off + 3] = (byte) (0xff & (value));
+  }
+
+  private static int decodeInt(byte[] buf, int off) {
+    return ((buf[off] & 0xff) << 24) |
+        ((buf[off + 1] & 0xff) << 16) |
+        ((buf[off + 2] & 0xff) << 8) |
+        ((buf[off + 3] & 0xff));
+  }
+
+  /**
+   * Connection shared by the streams, writes are serialized and responses are dispatched by the
+   * reader thread.
+   */
+  private static class Connection implements Runnable {
+    private final TTransport transport;
+    private final Map<Integer, Stream> streams = new ConcurrentHashMap<>();
+    private volatile boolean open = true;
+
+    Connection(TTransport transport) {
+      this.transport = transport;
+    }
+
+    Stream newStream(int id) {
+      Stream stream = new Stream(this, id);
+      streams.put(id, stream);
+      return stream;
+    }
+
+    void send(int streamId, byte[] payload, int length) throws TTransportException {
+      try {
+        synchronized (this) {
+          if (!open) {
+            throw new TTransportException(TTransportException.NOT_OPEN, "Connection is closed");
+          }
+          writeFrame(transport, streamId, payload, length);
+        }
+      } catch (TTransportException e) {
+        fail(e);
+        throw e;
+      }
+    }
+
+    @Override
+    public void run() {
+      byte[] header = new byte[HEADER_SIZE];
+      try {
+        while (open) {
+          byte[] payload = readFrame(transport, header);
+          Stream stream = streams.get(getStreamId(header));
+          if (stream != null) {
+            stream.responses.offer(payload);
+          } else {
+            LOGGER.debug("Discard response of closed stream {}", getStreamId(header));
+          }
+        }
+      } catch (TTransportException e) {
+        fail(e);
+      }
+    }
+
+    void fail(TTransportException e) {
+      if (!open) {
+        return;
+      }
+      open = false;
+      LOGGER.info("Close multiplexed connection with {} streams: {}", streams.size(),
+          e.getMessage());
+      transport.close();
+      // streams which are not waiting for a response find the connection closed on next call
+      for (Stream stream : streams.values()) {
+        stream.responses.offer(e);
+      }
+    }
+  }
+
+  /**
+   * Transport of one thrift client, requests are buffered until flush.
+   */
+  private static class Stream extends TTransport {
+    private final Connection connection;
+    private final int id;
+    private final TByteArrayOutputStream writeBuffer = new TByteArrayOutputStream(1024);
+    private final TMemoryInputTransport readBuffer = new TMemoryInputTransport(new byte[0]);
+    // response payloads or the failure of the connection
+    private final BlockingQueue<Object> responses = new LinkedBlockingQueue<>();
+    private volatile boolean open = true;
+
+    Stream(Connection connection, int id) {
+      this.connection = connection;
+      this.id = id;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open && connection.open;
+    }
+
+    @Override
+    public void open() {
+    }
+
+    @Override
+    public void close() {
+      open = false;
+      connection.streams.remove(id);
+    }
+
+    @Override
+    public int read(byte[] buf, int off, int len) throws TTransportException {
+      int got = readBuffer.read(buf, off, len);
+      if (got > 0) {
+        return got;
+      }
+      Object response;
+      try {
+        response = responses.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new TTransportException(e);
+      }
+      if (response instanceof TTransportException) {
+        throw (TTransportException) response;
+      }
+      readBuffer.reset((byte[]) response);
+      return readBuffer.read(buf, off, len);
+    }
+
+    @Override
+    public void write(byte[] buf, int off, int len) {
+      writeBuffer.write(buf, off, len);
+    }
+
+    @Override
+    public void flush() throws TTransportException {
+      if (!open) {
+        throw new TTransportException(TTransportException.NOT_OPEN, "Stream is closed");
+      }
+      try {
+        connection.send(id, writeBuffer.get(), writeBuffer.len());
+      } finally {
+        writeBuffer.reset();
+      }
+    }
+  }
+}
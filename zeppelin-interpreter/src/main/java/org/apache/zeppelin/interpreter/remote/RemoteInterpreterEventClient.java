@@ -21,7 +21,9 @@ import org.apache.thrift.TException;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectRegistryListener;
 import org.apache.zeppelin.interpreter.InterpreterResult;
@@ -42,6 +44,7 @@ import org.apache.zeppelin.resource.RemoteResource;
 import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePoolConnector;
+import org.apache.zeppelin.resource.ResourcePoolListener;
 import org.apache.zeppelin.resource.ResourceSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,24 +60,46 @@ import java.util.Map;
  * All the methods are synchronized because thrift client is not thread safe.
  */
 public class RemoteInterpreterEventClient implements ResourcePoolConnector,
-    AngularObjectRegistryListener {
+    AngularObjectRegistryListener, ResourcePoolListener {
   private final static Logger LOGGER = LoggerFactory.getLogger(RemoteInterpreterEventClient.class);
   private final static Gson GSON = new Gson();
 
   private PooledRemoteClient<RemoteInterpreterEventService.Client> remoteClient;
+  // connection shared by the clients in multiplexed mode
+  private MultiplexedTransport multiplexedTransport;
   private String intpGroupId;
 
   public RemoteInterpreterEventClient(String intpEventHost, int intpEventPort) {
-    this.remoteClient = new PooledRemoteClient<>(() -> {
-      TSocket transport = new TSocket(intpEventHost, intpEventPort);
+    ZeppelinConfiguration zConf = ZeppelinConfiguration.create();
+    SupplierWithIO<TTransport> connector = () -> {
+      TSocket socket = new TSocket(intpEventHost, intpEventPort);
       try {
-        transport.open();
+        socket.open();
       } catch (TTransportException e) {
         throw new IOException(e);
       }
-      TProtocol protocol = new TBinaryProtocol(transport);
-      return new RemoteInterpreterEventService.Client(protocol);
-    });
+      return socket;
+    };
+    if (zConf.isInterpreterRpcMultiplexedEnabled()) {
+      this.multiplexedTransport =
+          new MultiplexedTransport("RemoteInterpreterEventClient", connector);
+      this.remoteClient = new PooledRemoteClient<>(() -> new RemoteInterpreterEventService.Client(
+          new TBinaryProtocol(multiplexedTransport.openStream())));
+    } else {
+      CompressedTransport.Factory transportFactory = CompressedTransport.Factory.create(zConf);
+      this.remoteClient = new PooledRemoteClient<>(() -> {
+        TProtocol protocol =
+            new TBinaryProtocol(transportFactory.getClientTransport(connector.getWithIO()));
+        return new RemoteInterpreterEventService.Client(protocol);
+      });
+    }
+  }
+
+  public void shutdown() {
+    remoteClient.shutdown();
+    if (multiplexedTransport != null) {
+      multiplexedTransport.close();
+    }
   }
 
   public <R> R callRemoteFunction(PooledRemoteClient.RemoteFunction<R, RemoteInterpreterEventService.Client> func) {
@@ -140,6 +165,27 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     }
   }
 
+  /**
+   * Notify ZeppelinServer that a resource of this interpreter process is updated, so that
+   * other interpreter processes drop their cached value of it.
+   *
+   * @param resourceId
+   * @param version
+   */
+  @Override
+  public void onResourceUpdated(ResourceId resourceId, long version) {
+    ResourceInvalidateEventMessage message =
+        new ResourceInvalidateEventMessage(resourceId, version);
+    try {
+      callRemoteFunction(client -> {
+        client.invalidateResource(intpGroupId, message.toJson());
+        return null;
+      });
+    } catch (Exception e) {
+      LOGGER.warn("Fail to invalidateResource: " + resourceId, e);
+    }
+  }
+
   /**
    * Invoke method and save result in resourcePool as another resource
    *
@@ -372,6 +418,23 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     }
   }
 
+  @Override
+  public void onUpdateAngularObjects(String interpreterGroupId,
+                                     List<AngularObject> angularObjects) {
+    List<String> jsons = new ArrayList<>();
+    for (AngularObject angularObject : angularObjects) {
+      jsons.add(angularObject.toJson());
+    }
+    try {
+      callRemoteFunction(client -> {
+        client.updateAngularObjects(intpGroupId, GSON.toJson(jsons));
+        return null;
+      });
+    } catch (Exception e) {
+      LOGGER.warn("Fail to update " + angularObjects.size() + " AngularObjects", e);
+    }
+  }
+
   @Override
   public void onRemoveAngularObject(String interpreterGroupId, AngularObject angularObject) {
     try {
@@ -24,8 +24,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.thrift.TException;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
@@ -65,13 +65,17 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
+import org.apache.zeppelin.interpreter.util.ProcessMemory;
 import org.apache.zeppelin.resource.DistributedResourcePool;
 import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.apache.zeppelin.scheduler.FairScheduler;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.scheduler.JobListener;
+import org.apache.zeppelin.scheduler.ParallelScheduler;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
 import org.apache.zeppelin.user.AuthenticationInfo;
@@ -80,25 +84,30 @@ import org.slf4j.LoggerFactory;
 import sun.misc.Signal;
 import sun.misc.SignalHandler;
 
+import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -116,8 +125,16 @@ public class RemoteInterpreterServer extends Thread
   private String interpreterGroupId;
   private InterpreterGroup interpreterGroup;
   private AngularObjectRegistry angularObjectRegistry;
+  // updates of the same AngularObject within this interval(ms) are coalesced, 0 to disable
+  private long angularObjectCoalesceInterval = 0;
   private InterpreterHookRegistry hookRegistry;
   private DistributedResourcePool resourcePool;
+  // memory budget of resourcePool in bytes, 0 means unlimited
+  private long resourcePoolMaxMemory = 0;
+  private File resourcePoolSpillDir;
+  // max number of remote resource values cached by resourcePool, 0 means no cache
+  private int resourcePoolRemoteCacheSize = 0;
+  private boolean resourcePoolPublishUpdates = false;
   private ApplicationLoader appLoader;
   private Gson gson = new Gson();
   private String launcherEnv = System.getenv("ZEPPELIN_INTERPRETER_LAUNCHER");
@@ -126,7 +143,7 @@ public class RemoteInterpreterServer extends Thread
   private int intpEventServerPort;
   private String host;
   private int port;
-  private TThreadPoolServer server;
+  private TServer server;
   RemoteInterpreterEventClient intpEventClient;
   private DependencyResolver depLoader;
 
@@ -145,9 +162,14 @@ public class RemoteInterpreterServer extends Thread
   // cache result threshold, result cache is for purpose of recover paragraph even after
   // paragraph is finished
   private int resultCacheInSeconds;
-  private ScheduledExecutorService resultCleanService = Executors.newSingleThreadScheduledExecutor();
+  private static final String RESULT_CLEAN_EXECUTOR = "ResultCleaner-";
+  private ScheduledExecutorService resultCleanService =
+      ExecutorFactory.singleton().createOrGetScheduled(RESULT_CLEAN_EXECUTOR, 1);
 
   private boolean isTest;
+  // time in ms spent in each startup phase, reported to zeppelin server when registering
+  private final Map<String, Long> startupTimes = new LinkedHashMap<>();
+  private long initFinishTime;
 
   // cluster manager client
   private ZeppelinConfiguration zconf = ZeppelinConfiguration.create();
@@ -167,6 +189,7 @@ public class RemoteInterpreterServer extends Thread
                                  String interpreterGroupId,
                                  boolean isTest)
       throws TTransportException, IOException {
+    long initStartTime = System.currentTimeMillis();
     LOGGER.info("Starting remote interpreter server on port {}, intpEventServerAddress: {}:{}", port,
             intpEventServerHost, intpEventServerPort);
     if (null != intpEventServerHost) {
@@ -183,24 +206,30 @@ public class RemoteInterpreterServer extends Thread
     this.interpreterGroupId = interpreterGroupId;
     RemoteInterpreterService.Processor<RemoteInterpreterServer> processor =
         new RemoteInterpreterService.Processor<>(this);
-    TServerSocket serverTransport;
+    TServerTransport serverTransport;
     if (null == intpEventServerHost) {
       // Dev Interpreter
-      serverTransport = new TServerSocket(intpEventServerPort);
+      serverTransport = ThriftServerFactory.createServerTransport(zconf,
+          intpEventServerPort + ":" + intpEventServerPort);
     } else {
-      serverTransport = RemoteInterpreterUtils.createTServerSocket(portRange);
-      this.port = serverTransport.getServerSocket().getLocalPort();
+      serverTransport = ThriftServerFactory.createServerTransport(zconf, portRange);
+      this.port = ThriftServerFactory.getPort(serverTransport);
       this.host = RemoteInterpreterUtils.findAvailableHostAddress();
       LOGGER.info("Launching ThriftServer at " + this.host + ":" + this.port);
     }
-    server = new TThreadPoolServer(
-        new TThreadPoolServer.Args(serverTransport).processor(processor));
+    // interpret blocks a worker until the paragraph is finished
+    server = ThriftServerFactory.createServer(zconf, "RemoteInterpreterServer",
+        serverTransport, processor, true);
     remoteWorksResponsePool = Collections.synchronizedMap(new HashMap<String, Object>());
 
     if (zconf.isClusterMode()) {
       clusterManagerClient = ClusterManagerClient.getInstance(zconf);
       clusterManagerClient.start(interpreterGroupId);
     }
+    this.initFinishTime = System.currentTimeMillis();
+    // from jvm start to the creation of RemoteInterpreterServer, mostly class loading
+    startupTimes.put("jvm", initStartTime - ManagementFactory.getRuntimeMXBean().getStartTime());
+    startupTimes.put("init", initFinishTime - initStartTime);
   }
 
   @Override
@@ -213,7 +242,7 @@ public class RemoteInterpreterServer extends Thread
         public void run() {
           while (!interrupted && !server.isServing()) {
             try {
-              Thread.sleep(1000);
+              Thread.sleep(10);
             } catch (InterruptedException e) {
               interrupted = true;
             }
@@ -227,7 +256,16 @@ public class RemoteInterpreterServer extends Thread
             putClusterMeta();
           } else {
             if (!interrupted) {
+              long servingTime = System.currentTimeMillis();
+              startupTimes.put("serve", servingTime - initFinishTime);
+              startupTimes.put("total",
+                  servingTime - ManagementFactory.getRuntimeMXBean().getStartTime());
               RegisterInfo registerInfo = new RegisterInfo(host, port, interpreterGroupId);
+              registerInfo.setStartupTimes(startupTimes);
+              long pid = ProcessMemory.currentPid();
+              if (pid > 0) {
+                registerInfo.setPid(pid);
+              }
               try {
                 LOGGER.info("Registering interpreter process");
                 intpEventClient.registerInterpreterProcess(registerInfo);
@@ -291,6 +329,14 @@ public class RemoteInterpreterServer extends Thread
       if (!isTest) {
         SchedulerFactory.singleton().destroy();
       }
+      if (resourcePool != null) {
+        resourcePool.close();
+      }
+      ExecutorFactory.singleton().shutdownNow(RESULT_CLEAN_EXECUTOR);
+      // after the interpreters are closed, they may send events on closing
+      if (intpEventClient != null) {
+        intpEventClient.shutdown();
+      }
 
       if ("yarn".equals(launcherEnv)) {
         try {
@@ -409,15 +455,76 @@ public class RemoteInterpreterServer extends Thread
     }
   }
 
+  /**
+   * Rename the log file and the cluster meta of a prelaunched process, which are created
+   * with the id it is launched with, after the interpreter group it is bound to.
+   */
+  private void bindInterpreterGroupId(String newInterpreterGroupId) {
+    String oldInterpreterGroupId = this.interpreterGroupId;
+    if (oldInterpreterGroupId == null || oldInterpreterGroupId.equals(newInterpreterGroupId)) {
+      this.interpreterGroupId = newInterpreterGroupId;
+      return;
+    }
+    LOGGER.info("Bind interpreter process {} to InterpreterGroup: {}", oldInterpreterGroupId,
+        newInterpreterGroupId);
+    deleteClusterMeta();
+    this.interpreterGroupId = newInterpreterGroupId;
+    putClusterMeta();
+
+    Enumeration<?> appenders = org.apache.log4j.LogManager.getRootLogger().getAllAppenders();
+    while (appenders.hasMoreElements()) {
+      Object appender = appenders.nextElement();
+      if (!(appender instanceof org.apache.log4j.FileAppender)) {
+        continue;
+      }
+      org.apache.log4j.FileAppender fileAppender = (org.apache.log4j.FileAppender) appender;
+      String oldFile = fileAppender.getFile();
+      if (oldFile == null || !oldFile.contains(oldInterpreterGroupId)) {
+        continue;
+      }
+      String newFile = oldFile.replace(oldInterpreterGroupId, newInterpreterGroupId);
+      try {
+        Files.move(Paths.get(oldFile), Paths.get(newFile));
+      } catch (IOException e) {
+        LOGGER.warn("Fail to rename log file " + oldFile + " to " + newFile, e);
+        continue;
+      }
+      // the appender keeps writing to the moved file until it reopens it
+      fileAppender.setFile(newFile);
+      fileAppender.setAppend(true);
+      fileAppender.activateOptions();
+    }
+  }
+
   @Override
   public void createInterpreter(String interpreterGroupId, String sessionId, String
       className, Map<String, String> properties, String userName) throws TException {
     try {
       if (interpreterGroup == null) {
+        // a prelaunched process is bound to its interpreter group when the first interpreter
+        // is created
+        bindInterpreterGroupId(interpreterGroupId);
         interpreterGroup = new InterpreterGroup(interpreterGroupId);
         angularObjectRegistry = new AngularObjectRegistry(interpreterGroup.getId(), intpEventClient);
+        angularObjectCoalesceInterval = Long.parseLong(properties.getOrDefault(
+            "zeppelin.interpreter.angularObject.coalesceInterval", "0"));
+        angularObjectRegistry.setUpdateCoalesceInterval(angularObjectCoalesceInterval);
         hookRegistry = new InterpreterHookRegistry();
-        resourcePool = new DistributedResourcePool(interpreterGroup.getId(), intpEventClient);
+        resourcePoolMaxMemory = Long.parseLong(
+            properties.getOrDefault("zeppelin.interpreter.resourcePool.maxMemory", "0"));
+        String spillDir = properties.get("zeppelin.interpreter.resourcePool.spillDir");
+        resourcePoolSpillDir = StringUtils.isBlank(spillDir) ? null : new File(spillDir);
+        resourcePool = new DistributedResourcePool(interpreterGroup.getId(), intpEventClient,
+            resourcePoolMaxMemory, resourcePoolSpillDir);
+        resourcePoolRemoteCacheSize = Integer.parseInt(properties.getOrDefault(
+            DistributedResourcePool.REMOTE_CACHE_SIZE, "0"));
+        resourcePool.setRemoteCacheSize(resourcePoolRemoteCacheSize);
+        // updates only need to be published when some interpreter process caches resources
+        resourcePoolPublishUpdates = Boolean.parseBoolean(
+            properties.get(DistributedResourcePool.REMOTE_CACHE_IN_USE));
+        if (resourcePoolPublishUpdates) {
+          resourcePool.setResourcePoolListener(intpEventClient);
+        }
         interpreterGroup.setInterpreterHookRegistry(hookRegistry);
         interpreterGroup.setAngularObjectRegistry(angularObjectRegistry);
         interpreterGroup.setResourcePool(resourcePool);
@@ -566,11 +673,21 @@ public class RemoteInterpreterServer extends Thread
       LOGGER.info("Reconnect to this interpreter process from {}:{}", host, port);
       this.intpEventServerHost = host;
       this.intpEventServerPort = port;
+      RemoteInterpreterEventClient previousEventClient = intpEventClient;
       intpEventClient = new RemoteInterpreterEventClient(intpEventServerHost, intpEventServerPort);
       intpEventClient.setIntpGroupId(interpreterGroupId);
 
       this.angularObjectRegistry = new AngularObjectRegistry(interpreterGroup.getId(), intpEventClient);
-      this.resourcePool = new DistributedResourcePool(interpreterGroup.getId(), intpEventClient);
+      this.angularObjectRegistry.setUpdateCoalesceInterval(angularObjectCoalesceInterval);
+      if (this.resourcePool != null) {
+        this.resourcePool.close();
+      }
+      this.resourcePool = new DistributedResourcePool(interpreterGroup.getId(), intpEventClient,
+          resourcePoolMaxMemory, resourcePoolSpillDir);
+      this.resourcePool.setRemoteCacheSize(resourcePoolRemoteCacheSize);
+      if (resourcePoolPublishUpdates) {
+        this.resourcePool.setResourcePoolListener(intpEventClient);
+      }
 
       // reset all the available InterpreterContext's components that use intpEventClient.
       for (InterpreterContext context : InterpreterContext.getAllContexts().values()) {
@@ -578,6 +695,9 @@ public class RemoteInterpreterServer extends Thread
         context.setAngularObjectRegistry(angularObjectRegistry);
         context.setResourcePool(resourcePool);
       }
+      if (previousEventClient != null) {
+        previousEventClient.shutdown();
+      }
     } catch (Exception e) {
       throw new TException("Fail to reconnect", e);
     }
@@ -611,7 +731,7 @@ public class RemoteInterpreterServer extends Thread
                 context.getNoteGui());
       }
     } else {
-      Scheduler scheduler = intp.getScheduler();
+      Scheduler scheduler = getScheduler(intp);
       InterpretJobListener jobListener = new InterpretJobListener();
       interpretJob = new InterpretJob(
               context.getParagraphId(),
@@ -838,9 +958,11 @@ public class RemoteInterpreterServer extends Thread
     LOGGER.info("cancel {} {}", className, interpreterContext.getParagraphId());
     Interpreter intp = getInterpreter(sessionId, className);
     String jobId = interpreterContext.getParagraphId();
-    Job job = intp.getScheduler().getJob(jobId);
+    Job job = getScheduler(intp).getJob(jobId);
 
     if (job != null && job.getStatus() == Status.PENDING) {
+      // remove it from the queue of the scheduler
+      job.abort();
       job.setStatus(Status.ABORT);
     } else {
       Thread thread = new Thread( ()-> {
@@ -996,7 +1118,7 @@ public class RemoteInterpreterServer extends Thread
       }
 
       for (Interpreter intp : interpreters) {
-        Scheduler scheduler = intp.getScheduler();
+        Scheduler scheduler = getScheduler(intp);
         if (scheduler != null) {
           Job job = scheduler.getJob(jobId);
           if (job != null) {
@@ -1008,6 +1130,84 @@ public class RemoteInterpreterServer extends Thread
     return Status.UNKNOWN.name();
   }
 
+  /**
+   * Queue information of a pending job when the interpreter uses FairScheduler: position in the
+   * queue, the job group and wait time statistics of the group. Empty json object otherwise.
+   */
+  @Override
+  public String getQueueInfo(String sessionId, String jobId) throws TException {
+    Map<String, Object> queueInfo = new HashMap<>();
+    if (interpreterGroup == null) {
+      return gson.toJson(queueInfo);
+    }
+
+    synchronized (interpreterGroup) {
+      List<Interpreter> interpreters = interpreterGroup.get(sessionId);
+      if (interpreters == null) {
+        return gson.toJson(queueInfo);
+      }
+
+      for (Interpreter intp : interpreters) {
+        Scheduler scheduler = getScheduler(intp);
+        if (scheduler instanceof FairScheduler) {
+          FairScheduler fairScheduler = (FairScheduler) scheduler;
+          String group = fairScheduler.getQueueGroup(jobId);
+          if (group != null) {
+            queueInfo.put("position", fairScheduler.getQueuePosition(jobId));
+            queueInfo.put("group", group);
+            queueInfo.put("groupStats", fairScheduler.getQueueStats().get(group));
+            break;
+          }
+        }
+      }
+    }
+    return gson.toJson(queueInfo);
+  }
+
+  /**
+   * Scheduler of the interpreter, FairScheduler is used instead of the interpreter's own
+   * scheduler when interpreter property zeppelin.interpreter.scheduler is 'fair'.
+   * - zeppelin.interpreter.scheduler.fair.groupBy: user (default) or note
+   * - zeppelin.interpreter.scheduler.fair.weights: e.g. user1:2,user2:1, default weight is 1
+   * - zeppelin.interpreter.scheduler.fair.maxConcurrency: default is the concurrency of the
+   *   interpreter's own scheduler
+   */
+  private Scheduler getScheduler(Interpreter intp) {
+    Scheduler scheduler = intp.getScheduler();
+    if (scheduler == null ||
+        !"fair".equalsIgnoreCase(intp.getProperty("zeppelin.interpreter.scheduler", "default"))) {
+      return scheduler;
+    }
+
+    int defaultConcurrency = scheduler instanceof ParallelScheduler ?
+        ((ParallelScheduler) scheduler).getMaxConcurrency() : 1;
+    int maxConcurrency = Integer.parseInt(intp.getProperty(
+        "zeppelin.interpreter.scheduler.fair.maxConcurrency", defaultConcurrency + ""));
+    boolean groupByNote = "note".equalsIgnoreCase(
+        intp.getProperty("zeppelin.interpreter.scheduler.fair.groupBy", "user"));
+    Map<String, Integer> weights = new HashMap<>();
+    for (String weight :
+        intp.getProperty("zeppelin.interpreter.scheduler.fair.weights", "").split(",")) {
+      String[] groupAndWeight = weight.split(":");
+      if (groupAndWeight.length == 2) {
+        weights.put(groupAndWeight[0].trim(), Integer.parseInt(groupAndWeight[1].trim()));
+      }
+    }
+    // replace the interpreter's scheduler, so interpreters sharing a scheduler still share it
+    return SchedulerFactory.singleton().createOrGetFairScheduler(
+        "fair_" + scheduler.getName(),
+        maxConcurrency,
+        job -> {
+          InterpreterContext context = ((InterpretJob) job).context;
+          if (groupByNote) {
+            return context.getNoteId();
+          }
+          return context.getAuthenticationInfo() == null ?
+              null : context.getAuthenticationInfo().getUser();
+        },
+        weights);
+  }
+
   /**
    * called when object is updated in client (web) side.
    *
@@ -1148,6 +1348,16 @@ public class RemoteInterpreterServer extends Thread
     }
   }
 
+  @Override
+  public void resourceInvalidate(String json) throws TException {
+    if (resourcePool == null) {
+      return;
+    }
+    ResourceInvalidateEventMessage message = ResourceInvalidateEventMessage.fromJson(json);
+    LOGGER.debug("Invalidate resource {}, version {}", message.resourceId, message.version);
+    resourcePool.invalidateRemoteResource(message.resourceId, message.version);
+  }
+
   @Override
   public ByteBuffer resourceInvokeMethod(
       String noteId, String paragraphId, String resourceName, String invokeMessage) {
@@ -1163,6 +1373,8 @@ public class RemoteInterpreterServer extends Thread
             message.methodName,
             message.getParamTypes());
         Object ret = method.invoke(o, message.params);
+        // the method may have modified the object
+        resourcePool.markUpdated(noteId, paragraphId, resourceName);
         if (message.shouldPutResultIntoResourcePool()) {
           // if return resource name is specified,
           // then put result into resource pool
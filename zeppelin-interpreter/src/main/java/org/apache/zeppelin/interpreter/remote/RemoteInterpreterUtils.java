@@ -18,7 +18,9 @@
 package org.apache.zeppelin.interpreter.remote;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,13 +64,27 @@ public class RemoteInterpreterUtils {
    */
   public static TServerSocket createTServerSocket(String portRange)
       throws IOException {
+    return createServerTransport(portRange, TServerSocket::new);
+  }
+
+  /**
+   * Same as {@link #createTServerSocket(String)} for the non-blocking server.
+   */
+  public static TNonblockingServerSocket createTNonblockingServerSocket(String portRange)
+      throws IOException {
+    return createServerTransport(portRange, TNonblockingServerSocket::new);
+  }
+
+  private interface ServerTransportCreator<T extends TServerTransport> {
+    T create(int port) throws TTransportException;
+  }
 
-    TServerSocket tSocket = null;
+  private static <T extends TServerTransport> T createServerTransport(
+      String portRange, ServerTransportCreator<T> creator) throws IOException {
     // ':' is the default value which means no constraints on the portRange
     if (StringUtils.isBlank(portRange) || portRange.equals(":")) {
       try {
-        tSocket = new TServerSocket(0);
-        return tSocket;
+        return creator.create(0);
       } catch (TTransportException e) {
         throw new IOException("Fail to create TServerSocket", e);
       }
@@ -85,8 +101,7 @@ public class RemoteInterpreterUtils {
     }
     for (int i = start; i <= end; ++i) {
       try {
-        tSocket = new TServerSocket(i);
-        return tSocket;
+        return creator.create(i);
       } catch (Exception e) {
         // ignore this
       }
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.ServerContext;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TServerEventHandler;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TNonblockingServerTransport;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates the thrift servers of RemoteInterpreterServer and RemoteInterpreterEventServer.
+ *
+ * By default a TThreadPoolServer is used, which has one thread per connection. When
+ * zeppelin.interpreter.rpc.nonblocking.enabled is true a TThreadedSelectorServer with framed
+ * transport is used instead: a few selector threads handle all the connections and requests are
+ * processed by a pool of {@link ExecutorFactory} named after the server, so its queue shows up in
+ * {@link ExecutorFactory#getStats()}. The pool has a fixed size unless the calls of the server
+ * run for long, like interpret of RemoteInterpreterServer which blocks until the paragraph is
+ * finished. Clients have to use the same mode, see
+ * {@link CompressedTransport.Factory}. When zeppelin.interpreter.rpc.multiplexed.enabled is true
+ * a {@link MultiplexedServer} is used, clients then share one connection through
+ * {@link MultiplexedTransport}. {@link #getStats()} returns the connection and request counts of
+ * the servers of this process.
+ */
+public class ThriftServerFactory {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ThriftServerFactory.class);
+
+  private static final Map<String, ServerStats> SERVERS = new ConcurrentHashMap<>();
+
+  private ThriftServerFactory() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Listen on the first available port of portRange (start:end).
+   */
+  public static TServerTransport createServerTransport(ZeppelinConfiguration zConf,
+                                                       String portRange) throws IOException {
+    if (zConf.isInterpreterRpcNonblockingEnabled() && !zConf.isInterpreterRpcMultiplexedEnabled()) {
+      return RemoteInterpreterUtils.createTNonblockingServerSocket(portRange);
+    }
+    return RemoteInterpreterUtils.createTServerSocket(portRange);
+  }
+
+  public static int getPort(TServerTransport serverTransport) {
+    if (serverTransport instanceof TNonblockingServerSocket) {
+      return ((TNonblockingServerSocket) serverTransport).getPort();
+    }
+    return ((TServerSocket) serverTransport).getServerSocket().getLocalPort();
+  }
+
+  public static TServer createServer(ZeppelinConfiguration zConf,
+                                     String name,
+                                     TServerTransport serverTransport,
+                                     TProcessor processor) {
+    return createServer(zConf, name, serverTransport, processor, false);
+  }
+
+  /**
+   * Create the server of the given name. Multiplexed mode takes precedence, otherwise the mode
+   * follows the type of serverTransport.
+   *
+   * @param longRunningCalls calls may block until a job is done, so the worker pool of the
+   *                         non-blocking server can't be bounded
+   */
+  public static TServer createServer(ZeppelinConfiguration zConf,
+                                     String name,
+                                     TServerTransport serverTransport,
+                                     TProcessor processor,
+                                     boolean longRunningCalls) {
+    TServer server;
+    ServerStats stats;
+    if (zConf.isInterpreterRpcMultiplexedEnabled()) {
+      if (zConf.isInterpreterRpcCompressionEnabled()) {
+        LOGGER.warn("Compression is not supported by the multiplexed thrift server, " +
+            "messages of {} are not compressed", name);
+      }
+      // calls like interpret block for the whole run of a paragraph, the pool can't be bounded
+      String poolName = name + "-";
+      ExecutorService workers = ExecutorFactory.singleton().createOrGetCached(poolName);
+      stats = new ServerStats("multiplexed", getPort(serverTransport), poolName);
+      server = new MultiplexedServer(new TServer.Args(serverTransport).processor(processor),
+          workers) {
+        @Override
+        public void serve() {
+          try {
+            super.serve();
+          } finally {
+            release(name, stats);
+          }
+        }
+      };
+    } else if (serverTransport instanceof TNonblockingServerTransport) {
+      if (zConf.isInterpreterRpcCompressionEnabled()) {
+        LOGGER.warn("Compression is not supported by the non-blocking thrift server, " +
+            "messages of {} are not compressed", name);
+      }
+      String poolName = name + "-";
+      ExecutorService workers;
+      if (longRunningCalls) {
+        workers = ExecutorFactory.singleton().createOrGetCached(poolName);
+      } else {
+        workers = ExecutorFactory.singleton()
+            .createOrGet(poolName, zConf.getInterpreterRpcWorkerThreads());
+      }
+      stats = new ServerStats("nonblocking", getPort(serverTransport), poolName);
+      server = new TThreadedSelectorServer(
+          new TThreadedSelectorServer.Args((TNonblockingServerTransport) serverTransport)
+              .processor(processor)
+              .selectorThreads(zConf.getInterpreterRpcSelectorThreads())
+              .executorService(workers)) {
+        @Override
+        public void serve() {
+          try {
+            super.serve();
+          } finally {
+            release(name, stats);
+          }
+        }
+      };
+    } else {
+      stats = new ServerStats("blocking", getPort(serverTransport), null);
+      server = new TThreadPoolServer(
+          new TThreadPoolServer.Args(serverTransport)
+              .processor(processor)
+              .transportFactory(CompressedTransport.Factory.create(zConf))) {
+        @Override
+        public void serve() {
+          try {
+            super.serve();
+          } finally {
+            release(name, stats);
+          }
+        }
+      };
+    }
+    server.setServerEventHandler(stats);
+    SERVERS.put(name, stats);
+    LOGGER.info("Created {} thrift server {} at port {}", stats.mode, name, stats.port);
+    return server;
+  }
+
+  private static void release(String name, ServerStats stats) {
+    if (stats.workerPool != null) {
+      ExecutorFactory.singleton().shutdown(stats.workerPool);
+    }
+    SERVERS.remove(name, stats);
+  }
+
+  /**
+   * Mode, port, open, total connection and request counts of each server, and the name of the
+   * worker pool of the non-blocking ones.
+   */
+  public static Map<String, Map<String, Object>> getStats() {
+    Map<String, Map<String, Object>> stats = new TreeMap<>();
+    for (Map.Entry<String, ServerStats> entry : SERVERS.entrySet()) {
+      stats.put(entry.getKey(), entry.getValue().toMap());
+    }
+    return stats;
+  }
+
+  /**
+   * Counts connections and requests. Called from the selector threads in non-blocking mode,
+   * so it must not block.
+   */
+  private static class ServerStats implements TServerEventHandler {
+    private final String mode;
+    private final int port;
+    private final String workerPool;
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicLong connections = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+
+    ServerStats(String mode, int port, String workerPool) {
+      this.mode = mode;
+      this.port = port;
+      this.workerPool = workerPool;
+    }
+
+    @Override
+    public void preServe() {
+    }
+
+    @Override
+    public ServerContext createContext(TProtocol input, TProtocol output) {
+      connections.incrementAndGet();
+      openConnections.incrementAndGet();
+      return null;
+    }
+
+    @Override
+    public void deleteContext(ServerContext serverContext, TProtocol input, TProtocol output) {
+      openConnections.decrementAndGet();
+    }
+
+    @Override
+    public void processContext(ServerContext serverContext, TTransport inputTransport,
+                               TTransport outputTransport) {
+      requests.incrementAndGet();
+    }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> map = new LinkedHashMap<>();
+      map.put("mode", mode);
+      map.put("port", port);
+      map.put("openConnections", openConnections.get());
+      map.put("connections", connections.get());
+      map.put("requests", requests.get());
+      if (workerPool != null) {
+        map.put("workerPool", workerPool);
+      }
+      return map;
+    }
+  }
+}
@@ -31,6 +31,8 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
   private static final org.apache.thrift.protocol.TField HOST_FIELD_DESC = new org.apache.thrift.protocol.TField("host", org.apache.thrift.protocol.TType.STRING, (short)1);
   private static final org.apache.thrift.protocol.TField PORT_FIELD_DESC = new org.apache.thrift.protocol.TField("port", org.apache.thrift.protocol.TType.I32, (short)2);
   private static final org.apache.thrift.protocol.TField INTERPRETER_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("interpreterGroupId", org.apache.thrift.protocol.TType.STRING, (short)3);
+  private static final org.apache.thrift.protocol.TField STARTUP_TIMES_FIELD_DESC = new org.apache.thrift.protocol.TField("startupTimes", org.apache.thrift.protocol.TType.MAP, (short)4);
+  private static final org.apache.thrift.protocol.TField PID_FIELD_DESC = new org.apache.thrift.protocol.TField("pid", org.apache.thrift.protocol.TType.I64, (short)5);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new RegisterInfoStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new RegisterInfoTupleSchemeFactory();
@@ -38,12 +40,16 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
   public @org.apache.thrift.annotation.Nullable java.lang.String host; // required
   public int port; // required
   public @org.apache.thrift.annotation.Nullable java.lang.String interpreterGroupId; // required
+  public @org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.Long> startupTimes; // optional
+  public long pid; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     HOST((short)1, "host"),
     PORT((short)2, "port"),
-    INTERPRETER_GROUP_ID((short)3, "interpreterGroupId");
+    INTERPRETER_GROUP_ID((short)3, "interpreterGroupId"),
+    STARTUP_TIMES((short)4, "startupTimes"),
+    PID((short)5, "pid");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -65,6 +71,10 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
           return PORT;
         case 3: // INTERPRETER_GROUP_ID
           return INTERPRETER_GROUP_ID;
+        case 4: // STARTUP_TIMES
+          return STARTUP_TIMES;
+        case 5: // PID
+          return PID;
         default:
           return null;
       }
@@ -107,7 +117,9 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
 
   // isset id assignments
   private static final int __PORT_ISSET_ID = 0;
+  private static final int __PID_ISSET_ID = 1;
   private byte __isset_bitfield = 0;
+  private static final _Fields optionals[] = {_Fields.STARTUP_TIMES,_Fields.PID};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -117,6 +129,12 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
     tmpMap.put(_Fields.INTERPRETER_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("interpreterGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.STARTUP_TIMES, new org.apache.thrift.meta_data.FieldMetaData("startupTimes", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+    tmpMap.put(_Fields.PID, new org.apache.thrift.meta_data.FieldMetaData("pid", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(RegisterInfo.class, metaDataMap);
   }
@@ -148,6 +166,11 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
     if (other.isSetInterpreterGroupId()) {
       this.interpreterGroupId = other.interpreterGroupId;
     }
+    if (other.isSetStartupTimes()) {
+      java.util.Map<java.lang.String,java.lang.Long> __this__startupTimes = new java.util.HashMap<java.lang.String,java.lang.Long>(other.startupTimes);
+      this.startupTimes = __this__startupTimes;
+    }
+    this.pid = other.pid;
   }
 
   public RegisterInfo deepCopy() {
@@ -160,6 +183,9 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
     setPortIsSet(false);
     this.port = 0;
     this.interpreterGroupId = null;
+    this.startupTimes = null;
+    setPidIsSet(false);
+    this.pid = 0;
   }
 
   @org.apache.thrift.annotation.Nullable
@@ -235,6 +261,65 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
     }
   }
 
+  public int getStartupTimesSize() {
+    return (this.startupTimes == null) ? 0 : this.startupTimes.size();
+  }
+
+  public void putToStartupTimes(java.lang.String key, long val) {
+    if (this.startupTimes == null) {
+      this.startupTimes = new java.util.HashMap<java.lang.String,java.lang.Long>();
+    }
+    this.startupTimes.put(key, val);
+  }
+
+  @org.apache.thrift.annotation.Nullable
+  public java.util.Map<java.lang.String,java.lang.Long> getStartupTimes() {
+    return this.startupTimes;
+  }
+
+  public RegisterInfo setStartupTimes(@org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.Long> startupTimes) {
+    this.startupTimes = startupTimes;
+    return this;
+  }
+
+  public void unsetStartupTimes() {
+    this.startupTimes = null;
+  }
+
+  /** Returns true if field startupTimes is set (has been assigned a value) and false otherwise */
+  public boolean isSetStartupTimes() {
+    return this.startupTimes != null;
+  }
+
+  public void setStartupTimesIsSet(boolean value) {
+    if (!value) {
+      this.startupTimes = null;
+    }
+  }
+
+  public long getPid() {
+    return this.pid;
+  }
+
+  public RegisterInfo setPid(long pid) {
+    this.pid = pid;
+    setPidIsSet(true);
+    return this;
+  }
+
+  public void unsetPid() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __PID_ISSET_ID);
+  }
+
+  /** Returns true if field pid is set (has been assigned a value) and false otherwise */
+  public boolean isSetPid() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __PID_ISSET_ID);
+  }
+
+  public void setPidIsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __PID_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
     switch (field) {
     case HOST:
@@ -261,6 +346,22 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
       }
       break;
 
+    case STARTUP_TIMES:
+      if (value == null) {
+        unsetStartupTimes();
+      } else {
+        setStartupTimes((java.util.Map<java.lang.String,java.lang.Long>)value);
+      }
+      break;
+
+    case PID:
+      if (value == null) {
+        unsetPid();
+      } else {
+        setPid((java.lang.Long)value);
+      }
+      break;
+
     }
   }
 
@@ -276,6 +377,12 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
     case INTERPRETER_GROUP_ID:
       return getInterpreterGroupId();
 
+    case STARTUP_TIMES:
+      return getStartupTimes();
+
+    case PID:
+      return getPid();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -293,6 +400,10 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
       return isSetPort();
     case INTERPRETER_GROUP_ID:
       return isSetInterpreterGroupId();
+    case STARTUP_TIMES:
+      return isSetStartupTimes();
+    case PID:
+      return isSetPid();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -339,6 +450,24 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
         return false;
     }
 
+    boolean this_present_startupTimes = true && this.isSetStartupTimes();
+    boolean that_present_startupTimes = true && that.isSetStartupTimes();
+    if (this_present_startupTimes || that_present_startupTimes) {
+      if (!(this_present_startupTimes && that_present_startupTimes))
+        return false;
+      if (!this.startupTimes.equals(that.startupTimes))
+        return false;
+    }
+
+    boolean this_present_pid = true && this.isSetPid();
+    boolean that_present_pid = true && that.isSetPid();
+    if (this_present_pid || that_present_pid) {
+      if (!(this_present_pid && that_present_pid))
+        return false;
+      if (this.pid != that.pid)
+        return false;
+    }
+
     return true;
   }
 
@@ -356,6 +485,14 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
     if (isSetInterpreterGroupId())
       hashCode = hashCode * 8191 + interpreterGroupId.hashCode();
 
+    hashCode = hashCode * 8191 + ((isSetStartupTimes()) ? 131071 : 524287);
+    if (isSetStartupTimes())
+      hashCode = hashCode * 8191 + startupTimes.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetPid()) ? 131071 : 524287);
+    if (isSetPid())
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(pid);
+
     return hashCode;
   }
 
@@ -397,6 +534,26 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetStartupTimes()).compareTo(other.isSetStartupTimes());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetStartupTimes()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.startupTimes, other.startupTimes);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.valueOf(isSetPid()).compareTo(other.isSetPid());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetPid()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.pid, other.pid);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -437,6 +594,22 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
       sb.append(this.interpreterGroupId);
     }
     first = false;
+    if (isSetStartupTimes()) {
+      if (!first) sb.append(", ");
+      sb.append("startupTimes:");
+      if (this.startupTimes == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.startupTimes);
+      }
+      first = false;
+    }
+    if (isSetPid()) {
+      if (!first) sb.append(", ");
+      sb.append("pid:");
+      sb.append(this.pid);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -506,6 +679,34 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 4: // STARTUP_TIMES
+            if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+              {
+                org.apache.thrift.protocol.TMap _map0 = iprot.readMapBegin();
+                struct.startupTimes = new java.util.HashMap<java.lang.String,java.lang.Long>(2*_map0.size);
+                @org.apache.thrift.annotation.Nullable java.lang.String _key1;
+                long _val2;
+                for (int _i3 = 0; _i3 < _map0.size; ++_i3)
+                {
+                  _key1 = iprot.readString();
+                  _val2 = iprot.readI64();
+                  struct.startupTimes.put(_key1, _val2);
+                }
+                iprot.readMapEnd();
+              }
+              struct.setStartupTimesIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 5: // PID
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.pid = iprot.readI64();
+              struct.setPidIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -534,6 +735,26 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
         oprot.writeString(struct.interpreterGroupId);
         oprot.writeFieldEnd();
       }
+      if (struct.startupTimes != null) {
+        if (struct.isSetStartupTimes()) {
+          oprot.writeFieldBegin(STARTUP_TIMES_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, struct.startupTimes.size()));
+            for (java.util.Map.Entry<java.lang.String, java.lang.Long> _iter4 : struct.startupTimes.entrySet())
+            {
+              oprot.writeString(_iter4.getKey());
+              oprot.writeI64(_iter4.getValue());
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.isSetPid()) {
+        oprot.writeFieldBegin(PID_FIELD_DESC);
+        oprot.writeI64(struct.pid);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -561,7 +782,13 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
       if (struct.isSetInterpreterGroupId()) {
         optionals.set(2);
       }
-      oprot.writeBitSet(optionals, 3);
+      if (struct.isSetStartupTimes()) {
+        optionals.set(3);
+      }
+      if (struct.isSetPid()) {
+        optionals.set(4);
+      }
+      oprot.writeBitSet(optionals, 5);
       if (struct.isSetHost()) {
         oprot.writeString(struct.host);
       }
@@ -571,12 +798,25 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
       if (struct.isSetInterpreterGroupId()) {
         oprot.writeString(struct.interpreterGroupId);
       }
+      if (struct.isSetStartupTimes()) {
+        {
+          oprot.writeI32(struct.startupTimes.size());
+          for (java.util.Map.Entry<java.lang.String, java.lang.Long> _iter5 : struct.startupTimes.entrySet())
+          {
+            oprot.writeString(_iter5.getKey());
+            oprot.writeI64(_iter5.getValue());
+          }
+        }
+      }
+      if (struct.isSetPid()) {
+        oprot.writeI64(struct.pid);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, RegisterInfo struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(3);
+      java.util.BitSet incoming = iprot.readBitSet(5);
       if (incoming.get(0)) {
         struct.host = iprot.readString();
         struct.setHostIsSet(true);
@@ -589,6 +829,25 @@ public class RegisterInfo implements org.apache.thrift.TBase<RegisterInfo, Regis
         struct.interpreterGroupId = iprot.readString();
         struct.setInterpreterGroupIdIsSet(true);
       }
+      if (incoming.get(3)) {
+        {
+          org.apache.thrift.protocol.TMap _map6 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.startupTimes = new java.util.HashMap<java.lang.String,java.lang.Long>(2*_map6.size);
+          @org.apache.thrift.annotation.Nullable java.lang.String _key7;
+          long _val8;
+          for (int _i9 = 0; _i9 < _map6.size; ++_i9)
+          {
+            _key7 = iprot.readString();
+            _val8 = iprot.readI64();
+            struct.startupTimes.put(_key7, _val8);
+          }
+        }
+        struct.setStartupTimesIsSet(true);
+      }
+      if (incoming.get(4)) {
+        struct.pid = iprot.readI64();
+        struct.setPidIsSet(true);
+      }
     }
   }
 
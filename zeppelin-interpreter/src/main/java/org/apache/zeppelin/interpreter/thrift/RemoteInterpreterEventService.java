@@ -48,8 +48,10 @@ public class RemoteInterpreterEventService {
     public void runParagraphs(RunParagraphsEvent event) throws org.apache.thrift.TException;
 
     public void addAngularObject(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException;
+    public void invalidateResource(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException;
 
     public void updateAngularObject(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException;
+    public void updateAngularObjects(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException;
 
     public void removeAngularObject(java.lang.String intpGroupId, java.lang.String noteId, java.lang.String paragraphId, java.lang.String name) throws org.apache.thrift.TException;
 
@@ -90,8 +92,10 @@ public class RemoteInterpreterEventService {
     public void runParagraphs(RunParagraphsEvent event, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void addAngularObject(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+    public void invalidateResource(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void updateAngularObject(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+    public void updateAngularObjects(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void removeAngularObject(java.lang.String intpGroupId, java.lang.String noteId, java.lang.String paragraphId, java.lang.String name, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
@@ -333,6 +337,27 @@ public class RemoteInterpreterEventService {
       return;
     }
 
+    public void invalidateResource(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException
+    {
+      send_invalidateResource(intpGroupId, json);
+      recv_invalidateResource();
+    }
+
+    public void send_invalidateResource(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException
+    {
+      invalidateResource_args args = new invalidateResource_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setJson(json);
+      sendBase("invalidateResource", args);
+    }
+
+    public void recv_invalidateResource() throws org.apache.thrift.TException
+    {
+      invalidateResource_result result = new invalidateResource_result();
+      receiveBase(result, "invalidateResource");
+      return;
+    }
+
     public void updateAngularObject(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException
     {
       send_updateAngularObject(intpGroupId, json);
@@ -354,6 +379,27 @@ public class RemoteInterpreterEventService {
       return;
     }
 
+    public void updateAngularObjects(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException
+    {
+      send_updateAngularObjects(intpGroupId, json);
+      recv_updateAngularObjects();
+    }
+
+    public void send_updateAngularObjects(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException
+    {
+      updateAngularObjects_args args = new updateAngularObjects_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setJson(json);
+      sendBase("updateAngularObjects", args);
+    }
+
+    public void recv_updateAngularObjects() throws org.apache.thrift.TException
+    {
+      updateAngularObjects_result result = new updateAngularObjects_result();
+      receiveBase(result, "updateAngularObjects");
+      return;
+    }
+
     public void removeAngularObject(java.lang.String intpGroupId, java.lang.String noteId, java.lang.String paragraphId, java.lang.String name) throws org.apache.thrift.TException
     {
       send_removeAngularObject(intpGroupId, noteId, paragraphId, name);
@@ -881,6 +927,41 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void invalidateResource(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      invalidateResource_call method_call = new invalidateResource_call(intpGroupId, json, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class invalidateResource_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String intpGroupId;
+      private java.lang.String json;
+      public invalidateResource_call(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.json = json;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("invalidateResource", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        invalidateResource_args args = new invalidateResource_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setJson(json);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
     public void updateAngularObject(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       updateAngularObject_call method_call = new updateAngularObject_call(intpGroupId, json, resultHandler, this, ___protocolFactory, ___transport);
@@ -916,6 +997,41 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void updateAngularObjects(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      updateAngularObjects_call method_call = new updateAngularObjects_call(intpGroupId, json, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class updateAngularObjects_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String intpGroupId;
+      private java.lang.String json;
+      public updateAngularObjects_call(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.json = json;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("updateAngularObjects", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        updateAngularObjects_args args = new updateAngularObjects_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setJson(json);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
     public void removeAngularObject(java.lang.String intpGroupId, java.lang.String noteId, java.lang.String paragraphId, java.lang.String name, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       removeAngularObject_call method_call = new removeAngularObject_call(intpGroupId, noteId, paragraphId, name, resultHandler, this, ___protocolFactory, ___transport);
@@ -1219,7 +1335,9 @@ public class RemoteInterpreterEventService {
       processMap.put("checkpointOutput", new checkpointOutput());
       processMap.put("runParagraphs", new runParagraphs());
       processMap.put("addAngularObject", new addAngularObject());
+      processMap.put("invalidateResource", new invalidateResource());
       processMap.put("updateAngularObject", new updateAngularObject());
+      processMap.put("updateAngularObjects", new updateAngularObjects());
       processMap.put("removeAngularObject", new removeAngularObject());
       processMap.put("sendWebUrl", new sendWebUrl());
       processMap.put("sendParagraphInfo", new sendParagraphInfo());
@@ -1481,6 +1599,31 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class invalidateResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, invalidateResource_args> {
+      public invalidateResource() {
+        super("invalidateResource");
+      }
+
+      public invalidateResource_args getEmptyArgsInstance() {
+        return new invalidateResource_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public invalidateResource_result getResult(I iface, invalidateResource_args args) throws org.apache.thrift.TException {
+        invalidateResource_result result = new invalidateResource_result();
+        iface.invalidateResource(args.intpGroupId, args.json);
+        return result;
+      }
+    }
+
     public static class updateAngularObject<I extends Iface> extends org.apache.thrift.ProcessFunction<I, updateAngularObject_args> {
       public updateAngularObject() {
         super("updateAngularObject");
@@ -1506,6 +1649,31 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class updateAngularObjects<I extends Iface> extends org.apache.thrift.ProcessFunction<I, updateAngularObjects_args> {
+      public updateAngularObjects() {
+        super("updateAngularObjects");
+      }
+
+      public updateAngularObjects_args getEmptyArgsInstance() {
+        return new updateAngularObjects_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public updateAngularObjects_result getResult(I iface, updateAngularObjects_args args) throws org.apache.thrift.TException {
+        updateAngularObjects_result result = new updateAngularObjects_result();
+        iface.updateAngularObjects(args.intpGroupId, args.json);
+        return result;
+      }
+    }
+
     public static class removeAngularObject<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeAngularObject_args> {
       public removeAngularObject() {
         super("removeAngularObject");
@@ -1733,7 +1901,9 @@ public class RemoteInterpreterEventService {
       processMap.put("checkpointOutput", new checkpointOutput());
       processMap.put("runParagraphs", new runParagraphs());
       processMap.put("addAngularObject", new addAngularObject());
+      processMap.put("invalidateResource", new invalidateResource());
       processMap.put("updateAngularObject", new updateAngularObject());
+      processMap.put("updateAngularObjects", new updateAngularObjects());
       processMap.put("removeAngularObject", new removeAngularObject());
       processMap.put("sendWebUrl", new sendWebUrl());
       processMap.put("sendParagraphInfo", new sendParagraphInfo());
@@ -2345,6 +2515,66 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class invalidateResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, invalidateResource_args, Void> {
+      public invalidateResource() {
+        super("invalidateResource");
+      }
+
+      public invalidateResource_args getEmptyArgsInstance() {
+        return new invalidateResource_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            invalidateResource_result result = new invalidateResource_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            invalidateResource_result result = new invalidateResource_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, invalidateResource_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.invalidateResource(args.intpGroupId, args.json,resultHandler);
+      }
+    }
+
     public static class updateAngularObject<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateAngularObject_args, Void> {
       public updateAngularObject() {
         super("updateAngularObject");
@@ -2405,6 +2635,66 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class updateAngularObjects<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateAngularObjects_args, Void> {
+      public updateAngularObjects() {
+        super("updateAngularObjects");
+      }
+
+      public updateAngularObjects_args getEmptyArgsInstance() {
+        return new updateAngularObjects_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            updateAngularObjects_result result = new updateAngularObjects_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            updateAngularObjects_result result = new updateAngularObjects_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, updateAngularObjects_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.updateAngularObjects(args.intpGroupId, args.json,resultHandler);
+      }
+    }
+
     public static class removeAngularObject<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeAngularObject_args, Void> {
       public removeAngularObject() {
         super("removeAngularObject");
@@ -9355,14 +9645,14 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateAngularObject_args implements org.apache.thrift.TBase<updateAngularObject_args, updateAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_args");
+  public static class invalidateResource_args implements org.apache.thrift.TBase<invalidateResource_args, invalidateResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<invalidateResource_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invalidateResource_args");
 
     private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObject_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObject_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invalidateResource_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invalidateResource_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
@@ -9439,13 +9729,13 @@ public class RemoteInterpreterEventService {
       tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invalidateResource_args.class, metaDataMap);
     }
 
-    public updateAngularObject_args() {
+    public invalidateResource_args() {
     }
 
-    public updateAngularObject_args(
+    public invalidateResource_args(
       java.lang.String intpGroupId,
       java.lang.String json)
     {
@@ -9457,7 +9747,7 @@ public class RemoteInterpreterEventService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAngularObject_args(updateAngularObject_args other) {
+    public invalidateResource_args(invalidateResource_args other) {
       if (other.isSetIntpGroupId()) {
         this.intpGroupId = other.intpGroupId;
       }
@@ -9466,8 +9756,8 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public updateAngularObject_args deepCopy() {
-      return new updateAngularObject_args(this);
+    public invalidateResource_args deepCopy() {
+      return new invalidateResource_args(this);
     }
 
     @Override
@@ -9481,7 +9771,7 @@ public class RemoteInterpreterEventService {
       return this.intpGroupId;
     }
 
-    public updateAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+    public invalidateResource_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
       this.intpGroupId = intpGroupId;
       return this;
     }
@@ -9506,7 +9796,7 @@ public class RemoteInterpreterEventService {
       return this.json;
     }
 
-    public updateAngularObject_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+    public invalidateResource_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
       this.json = json;
       return this;
     }
@@ -9579,12 +9869,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAngularObject_args)
-        return this.equals((updateAngularObject_args)that);
+      if (that instanceof invalidateResource_args)
+        return this.equals((invalidateResource_args)that);
       return false;
     }
 
-    public boolean equals(updateAngularObject_args that) {
+    public boolean equals(invalidateResource_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -9627,7 +9917,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(updateAngularObject_args other) {
+    public int compareTo(invalidateResource_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9672,7 +9962,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObject_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("invalidateResource_args(");
       boolean first = true;
 
       sb.append("intpGroupId:");
@@ -9715,15 +10005,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAngularObject_argsStandardScheme getScheme() {
-        return new updateAngularObject_argsStandardScheme();
+    private static class invalidateResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invalidateResource_argsStandardScheme getScheme() {
+        return new invalidateResource_argsStandardScheme();
       }
     }
 
-    private static class updateAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObject_args> {
+    private static class invalidateResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<invalidateResource_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, invalidateResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9760,7 +10050,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, invalidateResource_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9780,16 +10070,16 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAngularObject_argsTupleScheme getScheme() {
-        return new updateAngularObject_argsTupleScheme();
+    private static class invalidateResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invalidateResource_argsTupleScheme getScheme() {
+        return new invalidateResource_argsTupleScheme();
       }
     }
 
-    private static class updateAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObject_args> {
+    private static class invalidateResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<invalidateResource_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, invalidateResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetIntpGroupId()) {
@@ -9808,7 +10098,7 @@ public class RemoteInterpreterEventService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, invalidateResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -9827,12 +10117,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateAngularObject_result implements org.apache.thrift.TBase<updateAngularObject_result, updateAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_result");
+  public static class invalidateResource_result implements org.apache.thrift.TBase<invalidateResource_result, invalidateResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<invalidateResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invalidateResource_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObject_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObject_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invalidateResource_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invalidateResource_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -9896,20 +10186,746 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invalidateResource_result.class, metaDataMap);
     }
 
-    public updateAngularObject_result() {
+    public invalidateResource_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAngularObject_result(updateAngularObject_result other) {
+    public invalidateResource_result(invalidateResource_result other) {
     }
 
-    public updateAngularObject_result deepCopy() {
-      return new updateAngularObject_result(this);
+    public invalidateResource_result deepCopy() {
+      return new invalidateResource_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof invalidateResource_result)
+        return this.equals((invalidateResource_result)that);
+      return false;
+    }
+
+    public boolean equals(invalidateResource_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(invalidateResource_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("invalidateResource_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class invalidateResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invalidateResource_resultStandardScheme getScheme() {
+        return new invalidateResource_resultStandardScheme();
+      }
+    }
+
+    private static class invalidateResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<invalidateResource_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, invalidateResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, invalidateResource_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class invalidateResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invalidateResource_resultTupleScheme getScheme() {
+        return new invalidateResource_resultTupleScheme();
+      }
+    }
+
+    private static class invalidateResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<invalidateResource_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, invalidateResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, invalidateResource_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateAngularObject_args implements org.apache.thrift.TBase<updateAngularObject_args, updateAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_args");
+
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObject_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObject_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      JSON((short)2, "json");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // JSON
+            return JSON;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_args.class, metaDataMap);
+    }
+
+    public updateAngularObject_args() {
+    }
+
+    public updateAngularObject_args(
+      java.lang.String intpGroupId,
+      java.lang.String json)
+    {
+      this();
+      this.intpGroupId = intpGroupId;
+      this.json = json;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAngularObject_args(updateAngularObject_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetJson()) {
+        this.json = other.json;
+      }
+    }
+
+    public updateAngularObject_args deepCopy() {
+      return new updateAngularObject_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.intpGroupId = null;
+      this.json = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
+    }
+
+    public updateAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
+      return this;
+    }
+
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
+    }
+
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
+    }
+
+    public void setIntpGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getJson() {
+      return this.json;
+    }
+
+    public updateAngularObject_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+      this.json = json;
+      return this;
+    }
+
+    public void unsetJson() {
+      this.json = null;
+    }
+
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
+    }
+
+    public void setJsonIsSet(boolean value) {
+      if (!value) {
+        this.json = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        if (value == null) {
+          unsetIntpGroupId();
+        } else {
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case JSON:
+        if (value == null) {
+          unsetJson();
+        } else {
+          setJson((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case JSON:
+        return getJson();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case JSON:
+        return isSetJson();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAngularObject_args)
+        return this.equals((updateAngularObject_args)that);
+      return false;
+    }
+
+    public boolean equals(updateAngularObject_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
+          return false;
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
+          return false;
+        if (!this.json.equals(that.json))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
+      if (isSetJson())
+        hashCode = hashCode * 8191 + json.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateAngularObject_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObject_args(");
+      boolean first = true;
+
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("json:");
+      if (this.json == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.json);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObject_argsStandardScheme getScheme() {
+        return new updateAngularObject_argsStandardScheme();
+      }
+    }
+
+    private static class updateAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObject_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObject_argsTupleScheme getScheme() {
+        return new updateAngularObject_argsTupleScheme();
+      }
+    }
+
+    private static class updateAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObject_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetIntpGroupId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateAngularObject_result implements org.apache.thrift.TBase<updateAngularObject_result, updateAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObject_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObject_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_result.class, metaDataMap);
+    }
+
+    public updateAngularObject_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAngularObject_result(updateAngularObject_result other) {
+    }
+
+    public updateAngularObject_result deepCopy() {
+      return new updateAngularObject_result(this);
     }
 
     @Override
@@ -9948,7 +10964,733 @@ public class RemoteInterpreterEventService {
       return false;
     }
 
-    public boolean equals(updateAngularObject_result that) {
+    public boolean equals(updateAngularObject_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateAngularObject_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObject_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObject_resultStandardScheme getScheme() {
+        return new updateAngularObject_resultStandardScheme();
+      }
+    }
+
+    private static class updateAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObject_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObject_resultTupleScheme getScheme() {
+        return new updateAngularObject_resultTupleScheme();
+      }
+    }
+
+    private static class updateAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObject_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateAngularObjects_args implements org.apache.thrift.TBase<updateAngularObjects_args, updateAngularObjects_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObjects_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObjects_args");
+
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObjects_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObjects_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      JSON((short)2, "json");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // JSON
+            return JSON;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObjects_args.class, metaDataMap);
+    }
+
+    public updateAngularObjects_args() {
+    }
+
+    public updateAngularObjects_args(
+      java.lang.String intpGroupId,
+      java.lang.String json)
+    {
+      this();
+      this.intpGroupId = intpGroupId;
+      this.json = json;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAngularObjects_args(updateAngularObjects_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetJson()) {
+        this.json = other.json;
+      }
+    }
+
+    public updateAngularObjects_args deepCopy() {
+      return new updateAngularObjects_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.intpGroupId = null;
+      this.json = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
+    }
+
+    public updateAngularObjects_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
+      return this;
+    }
+
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
+    }
+
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
+    }
+
+    public void setIntpGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getJson() {
+      return this.json;
+    }
+
+    public updateAngularObjects_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+      this.json = json;
+      return this;
+    }
+
+    public void unsetJson() {
+      this.json = null;
+    }
+
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
+    }
+
+    public void setJsonIsSet(boolean value) {
+      if (!value) {
+        this.json = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        if (value == null) {
+          unsetIntpGroupId();
+        } else {
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case JSON:
+        if (value == null) {
+          unsetJson();
+        } else {
+          setJson((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case JSON:
+        return getJson();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case JSON:
+        return isSetJson();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAngularObjects_args)
+        return this.equals((updateAngularObjects_args)that);
+      return false;
+    }
+
+    public boolean equals(updateAngularObjects_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
+          return false;
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
+          return false;
+        if (!this.json.equals(that.json))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
+      if (isSetJson())
+        hashCode = hashCode * 8191 + json.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateAngularObjects_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObjects_args(");
+      boolean first = true;
+
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("json:");
+      if (this.json == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.json);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAngularObjects_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObjects_argsStandardScheme getScheme() {
+        return new updateAngularObjects_argsStandardScheme();
+      }
+    }
+
+    private static class updateAngularObjects_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObjects_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObjects_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObjects_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAngularObjects_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObjects_argsTupleScheme getScheme() {
+        return new updateAngularObjects_argsTupleScheme();
+      }
+    }
+
+    private static class updateAngularObjects_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObjects_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObjects_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetIntpGroupId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObjects_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateAngularObjects_result implements org.apache.thrift.TBase<updateAngularObjects_result, updateAngularObjects_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObjects_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObjects_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObjects_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObjects_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObjects_result.class, metaDataMap);
+    }
+
+    public updateAngularObjects_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAngularObjects_result(updateAngularObjects_result other) {
+    }
+
+    public updateAngularObjects_result deepCopy() {
+      return new updateAngularObjects_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAngularObjects_result)
+        return this.equals((updateAngularObjects_result)that);
+      return false;
+    }
+
+    public boolean equals(updateAngularObjects_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -9965,7 +11707,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(updateAngularObject_result other) {
+    public int compareTo(updateAngularObjects_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9990,7 +11732,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObject_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObjects_result(");
       boolean first = true;
 
       sb.append(")");
@@ -10018,15 +11760,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAngularObject_resultStandardScheme getScheme() {
-        return new updateAngularObject_resultStandardScheme();
+    private static class updateAngularObjects_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObjects_resultStandardScheme getScheme() {
+        return new updateAngularObjects_resultStandardScheme();
       }
     }
 
-    private static class updateAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObject_result> {
+    private static class updateAngularObjects_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObjects_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObjects_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10047,7 +11789,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObjects_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10057,21 +11799,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAngularObject_resultTupleScheme getScheme() {
-        return new updateAngularObject_resultTupleScheme();
+    private static class updateAngularObjects_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObjects_resultTupleScheme getScheme() {
+        return new updateAngularObjects_resultTupleScheme();
       }
     }
 
-    private static class updateAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObject_result> {
+    private static class updateAngularObjects_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObjects_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObjects_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObjects_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
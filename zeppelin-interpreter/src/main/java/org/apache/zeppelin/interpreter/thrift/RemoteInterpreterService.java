@@ -50,6 +50,7 @@ public class RemoteInterpreterService {
     public void shutdown() throws org.apache.thrift.TException;
 
     public java.lang.String getStatus(java.lang.String sessionId, java.lang.String jobId) throws org.apache.thrift.TException;
+    public java.lang.String getQueueInfo(java.lang.String sessionId, java.lang.String jobId) throws org.apache.thrift.TException;
 
     public java.util.List<java.lang.String> resourcePoolGetAll() throws org.apache.thrift.TException;
 
@@ -66,6 +67,7 @@ public class RemoteInterpreterService {
     public void angularObjectRemove(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId) throws org.apache.thrift.TException;
 
     public void angularRegistryPush(java.lang.String registry) throws org.apache.thrift.TException;
+    public void resourceInvalidate(java.lang.String json) throws org.apache.thrift.TException;
 
     public RemoteApplicationResult loadApplication(java.lang.String applicationInstanceId, java.lang.String packageInfo, java.lang.String sessionId, java.lang.String paragraphId) throws org.apache.thrift.TException;
 
@@ -98,6 +100,7 @@ public class RemoteInterpreterService {
     public void shutdown(org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void getStatus(java.lang.String sessionId, java.lang.String jobId, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
+    public void getQueueInfo(java.lang.String sessionId, java.lang.String jobId, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
 
     public void resourcePoolGetAll(org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException;
 
@@ -114,6 +117,7 @@ public class RemoteInterpreterService {
     public void angularObjectRemove(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void angularRegistryPush(java.lang.String registry, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+    public void resourceInvalidate(java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void loadApplication(java.lang.String applicationInstanceId, java.lang.String packageInfo, java.lang.String sessionId, java.lang.String paragraphId, org.apache.thrift.async.AsyncMethodCallback<RemoteApplicationResult> resultHandler) throws org.apache.thrift.TException;
 
@@ -397,6 +401,30 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getStatus failed: unknown result");
     }
 
+    public java.lang.String getQueueInfo(java.lang.String sessionId, java.lang.String jobId) throws org.apache.thrift.TException
+    {
+      send_getQueueInfo(sessionId, jobId);
+      return recv_getQueueInfo();
+    }
+
+    public void send_getQueueInfo(java.lang.String sessionId, java.lang.String jobId) throws org.apache.thrift.TException
+    {
+      getQueueInfo_args args = new getQueueInfo_args();
+      args.setSessionId(sessionId);
+      args.setJobId(jobId);
+      sendBase("getQueueInfo", args);
+    }
+
+    public java.lang.String recv_getQueueInfo() throws org.apache.thrift.TException
+    {
+      getQueueInfo_result result = new getQueueInfo_result();
+      receiveBase(result, "getQueueInfo");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getQueueInfo failed: unknown result");
+    }
+
     public java.util.List<java.lang.String> resourcePoolGetAll() throws org.apache.thrift.TException
     {
       send_resourcePoolGetAll();
@@ -583,6 +611,26 @@ public class RemoteInterpreterService {
       return;
     }
 
+    public void resourceInvalidate(java.lang.String json) throws org.apache.thrift.TException
+    {
+      send_resourceInvalidate(json);
+      recv_resourceInvalidate();
+    }
+
+    public void send_resourceInvalidate(java.lang.String json) throws org.apache.thrift.TException
+    {
+      resourceInvalidate_args args = new resourceInvalidate_args();
+      args.setJson(json);
+      sendBase("resourceInvalidate", args);
+    }
+
+    public void recv_resourceInvalidate() throws org.apache.thrift.TException
+    {
+      resourceInvalidate_result result = new resourceInvalidate_result();
+      receiveBase(result, "resourceInvalidate");
+      return;
+    }
+
     public RemoteApplicationResult loadApplication(java.lang.String applicationInstanceId, java.lang.String packageInfo, java.lang.String sessionId, java.lang.String paragraphId) throws org.apache.thrift.TException
     {
       send_loadApplication(applicationInstanceId, packageInfo, sessionId, paragraphId);
@@ -1082,6 +1130,41 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void getQueueInfo(java.lang.String sessionId, java.lang.String jobId, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getQueueInfo_call method_call = new getQueueInfo_call(sessionId, jobId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getQueueInfo_call extends org.apache.thrift.async.TAsyncMethodCall<java.lang.String> {
+      private java.lang.String sessionId;
+      private java.lang.String jobId;
+      public getQueueInfo_call(java.lang.String sessionId, java.lang.String jobId, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.sessionId = sessionId;
+        this.jobId = jobId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getQueueInfo", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getQueueInfo_args args = new getQueueInfo_args();
+        args.setSessionId(sessionId);
+        args.setJobId(jobId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.lang.String getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getQueueInfo();
+      }
+    }
+
     public void resourcePoolGetAll(org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       resourcePoolGetAll_call method_call = new resourcePoolGetAll_call(resultHandler, this, ___protocolFactory, ___transport);
@@ -1380,6 +1463,38 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void resourceInvalidate(java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceInvalidate_call method_call = new resourceInvalidate_call(json, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceInvalidate_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String json;
+      public resourceInvalidate_call(java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.json = json;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceInvalidate", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceInvalidate_args args = new resourceInvalidate_args();
+        args.setJson(json);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
     public void loadApplication(java.lang.String applicationInstanceId, java.lang.String packageInfo, java.lang.String sessionId, java.lang.String paragraphId, org.apache.thrift.async.AsyncMethodCallback<RemoteApplicationResult> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       loadApplication_call method_call = new loadApplication_call(applicationInstanceId, packageInfo, sessionId, paragraphId, resultHandler, this, ___protocolFactory, ___transport);
@@ -1509,6 +1624,7 @@ public class RemoteInterpreterService {
       processMap.put("completion", new completion());
       processMap.put("shutdown", new shutdown());
       processMap.put("getStatus", new getStatus());
+      processMap.put("getQueueInfo", new getQueueInfo());
       processMap.put("resourcePoolGetAll", new resourcePoolGetAll());
       processMap.put("resourceGet", new resourceGet());
       processMap.put("resourceRemove", new resourceRemove());
@@ -1517,6 +1633,7 @@ public class RemoteInterpreterService {
       processMap.put("angularObjectAdd", new angularObjectAdd());
       processMap.put("angularObjectRemove", new angularObjectRemove());
       processMap.put("angularRegistryPush", new angularRegistryPush());
+      processMap.put("resourceInvalidate", new resourceInvalidate());
       processMap.put("loadApplication", new loadApplication());
       processMap.put("unloadApplication", new unloadApplication());
       processMap.put("runApplication", new runApplication());
@@ -1799,6 +1916,31 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class getQueueInfo<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getQueueInfo_args> {
+      public getQueueInfo() {
+        super("getQueueInfo");
+      }
+
+      public getQueueInfo_args getEmptyArgsInstance() {
+        return new getQueueInfo_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public getQueueInfo_result getResult(I iface, getQueueInfo_args args) throws org.apache.thrift.TException {
+        getQueueInfo_result result = new getQueueInfo_result();
+        result.success = iface.getQueueInfo(args.sessionId, args.jobId);
+        return result;
+      }
+    }
+
     public static class resourcePoolGetAll<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourcePoolGetAll_args> {
       public resourcePoolGetAll() {
         super("resourcePoolGetAll");
@@ -2000,6 +2142,31 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class resourceInvalidate<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceInvalidate_args> {
+      public resourceInvalidate() {
+        super("resourceInvalidate");
+      }
+
+      public resourceInvalidate_args getEmptyArgsInstance() {
+        return new resourceInvalidate_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public resourceInvalidate_result getResult(I iface, resourceInvalidate_args args) throws org.apache.thrift.TException {
+        resourceInvalidate_result result = new resourceInvalidate_result();
+        iface.resourceInvalidate(args.json);
+        return result;
+      }
+    }
+
     public static class loadApplication<I extends Iface> extends org.apache.thrift.ProcessFunction<I, loadApplication_args> {
       public loadApplication() {
         super("loadApplication");
@@ -2099,6 +2266,7 @@ public class RemoteInterpreterService {
       processMap.put("completion", new completion());
       processMap.put("shutdown", new shutdown());
       processMap.put("getStatus", new getStatus());
+      processMap.put("getQueueInfo", new getQueueInfo());
       processMap.put("resourcePoolGetAll", new resourcePoolGetAll());
       processMap.put("resourceGet", new resourceGet());
       processMap.put("resourceRemove", new resourceRemove());
@@ -2107,6 +2275,7 @@ public class RemoteInterpreterService {
       processMap.put("angularObjectAdd", new angularObjectAdd());
       processMap.put("angularObjectRemove", new angularObjectRemove());
       processMap.put("angularRegistryPush", new angularRegistryPush());
+      processMap.put("resourceInvalidate", new resourceInvalidate());
       processMap.put("loadApplication", new loadApplication());
       processMap.put("unloadApplication", new unloadApplication());
       processMap.put("runApplication", new runApplication());
@@ -2779,6 +2948,67 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class getQueueInfo<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getQueueInfo_args, java.lang.String> {
+      public getQueueInfo() {
+        super("getQueueInfo");
+      }
+
+      public getQueueInfo_args getEmptyArgsInstance() {
+        return new getQueueInfo_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
+          public void onComplete(java.lang.String o) {
+            getQueueInfo_result result = new getQueueInfo_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getQueueInfo_result result = new getQueueInfo_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getQueueInfo_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+        iface.getQueueInfo(args.sessionId, args.jobId,resultHandler);
+      }
+    }
+
     public static class resourcePoolGetAll<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourcePoolGetAll_args, java.util.List<java.lang.String>> {
       public resourcePoolGetAll() {
         super("resourcePoolGetAll");
@@ -3264,6 +3494,66 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class resourceInvalidate<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceInvalidate_args, Void> {
+      public resourceInvalidate() {
+        super("resourceInvalidate");
+      }
+
+      public resourceInvalidate_args getEmptyArgsInstance() {
+        return new resourceInvalidate_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            resourceInvalidate_result result = new resourceInvalidate_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            resourceInvalidate_result result = new resourceInvalidate_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, resourceInvalidate_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.resourceInvalidate(args.json,resultHandler);
+      }
+    }
+
     public static class loadApplication<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, loadApplication_args, RemoteApplicationResult> {
       public loadApplication() {
         super("loadApplication");
@@ -12951,17 +13241,22 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourcePoolGetAll_args implements org.apache.thrift.TBase<resourcePoolGetAll_args, resourcePoolGetAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_args");
+  public static class getQueueInfo_args implements org.apache.thrift.TBase<getQueueInfo_args, getQueueInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<getQueueInfo_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getQueueInfo_args");
 
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JOB_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("jobId", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAll_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAll_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getQueueInfo_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getQueueInfo_argsTupleSchemeFactory();
 
+    public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String jobId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SESSION_ID((short)1, "sessionId"),
+      JOB_ID((short)2, "jobId");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -12977,6 +13272,10 @@ public class RemoteInterpreterService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // SESSION_ID
+            return SESSION_ID;
+          case 2: // JOB_ID
+            return JOB_ID;
           default:
             return null;
         }
@@ -13016,38 +13315,133 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JOB_ID, new org.apache.thrift.meta_data.FieldMetaData("jobId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getQueueInfo_args.class, metaDataMap);
     }
 
-    public resourcePoolGetAll_args() {
+    public getQueueInfo_args() {
+    }
+
+    public getQueueInfo_args(
+      java.lang.String sessionId,
+      java.lang.String jobId)
+    {
+      this();
+      this.sessionId = sessionId;
+      this.jobId = jobId;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourcePoolGetAll_args(resourcePoolGetAll_args other) {
+    public getQueueInfo_args(getQueueInfo_args other) {
+      if (other.isSetSessionId()) {
+        this.sessionId = other.sessionId;
+      }
+      if (other.isSetJobId()) {
+        this.jobId = other.jobId;
+      }
     }
 
-    public resourcePoolGetAll_args deepCopy() {
-      return new resourcePoolGetAll_args(this);
+    public getQueueInfo_args deepCopy() {
+      return new getQueueInfo_args(this);
     }
 
     @Override
     public void clear() {
+      this.sessionId = null;
+      this.jobId = null;
     }
 
-    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
-      switch (field) {
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getSessionId() {
+      return this.sessionId;
+    }
+
+    public getQueueInfo_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
+      this.sessionId = sessionId;
+      return this;
+    }
+
+    public void unsetSessionId() {
+      this.sessionId = null;
+    }
+
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return this.sessionId != null;
+    }
+
+    public void setSessionIdIsSet(boolean value) {
+      if (!value) {
+        this.sessionId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getJobId() {
+      return this.jobId;
+    }
+
+    public getQueueInfo_args setJobId(@org.apache.thrift.annotation.Nullable java.lang.String jobId) {
+      this.jobId = jobId;
+      return this;
+    }
+
+    public void unsetJobId() {
+      this.jobId = null;
+    }
+
+    /** Returns true if field jobId is set (has been assigned a value) and false otherwise */
+    public boolean isSetJobId() {
+      return this.jobId != null;
+    }
+
+    public void setJobIdIsSet(boolean value) {
+      if (!value) {
+        this.jobId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SESSION_ID:
+        if (value == null) {
+          unsetSessionId();
+        } else {
+          setSessionId((java.lang.String)value);
+        }
+        break;
+
+      case JOB_ID:
+        if (value == null) {
+          unsetJobId();
+        } else {
+          setJobId((java.lang.String)value);
+        }
+        break;
+
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SESSION_ID:
+        return getSessionId();
+
+      case JOB_ID:
+        return getJobId();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -13059,6 +13453,10 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case SESSION_ID:
+        return isSetSessionId();
+      case JOB_ID:
+        return isSetJobId();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -13067,17 +13465,35 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourcePoolGetAll_args)
-        return this.equals((resourcePoolGetAll_args)that);
+      if (that instanceof getQueueInfo_args)
+        return this.equals((getQueueInfo_args)that);
       return false;
     }
 
-    public boolean equals(resourcePoolGetAll_args that) {
+    public boolean equals(getQueueInfo_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_sessionId = true && this.isSetSessionId();
+      boolean that_present_sessionId = true && that.isSetSessionId();
+      if (this_present_sessionId || that_present_sessionId) {
+        if (!(this_present_sessionId && that_present_sessionId))
+          return false;
+        if (!this.sessionId.equals(that.sessionId))
+          return false;
+      }
+
+      boolean this_present_jobId = true && this.isSetJobId();
+      boolean that_present_jobId = true && that.isSetJobId();
+      if (this_present_jobId || that_present_jobId) {
+        if (!(this_present_jobId && that_present_jobId))
+          return false;
+        if (!this.jobId.equals(that.jobId))
+          return false;
+      }
+
       return true;
     }
 
@@ -13085,17 +13501,45 @@ public class RemoteInterpreterService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSessionId()) ? 131071 : 524287);
+      if (isSetSessionId())
+        hashCode = hashCode * 8191 + sessionId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetJobId()) ? 131071 : 524287);
+      if (isSetJobId())
+        hashCode = hashCode * 8191 + jobId.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(resourcePoolGetAll_args other) {
+    public int compareTo(getQueueInfo_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetJobId()).compareTo(other.isSetJobId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJobId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.jobId, other.jobId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -13114,9 +13558,24 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAll_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getQueueInfo_args(");
       boolean first = true;
 
+      sb.append("sessionId:");
+      if (this.sessionId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sessionId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("jobId:");
+      if (this.jobId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.jobId);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -13142,15 +13601,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourcePoolGetAll_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourcePoolGetAll_argsStandardScheme getScheme() {
-        return new resourcePoolGetAll_argsStandardScheme();
+    private static class getQueueInfo_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getQueueInfo_argsStandardScheme getScheme() {
+        return new getQueueInfo_argsStandardScheme();
       }
     }
 
-    private static class resourcePoolGetAll_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAll_args> {
+    private static class getQueueInfo_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getQueueInfo_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getQueueInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13160,6 +13619,22 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.sessionId = iprot.readString();
+                struct.setSessionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JOB_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.jobId = iprot.readString();
+                struct.setJobIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -13171,32 +13646,65 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getQueueInfo_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.sessionId != null) {
+          oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+          oprot.writeString(struct.sessionId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.jobId != null) {
+          oprot.writeFieldBegin(JOB_ID_FIELD_DESC);
+          oprot.writeString(struct.jobId);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourcePoolGetAll_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourcePoolGetAll_argsTupleScheme getScheme() {
-        return new resourcePoolGetAll_argsTupleScheme();
+    private static class getQueueInfo_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getQueueInfo_argsTupleScheme getScheme() {
+        return new getQueueInfo_argsTupleScheme();
       }
     }
 
-    private static class resourcePoolGetAll_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAll_args> {
+    private static class getQueueInfo_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getQueueInfo_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getQueueInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSessionId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetJobId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSessionId()) {
+          oprot.writeString(struct.sessionId);
+        }
+        if (struct.isSetJobId()) {
+          oprot.writeString(struct.jobId);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getQueueInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.sessionId = iprot.readString();
+          struct.setSessionIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.jobId = iprot.readString();
+          struct.setJobIdIsSet(true);
+        }
       }
     }
 
@@ -13205,15 +13713,15 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourcePoolGetAll_result implements org.apache.thrift.TBase<resourcePoolGetAll_result, resourcePoolGetAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_result");
+  public static class getQueueInfo_result implements org.apache.thrift.TBase<getQueueInfo_result, getQueueInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<getQueueInfo_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getQueueInfo_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAll_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAll_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getQueueInfo_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getQueueInfo_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -13280,17 +13788,16 @@ public class RemoteInterpreterService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getQueueInfo_result.class, metaDataMap);
     }
 
-    public resourcePoolGetAll_result() {
+    public getQueueInfo_result() {
     }
 
-    public resourcePoolGetAll_result(
-      java.util.List<java.lang.String> success)
+    public getQueueInfo_result(
+      java.lang.String success)
     {
       this();
       this.success = success;
@@ -13299,15 +13806,14 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourcePoolGetAll_result(resourcePoolGetAll_result other) {
+    public getQueueInfo_result(getQueueInfo_result other) {
       if (other.isSetSuccess()) {
-        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
-        this.success = __this__success;
+        this.success = other.success;
       }
     }
 
-    public resourcePoolGetAll_result deepCopy() {
-      return new resourcePoolGetAll_result(this);
+    public getQueueInfo_result deepCopy() {
+      return new getQueueInfo_result(this);
     }
 
     @Override
@@ -13315,28 +13821,12 @@ public class RemoteInterpreterService {
       this.success = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.util.Iterator<java.lang.String> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(java.lang.String elem) {
-      if (this.success == null) {
-        this.success = new java.util.ArrayList<java.lang.String>();
-      }
-      this.success.add(elem);
-    }
-
     @org.apache.thrift.annotation.Nullable
-    public java.util.List<java.lang.String> getSuccess() {
+    public java.lang.String getSuccess() {
       return this.success;
     }
 
-    public resourcePoolGetAll_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
+    public getQueueInfo_result setSuccess(@org.apache.thrift.annotation.Nullable java.lang.String success) {
       this.success = success;
       return this;
     }
@@ -13362,7 +13852,7 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.util.List<java.lang.String>)value);
+          setSuccess((java.lang.String)value);
         }
         break;
 
@@ -13396,12 +13886,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourcePoolGetAll_result)
-        return this.equals((resourcePoolGetAll_result)that);
+      if (that instanceof getQueueInfo_result)
+        return this.equals((getQueueInfo_result)that);
       return false;
     }
 
-    public boolean equals(resourcePoolGetAll_result that) {
+    public boolean equals(getQueueInfo_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -13431,7 +13921,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourcePoolGetAll_result other) {
+    public int compareTo(getQueueInfo_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -13466,7 +13956,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAll_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getQueueInfo_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -13501,15 +13991,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourcePoolGetAll_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourcePoolGetAll_resultStandardScheme getScheme() {
-        return new resourcePoolGetAll_resultStandardScheme();
+    private static class getQueueInfo_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getQueueInfo_resultStandardScheme getScheme() {
+        return new getQueueInfo_resultStandardScheme();
       }
     }
 
-    private static class resourcePoolGetAll_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAll_result> {
+    private static class getQueueInfo_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getQueueInfo_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getQueueInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13520,18 +14010,8 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list36 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<java.lang.String>(_list36.size);
-                  @org.apache.thrift.annotation.Nullable java.lang.String _elem37;
-                  for (int _i38 = 0; _i38 < _list36.size; ++_i38)
-                  {
-                    _elem37 = iprot.readString();
-                    struct.success.add(_elem37);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -13548,20 +14028,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getQueueInfo_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (java.lang.String _iter39 : struct.success)
-            {
-              oprot.writeString(_iter39);
-            }
-            oprot.writeListEnd();
-          }
+          oprot.writeString(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -13570,16 +14043,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourcePoolGetAll_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourcePoolGetAll_resultTupleScheme getScheme() {
-        return new resourcePoolGetAll_resultTupleScheme();
+    private static class getQueueInfo_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getQueueInfo_resultTupleScheme getScheme() {
+        return new getQueueInfo_resultTupleScheme();
       }
     }
 
-    private static class resourcePoolGetAll_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAll_result> {
+    private static class getQueueInfo_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getQueueInfo_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getQueueInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -13587,31 +14060,16 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (java.lang.String _iter40 : struct.success)
-            {
-              oprot.writeString(_iter40);
-            }
-          }
+          oprot.writeString(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getQueueInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list41 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new java.util.ArrayList<java.lang.String>(_list41.size);
-            @org.apache.thrift.annotation.Nullable java.lang.String _elem42;
-            for (int _i43 = 0; _i43 < _list41.size; ++_i43)
-            {
-              _elem42 = iprot.readString();
-              struct.success.add(_elem42);
-            }
-          }
+          struct.success = iprot.readString();
           struct.setSuccessIsSet(true);
         }
       }
@@ -13622,25 +14080,17 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourceGet_args implements org.apache.thrift.TBase<resourceGet_args, resourceGet_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_args");
+  public static class resourcePoolGetAll_args implements org.apache.thrift.TBase<resourcePoolGetAll_args, resourcePoolGetAll_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_args");
 
-    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceGet_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceGet_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAll_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAll_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String resourceName; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SESSION_ID((short)1, "sessionId"),
-      PARAGRAPH_ID((short)2, "paragraphId"),
-      RESOURCE_NAME((short)3, "resourceName");
+;
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -13656,12 +14106,6 @@ public class RemoteInterpreterService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // SESSION_ID
-            return SESSION_ID;
-          case 2: // PARAGRAPH_ID
-            return PARAGRAPH_ID;
-          case 3: // RESOURCE_NAME
-            return RESOURCE_NAME;
           default:
             return null;
         }
@@ -13701,177 +14145,38 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_args.class, metaDataMap);
-    }
-
-    public resourceGet_args() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_args.class, metaDataMap);
     }
 
-    public resourceGet_args(
-      java.lang.String sessionId,
-      java.lang.String paragraphId,
-      java.lang.String resourceName)
-    {
-      this();
-      this.sessionId = sessionId;
-      this.paragraphId = paragraphId;
-      this.resourceName = resourceName;
+    public resourcePoolGetAll_args() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceGet_args(resourceGet_args other) {
-      if (other.isSetSessionId()) {
-        this.sessionId = other.sessionId;
-      }
-      if (other.isSetParagraphId()) {
-        this.paragraphId = other.paragraphId;
-      }
-      if (other.isSetResourceName()) {
-        this.resourceName = other.resourceName;
-      }
+    public resourcePoolGetAll_args(resourcePoolGetAll_args other) {
     }
 
-    public resourceGet_args deepCopy() {
-      return new resourceGet_args(this);
+    public resourcePoolGetAll_args deepCopy() {
+      return new resourcePoolGetAll_args(this);
     }
 
     @Override
     public void clear() {
-      this.sessionId = null;
-      this.paragraphId = null;
-      this.resourceName = null;
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getSessionId() {
-      return this.sessionId;
-    }
-
-    public resourceGet_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
-      this.sessionId = sessionId;
-      return this;
-    }
-
-    public void unsetSessionId() {
-      this.sessionId = null;
-    }
-
-    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
-    public boolean isSetSessionId() {
-      return this.sessionId != null;
-    }
-
-    public void setSessionIdIsSet(boolean value) {
-      if (!value) {
-        this.sessionId = null;
-      }
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getParagraphId() {
-      return this.paragraphId;
-    }
-
-    public resourceGet_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
-      this.paragraphId = paragraphId;
-      return this;
-    }
-
-    public void unsetParagraphId() {
-      this.paragraphId = null;
-    }
-
-    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
-    public boolean isSetParagraphId() {
-      return this.paragraphId != null;
-    }
-
-    public void setParagraphIdIsSet(boolean value) {
-      if (!value) {
-        this.paragraphId = null;
-      }
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getResourceName() {
-      return this.resourceName;
-    }
-
-    public resourceGet_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
-      this.resourceName = resourceName;
-      return this;
-    }
-
-    public void unsetResourceName() {
-      this.resourceName = null;
-    }
-
-    /** Returns true if field resourceName is set (has been assigned a value) and false otherwise */
-    public boolean isSetResourceName() {
-      return this.resourceName != null;
-    }
-
-    public void setResourceNameIsSet(boolean value) {
-      if (!value) {
-        this.resourceName = null;
-      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case SESSION_ID:
-        if (value == null) {
-          unsetSessionId();
-        } else {
-          setSessionId((java.lang.String)value);
-        }
-        break;
-
-      case PARAGRAPH_ID:
-        if (value == null) {
-          unsetParagraphId();
-        } else {
-          setParagraphId((java.lang.String)value);
-        }
-        break;
-
-      case RESOURCE_NAME:
-        if (value == null) {
-          unsetResourceName();
-        } else {
-          setResourceName((java.lang.String)value);
-        }
-        break;
-
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SESSION_ID:
-        return getSessionId();
-
-      case PARAGRAPH_ID:
-        return getParagraphId();
-
-      case RESOURCE_NAME:
-        return getResourceName();
-
       }
       throw new java.lang.IllegalStateException();
     }
@@ -13883,12 +14188,6 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case SESSION_ID:
-        return isSetSessionId();
-      case PARAGRAPH_ID:
-        return isSetParagraphId();
-      case RESOURCE_NAME:
-        return isSetResourceName();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -13897,104 +14196,35 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceGet_args)
-        return this.equals((resourceGet_args)that);
+      if (that instanceof resourcePoolGetAll_args)
+        return this.equals((resourcePoolGetAll_args)that);
       return false;
     }
 
-    public boolean equals(resourceGet_args that) {
+    public boolean equals(resourcePoolGetAll_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_sessionId = true && this.isSetSessionId();
-      boolean that_present_sessionId = true && that.isSetSessionId();
-      if (this_present_sessionId || that_present_sessionId) {
-        if (!(this_present_sessionId && that_present_sessionId))
-          return false;
-        if (!this.sessionId.equals(that.sessionId))
-          return false;
-      }
+      return true;
+    }
 
-      boolean this_present_paragraphId = true && this.isSetParagraphId();
-      boolean that_present_paragraphId = true && that.isSetParagraphId();
-      if (this_present_paragraphId || that_present_paragraphId) {
-        if (!(this_present_paragraphId && that_present_paragraphId))
-          return false;
-        if (!this.paragraphId.equals(that.paragraphId))
-          return false;
-      }
-
-      boolean this_present_resourceName = true && this.isSetResourceName();
-      boolean that_present_resourceName = true && that.isSetResourceName();
-      if (this_present_resourceName || that_present_resourceName) {
-        if (!(this_present_resourceName && that_present_resourceName))
-          return false;
-        if (!this.resourceName.equals(that.resourceName))
-          return false;
-      }
-
-      return true;
-    }
-
-    @Override
-    public int hashCode() {
-      int hashCode = 1;
-
-      hashCode = hashCode * 8191 + ((isSetSessionId()) ? 131071 : 524287);
-      if (isSetSessionId())
-        hashCode = hashCode * 8191 + sessionId.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetParagraphId()) ? 131071 : 524287);
-      if (isSetParagraphId())
-        hashCode = hashCode * 8191 + paragraphId.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetResourceName()) ? 131071 : 524287);
-      if (isSetResourceName())
-        hashCode = hashCode * 8191 + resourceName.hashCode();
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(resourceGet_args other) {
+    public int compareTo(resourcePoolGetAll_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSessionId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetParagraphId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetResourceName()).compareTo(other.isSetResourceName());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetResourceName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceName, other.resourceName);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -14013,32 +14243,9 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceGet_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAll_args(");
       boolean first = true;
 
-      sb.append("sessionId:");
-      if (this.sessionId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.sessionId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("paragraphId:");
-      if (this.paragraphId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.paragraphId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("resourceName:");
-      if (this.resourceName == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.resourceName);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -14064,15 +14271,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceGet_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceGet_argsStandardScheme getScheme() {
-        return new resourceGet_argsStandardScheme();
+    private static class resourcePoolGetAll_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAll_argsStandardScheme getScheme() {
+        return new resourcePoolGetAll_argsStandardScheme();
       }
     }
 
-    private static class resourceGet_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceGet_args> {
+    private static class resourcePoolGetAll_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAll_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14082,30 +14289,6 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // SESSION_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.sessionId = iprot.readString();
-                struct.setSessionIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // PARAGRAPH_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.paragraphId = iprot.readString();
-                struct.setParagraphIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // RESOURCE_NAME
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.resourceName = iprot.readString();
-                struct.setResourceNameIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -14117,80 +14300,32 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.sessionId != null) {
-          oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
-          oprot.writeString(struct.sessionId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.paragraphId != null) {
-          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
-          oprot.writeString(struct.paragraphId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.resourceName != null) {
-          oprot.writeFieldBegin(RESOURCE_NAME_FIELD_DESC);
-          oprot.writeString(struct.resourceName);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourceGet_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceGet_argsTupleScheme getScheme() {
-        return new resourceGet_argsTupleScheme();
+    private static class resourcePoolGetAll_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAll_argsTupleScheme getScheme() {
+        return new resourcePoolGetAll_argsTupleScheme();
       }
     }
 
-    private static class resourceGet_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceGet_args> {
+    private static class resourcePoolGetAll_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAll_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSessionId()) {
-          optionals.set(0);
-        }
-        if (struct.isSetParagraphId()) {
-          optionals.set(1);
-        }
-        if (struct.isSetResourceName()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetSessionId()) {
-          oprot.writeString(struct.sessionId);
-        }
-        if (struct.isSetParagraphId()) {
-          oprot.writeString(struct.paragraphId);
-        }
-        if (struct.isSetResourceName()) {
-          oprot.writeString(struct.resourceName);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(3);
-        if (incoming.get(0)) {
-          struct.sessionId = iprot.readString();
-          struct.setSessionIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.paragraphId = iprot.readString();
-          struct.setParagraphIdIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.resourceName = iprot.readString();
-          struct.setResourceNameIsSet(true);
-        }
       }
     }
 
@@ -14199,15 +14334,15 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourceGet_result implements org.apache.thrift.TBase<resourceGet_result, resourceGet_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_result");
+  public static class resourcePoolGetAll_result implements org.apache.thrift.TBase<resourcePoolGetAll_result, resourcePoolGetAll_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourcePoolGetAll_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourcePoolGetAll_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceGet_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceGet_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourcePoolGetAll_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourcePoolGetAll_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -14274,32 +14409,34 @@ public class RemoteInterpreterService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourcePoolGetAll_result.class, metaDataMap);
     }
 
-    public resourceGet_result() {
+    public resourcePoolGetAll_result() {
     }
 
-    public resourceGet_result(
-      java.nio.ByteBuffer success)
+    public resourcePoolGetAll_result(
+      java.util.List<java.lang.String> success)
     {
       this();
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceGet_result(resourceGet_result other) {
+    public resourcePoolGetAll_result(resourcePoolGetAll_result other) {
       if (other.isSetSuccess()) {
-        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
+        this.success = __this__success;
       }
     }
 
-    public resourceGet_result deepCopy() {
-      return new resourceGet_result(this);
+    public resourcePoolGetAll_result deepCopy() {
+      return new resourcePoolGetAll_result(this);
     }
 
     @Override
@@ -14307,22 +14444,29 @@ public class RemoteInterpreterService {
       this.success = null;
     }
 
-    public byte[] getSuccess() {
-      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
-      return success == null ? null : success.array();
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.nio.ByteBuffer bufferForSuccess() {
-      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
     }
 
-    public resourceGet_result setSuccess(byte[] success) {
-      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
-      return this;
+    public void addToSuccess(java.lang.String elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<java.lang.String>();
+      }
+      this.success.add(elem);
     }
 
-    public resourceGet_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<java.lang.String> getSuccess() {
+      return this.success;
+    }
+
+    public resourcePoolGetAll_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
+      this.success = success;
       return this;
     }
 
@@ -14347,11 +14491,7 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          if (value instanceof byte[]) {
-            setSuccess((byte[])value);
-          } else {
-            setSuccess((java.nio.ByteBuffer)value);
-          }
+          setSuccess((java.util.List<java.lang.String>)value);
         }
         break;
 
@@ -14385,12 +14525,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceGet_result)
-        return this.equals((resourceGet_result)that);
+      if (that instanceof resourcePoolGetAll_result)
+        return this.equals((resourcePoolGetAll_result)that);
       return false;
     }
 
-    public boolean equals(resourceGet_result that) {
+    public boolean equals(resourcePoolGetAll_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -14420,7 +14560,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourceGet_result other) {
+    public int compareTo(resourcePoolGetAll_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -14455,14 +14595,14 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceGet_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourcePoolGetAll_result(");
       boolean first = true;
 
       sb.append("success:");
       if (this.success == null) {
         sb.append("null");
       } else {
-        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -14490,15 +14630,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceGet_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceGet_resultStandardScheme getScheme() {
-        return new resourceGet_resultStandardScheme();
+    private static class resourcePoolGetAll_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAll_resultStandardScheme getScheme() {
+        return new resourcePoolGetAll_resultStandardScheme();
       }
     }
 
-    private static class resourceGet_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceGet_result> {
+    private static class resourcePoolGetAll_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourcePoolGetAll_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14509,8 +14649,18 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readBinary();
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list36 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.String>(_list36.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem37;
+                  for (int _i38 = 0; _i38 < _list36.size; ++_i38)
+                  {
+                    _elem37 = iprot.readString();
+                    struct.success.add(_elem37);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -14527,13 +14677,20 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBinary(struct.success);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (java.lang.String _iter39 : struct.success)
+            {
+              oprot.writeString(_iter39);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -14542,16 +14699,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceGet_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceGet_resultTupleScheme getScheme() {
-        return new resourceGet_resultTupleScheme();
+    private static class resourcePoolGetAll_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourcePoolGetAll_resultTupleScheme getScheme() {
+        return new resourcePoolGetAll_resultTupleScheme();
       }
     }
 
-    private static class resourceGet_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceGet_result> {
+    private static class resourcePoolGetAll_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourcePoolGetAll_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -14559,16 +14716,31 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeBinary(struct.success);
+          {
+            oprot.writeI32(struct.success.size());
+            for (java.lang.String _iter40 : struct.success)
+            {
+              oprot.writeString(_iter40);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourcePoolGetAll_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readBinary();
+          {
+            org.apache.thrift.protocol.TList _list41 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.String>(_list41.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem42;
+            for (int _i43 = 0; _i43 < _list41.size; ++_i43)
+            {
+              _elem42 = iprot.readString();
+              struct.success.add(_elem42);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
       }
@@ -14579,15 +14751,15 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourceRemove_args implements org.apache.thrift.TBase<resourceRemove_args, resourceRemove_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceRemove_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceRemove_args");
+  public static class resourceGet_args implements org.apache.thrift.TBase<resourceGet_args, resourceGet_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
     private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceRemove_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceRemove_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceGet_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceGet_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
@@ -14670,13 +14842,13 @@ public class RemoteInterpreterService {
       tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceRemove_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_args.class, metaDataMap);
     }
 
-    public resourceRemove_args() {
+    public resourceGet_args() {
     }
 
-    public resourceRemove_args(
+    public resourceGet_args(
       java.lang.String sessionId,
       java.lang.String paragraphId,
       java.lang.String resourceName)
@@ -14690,7 +14862,7 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceRemove_args(resourceRemove_args other) {
+    public resourceGet_args(resourceGet_args other) {
       if (other.isSetSessionId()) {
         this.sessionId = other.sessionId;
       }
@@ -14702,8 +14874,8 @@ public class RemoteInterpreterService {
       }
     }
 
-    public resourceRemove_args deepCopy() {
-      return new resourceRemove_args(this);
+    public resourceGet_args deepCopy() {
+      return new resourceGet_args(this);
     }
 
     @Override
@@ -14718,7 +14890,7 @@ public class RemoteInterpreterService {
       return this.sessionId;
     }
 
-    public resourceRemove_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
+    public resourceGet_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -14743,7 +14915,7 @@ public class RemoteInterpreterService {
       return this.paragraphId;
     }
 
-    public resourceRemove_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+    public resourceGet_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
       this.paragraphId = paragraphId;
       return this;
     }
@@ -14768,7 +14940,7 @@ public class RemoteInterpreterService {
       return this.resourceName;
     }
 
-    public resourceRemove_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
+    public resourceGet_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
       this.resourceName = resourceName;
       return this;
     }
@@ -14854,12 +15026,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceRemove_args)
-        return this.equals((resourceRemove_args)that);
+      if (that instanceof resourceGet_args)
+        return this.equals((resourceGet_args)that);
       return false;
     }
 
-    public boolean equals(resourceRemove_args that) {
+    public boolean equals(resourceGet_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -14915,7 +15087,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(resourceRemove_args other) {
+    public int compareTo(resourceGet_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -14970,7 +15142,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceRemove_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceGet_args(");
       boolean first = true;
 
       sb.append("sessionId:");
@@ -15021,15 +15193,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceRemove_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceRemove_argsStandardScheme getScheme() {
-        return new resourceRemove_argsStandardScheme();
+    private static class resourceGet_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceGet_argsStandardScheme getScheme() {
+        return new resourceGet_argsStandardScheme();
       }
     }
 
-    private static class resourceRemove_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceRemove_args> {
+    private static class resourceGet_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceGet_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceRemove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15074,7 +15246,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceRemove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -15099,16 +15271,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceRemove_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceRemove_argsTupleScheme getScheme() {
-        return new resourceRemove_argsTupleScheme();
+    private static class resourceGet_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceGet_argsTupleScheme getScheme() {
+        return new resourceGet_argsTupleScheme();
       }
     }
 
-    private static class resourceRemove_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceRemove_args> {
+    private static class resourceGet_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceGet_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceRemove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSessionId()) {
@@ -15133,7 +15305,7 @@ public class RemoteInterpreterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceRemove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
@@ -15156,15 +15328,15 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourceRemove_result implements org.apache.thrift.TBase<resourceRemove_result, resourceRemove_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceRemove_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceRemove_result");
+  public static class resourceGet_result implements org.apache.thrift.TBase<resourceGet_result, resourceGet_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceGet_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceGet_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceRemove_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceRemove_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceGet_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceGet_resultTupleSchemeFactory();
 
-    public boolean success; // required
+    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -15227,67 +15399,75 @@ public class RemoteInterpreterService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceRemove_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceGet_result.class, metaDataMap);
     }
 
-    public resourceRemove_result() {
+    public resourceGet_result() {
     }
 
-    public resourceRemove_result(
-      boolean success)
+    public resourceGet_result(
+      java.nio.ByteBuffer success)
     {
       this();
-      this.success = success;
-      setSuccessIsSet(true);
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceRemove_result(resourceRemove_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public resourceGet_result(resourceGet_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
     }
 
-    public resourceRemove_result deepCopy() {
-      return new resourceRemove_result(this);
+    public resourceGet_result deepCopy() {
+      return new resourceGet_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
+      this.success = null;
     }
 
-    public boolean isSuccess() {
-      return this.success;
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
     }
 
-    public resourceRemove_result setSuccess(boolean success) {
-      this.success = success;
-      setSuccessIsSet(true);
+    public java.nio.ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public resourceGet_result setSuccess(byte[] success) {
+      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
+      return this;
+    }
+
+    public resourceGet_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
@@ -15296,7 +15476,11 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.lang.Boolean)value);
+          if (value instanceof byte[]) {
+            setSuccess((byte[])value);
+          } else {
+            setSuccess((java.nio.ByteBuffer)value);
+          }
         }
         break;
 
@@ -15307,7 +15491,7 @@ public class RemoteInterpreterService {
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return isSuccess();
+        return getSuccess();
 
       }
       throw new java.lang.IllegalStateException();
@@ -15330,23 +15514,23 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceRemove_result)
-        return this.equals((resourceRemove_result)that);
+      if (that instanceof resourceGet_result)
+        return this.equals((resourceGet_result)that);
       return false;
     }
 
-    public boolean equals(resourceRemove_result that) {
+    public boolean equals(resourceGet_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -15357,13 +15541,15 @@ public class RemoteInterpreterService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((success) ? 131071 : 524287);
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(resourceRemove_result other) {
+    public int compareTo(resourceGet_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -15398,11 +15584,15 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceRemove_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceGet_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -15423,23 +15613,21 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class resourceRemove_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceRemove_resultStandardScheme getScheme() {
-        return new resourceRemove_resultStandardScheme();
+    private static class resourceGet_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceGet_resultStandardScheme getScheme() {
+        return new resourceGet_resultStandardScheme();
       }
     }
 
-    private static class resourceRemove_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceRemove_result> {
+    private static class resourceGet_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceGet_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceRemove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceGet_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15450,8 +15638,8 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -15468,13 +15656,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceRemove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceGet_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
+          oprot.writeBinary(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -15483,16 +15671,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceRemove_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceRemove_resultTupleScheme getScheme() {
-        return new resourceRemove_resultTupleScheme();
+    private static class resourceGet_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceGet_resultTupleScheme getScheme() {
+        return new resourceGet_resultTupleScheme();
       }
     }
 
-    private static class resourceRemove_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceRemove_result> {
+    private static class resourceGet_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceGet_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceRemove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -15500,16 +15688,16 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
+          oprot.writeBinary(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceRemove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceGet_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          struct.success = iprot.readBinary();
           struct.setSuccessIsSet(true);
         }
       }
@@ -15520,28 +15708,25 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourceInvokeMethod_args implements org.apache.thrift.TBase<resourceInvokeMethod_args, resourceInvokeMethod_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceInvokeMethod_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceInvokeMethod_args");
+  public static class resourceRemove_args implements org.apache.thrift.TBase<resourceRemove_args, resourceRemove_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceRemove_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceRemove_args");
 
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
     private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
-    private static final org.apache.thrift.protocol.TField INVOKE_MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("invokeMessage", org.apache.thrift.protocol.TType.STRING, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceInvokeMethod_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceInvokeMethod_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceRemove_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceRemove_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String resourceName; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String invokeMessage; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SESSION_ID((short)1, "sessionId"),
       PARAGRAPH_ID((short)2, "paragraphId"),
-      RESOURCE_NAME((short)3, "resourceName"),
-      INVOKE_MESSAGE((short)4, "invokeMessage");
+      RESOURCE_NAME((short)3, "resourceName");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -15563,8 +15748,6 @@ public class RemoteInterpreterService {
             return PARAGRAPH_ID;
           case 3: // RESOURCE_NAME
             return RESOURCE_NAME;
-          case 4: // INVOKE_MESSAGE
-            return INVOKE_MESSAGE;
           default:
             return null;
         }
@@ -15615,32 +15798,28 @@ public class RemoteInterpreterService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.INVOKE_MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("invokeMessage", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceInvokeMethod_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceRemove_args.class, metaDataMap);
     }
 
-    public resourceInvokeMethod_args() {
+    public resourceRemove_args() {
     }
 
-    public resourceInvokeMethod_args(
+    public resourceRemove_args(
       java.lang.String sessionId,
       java.lang.String paragraphId,
-      java.lang.String resourceName,
-      java.lang.String invokeMessage)
+      java.lang.String resourceName)
     {
       this();
       this.sessionId = sessionId;
       this.paragraphId = paragraphId;
       this.resourceName = resourceName;
-      this.invokeMessage = invokeMessage;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceInvokeMethod_args(resourceInvokeMethod_args other) {
+    public resourceRemove_args(resourceRemove_args other) {
       if (other.isSetSessionId()) {
         this.sessionId = other.sessionId;
       }
@@ -15650,13 +15829,10 @@ public class RemoteInterpreterService {
       if (other.isSetResourceName()) {
         this.resourceName = other.resourceName;
       }
-      if (other.isSetInvokeMessage()) {
-        this.invokeMessage = other.invokeMessage;
-      }
     }
 
-    public resourceInvokeMethod_args deepCopy() {
-      return new resourceInvokeMethod_args(this);
+    public resourceRemove_args deepCopy() {
+      return new resourceRemove_args(this);
     }
 
     @Override
@@ -15664,7 +15840,6 @@ public class RemoteInterpreterService {
       this.sessionId = null;
       this.paragraphId = null;
       this.resourceName = null;
-      this.invokeMessage = null;
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -15672,7 +15847,7 @@ public class RemoteInterpreterService {
       return this.sessionId;
     }
 
-    public resourceInvokeMethod_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
+    public resourceRemove_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -15697,7 +15872,7 @@ public class RemoteInterpreterService {
       return this.paragraphId;
     }
 
-    public resourceInvokeMethod_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+    public resourceRemove_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
       this.paragraphId = paragraphId;
       return this;
     }
@@ -15722,7 +15897,7 @@ public class RemoteInterpreterService {
       return this.resourceName;
     }
 
-    public resourceInvokeMethod_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
+    public resourceRemove_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
       this.resourceName = resourceName;
       return this;
     }
@@ -15742,31 +15917,6 @@ public class RemoteInterpreterService {
       }
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getInvokeMessage() {
-      return this.invokeMessage;
-    }
-
-    public resourceInvokeMethod_args setInvokeMessage(@org.apache.thrift.annotation.Nullable java.lang.String invokeMessage) {
-      this.invokeMessage = invokeMessage;
-      return this;
-    }
-
-    public void unsetInvokeMessage() {
-      this.invokeMessage = null;
-    }
-
-    /** Returns true if field invokeMessage is set (has been assigned a value) and false otherwise */
-    public boolean isSetInvokeMessage() {
-      return this.invokeMessage != null;
-    }
-
-    public void setInvokeMessageIsSet(boolean value) {
-      if (!value) {
-        this.invokeMessage = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
       case SESSION_ID:
@@ -15793,14 +15943,6 @@ public class RemoteInterpreterService {
         }
         break;
 
-      case INVOKE_MESSAGE:
-        if (value == null) {
-          unsetInvokeMessage();
-        } else {
-          setInvokeMessage((java.lang.String)value);
-        }
-        break;
-
       }
     }
 
@@ -15816,9 +15958,6 @@ public class RemoteInterpreterService {
       case RESOURCE_NAME:
         return getResourceName();
 
-      case INVOKE_MESSAGE:
-        return getInvokeMessage();
-
       }
       throw new java.lang.IllegalStateException();
     }
@@ -15836,8 +15975,6 @@ public class RemoteInterpreterService {
         return isSetParagraphId();
       case RESOURCE_NAME:
         return isSetResourceName();
-      case INVOKE_MESSAGE:
-        return isSetInvokeMessage();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -15846,12 +15983,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceInvokeMethod_args)
-        return this.equals((resourceInvokeMethod_args)that);
+      if (that instanceof resourceRemove_args)
+        return this.equals((resourceRemove_args)that);
       return false;
     }
 
-    public boolean equals(resourceInvokeMethod_args that) {
+    public boolean equals(resourceRemove_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -15884,15 +16021,6 @@ public class RemoteInterpreterService {
           return false;
       }
 
-      boolean this_present_invokeMessage = true && this.isSetInvokeMessage();
-      boolean that_present_invokeMessage = true && that.isSetInvokeMessage();
-      if (this_present_invokeMessage || that_present_invokeMessage) {
-        if (!(this_present_invokeMessage && that_present_invokeMessage))
-          return false;
-        if (!this.invokeMessage.equals(that.invokeMessage))
-          return false;
-      }
-
       return true;
     }
 
@@ -15912,15 +16040,11 @@ public class RemoteInterpreterService {
       if (isSetResourceName())
         hashCode = hashCode * 8191 + resourceName.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetInvokeMessage()) ? 131071 : 524287);
-      if (isSetInvokeMessage())
-        hashCode = hashCode * 8191 + invokeMessage.hashCode();
-
       return hashCode;
     }
 
     @Override
-    public int compareTo(resourceInvokeMethod_args other) {
+    public int compareTo(resourceRemove_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -15957,16 +16081,6 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetInvokeMessage()).compareTo(other.isSetInvokeMessage());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetInvokeMessage()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.invokeMessage, other.invokeMessage);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -15985,7 +16099,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceInvokeMethod_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceRemove_args(");
       boolean first = true;
 
       sb.append("sessionId:");
@@ -16011,14 +16125,6 @@ public class RemoteInterpreterService {
         sb.append(this.resourceName);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("invokeMessage:");
-      if (this.invokeMessage == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.invokeMessage);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -16044,15 +16150,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class resourceInvokeMethod_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceInvokeMethod_argsStandardScheme getScheme() {
-        return new resourceInvokeMethod_argsStandardScheme();
+    private static class resourceRemove_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceRemove_argsStandardScheme getScheme() {
+        return new resourceRemove_argsStandardScheme();
       }
     }
 
-    private static class resourceInvokeMethod_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceInvokeMethod_args> {
+    private static class resourceRemove_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceRemove_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceRemove_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16086,14 +16192,6 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 4: // INVOKE_MESSAGE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.invokeMessage = iprot.readString();
-                struct.setInvokeMessageIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -16105,7 +16203,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceRemove_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -16124,27 +16222,22 @@ public class RemoteInterpreterService {
           oprot.writeString(struct.resourceName);
           oprot.writeFieldEnd();
         }
-        if (struct.invokeMessage != null) {
-          oprot.writeFieldBegin(INVOKE_MESSAGE_FIELD_DESC);
-          oprot.writeString(struct.invokeMessage);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class resourceInvokeMethod_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceInvokeMethod_argsTupleScheme getScheme() {
-        return new resourceInvokeMethod_argsTupleScheme();
+    private static class resourceRemove_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceRemove_argsTupleScheme getScheme() {
+        return new resourceRemove_argsTupleScheme();
       }
     }
 
-    private static class resourceInvokeMethod_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceInvokeMethod_args> {
+    private static class resourceRemove_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceRemove_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceRemove_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSessionId()) {
@@ -16156,10 +16249,7 @@ public class RemoteInterpreterService {
         if (struct.isSetResourceName()) {
           optionals.set(2);
         }
-        if (struct.isSetInvokeMessage()) {
-          optionals.set(3);
-        }
-        oprot.writeBitSet(optionals, 4);
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSessionId()) {
           oprot.writeString(struct.sessionId);
         }
@@ -16169,15 +16259,12 @@ public class RemoteInterpreterService {
         if (struct.isSetResourceName()) {
           oprot.writeString(struct.resourceName);
         }
-        if (struct.isSetInvokeMessage()) {
-          oprot.writeString(struct.invokeMessage);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceRemove_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(4);
+        java.util.BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.sessionId = iprot.readString();
           struct.setSessionIdIsSet(true);
@@ -16190,10 +16277,6 @@ public class RemoteInterpreterService {
           struct.resourceName = iprot.readString();
           struct.setResourceNameIsSet(true);
         }
-        if (incoming.get(3)) {
-          struct.invokeMessage = iprot.readString();
-          struct.setInvokeMessageIsSet(true);
-        }
       }
     }
 
@@ -16202,15 +16285,15 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class resourceInvokeMethod_result implements org.apache.thrift.TBase<resourceInvokeMethod_result, resourceInvokeMethod_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceInvokeMethod_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceInvokeMethod_result");
+  public static class resourceRemove_result implements org.apache.thrift.TBase<resourceRemove_result, resourceRemove_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceRemove_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceRemove_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceInvokeMethod_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceInvokeMethod_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceRemove_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceRemove_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
+    public boolean success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -16273,75 +16356,67 @@ public class RemoteInterpreterService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceInvokeMethod_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceRemove_result.class, metaDataMap);
     }
 
-    public resourceInvokeMethod_result() {
+    public resourceRemove_result() {
     }
 
-    public resourceInvokeMethod_result(
-      java.nio.ByteBuffer success)
+    public resourceRemove_result(
+      boolean success)
     {
       this();
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      this.success = success;
+      setSuccessIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public resourceInvokeMethod_result(resourceInvokeMethod_result other) {
-      if (other.isSetSuccess()) {
-        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
-      }
+    public resourceRemove_result(resourceRemove_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
     }
 
-    public resourceInvokeMethod_result deepCopy() {
-      return new resourceInvokeMethod_result(this);
+    public resourceRemove_result deepCopy() {
+      return new resourceRemove_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
-    }
-
-    public byte[] getSuccess() {
-      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
-      return success == null ? null : success.array();
-    }
-
-    public java.nio.ByteBuffer bufferForSuccess() {
-      return org.apache.thrift.TBaseHelper.copyBinary(success);
+      setSuccessIsSet(false);
+      this.success = false;
     }
 
-    public resourceInvokeMethod_result setSuccess(byte[] success) {
-      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
-      return this;
+    public boolean isSuccess() {
+      return this.success;
     }
 
-    public resourceInvokeMethod_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    public resourceRemove_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
@@ -16350,11 +16425,7 @@ public class RemoteInterpreterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          if (value instanceof byte[]) {
-            setSuccess((byte[])value);
-          } else {
-            setSuccess((java.nio.ByteBuffer)value);
-          }
+          setSuccess((java.lang.Boolean)value);
         }
         break;
 
@@ -16365,7 +16436,7 @@ public class RemoteInterpreterService {
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return isSuccess();
 
       }
       throw new java.lang.IllegalStateException();
@@ -16388,23 +16459,23 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof resourceInvokeMethod_result)
-        return this.equals((resourceInvokeMethod_result)that);
+      if (that instanceof resourceRemove_result)
+        return this.equals((resourceRemove_result)that);
       return false;
     }
 
-    public boolean equals(resourceInvokeMethod_result that) {
+    public boolean equals(resourceRemove_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -16415,15 +16486,13 @@ public class RemoteInterpreterService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
+      hashCode = hashCode * 8191 + ((success) ? 131071 : 524287);
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(resourceInvokeMethod_result other) {
+    public int compareTo(resourceRemove_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -16458,15 +16527,11 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceInvokeMethod_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceRemove_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        org.apache.thrift.TBaseHelper.toString(this.success, sb);
-      }
+      sb.append(this.success);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -16487,21 +16552,23 @@ public class RemoteInterpreterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class resourceInvokeMethod_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceInvokeMethod_resultStandardScheme getScheme() {
-        return new resourceInvokeMethod_resultStandardScheme();
+    private static class resourceRemove_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceRemove_resultStandardScheme getScheme() {
+        return new resourceRemove_resultStandardScheme();
       }
     }
 
-    private static class resourceInvokeMethod_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceInvokeMethod_result> {
+    private static class resourceRemove_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceRemove_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceRemove_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16512,8 +16579,8 @@ public class RemoteInterpreterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readBinary();
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -16530,13 +16597,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceRemove_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBinary(struct.success);
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -16545,16 +16612,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class resourceInvokeMethod_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public resourceInvokeMethod_resultTupleScheme getScheme() {
-        return new resourceInvokeMethod_resultTupleScheme();
+    private static class resourceRemove_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceRemove_resultTupleScheme getScheme() {
+        return new resourceRemove_resultTupleScheme();
       }
     }
 
-    private static class resourceInvokeMethod_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceInvokeMethod_result> {
+    private static class resourceRemove_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceRemove_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceRemove_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -16562,16 +16629,16 @@ public class RemoteInterpreterService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeBinary(struct.success);
+          oprot.writeBool(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceRemove_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readBinary();
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
       }
@@ -16582,28 +16649,28 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class angularObjectUpdate_args implements org.apache.thrift.TBase<angularObjectUpdate_args, angularObjectUpdate_args._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectUpdate_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectUpdate_args");
+  public static class resourceInvokeMethod_args implements org.apache.thrift.TBase<resourceInvokeMethod_args, resourceInvokeMethod_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceInvokeMethod_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceInvokeMethod_args");
 
-    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)3);
-    private static final org.apache.thrift.protocol.TField OBJECT_FIELD_DESC = new org.apache.thrift.protocol.TField("object", org.apache.thrift.protocol.TType.STRING, (short)4);
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField INVOKE_MESSAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("invokeMessage", org.apache.thrift.protocol.TType.STRING, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularObjectUpdate_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularObjectUpdate_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceInvokeMethod_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceInvokeMethod_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String name; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String object; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceName; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String invokeMessage; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      NAME((short)1, "name"),
-      SESSION_ID((short)2, "sessionId"),
-      PARAGRAPH_ID((short)3, "paragraphId"),
-      OBJECT((short)4, "object");
+      SESSION_ID((short)1, "sessionId"),
+      PARAGRAPH_ID((short)2, "paragraphId"),
+      RESOURCE_NAME((short)3, "resourceName"),
+      INVOKE_MESSAGE((short)4, "invokeMessage");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -16619,14 +16686,14 @@ public class RemoteInterpreterService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // NAME
-            return NAME;
-          case 2: // SESSION_ID
+          case 1: // SESSION_ID
             return SESSION_ID;
-          case 3: // PARAGRAPH_ID
+          case 2: // PARAGRAPH_ID
             return PARAGRAPH_ID;
-          case 4: // OBJECT
-            return OBJECT;
+          case 3: // RESOURCE_NAME
+            return RESOURCE_NAME;
+          case 4: // INVOKE_MESSAGE
+            return INVOKE_MESSAGE;
           default:
             return null;
         }
@@ -16671,87 +16738,62 @@ public class RemoteInterpreterService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.OBJECT, new org.apache.thrift.meta_data.FieldMetaData("object", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.INVOKE_MESSAGE, new org.apache.thrift.meta_data.FieldMetaData("invokeMessage", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularObjectUpdate_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceInvokeMethod_args.class, metaDataMap);
     }
 
-    public angularObjectUpdate_args() {
+    public resourceInvokeMethod_args() {
     }
 
-    public angularObjectUpdate_args(
-      java.lang.String name,
+    public resourceInvokeMethod_args(
       java.lang.String sessionId,
       java.lang.String paragraphId,
-      java.lang.String object)
+      java.lang.String resourceName,
+      java.lang.String invokeMessage)
     {
       this();
-      this.name = name;
       this.sessionId = sessionId;
       this.paragraphId = paragraphId;
-      this.object = object;
+      this.resourceName = resourceName;
+      this.invokeMessage = invokeMessage;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public angularObjectUpdate_args(angularObjectUpdate_args other) {
-      if (other.isSetName()) {
-        this.name = other.name;
-      }
+    public resourceInvokeMethod_args(resourceInvokeMethod_args other) {
       if (other.isSetSessionId()) {
         this.sessionId = other.sessionId;
       }
       if (other.isSetParagraphId()) {
         this.paragraphId = other.paragraphId;
       }
-      if (other.isSetObject()) {
-        this.object = other.object;
+      if (other.isSetResourceName()) {
+        this.resourceName = other.resourceName;
+      }
+      if (other.isSetInvokeMessage()) {
+        this.invokeMessage = other.invokeMessage;
       }
     }
 
-    public angularObjectUpdate_args deepCopy() {
-      return new angularObjectUpdate_args(this);
+    public resourceInvokeMethod_args deepCopy() {
+      return new resourceInvokeMethod_args(this);
     }
 
     @Override
     public void clear() {
-      this.name = null;
       this.sessionId = null;
       this.paragraphId = null;
-      this.object = null;
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getName() {
-      return this.name;
-    }
-
-    public angularObjectUpdate_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
-      this.name = name;
-      return this;
-    }
-
-    public void unsetName() {
-      this.name = null;
-    }
-
-    /** Returns true if field name is set (has been assigned a value) and false otherwise */
-    public boolean isSetName() {
-      return this.name != null;
-    }
-
-    public void setNameIsSet(boolean value) {
-      if (!value) {
-        this.name = null;
-      }
+      this.resourceName = null;
+      this.invokeMessage = null;
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -16759,7 +16801,7 @@ public class RemoteInterpreterService {
       return this.sessionId;
     }
 
-    public angularObjectUpdate_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
+    public resourceInvokeMethod_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -16784,7 +16826,7 @@ public class RemoteInterpreterService {
       return this.paragraphId;
     }
 
-    public angularObjectUpdate_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+    public resourceInvokeMethod_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
       this.paragraphId = paragraphId;
       return this;
     }
@@ -16805,40 +16847,57 @@ public class RemoteInterpreterService {
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getObject() {
-      return this.object;
+    public java.lang.String getResourceName() {
+      return this.resourceName;
     }
 
-    public angularObjectUpdate_args setObject(@org.apache.thrift.annotation.Nullable java.lang.String object) {
-      this.object = object;
+    public resourceInvokeMethod_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
+      this.resourceName = resourceName;
       return this;
     }
 
-    public void unsetObject() {
-      this.object = null;
+    public void unsetResourceName() {
+      this.resourceName = null;
     }
 
-    /** Returns true if field object is set (has been assigned a value) and false otherwise */
-    public boolean isSetObject() {
-      return this.object != null;
+    /** Returns true if field resourceName is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceName() {
+      return this.resourceName != null;
     }
 
-    public void setObjectIsSet(boolean value) {
+    public void setResourceNameIsSet(boolean value) {
       if (!value) {
-        this.object = null;
+        this.resourceName = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getInvokeMessage() {
+      return this.invokeMessage;
+    }
+
+    public resourceInvokeMethod_args setInvokeMessage(@org.apache.thrift.annotation.Nullable java.lang.String invokeMessage) {
+      this.invokeMessage = invokeMessage;
+      return this;
+    }
+
+    public void unsetInvokeMessage() {
+      this.invokeMessage = null;
+    }
+
+    /** Returns true if field invokeMessage is set (has been assigned a value) and false otherwise */
+    public boolean isSetInvokeMessage() {
+      return this.invokeMessage != null;
+    }
+
+    public void setInvokeMessageIsSet(boolean value) {
+      if (!value) {
+        this.invokeMessage = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case NAME:
-        if (value == null) {
-          unsetName();
-        } else {
-          setName((java.lang.String)value);
-        }
-        break;
-
       case SESSION_ID:
         if (value == null) {
           unsetSessionId();
@@ -16855,11 +16914,19 @@ public class RemoteInterpreterService {
         }
         break;
 
-      case OBJECT:
+      case RESOURCE_NAME:
         if (value == null) {
-          unsetObject();
+          unsetResourceName();
         } else {
-          setObject((java.lang.String)value);
+          setResourceName((java.lang.String)value);
+        }
+        break;
+
+      case INVOKE_MESSAGE:
+        if (value == null) {
+          unsetInvokeMessage();
+        } else {
+          setInvokeMessage((java.lang.String)value);
         }
         break;
 
@@ -16869,19 +16936,19 @@ public class RemoteInterpreterService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case NAME:
-        return getName();
-
       case SESSION_ID:
         return getSessionId();
 
       case PARAGRAPH_ID:
         return getParagraphId();
 
-      case OBJECT:
-        return getObject();
+      case RESOURCE_NAME:
+        return getResourceName();
 
-      }
+      case INVOKE_MESSAGE:
+        return getInvokeMessage();
+
+      }
       throw new java.lang.IllegalStateException();
     }
 
@@ -16892,14 +16959,14 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case NAME:
-        return isSetName();
       case SESSION_ID:
         return isSetSessionId();
       case PARAGRAPH_ID:
         return isSetParagraphId();
-      case OBJECT:
-        return isSetObject();
+      case RESOURCE_NAME:
+        return isSetResourceName();
+      case INVOKE_MESSAGE:
+        return isSetInvokeMessage();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -16908,26 +16975,17 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof angularObjectUpdate_args)
-        return this.equals((angularObjectUpdate_args)that);
+      if (that instanceof resourceInvokeMethod_args)
+        return this.equals((resourceInvokeMethod_args)that);
       return false;
     }
 
-    public boolean equals(angularObjectUpdate_args that) {
+    public boolean equals(resourceInvokeMethod_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_name = true && this.isSetName();
-      boolean that_present_name = true && that.isSetName();
-      if (this_present_name || that_present_name) {
-        if (!(this_present_name && that_present_name))
-          return false;
-        if (!this.name.equals(that.name))
-          return false;
-      }
-
       boolean this_present_sessionId = true && this.isSetSessionId();
       boolean that_present_sessionId = true && that.isSetSessionId();
       if (this_present_sessionId || that_present_sessionId) {
@@ -16946,12 +17004,21 @@ public class RemoteInterpreterService {
           return false;
       }
 
-      boolean this_present_object = true && this.isSetObject();
-      boolean that_present_object = true && that.isSetObject();
-      if (this_present_object || that_present_object) {
-        if (!(this_present_object && that_present_object))
+      boolean this_present_resourceName = true && this.isSetResourceName();
+      boolean that_present_resourceName = true && that.isSetResourceName();
+      if (this_present_resourceName || that_present_resourceName) {
+        if (!(this_present_resourceName && that_present_resourceName))
           return false;
-        if (!this.object.equals(that.object))
+        if (!this.resourceName.equals(that.resourceName))
+          return false;
+      }
+
+      boolean this_present_invokeMessage = true && this.isSetInvokeMessage();
+      boolean that_present_invokeMessage = true && that.isSetInvokeMessage();
+      if (this_present_invokeMessage || that_present_invokeMessage) {
+        if (!(this_present_invokeMessage && that_present_invokeMessage))
+          return false;
+        if (!this.invokeMessage.equals(that.invokeMessage))
           return false;
       }
 
@@ -16962,10 +17029,6 @@ public class RemoteInterpreterService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
-      if (isSetName())
-        hashCode = hashCode * 8191 + name.hashCode();
-
       hashCode = hashCode * 8191 + ((isSetSessionId()) ? 131071 : 524287);
       if (isSetSessionId())
         hashCode = hashCode * 8191 + sessionId.hashCode();
@@ -16974,57 +17037,61 @@ public class RemoteInterpreterService {
       if (isSetParagraphId())
         hashCode = hashCode * 8191 + paragraphId.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetObject()) ? 131071 : 524287);
-      if (isSetObject())
-        hashCode = hashCode * 8191 + object.hashCode();
+      hashCode = hashCode * 8191 + ((isSetResourceName()) ? 131071 : 524287);
+      if (isSetResourceName())
+        hashCode = hashCode * 8191 + resourceName.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetInvokeMessage()) ? 131071 : 524287);
+      if (isSetInvokeMessage())
+        hashCode = hashCode * 8191 + invokeMessage.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(angularObjectUpdate_args other) {
+    public int compareTo(resourceInvokeMethod_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetName()).compareTo(other.isSetName());
+      lastComparison = java.lang.Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSessionId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceName()).compareTo(other.isSetResourceName());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetParagraphId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+      if (isSetResourceName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceName, other.resourceName);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetObject()).compareTo(other.isSetObject());
+      lastComparison = java.lang.Boolean.valueOf(isSetInvokeMessage()).compareTo(other.isSetInvokeMessage());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetObject()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.object, other.object);
+      if (isSetInvokeMessage()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.invokeMessage, other.invokeMessage);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -17047,17 +17114,9 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularObjectUpdate_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceInvokeMethod_args(");
       boolean first = true;
 
-      sb.append("name:");
-      if (this.name == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.name);
-      }
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("sessionId:");
       if (this.sessionId == null) {
         sb.append("null");
@@ -17074,11 +17133,19 @@ public class RemoteInterpreterService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("object:");
-      if (this.object == null) {
+      sb.append("resourceName:");
+      if (this.resourceName == null) {
         sb.append("null");
       } else {
-        sb.append(this.object);
+        sb.append(this.resourceName);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("invokeMessage:");
+      if (this.invokeMessage == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.invokeMessage);
       }
       first = false;
       sb.append(")");
@@ -17106,15 +17173,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class angularObjectUpdate_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularObjectUpdate_argsStandardScheme getScheme() {
-        return new angularObjectUpdate_argsStandardScheme();
+    private static class resourceInvokeMethod_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvokeMethod_argsStandardScheme getScheme() {
+        return new resourceInvokeMethod_argsStandardScheme();
       }
     }
 
-    private static class angularObjectUpdate_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularObjectUpdate_args> {
+    private static class resourceInvokeMethod_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceInvokeMethod_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, angularObjectUpdate_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -17124,34 +17191,34 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // NAME
+            case 1: // SESSION_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.name = iprot.readString();
-                struct.setNameIsSet(true);
+                struct.sessionId = iprot.readString();
+                struct.setSessionIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // SESSION_ID
+            case 2: // PARAGRAPH_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.sessionId = iprot.readString();
-                struct.setSessionIdIsSet(true);
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // PARAGRAPH_ID
+            case 3: // RESOURCE_NAME
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.paragraphId = iprot.readString();
-                struct.setParagraphIdIsSet(true);
+                struct.resourceName = iprot.readString();
+                struct.setResourceNameIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 4: // OBJECT
+            case 4: // INVOKE_MESSAGE
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.object = iprot.readString();
-                struct.setObjectIsSet(true);
+                struct.invokeMessage = iprot.readString();
+                struct.setInvokeMessageIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -17167,15 +17234,10 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, angularObjectUpdate_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.name != null) {
-          oprot.writeFieldBegin(NAME_FIELD_DESC);
-          oprot.writeString(struct.name);
-          oprot.writeFieldEnd();
-        }
         if (struct.sessionId != null) {
           oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
           oprot.writeString(struct.sessionId);
@@ -17186,9 +17248,14 @@ public class RemoteInterpreterService {
           oprot.writeString(struct.paragraphId);
           oprot.writeFieldEnd();
         }
-        if (struct.object != null) {
-          oprot.writeFieldBegin(OBJECT_FIELD_DESC);
-          oprot.writeString(struct.object);
+        if (struct.resourceName != null) {
+          oprot.writeFieldBegin(RESOURCE_NAME_FIELD_DESC);
+          oprot.writeString(struct.resourceName);
+          oprot.writeFieldEnd();
+        }
+        if (struct.invokeMessage != null) {
+          oprot.writeFieldBegin(INVOKE_MESSAGE_FIELD_DESC);
+          oprot.writeString(struct.invokeMessage);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -17197,64 +17264,64 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class angularObjectUpdate_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularObjectUpdate_argsTupleScheme getScheme() {
-        return new angularObjectUpdate_argsTupleScheme();
+    private static class resourceInvokeMethod_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvokeMethod_argsTupleScheme getScheme() {
+        return new resourceInvokeMethod_argsTupleScheme();
       }
     }
 
-    private static class angularObjectUpdate_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularObjectUpdate_args> {
+    private static class resourceInvokeMethod_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceInvokeMethod_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, angularObjectUpdate_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetName()) {
+        if (struct.isSetSessionId()) {
           optionals.set(0);
         }
-        if (struct.isSetSessionId()) {
+        if (struct.isSetParagraphId()) {
           optionals.set(1);
         }
-        if (struct.isSetParagraphId()) {
+        if (struct.isSetResourceName()) {
           optionals.set(2);
         }
-        if (struct.isSetObject()) {
+        if (struct.isSetInvokeMessage()) {
           optionals.set(3);
         }
         oprot.writeBitSet(optionals, 4);
-        if (struct.isSetName()) {
-          oprot.writeString(struct.name);
-        }
         if (struct.isSetSessionId()) {
           oprot.writeString(struct.sessionId);
         }
         if (struct.isSetParagraphId()) {
           oprot.writeString(struct.paragraphId);
         }
-        if (struct.isSetObject()) {
-          oprot.writeString(struct.object);
+        if (struct.isSetResourceName()) {
+          oprot.writeString(struct.resourceName);
+        }
+        if (struct.isSetInvokeMessage()) {
+          oprot.writeString(struct.invokeMessage);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, angularObjectUpdate_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
-          struct.name = iprot.readString();
-          struct.setNameIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.sessionId = iprot.readString();
           struct.setSessionIdIsSet(true);
         }
-        if (incoming.get(2)) {
+        if (incoming.get(1)) {
           struct.paragraphId = iprot.readString();
           struct.setParagraphIdIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.resourceName = iprot.readString();
+          struct.setResourceNameIsSet(true);
+        }
         if (incoming.get(3)) {
-          struct.object = iprot.readString();
-          struct.setObjectIsSet(true);
+          struct.invokeMessage = iprot.readString();
+          struct.setInvokeMessageIsSet(true);
         }
       }
     }
@@ -17264,17 +17331,19 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class angularObjectUpdate_result implements org.apache.thrift.TBase<angularObjectUpdate_result, angularObjectUpdate_result._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectUpdate_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectUpdate_result");
+  public static class resourceInvokeMethod_result implements org.apache.thrift.TBase<resourceInvokeMethod_result, resourceInvokeMethod_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceInvokeMethod_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceInvokeMethod_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularObjectUpdate_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularObjectUpdate_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceInvokeMethod_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceInvokeMethod_resultTupleSchemeFactory();
 
+    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -17290,6 +17359,8 @@ public class RemoteInterpreterService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -17329,40 +17400,104 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularObjectUpdate_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceInvokeMethod_result.class, metaDataMap);
     }
 
-    public angularObjectUpdate_result() {
+    public resourceInvokeMethod_result() {
+    }
+
+    public resourceInvokeMethod_result(
+      java.nio.ByteBuffer success)
+    {
+      this();
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public angularObjectUpdate_result(angularObjectUpdate_result other) {
+    public resourceInvokeMethod_result(resourceInvokeMethod_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
     }
 
-    public angularObjectUpdate_result deepCopy() {
-      return new angularObjectUpdate_result(this);
+    public resourceInvokeMethod_result deepCopy() {
+      return new resourceInvokeMethod_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
     }
 
-    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
-      switch (field) {
-      }
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.Object getFieldValue(_Fields field) {
-      switch (field) {
-      }
-      throw new java.lang.IllegalStateException();
+    public java.nio.ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public resourceInvokeMethod_result setSuccess(byte[] success) {
+      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
+      return this;
+    }
+
+    public resourceInvokeMethod_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          if (value instanceof byte[]) {
+            setSuccess((byte[])value);
+          } else {
+            setSuccess((java.nio.ByteBuffer)value);
+          }
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
     }
 
     /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
@@ -17372,6 +17507,8 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -17380,17 +17517,26 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof angularObjectUpdate_result)
-        return this.equals((angularObjectUpdate_result)that);
+      if (that instanceof resourceInvokeMethod_result)
+        return this.equals((resourceInvokeMethod_result)that);
       return false;
     }
 
-    public boolean equals(angularObjectUpdate_result that) {
+    public boolean equals(resourceInvokeMethod_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -17398,17 +17544,31 @@ public class RemoteInterpreterService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(angularObjectUpdate_result other) {
+    public int compareTo(resourceInvokeMethod_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -17427,9 +17587,16 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularObjectUpdate_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceInvokeMethod_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -17455,15 +17622,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class angularObjectUpdate_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularObjectUpdate_resultStandardScheme getScheme() {
-        return new angularObjectUpdate_resultStandardScheme();
+    private static class resourceInvokeMethod_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvokeMethod_resultStandardScheme getScheme() {
+        return new resourceInvokeMethod_resultStandardScheme();
       }
     }
 
-    private static class angularObjectUpdate_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularObjectUpdate_result> {
+    private static class resourceInvokeMethod_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceInvokeMethod_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, angularObjectUpdate_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -17473,6 +17640,14 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -17484,32 +17659,50 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, angularObjectUpdate_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBinary(struct.success);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class angularObjectUpdate_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularObjectUpdate_resultTupleScheme getScheme() {
-        return new angularObjectUpdate_resultTupleScheme();
+    private static class resourceInvokeMethod_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvokeMethod_resultTupleScheme getScheme() {
+        return new resourceInvokeMethod_resultTupleScheme();
       }
     }
 
-    private static class angularObjectUpdate_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularObjectUpdate_result> {
+    private static class resourceInvokeMethod_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceInvokeMethod_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, angularObjectUpdate_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBinary(struct.success);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, angularObjectUpdate_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceInvokeMethod_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBinary();
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -17518,16 +17711,16 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class angularObjectAdd_args implements org.apache.thrift.TBase<angularObjectAdd_args, angularObjectAdd_args._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectAdd_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectAdd_args");
+  public static class angularObjectUpdate_args implements org.apache.thrift.TBase<angularObjectUpdate_args, angularObjectUpdate_args._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectUpdate_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectUpdate_args");
 
     private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)2);
     private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)3);
     private static final org.apache.thrift.protocol.TField OBJECT_FIELD_DESC = new org.apache.thrift.protocol.TField("object", org.apache.thrift.protocol.TType.STRING, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularObjectAdd_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularObjectAdd_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularObjectUpdate_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularObjectUpdate_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String name; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
@@ -17616,13 +17809,13 @@ public class RemoteInterpreterService {
       tmpMap.put(_Fields.OBJECT, new org.apache.thrift.meta_data.FieldMetaData("object", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularObjectAdd_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularObjectUpdate_args.class, metaDataMap);
     }
 
-    public angularObjectAdd_args() {
+    public angularObjectUpdate_args() {
     }
 
-    public angularObjectAdd_args(
+    public angularObjectUpdate_args(
       java.lang.String name,
       java.lang.String sessionId,
       java.lang.String paragraphId,
@@ -17638,7 +17831,7 @@ public class RemoteInterpreterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public angularObjectAdd_args(angularObjectAdd_args other) {
+    public angularObjectUpdate_args(angularObjectUpdate_args other) {
       if (other.isSetName()) {
         this.name = other.name;
       }
@@ -17653,8 +17846,8 @@ public class RemoteInterpreterService {
       }
     }
 
-    public angularObjectAdd_args deepCopy() {
-      return new angularObjectAdd_args(this);
+    public angularObjectUpdate_args deepCopy() {
+      return new angularObjectUpdate_args(this);
     }
 
     @Override
@@ -17670,7 +17863,7 @@ public class RemoteInterpreterService {
       return this.name;
     }
 
-    public angularObjectAdd_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
+    public angularObjectUpdate_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
       this.name = name;
       return this;
     }
@@ -17695,7 +17888,7 @@ public class RemoteInterpreterService {
       return this.sessionId;
     }
 
-    public angularObjectAdd_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
+    public angularObjectUpdate_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -17720,7 +17913,7 @@ public class RemoteInterpreterService {
       return this.paragraphId;
     }
 
-    public angularObjectAdd_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+    public angularObjectUpdate_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
       this.paragraphId = paragraphId;
       return this;
     }
@@ -17745,7 +17938,7 @@ public class RemoteInterpreterService {
       return this.object;
     }
 
-    public angularObjectAdd_args setObject(@org.apache.thrift.annotation.Nullable java.lang.String object) {
+    public angularObjectUpdate_args setObject(@org.apache.thrift.annotation.Nullable java.lang.String object) {
       this.object = object;
       return this;
     }
@@ -17844,12 +18037,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof angularObjectAdd_args)
-        return this.equals((angularObjectAdd_args)that);
+      if (that instanceof angularObjectUpdate_args)
+        return this.equals((angularObjectUpdate_args)that);
       return false;
     }
 
-    public boolean equals(angularObjectAdd_args that) {
+    public boolean equals(angularObjectUpdate_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -17918,7 +18111,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(angularObjectAdd_args other) {
+    public int compareTo(angularObjectUpdate_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -17983,7 +18176,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularObjectAdd_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularObjectUpdate_args(");
       boolean first = true;
 
       sb.append("name:");
@@ -18042,15 +18235,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class angularObjectAdd_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularObjectAdd_argsStandardScheme getScheme() {
-        return new angularObjectAdd_argsStandardScheme();
+    private static class angularObjectUpdate_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularObjectUpdate_argsStandardScheme getScheme() {
+        return new angularObjectUpdate_argsStandardScheme();
       }
     }
 
-    private static class angularObjectAdd_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularObjectAdd_args> {
+    private static class angularObjectUpdate_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularObjectUpdate_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, angularObjectAdd_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, angularObjectUpdate_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -18103,7 +18296,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, angularObjectAdd_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, angularObjectUpdate_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -18133,16 +18326,16 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class angularObjectAdd_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularObjectAdd_argsTupleScheme getScheme() {
-        return new angularObjectAdd_argsTupleScheme();
+    private static class angularObjectUpdate_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularObjectUpdate_argsTupleScheme getScheme() {
+        return new angularObjectUpdate_argsTupleScheme();
       }
     }
 
-    private static class angularObjectAdd_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularObjectAdd_args> {
+    private static class angularObjectUpdate_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularObjectUpdate_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, angularObjectAdd_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, angularObjectUpdate_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetName()) {
@@ -18173,7 +18366,7 @@ public class RemoteInterpreterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, angularObjectAdd_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, angularObjectUpdate_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
@@ -18200,12 +18393,12 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class angularObjectAdd_result implements org.apache.thrift.TBase<angularObjectAdd_result, angularObjectAdd_result._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectAdd_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectAdd_result");
+  public static class angularObjectUpdate_result implements org.apache.thrift.TBase<angularObjectUpdate_result, angularObjectUpdate_result._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectUpdate_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectUpdate_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularObjectAdd_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularObjectAdd_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularObjectUpdate_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularObjectUpdate_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -18269,20 +18462,20 @@ public class RemoteInterpreterService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularObjectAdd_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularObjectUpdate_result.class, metaDataMap);
     }
 
-    public angularObjectAdd_result() {
+    public angularObjectUpdate_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public angularObjectAdd_result(angularObjectAdd_result other) {
+    public angularObjectUpdate_result(angularObjectUpdate_result other) {
     }
 
-    public angularObjectAdd_result deepCopy() {
-      return new angularObjectAdd_result(this);
+    public angularObjectUpdate_result deepCopy() {
+      return new angularObjectUpdate_result(this);
     }
 
     @Override
@@ -18316,12 +18509,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof angularObjectAdd_result)
-        return this.equals((angularObjectAdd_result)that);
+      if (that instanceof angularObjectUpdate_result)
+        return this.equals((angularObjectUpdate_result)that);
       return false;
     }
 
-    public boolean equals(angularObjectAdd_result that) {
+    public boolean equals(angularObjectUpdate_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -18338,7 +18531,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(angularObjectAdd_result other) {
+    public int compareTo(angularObjectUpdate_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -18363,7 +18556,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularObjectAdd_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularObjectUpdate_result(");
       boolean first = true;
 
       sb.append(")");
@@ -18391,15 +18584,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class angularObjectAdd_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularObjectAdd_resultStandardScheme getScheme() {
-        return new angularObjectAdd_resultStandardScheme();
+    private static class angularObjectUpdate_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularObjectUpdate_resultStandardScheme getScheme() {
+        return new angularObjectUpdate_resultStandardScheme();
       }
     }
 
-    private static class angularObjectAdd_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularObjectAdd_result> {
+    private static class angularObjectUpdate_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularObjectUpdate_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, angularObjectAdd_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, angularObjectUpdate_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -18420,7 +18613,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, angularObjectAdd_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, angularObjectUpdate_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -18430,21 +18623,21 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class angularObjectAdd_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularObjectAdd_resultTupleScheme getScheme() {
-        return new angularObjectAdd_resultTupleScheme();
+    private static class angularObjectUpdate_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularObjectUpdate_resultTupleScheme getScheme() {
+        return new angularObjectUpdate_resultTupleScheme();
       }
     }
 
-    private static class angularObjectAdd_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularObjectAdd_result> {
+    private static class angularObjectUpdate_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularObjectUpdate_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, angularObjectAdd_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, angularObjectUpdate_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, angularObjectAdd_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, angularObjectUpdate_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -18454,25 +18647,28 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class angularObjectRemove_args implements org.apache.thrift.TBase<angularObjectRemove_args, angularObjectRemove_args._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectRemove_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectRemove_args");
+  public static class angularObjectAdd_args implements org.apache.thrift.TBase<angularObjectAdd_args, angularObjectAdd_args._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectAdd_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectAdd_args");
 
     private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)2);
     private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField OBJECT_FIELD_DESC = new org.apache.thrift.protocol.TField("object", org.apache.thrift.protocol.TType.STRING, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularObjectRemove_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularObjectRemove_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularObjectAdd_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularObjectAdd_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String name; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
     public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String object; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       NAME((short)1, "name"),
       SESSION_ID((short)2, "sessionId"),
-      PARAGRAPH_ID((short)3, "paragraphId");
+      PARAGRAPH_ID((short)3, "paragraphId"),
+      OBJECT((short)4, "object");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -18494,6 +18690,8 @@ public class RemoteInterpreterService {
             return SESSION_ID;
           case 3: // PARAGRAPH_ID
             return PARAGRAPH_ID;
+          case 4: // OBJECT
+            return OBJECT;
           default:
             return null;
         }
@@ -18544,28 +18742,32 @@ public class RemoteInterpreterService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OBJECT, new org.apache.thrift.meta_data.FieldMetaData("object", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularObjectRemove_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularObjectAdd_args.class, metaDataMap);
     }
 
-    public angularObjectRemove_args() {
+    public angularObjectAdd_args() {
     }
 
-    public angularObjectRemove_args(
+    public angularObjectAdd_args(
       java.lang.String name,
       java.lang.String sessionId,
-      java.lang.String paragraphId)
+      java.lang.String paragraphId,
+      java.lang.String object)
     {
       this();
       this.name = name;
       this.sessionId = sessionId;
       this.paragraphId = paragraphId;
+      this.object = object;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public angularObjectRemove_args(angularObjectRemove_args other) {
+    public angularObjectAdd_args(angularObjectAdd_args other) {
       if (other.isSetName()) {
         this.name = other.name;
       }
@@ -18575,10 +18777,13 @@ public class RemoteInterpreterService {
       if (other.isSetParagraphId()) {
         this.paragraphId = other.paragraphId;
       }
+      if (other.isSetObject()) {
+        this.object = other.object;
+      }
     }
 
-    public angularObjectRemove_args deepCopy() {
-      return new angularObjectRemove_args(this);
+    public angularObjectAdd_args deepCopy() {
+      return new angularObjectAdd_args(this);
     }
 
     @Override
@@ -18586,6 +18791,7 @@ public class RemoteInterpreterService {
       this.name = null;
       this.sessionId = null;
       this.paragraphId = null;
+      this.object = null;
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -18593,7 +18799,7 @@ public class RemoteInterpreterService {
       return this.name;
     }
 
-    public angularObjectRemove_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
+    public angularObjectAdd_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
       this.name = name;
       return this;
     }
@@ -18618,7 +18824,7 @@ public class RemoteInterpreterService {
       return this.sessionId;
     }
 
-    public angularObjectRemove_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
+    public angularObjectAdd_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
       this.sessionId = sessionId;
       return this;
     }
@@ -18643,7 +18849,7 @@ public class RemoteInterpreterService {
       return this.paragraphId;
     }
 
-    public angularObjectRemove_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+    public angularObjectAdd_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
       this.paragraphId = paragraphId;
       return this;
     }
@@ -18663,6 +18869,31 @@ public class RemoteInterpreterService {
       }
     }
 
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getObject() {
+      return this.object;
+    }
+
+    public angularObjectAdd_args setObject(@org.apache.thrift.annotation.Nullable java.lang.String object) {
+      this.object = object;
+      return this;
+    }
+
+    public void unsetObject() {
+      this.object = null;
+    }
+
+    /** Returns true if field object is set (has been assigned a value) and false otherwise */
+    public boolean isSetObject() {
+      return this.object != null;
+    }
+
+    public void setObjectIsSet(boolean value) {
+      if (!value) {
+        this.object = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
       case NAME:
@@ -18689,6 +18920,14 @@ public class RemoteInterpreterService {
         }
         break;
 
+      case OBJECT:
+        if (value == null) {
+          unsetObject();
+        } else {
+          setObject((java.lang.String)value);
+        }
+        break;
+
       }
     }
 
@@ -18704,6 +18943,9 @@ public class RemoteInterpreterService {
       case PARAGRAPH_ID:
         return getParagraphId();
 
+      case OBJECT:
+        return getObject();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -18721,6 +18963,8 @@ public class RemoteInterpreterService {
         return isSetSessionId();
       case PARAGRAPH_ID:
         return isSetParagraphId();
+      case OBJECT:
+        return isSetObject();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -18729,12 +18973,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof angularObjectRemove_args)
-        return this.equals((angularObjectRemove_args)that);
+      if (that instanceof angularObjectAdd_args)
+        return this.equals((angularObjectAdd_args)that);
       return false;
     }
 
-    public boolean equals(angularObjectRemove_args that) {
+    public boolean equals(angularObjectAdd_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -18767,6 +19011,15 @@ public class RemoteInterpreterService {
           return false;
       }
 
+      boolean this_present_object = true && this.isSetObject();
+      boolean that_present_object = true && that.isSetObject();
+      if (this_present_object || that_present_object) {
+        if (!(this_present_object && that_present_object))
+          return false;
+        if (!this.object.equals(that.object))
+          return false;
+      }
+
       return true;
     }
 
@@ -18786,11 +19039,15 @@ public class RemoteInterpreterService {
       if (isSetParagraphId())
         hashCode = hashCode * 8191 + paragraphId.hashCode();
 
+      hashCode = hashCode * 8191 + ((isSetObject()) ? 131071 : 524287);
+      if (isSetObject())
+        hashCode = hashCode * 8191 + object.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(angularObjectRemove_args other) {
+    public int compareTo(angularObjectAdd_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -18827,6 +19084,16 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetObject()).compareTo(other.isSetObject());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetObject()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.object, other.object);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -18845,7 +19112,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularObjectRemove_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularObjectAdd_args(");
       boolean first = true;
 
       sb.append("name:");
@@ -18871,6 +19138,1535 @@ public class RemoteInterpreterService {
         sb.append(this.paragraphId);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("object:");
+      if (this.object == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.object);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class angularObjectAdd_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularObjectAdd_argsStandardScheme getScheme() {
+        return new angularObjectAdd_argsStandardScheme();
+      }
+    }
+
+    private static class angularObjectAdd_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularObjectAdd_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, angularObjectAdd_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.name = iprot.readString();
+                struct.setNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.sessionId = iprot.readString();
+                struct.setSessionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // OBJECT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.object = iprot.readString();
+                struct.setObjectIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, angularObjectAdd_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.name != null) {
+          oprot.writeFieldBegin(NAME_FIELD_DESC);
+          oprot.writeString(struct.name);
+          oprot.writeFieldEnd();
+        }
+        if (struct.sessionId != null) {
+          oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+          oprot.writeString(struct.sessionId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.object != null) {
+          oprot.writeFieldBegin(OBJECT_FIELD_DESC);
+          oprot.writeString(struct.object);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class angularObjectAdd_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularObjectAdd_argsTupleScheme getScheme() {
+        return new angularObjectAdd_argsTupleScheme();
+      }
+    }
+
+    private static class angularObjectAdd_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularObjectAdd_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, angularObjectAdd_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetName()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSessionId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetParagraphId()) {
+          optionals.set(2);
+        }
+        if (struct.isSetObject()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetName()) {
+          oprot.writeString(struct.name);
+        }
+        if (struct.isSetSessionId()) {
+          oprot.writeString(struct.sessionId);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+        if (struct.isSetObject()) {
+          oprot.writeString(struct.object);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, angularObjectAdd_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.name = iprot.readString();
+          struct.setNameIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.sessionId = iprot.readString();
+          struct.setSessionIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.object = iprot.readString();
+          struct.setObjectIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class angularObjectAdd_result implements org.apache.thrift.TBase<angularObjectAdd_result, angularObjectAdd_result._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectAdd_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectAdd_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularObjectAdd_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularObjectAdd_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularObjectAdd_result.class, metaDataMap);
+    }
+
+    public angularObjectAdd_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public angularObjectAdd_result(angularObjectAdd_result other) {
+    }
+
+    public angularObjectAdd_result deepCopy() {
+      return new angularObjectAdd_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof angularObjectAdd_result)
+        return this.equals((angularObjectAdd_result)that);
+      return false;
+    }
+
+    public boolean equals(angularObjectAdd_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(angularObjectAdd_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularObjectAdd_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class angularObjectAdd_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularObjectAdd_resultStandardScheme getScheme() {
+        return new angularObjectAdd_resultStandardScheme();
+      }
+    }
+
+    private static class angularObjectAdd_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularObjectAdd_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, angularObjectAdd_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, angularObjectAdd_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class angularObjectAdd_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularObjectAdd_resultTupleScheme getScheme() {
+        return new angularObjectAdd_resultTupleScheme();
+      }
+    }
+
+    private static class angularObjectAdd_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularObjectAdd_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, angularObjectAdd_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, angularObjectAdd_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class angularObjectRemove_args implements org.apache.thrift.TBase<angularObjectRemove_args, angularObjectRemove_args._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectRemove_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectRemove_args");
+
+    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularObjectRemove_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularObjectRemove_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String name; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      NAME((short)1, "name"),
+      SESSION_ID((short)2, "sessionId"),
+      PARAGRAPH_ID((short)3, "paragraphId");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NAME
+            return NAME;
+          case 2: // SESSION_ID
+            return SESSION_ID;
+          case 3: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularObjectRemove_args.class, metaDataMap);
+    }
+
+    public angularObjectRemove_args() {
+    }
+
+    public angularObjectRemove_args(
+      java.lang.String name,
+      java.lang.String sessionId,
+      java.lang.String paragraphId)
+    {
+      this();
+      this.name = name;
+      this.sessionId = sessionId;
+      this.paragraphId = paragraphId;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public angularObjectRemove_args(angularObjectRemove_args other) {
+      if (other.isSetName()) {
+        this.name = other.name;
+      }
+      if (other.isSetSessionId()) {
+        this.sessionId = other.sessionId;
+      }
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
+      }
+    }
+
+    public angularObjectRemove_args deepCopy() {
+      return new angularObjectRemove_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.name = null;
+      this.sessionId = null;
+      this.paragraphId = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getName() {
+      return this.name;
+    }
+
+    public angularObjectRemove_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
+      this.name = name;
+      return this;
+    }
+
+    public void unsetName() {
+      this.name = null;
+    }
+
+    /** Returns true if field name is set (has been assigned a value) and false otherwise */
+    public boolean isSetName() {
+      return this.name != null;
+    }
+
+    public void setNameIsSet(boolean value) {
+      if (!value) {
+        this.name = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getSessionId() {
+      return this.sessionId;
+    }
+
+    public angularObjectRemove_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
+      this.sessionId = sessionId;
+      return this;
+    }
+
+    public void unsetSessionId() {
+      this.sessionId = null;
+    }
+
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return this.sessionId != null;
+    }
+
+    public void setSessionIdIsSet(boolean value) {
+      if (!value) {
+        this.sessionId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getParagraphId() {
+      return this.paragraphId;
+    }
+
+    public angularObjectRemove_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+      this.paragraphId = paragraphId;
+      return this;
+    }
+
+    public void unsetParagraphId() {
+      this.paragraphId = null;
+    }
+
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
+    }
+
+    public void setParagraphIdIsSet(boolean value) {
+      if (!value) {
+        this.paragraphId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case NAME:
+        if (value == null) {
+          unsetName();
+        } else {
+          setName((java.lang.String)value);
+        }
+        break;
+
+      case SESSION_ID:
+        if (value == null) {
+          unsetSessionId();
+        } else {
+          setSessionId((java.lang.String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case NAME:
+        return getName();
+
+      case SESSION_ID:
+        return getSessionId();
+
+      case PARAGRAPH_ID:
+        return getParagraphId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case NAME:
+        return isSetName();
+      case SESSION_ID:
+        return isSetSessionId();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof angularObjectRemove_args)
+        return this.equals((angularObjectRemove_args)that);
+      return false;
+    }
+
+    public boolean equals(angularObjectRemove_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_name = true && this.isSetName();
+      boolean that_present_name = true && that.isSetName();
+      if (this_present_name || that_present_name) {
+        if (!(this_present_name && that_present_name))
+          return false;
+        if (!this.name.equals(that.name))
+          return false;
+      }
+
+      boolean this_present_sessionId = true && this.isSetSessionId();
+      boolean that_present_sessionId = true && that.isSetSessionId();
+      if (this_present_sessionId || that_present_sessionId) {
+        if (!(this_present_sessionId && that_present_sessionId))
+          return false;
+        if (!this.sessionId.equals(that.sessionId))
+          return false;
+      }
+
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
+          return false;
+        if (!this.paragraphId.equals(that.paragraphId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
+      if (isSetName())
+        hashCode = hashCode * 8191 + name.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetSessionId()) ? 131071 : 524287);
+      if (isSetSessionId())
+        hashCode = hashCode * 8191 + sessionId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetParagraphId()) ? 131071 : 524287);
+      if (isSetParagraphId())
+        hashCode = hashCode * 8191 + paragraphId.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(angularObjectRemove_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetName()).compareTo(other.isSetName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularObjectRemove_args(");
+      boolean first = true;
+
+      sb.append("name:");
+      if (this.name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.name);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("sessionId:");
+      if (this.sessionId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sessionId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphId);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class angularObjectRemove_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularObjectRemove_argsStandardScheme getScheme() {
+        return new angularObjectRemove_argsStandardScheme();
+      }
+    }
+
+    private static class angularObjectRemove_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularObjectRemove_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, angularObjectRemove_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.name = iprot.readString();
+                struct.setNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.sessionId = iprot.readString();
+                struct.setSessionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, angularObjectRemove_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.name != null) {
+          oprot.writeFieldBegin(NAME_FIELD_DESC);
+          oprot.writeString(struct.name);
+          oprot.writeFieldEnd();
+        }
+        if (struct.sessionId != null) {
+          oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+          oprot.writeString(struct.sessionId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class angularObjectRemove_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularObjectRemove_argsTupleScheme getScheme() {
+        return new angularObjectRemove_argsTupleScheme();
+      }
+    }
+
+    private static class angularObjectRemove_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularObjectRemove_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, angularObjectRemove_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetName()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSessionId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetParagraphId()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetName()) {
+          oprot.writeString(struct.name);
+        }
+        if (struct.isSetSessionId()) {
+          oprot.writeString(struct.sessionId);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, angularObjectRemove_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.name = iprot.readString();
+          struct.setNameIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.sessionId = iprot.readString();
+          struct.setSessionIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class angularObjectRemove_result implements org.apache.thrift.TBase<angularObjectRemove_result, angularObjectRemove_result._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectRemove_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectRemove_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularObjectRemove_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularObjectRemove_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularObjectRemove_result.class, metaDataMap);
+    }
+
+    public angularObjectRemove_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public angularObjectRemove_result(angularObjectRemove_result other) {
+    }
+
+    public angularObjectRemove_result deepCopy() {
+      return new angularObjectRemove_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof angularObjectRemove_result)
+        return this.equals((angularObjectRemove_result)that);
+      return false;
+    }
+
+    public boolean equals(angularObjectRemove_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(angularObjectRemove_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularObjectRemove_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class angularObjectRemove_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularObjectRemove_resultStandardScheme getScheme() {
+        return new angularObjectRemove_resultStandardScheme();
+      }
+    }
+
+    private static class angularObjectRemove_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularObjectRemove_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, angularObjectRemove_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, angularObjectRemove_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class angularObjectRemove_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularObjectRemove_resultTupleScheme getScheme() {
+        return new angularObjectRemove_resultTupleScheme();
+      }
+    }
+
+    private static class angularObjectRemove_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularObjectRemove_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, angularObjectRemove_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, angularObjectRemove_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class angularRegistryPush_args implements org.apache.thrift.TBase<angularRegistryPush_args, angularRegistryPush_args._Fields>, java.io.Serializable, Cloneable, Comparable<angularRegistryPush_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularRegistryPush_args");
+
+    private static final org.apache.thrift.protocol.TField REGISTRY_FIELD_DESC = new org.apache.thrift.protocol.TField("registry", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularRegistryPush_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularRegistryPush_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String registry; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REGISTRY((short)1, "registry");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REGISTRY
+            return REGISTRY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REGISTRY, new org.apache.thrift.meta_data.FieldMetaData("registry", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularRegistryPush_args.class, metaDataMap);
+    }
+
+    public angularRegistryPush_args() {
+    }
+
+    public angularRegistryPush_args(
+      java.lang.String registry)
+    {
+      this();
+      this.registry = registry;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public angularRegistryPush_args(angularRegistryPush_args other) {
+      if (other.isSetRegistry()) {
+        this.registry = other.registry;
+      }
+    }
+
+    public angularRegistryPush_args deepCopy() {
+      return new angularRegistryPush_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.registry = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getRegistry() {
+      return this.registry;
+    }
+
+    public angularRegistryPush_args setRegistry(@org.apache.thrift.annotation.Nullable java.lang.String registry) {
+      this.registry = registry;
+      return this;
+    }
+
+    public void unsetRegistry() {
+      this.registry = null;
+    }
+
+    /** Returns true if field registry is set (has been assigned a value) and false otherwise */
+    public boolean isSetRegistry() {
+      return this.registry != null;
+    }
+
+    public void setRegistryIsSet(boolean value) {
+      if (!value) {
+        this.registry = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case REGISTRY:
+        if (value == null) {
+          unsetRegistry();
+        } else {
+          setRegistry((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REGISTRY:
+        return getRegistry();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REGISTRY:
+        return isSetRegistry();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof angularRegistryPush_args)
+        return this.equals((angularRegistryPush_args)that);
+      return false;
+    }
+
+    public boolean equals(angularRegistryPush_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_registry = true && this.isSetRegistry();
+      boolean that_present_registry = true && that.isSetRegistry();
+      if (this_present_registry || that_present_registry) {
+        if (!(this_present_registry && that_present_registry))
+          return false;
+        if (!this.registry.equals(that.registry))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetRegistry()) ? 131071 : 524287);
+      if (isSetRegistry())
+        hashCode = hashCode * 8191 + registry.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(angularRegistryPush_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetRegistry()).compareTo(other.isSetRegistry());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRegistry()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.registry, other.registry);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularRegistryPush_args(");
+      boolean first = true;
+
+      sb.append("registry:");
+      if (this.registry == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.registry);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -18896,15 +20692,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class angularObjectRemove_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularObjectRemove_argsStandardScheme getScheme() {
-        return new angularObjectRemove_argsStandardScheme();
+    private static class angularRegistryPush_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularRegistryPush_argsStandardScheme getScheme() {
+        return new angularRegistryPush_argsStandardScheme();
       }
     }
 
-    private static class angularObjectRemove_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularObjectRemove_args> {
+    private static class angularRegistryPush_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularRegistryPush_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, angularObjectRemove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, angularRegistryPush_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -18914,26 +20710,10 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // NAME
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.name = iprot.readString();
-                struct.setNameIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // SESSION_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.sessionId = iprot.readString();
-                struct.setSessionIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // PARAGRAPH_ID
+            case 1: // REGISTRY
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.paragraphId = iprot.readString();
-                struct.setParagraphIdIsSet(true);
+                struct.registry = iprot.readString();
+                struct.setRegistryIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -18949,23 +20729,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, angularObjectRemove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, angularRegistryPush_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.name != null) {
-          oprot.writeFieldBegin(NAME_FIELD_DESC);
-          oprot.writeString(struct.name);
-          oprot.writeFieldEnd();
-        }
-        if (struct.sessionId != null) {
-          oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
-          oprot.writeString(struct.sessionId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.paragraphId != null) {
-          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
-          oprot.writeString(struct.paragraphId);
+        if (struct.registry != null) {
+          oprot.writeFieldBegin(REGISTRY_FIELD_DESC);
+          oprot.writeString(struct.registry);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -18974,54 +20744,34 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class angularObjectRemove_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularObjectRemove_argsTupleScheme getScheme() {
-        return new angularObjectRemove_argsTupleScheme();
+    private static class angularRegistryPush_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularRegistryPush_argsTupleScheme getScheme() {
+        return new angularRegistryPush_argsTupleScheme();
       }
     }
 
-    private static class angularObjectRemove_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularObjectRemove_args> {
+    private static class angularRegistryPush_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularRegistryPush_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, angularObjectRemove_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, angularRegistryPush_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetName()) {
+        if (struct.isSetRegistry()) {
           optionals.set(0);
         }
-        if (struct.isSetSessionId()) {
-          optionals.set(1);
-        }
-        if (struct.isSetParagraphId()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetName()) {
-          oprot.writeString(struct.name);
-        }
-        if (struct.isSetSessionId()) {
-          oprot.writeString(struct.sessionId);
-        }
-        if (struct.isSetParagraphId()) {
-          oprot.writeString(struct.paragraphId);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRegistry()) {
+          oprot.writeString(struct.registry);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, angularObjectRemove_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, angularRegistryPush_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(3);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.name = iprot.readString();
-          struct.setNameIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.sessionId = iprot.readString();
-          struct.setSessionIdIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.paragraphId = iprot.readString();
-          struct.setParagraphIdIsSet(true);
+          struct.registry = iprot.readString();
+          struct.setRegistryIsSet(true);
         }
       }
     }
@@ -19031,12 +20781,12 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class angularObjectRemove_result implements org.apache.thrift.TBase<angularObjectRemove_result, angularObjectRemove_result._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectRemove_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectRemove_result");
+  public static class angularRegistryPush_result implements org.apache.thrift.TBase<angularRegistryPush_result, angularRegistryPush_result._Fields>, java.io.Serializable, Cloneable, Comparable<angularRegistryPush_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularRegistryPush_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularObjectRemove_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularObjectRemove_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularRegistryPush_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularRegistryPush_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -19100,20 +20850,20 @@ public class RemoteInterpreterService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularObjectRemove_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularRegistryPush_result.class, metaDataMap);
     }
 
-    public angularObjectRemove_result() {
+    public angularRegistryPush_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public angularObjectRemove_result(angularObjectRemove_result other) {
+    public angularRegistryPush_result(angularRegistryPush_result other) {
     }
 
-    public angularObjectRemove_result deepCopy() {
-      return new angularObjectRemove_result(this);
+    public angularRegistryPush_result deepCopy() {
+      return new angularRegistryPush_result(this);
     }
 
     @Override
@@ -19147,12 +20897,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof angularObjectRemove_result)
-        return this.equals((angularObjectRemove_result)that);
+      if (that instanceof angularRegistryPush_result)
+        return this.equals((angularRegistryPush_result)that);
       return false;
     }
 
-    public boolean equals(angularObjectRemove_result that) {
+    public boolean equals(angularRegistryPush_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -19169,7 +20919,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(angularObjectRemove_result other) {
+    public int compareTo(angularRegistryPush_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -19194,7 +20944,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularObjectRemove_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularRegistryPush_result(");
       boolean first = true;
 
       sb.append(")");
@@ -19222,15 +20972,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class angularObjectRemove_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularObjectRemove_resultStandardScheme getScheme() {
-        return new angularObjectRemove_resultStandardScheme();
+    private static class angularRegistryPush_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularRegistryPush_resultStandardScheme getScheme() {
+        return new angularRegistryPush_resultStandardScheme();
       }
     }
 
-    private static class angularObjectRemove_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularObjectRemove_result> {
+    private static class angularRegistryPush_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularRegistryPush_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, angularObjectRemove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, angularRegistryPush_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -19251,7 +21001,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, angularObjectRemove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, angularRegistryPush_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -19261,21 +21011,21 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class angularObjectRemove_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularObjectRemove_resultTupleScheme getScheme() {
-        return new angularObjectRemove_resultTupleScheme();
+    private static class angularRegistryPush_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public angularRegistryPush_resultTupleScheme getScheme() {
+        return new angularRegistryPush_resultTupleScheme();
       }
     }
 
-    private static class angularObjectRemove_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularObjectRemove_result> {
+    private static class angularRegistryPush_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularRegistryPush_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, angularObjectRemove_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, angularRegistryPush_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, angularObjectRemove_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, angularRegistryPush_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -19285,19 +21035,19 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class angularRegistryPush_args implements org.apache.thrift.TBase<angularRegistryPush_args, angularRegistryPush_args._Fields>, java.io.Serializable, Cloneable, Comparable<angularRegistryPush_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularRegistryPush_args");
+  public static class resourceInvalidate_args implements org.apache.thrift.TBase<resourceInvalidate_args, resourceInvalidate_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceInvalidate_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceInvalidate_args");
 
-    private static final org.apache.thrift.protocol.TField REGISTRY_FIELD_DESC = new org.apache.thrift.protocol.TField("registry", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularRegistryPush_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularRegistryPush_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceInvalidate_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceInvalidate_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String registry; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      REGISTRY((short)1, "registry");
+      JSON((short)1, "json");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -19313,8 +21063,8 @@ public class RemoteInterpreterService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // REGISTRY
-            return REGISTRY;
+          case 1: // JSON
+            return JSON;
           default:
             return null;
         }
@@ -19359,72 +21109,72 @@ public class RemoteInterpreterService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.REGISTRY, new org.apache.thrift.meta_data.FieldMetaData("registry", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularRegistryPush_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceInvalidate_args.class, metaDataMap);
     }
 
-    public angularRegistryPush_args() {
+    public resourceInvalidate_args() {
     }
 
-    public angularRegistryPush_args(
-      java.lang.String registry)
+    public resourceInvalidate_args(
+      java.lang.String json)
     {
       this();
-      this.registry = registry;
+      this.json = json;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public angularRegistryPush_args(angularRegistryPush_args other) {
-      if (other.isSetRegistry()) {
-        this.registry = other.registry;
+    public resourceInvalidate_args(resourceInvalidate_args other) {
+      if (other.isSetJson()) {
+        this.json = other.json;
       }
     }
 
-    public angularRegistryPush_args deepCopy() {
-      return new angularRegistryPush_args(this);
+    public resourceInvalidate_args deepCopy() {
+      return new resourceInvalidate_args(this);
     }
 
     @Override
     public void clear() {
-      this.registry = null;
+      this.json = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getRegistry() {
-      return this.registry;
+    public java.lang.String getJson() {
+      return this.json;
     }
 
-    public angularRegistryPush_args setRegistry(@org.apache.thrift.annotation.Nullable java.lang.String registry) {
-      this.registry = registry;
+    public resourceInvalidate_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+      this.json = json;
       return this;
     }
 
-    public void unsetRegistry() {
-      this.registry = null;
+    public void unsetJson() {
+      this.json = null;
     }
 
-    /** Returns true if field registry is set (has been assigned a value) and false otherwise */
-    public boolean isSetRegistry() {
-      return this.registry != null;
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
     }
 
-    public void setRegistryIsSet(boolean value) {
+    public void setJsonIsSet(boolean value) {
       if (!value) {
-        this.registry = null;
+        this.json = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case REGISTRY:
+      case JSON:
         if (value == null) {
-          unsetRegistry();
+          unsetJson();
         } else {
-          setRegistry((java.lang.String)value);
+          setJson((java.lang.String)value);
         }
         break;
 
@@ -19434,8 +21184,8 @@ public class RemoteInterpreterService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case REGISTRY:
-        return getRegistry();
+      case JSON:
+        return getJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -19448,8 +21198,8 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
-      case REGISTRY:
-        return isSetRegistry();
+      case JSON:
+        return isSetJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -19458,23 +21208,23 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof angularRegistryPush_args)
-        return this.equals((angularRegistryPush_args)that);
+      if (that instanceof resourceInvalidate_args)
+        return this.equals((resourceInvalidate_args)that);
       return false;
     }
 
-    public boolean equals(angularRegistryPush_args that) {
+    public boolean equals(resourceInvalidate_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_registry = true && this.isSetRegistry();
-      boolean that_present_registry = true && that.isSetRegistry();
-      if (this_present_registry || that_present_registry) {
-        if (!(this_present_registry && that_present_registry))
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
           return false;
-        if (!this.registry.equals(that.registry))
+        if (!this.json.equals(that.json))
           return false;
       }
 
@@ -19485,27 +21235,27 @@ public class RemoteInterpreterService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetRegistry()) ? 131071 : 524287);
-      if (isSetRegistry())
-        hashCode = hashCode * 8191 + registry.hashCode();
+      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
+      if (isSetJson())
+        hashCode = hashCode * 8191 + json.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(angularRegistryPush_args other) {
+    public int compareTo(resourceInvalidate_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetRegistry()).compareTo(other.isSetRegistry());
+      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRegistry()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.registry, other.registry);
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -19528,14 +21278,14 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularRegistryPush_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceInvalidate_args(");
       boolean first = true;
 
-      sb.append("registry:");
-      if (this.registry == null) {
+      sb.append("json:");
+      if (this.json == null) {
         sb.append("null");
       } else {
-        sb.append(this.registry);
+        sb.append(this.json);
       }
       first = false;
       sb.append(")");
@@ -19563,15 +21313,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class angularRegistryPush_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularRegistryPush_argsStandardScheme getScheme() {
-        return new angularRegistryPush_argsStandardScheme();
+    private static class resourceInvalidate_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvalidate_argsStandardScheme getScheme() {
+        return new resourceInvalidate_argsStandardScheme();
       }
     }
 
-    private static class angularRegistryPush_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularRegistryPush_args> {
+    private static class resourceInvalidate_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceInvalidate_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, angularRegistryPush_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceInvalidate_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -19581,10 +21331,10 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // REGISTRY
+            case 1: // JSON
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.registry = iprot.readString();
-                struct.setRegistryIsSet(true);
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -19600,13 +21350,13 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, angularRegistryPush_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceInvalidate_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.registry != null) {
-          oprot.writeFieldBegin(REGISTRY_FIELD_DESC);
-          oprot.writeString(struct.registry);
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -19615,34 +21365,34 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class angularRegistryPush_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularRegistryPush_argsTupleScheme getScheme() {
-        return new angularRegistryPush_argsTupleScheme();
+    private static class resourceInvalidate_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvalidate_argsTupleScheme getScheme() {
+        return new resourceInvalidate_argsTupleScheme();
       }
     }
 
-    private static class angularRegistryPush_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularRegistryPush_args> {
+    private static class resourceInvalidate_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceInvalidate_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, angularRegistryPush_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceInvalidate_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetRegistry()) {
+        if (struct.isSetJson()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetRegistry()) {
-          oprot.writeString(struct.registry);
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, angularRegistryPush_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceInvalidate_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.registry = iprot.readString();
-          struct.setRegistryIsSet(true);
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
         }
       }
     }
@@ -19652,12 +21402,12 @@ public class RemoteInterpreterService {
     }
   }
 
-  public static class angularRegistryPush_result implements org.apache.thrift.TBase<angularRegistryPush_result, angularRegistryPush_result._Fields>, java.io.Serializable, Cloneable, Comparable<angularRegistryPush_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularRegistryPush_result");
+  public static class resourceInvalidate_result implements org.apache.thrift.TBase<resourceInvalidate_result, resourceInvalidate_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceInvalidate_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceInvalidate_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new angularRegistryPush_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new angularRegistryPush_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceInvalidate_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceInvalidate_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -19721,20 +21471,20 @@ public class RemoteInterpreterService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(angularRegistryPush_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceInvalidate_result.class, metaDataMap);
     }
 
-    public angularRegistryPush_result() {
+    public resourceInvalidate_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public angularRegistryPush_result(angularRegistryPush_result other) {
+    public resourceInvalidate_result(resourceInvalidate_result other) {
     }
 
-    public angularRegistryPush_result deepCopy() {
-      return new angularRegistryPush_result(this);
+    public resourceInvalidate_result deepCopy() {
+      return new resourceInvalidate_result(this);
     }
 
     @Override
@@ -19768,12 +21518,12 @@ public class RemoteInterpreterService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof angularRegistryPush_result)
-        return this.equals((angularRegistryPush_result)that);
+      if (that instanceof resourceInvalidate_result)
+        return this.equals((resourceInvalidate_result)that);
       return false;
     }
 
-    public boolean equals(angularRegistryPush_result that) {
+    public boolean equals(resourceInvalidate_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -19790,7 +21540,7 @@ public class RemoteInterpreterService {
     }
 
     @Override
-    public int compareTo(angularRegistryPush_result other) {
+    public int compareTo(resourceInvalidate_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -19815,7 +21565,7 @@ public class RemoteInterpreterService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("angularRegistryPush_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceInvalidate_result(");
       boolean first = true;
 
       sb.append(")");
@@ -19843,15 +21593,15 @@ public class RemoteInterpreterService {
       }
     }
 
-    private static class angularRegistryPush_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularRegistryPush_resultStandardScheme getScheme() {
-        return new angularRegistryPush_resultStandardScheme();
+    private static class resourceInvalidate_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvalidate_resultStandardScheme getScheme() {
+        return new resourceInvalidate_resultStandardScheme();
       }
     }
 
-    private static class angularRegistryPush_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<angularRegistryPush_result> {
+    private static class resourceInvalidate_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceInvalidate_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, angularRegistryPush_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceInvalidate_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -19872,7 +21622,7 @@ public class RemoteInterpreterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, angularRegistryPush_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceInvalidate_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -19882,21 +21632,21 @@ public class RemoteInterpreterService {
 
     }
 
-    private static class angularRegistryPush_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public angularRegistryPush_resultTupleScheme getScheme() {
-        return new angularRegistryPush_resultTupleScheme();
+    private static class resourceInvalidate_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvalidate_resultTupleScheme getScheme() {
+        return new resourceInvalidate_resultTupleScheme();
       }
     }
 
-    private static class angularRegistryPush_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<angularRegistryPush_result> {
+    private static class resourceInvalidate_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceInvalidate_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, angularRegistryPush_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceInvalidate_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, angularRegistryPush_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceInvalidate_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Memory usage of processes, based on /proc when available.
+ */
+public class ProcessMemory {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ProcessMemory.class);
+
+  private static final File PROC = new File("/proc");
+
+  private ProcessMemory() {
+  }
+
+  /**
+   * Pid of the current process, or -1 if it can not be determined.
+   */
+  public static long currentPid() {
+    // name of the runtime is pid@hostname on all common jvms
+    String name = ManagementFactory.getRuntimeMXBean().getName();
+    try {
+      return Long.parseLong(StringUtils.substringBefore(name, "@"));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Resident memory in bytes of the process, or -1 if it is not available,
+   * e.g. the process does not run on this host or the os has no /proc.
+   */
+  public static long residentMemory(long pid) {
+    if (pid <= 0) {
+      return -1;
+    }
+    File status = new File(PROC, pid + "/status");
+    if (!status.isFile()) {
+      return -1;
+    }
+    try {
+      List<String> lines = Files.readAllLines(status.toPath(), StandardCharsets.UTF_8);
+      for (String line : lines) {
+        // VmRSS:     123456 kB
+        if (line.startsWith("VmRSS:")) {
+          String kb = StringUtils.substringBefore(line.substring(6).trim(), " ");
+          return Long.parseLong(kb) * 1024;
+        }
+      }
+    } catch (IOException | NumberFormatException e) {
+      LOGGER.debug("Unable to read memory of process " + pid, e);
+    }
+    return -1;
+  }
+
+  /**
+   * Resident memory of the current process, or the used heap if that is not available.
+   */
+  public static long currentMemoryUsed() {
+    long rss = residentMemory(currentPid());
+    if (rss >= 0) {
+      return rss;
+    }
+    Runtime runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /**
+   * Whether the command line of the process on this host contains the given string. Used to make
+   * sure that a pid reported by a remote process refers to that process on this host.
+   */
+  public static boolean commandLineContains(long pid, String str) {
+    if (pid <= 0) {
+      return false;
+    }
+    File cmdline = new File(PROC, pid + "/cmdline");
+    try {
+      return cmdline.isFile() && new String(Files.readAllBytes(cmdline.toPath()),
+          StandardCharsets.UTF_8).contains(str);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+}
@@ -16,18 +16,110 @@
  */
 package org.apache.zeppelin.resource;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
 /**
  * distributed resource pool
+ *
+ * Values of remote resources can be cached locally (see {@link #setRemoteCacheSize(int)}).
+ * A cached value is used until the owning pool bumps the version of the resource,
+ * which is pushed through {@link #invalidateRemoteResource(ResourceId, long)}. With the cache
+ * enabled, lookups by name are also answered from the last known list of remote resources and
+ * only go to the other pools when nothing matches. Resources of pools which don't publish their
+ * updates (see {@link Resource#isUpdatesPublished()}), e.g. of an interpreter process launched
+ * before the cache is in use, are neither cached nor kept in the list.
  */
 public class DistributedResourcePool extends LocalResourcePool {
+  /**
+   * Interpreter property, max number of remote resource values cached by the pool.
+   */
+  public static final String REMOTE_CACHE_SIZE =
+      "zeppelin.interpreter.resourcePool.remoteCache.size";
+  /**
+   * Set by zeppelin server when any interpreter setting enables the remote cache, only then
+   * pools publish the updates of their resources.
+   */
+  public static final String REMOTE_CACHE_IN_USE =
+      "zeppelin.interpreter.resourcePool.remoteCache.inUse";
 
   private final ResourcePoolConnector connector;
+  private final ResourcePoolConnector cachingConnector = new CachingConnector();
+
+  // 0 means remote resource values are not cached
+  private volatile int remoteCacheSize = 0;
+  private final Map<ResourceId, CachedValue> remoteCache = Collections.synchronizedMap(
+      new LinkedHashMap<ResourceId, CachedValue>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ResourceId, CachedValue> eldest) {
+          return size() > remoteCacheSize;
+        }
+      });
+  // remote resources of the last listing, only kept when the cache is enabled
+  private final Map<ResourceId, Resource> remoteResources = new ConcurrentHashMap<>();
+  private volatile boolean remoteResourcesLoaded = false;
+  // latest known version of remote resources
+  private final Map<ResourceId, Long> remoteVersions = new ConcurrentHashMap<>();
+  // increased on every invalidation, so a read racing with an invalidation is not cached
+  private final AtomicLong invalidationSeq = new AtomicLong();
+  private final AtomicLong remoteCacheHits = new AtomicLong();
+  private final AtomicLong remoteCacheMisses = new AtomicLong();
 
   public DistributedResourcePool(String id, ResourcePoolConnector connector) {
     super(id);
     this.connector = connector;
   }
 
+  public DistributedResourcePool(String id, ResourcePoolConnector connector,
+                                 long maxMemoryBytes, File spillDir) {
+    super(id, maxMemoryBytes, spillDir);
+    this.connector = connector;
+  }
+
+  /**
+   * @param remoteCacheSize max number of remote resource values cached, 0 to disable
+   */
+  public void setRemoteCacheSize(int remoteCacheSize) {
+    this.remoteCacheSize = Math.max(0, remoteCacheSize);
+    if (this.remoteCacheSize == 0) {
+      remoteCache.clear();
+      remoteResources.clear();
+      remoteResourcesLoaded = false;
+    }
+  }
+
+  /**
+   * @return true when the given interpreter properties enable the remote cache
+   */
+  public static boolean isRemoteCacheEnabled(Map<?, ?> properties) {
+    Object size = properties.get(REMOTE_CACHE_SIZE);
+    try {
+      return size != null && Integer.parseInt(size.toString().trim()) > 0;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Drop the cached value of a remote resource. Called when the owning pool
+   * puts, updates or removes the resource.
+   */
+  public void invalidateRemoteResource(ResourceId resourceId, long version) {
+    invalidationSeq.incrementAndGet();
+    remoteVersions.merge(resourceId, version, Math::max);
+    remoteCache.remove(resourceId);
+    // the resource may be removed or new, list them again on next lookup
+    if (remoteResources.remove(resourceId) == null) {
+      remoteResourcesLoaded = false;
+    }
+  }
+
   @Override
   public Resource get(String name) {
     return get(name, true);
@@ -52,7 +144,7 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources().filterByName(name);
+      ResourceSet resources = findRemoteResources(all -> all.filterByName(name));
       if (resources.isEmpty()) {
         return null;
       } else {
@@ -79,10 +171,10 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources()
+      ResourceSet resources = findRemoteResources(all -> all
           .filterByNoteId(noteId)
           .filterByParagraphId(paragraphId)
-          .filterByName(name);
+          .filterByName(name));
 
       if (resources.isEmpty()) {
         return null;
@@ -107,8 +199,120 @@ public class DistributedResourcePool extends LocalResourcePool {
   public ResourceSet getAll(boolean remote) {
     ResourceSet all = super.getAll();
     if (remote) {
-      all.addAll(connector.getAllResources());
+      all.addAll(getRemoteResources());
     }
     return all;
   }
+
+  /**
+   * Find resources of other pools, from the last listing when the cache is enabled and
+   * something matches, otherwise from the other pools.
+   */
+  private ResourceSet findRemoteResources(Function<ResourceSet, ResourceSet> filter) {
+    if (remoteCacheSize > 0 && remoteResourcesLoaded) {
+      ResourceSet found = filter.apply(new ResourceSet(new ArrayList<>(remoteResources.values())));
+      if (!found.isEmpty()) {
+        return found;
+      }
+    }
+    return filter.apply(getRemoteResources());
+  }
+
+  /**
+   * Get resources of other pools. Their values are read through the cache when it's enabled.
+   */
+  private ResourceSet getRemoteResources() {
+    long seq = invalidationSeq.get();
+    ResourceSet resources = connector.getAllResources();
+    if (resources == null) {
+      return new ResourceSet();
+    }
+    for (Resource resource : resources) {
+      remoteVersions.merge(resource.getResourceId(), resource.getVersion(), Math::max);
+      if (remoteCacheSize > 0 && resource.isUpdatesPublished()
+          && resource instanceof RemoteResource) {
+        ((RemoteResource) resource).setResourcePoolConnector(cachingConnector);
+      }
+    }
+    // a listing racing with an invalidation may contain a removed resource, don't keep it
+    if (remoteCacheSize > 0 && seq == invalidationSeq.get()) {
+      remoteResources.clear();
+      for (Resource resource : resources) {
+        if (resource.isUpdatesPublished()) {
+          remoteResources.put(resource.getResourceId(), resource);
+        }
+      }
+      remoteResourcesLoaded = true;
+    }
+    return resources;
+  }
+
+  public long getRemoteCacheHits() {
+    return remoteCacheHits.get();
+  }
+
+  public long getRemoteCacheMisses() {
+    return remoteCacheMisses.get();
+  }
+
+  @Override
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = super.getMetrics();
+    metrics.put("remoteCacheSize", (long) remoteCache.size());
+    metrics.put("remoteCacheHits", remoteCacheHits.get());
+    metrics.put("remoteCacheMisses", remoteCacheMisses.get());
+    return metrics;
+  }
+
+  private static class CachedValue {
+    private final long version;
+    private final Object value;
+
+    CachedValue(long version, Object value) {
+      this.version = version;
+      this.value = value;
+    }
+  }
+
+  /**
+   * ResourcePoolConnector that serves readResource from the cache when the cached
+   * value is of the latest known version.
+   */
+  private class CachingConnector implements ResourcePoolConnector {
+
+    @Override
+    public ResourceSet getAllResources() {
+      return getRemoteResources();
+    }
+
+    @Override
+    public Object readResource(ResourceId id) {
+      long version = remoteVersions.getOrDefault(id, 0L);
+      CachedValue cached = remoteCache.get(id);
+      if (cached != null && cached.version >= version) {
+        remoteCacheHits.incrementAndGet();
+        return cached.value;
+      }
+
+      remoteCacheMisses.incrementAndGet();
+      long seq = invalidationSeq.get();
+      Object o = connector.readResource(id);
+      if (o != null && remoteCacheSize > 0 && seq == invalidationSeq.get()) {
+        remoteCache.put(id, new CachedValue(version, o));
+      }
+      return o;
+    }
+
+    @Override
+    public Object invokeMethod(ResourceId id, String methodName, Class[] paramTypes,
+                               Object[] params) {
+      return connector.invokeMethod(id, methodName, paramTypes, params);
+    }
+
+    @Override
+    public Resource invokeMethod(ResourceId id, String methodName, Class[] paramTypes,
+                                 Object[] params, String returnResourceName) {
+      return connector.invokeMethod(id, methodName, paramTypes, params, returnResourceName);
+    }
+  }
 }
@@ -16,23 +16,77 @@
  */
 package org.apache.zeppelin.resource;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ResourcePool
+ *
+ * When created with a memory budget, the pool estimates the size of each object at put time
+ * and spills the least recently used serializable resources to the spill directory once the
+ * budget is exceeded. Spilled resources are transparently reloaded on access.
+ * Non-serializable resources are pinned in memory and never evicted.
+ *
+ * The resources to spill are picked and accounted under the pool lock, but the spill files
+ * are written and read under the lock of each resource only, so that the pool is not blocked
+ * by the I/O. A resource which is picked but accessed before its spill file is written stays
+ * in memory, see {@link Resource.SpillState}. The lock of a resource is always taken before
+ * the pool lock.
  */
 public class LocalResourcePool implements ResourcePool {
+  private static final Logger LOGGER = LoggerFactory.getLogger(LocalResourcePool.class);
+
   private final String resourcePoolId;
-  private final Map<ResourceId, Resource> resources = Collections.synchronizedMap(
-      new HashMap<ResourceId, Resource>());
+  // access ordered, so iteration starts from the least recently used resource.
+  // guarded by itself.
+  private final Map<ResourceId, Resource> resources = new LinkedHashMap<>(16, 0.75f, true);
+
+  // 0 or less means unlimited
+  private final long maxMemoryBytes;
+  private final File spillDir;
+
+  private long memoryUsed = 0;
+  private long spilledBytes = 0;
+  private long evictionCount = 0;
+  private long reloadCount = 0;
+  private long reloadFailureCount = 0;
+
+  // seeded with current time so versions keep increasing across interpreter process restarts
+  private final AtomicLong versionCounter = new AtomicLong(System.currentTimeMillis());
+  private volatile ResourcePoolListener listener;
 
   /**
    * @param id unique id
    */
   public LocalResourcePool(String id) {
+    this(id, 0, null);
+  }
+
+  /**
+   * @param id unique id
+   * @param maxMemoryBytes memory budget of this pool, 0 or less means unlimited
+   * @param spillDir directory evicted resources are written to.
+   *                 Use a directory under java.io.tmpdir when null.
+   */
+  public LocalResourcePool(String id, long maxMemoryBytes, File spillDir) {
     resourcePoolId = id;
+    this.maxMemoryBytes = maxMemoryBytes;
+    if (spillDir == null) {
+      spillDir = new File(System.getProperty("java.io.tmpdir"),
+          "zeppelin-resource-spill" + File.separator + id);
+    }
+    this.spillDir = spillDir;
   }
 
   /**
@@ -53,18 +107,31 @@ public class LocalResourcePool implements ResourcePool {
   @Override
   public Resource get(String name) {
     ResourceId resourceId = new ResourceId(resourcePoolId, name);
-    return resources.get(resourceId);
+    return getLocal(resourceId);
   }
 
   @Override
   public Resource get(String noteId, String paragraphId, String name) {
     ResourceId resourceId = new ResourceId(resourcePoolId, noteId, paragraphId, name);
-    return resources.get(resourceId);
+    return getLocal(resourceId);
+  }
+
+  private Resource getLocal(ResourceId resourceId) {
+    Resource resource;
+    synchronized (resources) {
+      resource = resources.get(resourceId);
+    }
+    if (resource != null && maxMemoryBytes > 0) {
+      load(resource);
+    }
+    return resource;
   }
 
   @Override
   public ResourceSet getAll() {
-    return new ResourceSet(resources.values());
+    synchronized (resources) {
+      return new ResourceSet(new ArrayList<>(resources.values()));
+    }
   }
 
   /**
@@ -78,7 +145,7 @@ public class LocalResourcePool implements ResourcePool {
     ResourceId resourceId = new ResourceId(resourcePoolId, name);
 
     Resource resource = new Resource(this, resourceId, object);
-    resources.put(resourceId, resource);
+    putLocal(resource);
   }
 
   @Override
@@ -86,16 +153,359 @@ public class LocalResourcePool implements ResourcePool {
     ResourceId resourceId = new ResourceId(resourcePoolId, noteId, paragraphId, name);
 
     Resource resource = new Resource(this, resourceId, object);
-    resources.put(resourceId, resource);
+    putLocal(resource);
+  }
+
+  private void putLocal(Resource resource) {
+    if (maxMemoryBytes > 0) {
+      // estimate outside of the lock, it may serialize the object
+      resource.setEstimatedSize(ResourceSizeEstimator.estimate(resource.get()));
+    }
+    Resource replaced;
+    List<Resource> victims;
+    synchronized (resources) {
+      resource.setVersion(versionCounter.incrementAndGet());
+      resource.setUpdatesPublished(listener != null);
+      replaced = resources.put(resource.getResourceId(), resource);
+      release(replaced);
+      acquire(resource);
+      victims = pickVictims(resource);
+    }
+    discard(replaced);
+    spill(victims);
+    fireResourceUpdated(resource.getResourceId(), resource.getVersion());
+  }
+
+  /**
+   * Bump version of the resource after its object is modified in place,
+   * e.g. by invoking a method on it.
+   */
+  public void markUpdated(String noteId, String paragraphId, String name) {
+    ResourceId resourceId = new ResourceId(resourcePoolId, noteId, paragraphId, name);
+    long version;
+    synchronized (resources) {
+      Resource resource = resources.get(resourceId);
+      if (resource == null) {
+        return;
+      }
+      version = versionCounter.incrementAndGet();
+      resource.setVersion(version);
+    }
+    fireResourceUpdated(resourceId, version);
+  }
+
+  public void setResourcePoolListener(ResourcePoolListener listener) {
+    synchronized (resources) {
+      this.listener = listener;
+      for (Resource resource : resources.values()) {
+        resource.setUpdatesPublished(listener != null);
+      }
+    }
+  }
+
+  private void fireResourceUpdated(ResourceId resourceId, long version) {
+    ResourcePoolListener l = listener;
+    if (l != null) {
+      l.onResourceUpdated(resourceId, version);
+    }
   }
 
   @Override
   public Resource remove(String name) {
-    return resources.remove(new ResourceId(resourcePoolId, name));
+    return removeLocal(new ResourceId(resourcePoolId, name));
   }
 
   @Override
   public Resource remove(String noteId, String paragraphId, String name) {
-    return resources.remove(new ResourceId(resourcePoolId, noteId, paragraphId, name));
+    return removeLocal(new ResourceId(resourcePoolId, noteId, paragraphId, name));
+  }
+
+  private Resource removeLocal(ResourceId resourceId) {
+    Resource resource;
+    synchronized (resources) {
+      resource = resources.remove(resourceId);
+      release(resource);
+    }
+    if (resource != null) {
+      // give back the object to the caller, it doesn't count against the budget anymore
+      load(resource);
+      fireResourceUpdated(resourceId, versionCounter.incrementAndGet());
+    }
+    return resource;
+  }
+
+  /**
+   * Return the object of the resource, reload it first when it is spilled.
+   */
+  Object load(Resource resource) {
+    List<Resource> victims = Collections.emptyList();
+    Object object;
+    synchronized (resource) {
+      File spillFile;
+      synchronized (resources) {
+        if (resource.getSpillState() == Resource.SpillState.SPILLING) {
+          // its spill file is not written yet, keep it in memory
+          resource.setSpillState(Resource.SpillState.IN_MEMORY);
+          spilledBytes -= resource.getEstimatedSize();
+          acquire(resource);
+          victims = pickVictims(resource);
+        }
+        // spill file of a spilled resource, or of a released one which is not deleted yet
+        spillFile = resource.getSpillFile();
+        object = resource.getLoadedObject();
+      }
+
+      if (spillFile != null) {
+        object = reload(resource);
+        synchronized (resources) {
+          victims = resources.get(resource.getResourceId()) == resource
+              ? pickVictims(resource) : Collections.emptyList();
+        }
+        resource.deleteSpillFile(spillFile);
+      }
+    }
+    spill(victims);
+    return object;
+  }
+
+  /**
+   * Read the object of the resource from its spill file and keep it in memory.
+   * Caller must hold the lock of the resource, but not the pool lock.
+   */
+  private Object reload(Resource resource) {
+    Object object;
+    boolean reloaded;
+    try {
+      object = resource.readSpillFile();
+      reloaded = true;
+    } catch (IOException | ClassNotFoundException e) {
+      LOGGER.error("Fail to reload resource {} from spill file", resource.getResourceId(), e);
+      object = null;
+      reloaded = false;
+    }
+
+    synchronized (resources) {
+      resource.setLoaded(object);
+      if (resource.getSpillState() != Resource.SpillState.SPILLED) {
+        // released, it's not accounted anymore
+        return object;
+      }
+      spilledBytes -= resource.getEstimatedSize();
+      resource.setSpillState(Resource.SpillState.IN_MEMORY);
+      if (reloaded) {
+        reloadCount++;
+        acquire(resource);
+      } else {
+        // the object is lost, it doesn't count against the budget
+        reloadFailureCount++;
+        resource.setEstimatedSize(-1);
+      }
+    }
+    return object;
+  }
+
+  private void acquire(Resource resource) {
+    if (resource.getEstimatedSize() > 0) {
+      memoryUsed += resource.getEstimatedSize();
+    }
+  }
+
+  /**
+   * Caller must hold the pool lock. The spill file of the resource is deleted by
+   * {@link #discard(Resource)} afterwards.
+   */
+  private void release(Resource resource) {
+    if (resource == null) {
+      return;
+    }
+    switch (resource.getSpillState()) {
+      case IN_MEMORY:
+        if (resource.getEstimatedSize() > 0) {
+          memoryUsed -= resource.getEstimatedSize();
+        }
+        break;
+      case SPILLING:
+      case SPILLED:
+        spilledBytes -= resource.getEstimatedSize();
+        break;
+      default:
+        return;
+    }
+    resource.setSpillState(Resource.SpillState.RELEASED);
+  }
+
+  /**
+   * Delete the spill file of a released resource if there's any.
+   */
+  private void discard(Resource resource) {
+    if (resource == null) {
+      return;
+    }
+    synchronized (resource) {
+      resource.discardSpill();
+    }
+  }
+
+  /**
+   * Pick least recently used resources to spill until memory usage is under the budget, they
+   * are accounted as spilled already. Caller must hold the pool lock, and spill them by
+   * {@link #spill(List)} after releasing it.
+   *
+   * @param keep resource that has just been accessed and should stay in memory
+   */
+  private List<Resource> pickVictims(Resource keep) {
+    if (maxMemoryBytes <= 0 || memoryUsed <= maxMemoryBytes) {
+      return Collections.emptyList();
+    }
+
+    List<Resource> victims = new ArrayList<>();
+    for (Resource resource : resources.values()) {
+      if (memoryUsed <= maxMemoryBytes) {
+        break;
+      }
+      if (resource == keep || resource.getSpillState() != Resource.SpillState.IN_MEMORY
+          || !isEvictable(resource)) {
+        continue;
+      }
+      resource.setSpillState(Resource.SpillState.SPILLING);
+      memoryUsed -= resource.getEstimatedSize();
+      spilledBytes += resource.getEstimatedSize();
+      victims.add(resource);
+    }
+
+    if (memoryUsed > maxMemoryBytes) {
+      LOGGER.warn("ResourcePool {} uses {} bytes, exceeds limit {} bytes " +
+          "but no more resource can be evicted", resourcePoolId, memoryUsed, maxMemoryBytes);
+    }
+    return victims;
+  }
+
+  /**
+   * Write the spill files of the picked resources, unless they are accessed or removed in the
+   * meantime. Caller must not hold the pool lock or the lock of any resource.
+   */
+  private void spill(List<Resource> victims) {
+    for (Resource resource : victims) {
+      synchronized (resource) {
+        synchronized (resources) {
+          if (resource.getSpillState() != Resource.SpillState.SPILLING) {
+            continue;
+          }
+        }
+
+        File spillFile = new File(spillDir, UUID.randomUUID().toString());
+        try {
+          if (!spillDir.isDirectory() && !spillDir.mkdirs()) {
+            throw new IOException("Can't create spill directory " + spillDir);
+          }
+          resource.writeSpillFile(spillFile);
+        } catch (IOException e) {
+          LOGGER.warn("Fail to spill resource {}", resource.getResourceId(), e);
+          spillFile.delete();
+          synchronized (resources) {
+            if (resource.getSpillState() == Resource.SpillState.SPILLING) {
+              resource.setSpillState(Resource.SpillState.IN_MEMORY);
+              spilledBytes -= resource.getEstimatedSize();
+              acquire(resource);
+            }
+          }
+          continue;
+        }
+
+        synchronized (resources) {
+          // only a release can change the state while the lock of the resource is held
+          if (resource.getSpillState() == Resource.SpillState.SPILLING) {
+            resource.setSpilled(spillFile);
+            evictionCount++;
+            LOGGER.debug("Spilled resource {} ({} bytes) to {}",
+                resource.getResourceId(), resource.getEstimatedSize(), spillFile);
+            continue;
+          }
+        }
+        resource.deleteSpillFile(spillFile);
+      }
+    }
+  }
+
+  /**
+   * Non-serializable resources and resources of unknown size are pinned in memory.
+   */
+  private boolean isEvictable(Resource resource) {
+    return resource.isSerializable() && resource.getEstimatedSize() > 0;
+  }
+
+  /**
+   * Delete the spill files of this pool and the spill directory when it is left empty.
+   * Spilled resources can't be reloaded afterwards.
+   */
+  public void close() {
+    List<Resource> released = new ArrayList<>();
+    synchronized (resources) {
+      for (Resource resource : resources.values()) {
+        if (resource.getSpillState() == Resource.SpillState.SPILLING
+            || resource.getSpillState() == Resource.SpillState.SPILLED) {
+          release(resource);
+          released.add(resource);
+        }
+      }
+    }
+    for (Resource resource : released) {
+      discard(resource);
+    }
+    String[] files = spillDir.list();
+    if (files != null && files.length == 0 && !spillDir.delete()) {
+      LOGGER.warn("Fail to delete spill directory {}", spillDir);
+    }
+  }
+
+  public long getMaxMemoryBytes() {
+    return maxMemoryBytes;
+  }
+
+  public long getMemoryUsed() {
+    synchronized (resources) {
+      return memoryUsed;
+    }
+  }
+
+  public long getEvictionCount() {
+    synchronized (resources) {
+      return evictionCount;
+    }
+  }
+
+  public long getReloadCount() {
+    synchronized (resources) {
+      return reloadCount;
+    }
+  }
+
+  /**
+   * Metrics of this pool, e.g. for logging or reporting to the zeppelin server.
+   */
+  public Map<String, Long> getMetrics() {
+    synchronized (resources) {
+      long spilled = 0;
+      long pinned = 0;
+      for (Resource resource : resources.values()) {
+        if (resource.getSpillState() == Resource.SpillState.SPILLING
+            || resource.getSpillState() == Resource.SpillState.SPILLED) {
+          spilled++;
+        } else if (!isEvictable(resource)) {
+          pinned++;
+        }
+      }
+      Map<String, Long> metrics = new HashMap<>();
+      metrics.put("resources", (long) resources.size());
+      metrics.put("memoryUsed", memoryUsed);
+      metrics.put("maxMemory", maxMemoryBytes);
+      metrics.put("spilledResources", spilled);
+      metrics.put("spilledBytes", spilledBytes);
+      metrics.put("pinnedResources", pinned);
+      metrics.put("evictions", evictionCount);
+      metrics.put("reloads", reloadCount);
+      metrics.put("reloadFailures", reloadFailureCount);
+      return metrics;
+    }
   }
 }
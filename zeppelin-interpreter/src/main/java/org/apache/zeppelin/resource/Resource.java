@@ -26,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
@@ -33,6 +34,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
 
 /**
  * Information and reference to the resource
@@ -41,11 +43,22 @@ public class Resource implements JsonSerializable, Serializable {
   private static final Logger LOGGER = LoggerFactory.getLogger(Resource.class);
   private static final Gson gson = new Gson();
 
-  private final transient Object r;
+  private transient volatile Object r;
   private final transient LocalResourcePool pool;
+  // estimated in-memory size in bytes, -1 when it can't be estimated
+  private transient long estimatedSize = -1;
+  // file this resource has been spilled to, null while it is kept in memory
+  private transient volatile File spillFile;
+  // guarded by the lock of the pool
+  private transient volatile SpillState spillState = SpillState.IN_MEMORY;
   private final boolean serializable;
   private final ResourceId resourceId;
   private final String className;
+  // version given by the owning pool on put, increases on every update
+  private volatile long version;
+  // whether the owning pool publishes the updates of the resource, other pools can cache its
+  // value only then
+  private volatile boolean updatesPublished;
 
 
   /**
@@ -83,19 +96,150 @@ public class Resource implements JsonSerializable, Serializable {
     return className;
   }
 
+  public long getVersion() {
+    return version;
+  }
+
+  void setVersion(long version) {
+    this.version = version;
+  }
+
+  public boolean isUpdatesPublished() {
+    return updatesPublished;
+  }
+
+  void setUpdatesPublished(boolean updatesPublished) {
+    this.updatesPublished = updatesPublished;
+  }
+
   /**
    * @return null when this is remote resource and not serializable.
    */
   public Object get() {
     if (isLocal() || isSerializable()) {
-      return r;
+      return getObject();
     } else {
       return null;
     }
   }
 
   public <T> T get(Class<T> clazz) {
-    return Primitives.wrap(clazz).cast(r);
+    return Primitives.wrap(clazz).cast(getObject());
+  }
+
+  /**
+   * Return the object this resource holds, reloading it from the spill file
+   * when it was evicted by the pool.
+   */
+  private Object getObject() {
+    if (pool != null && pool.getMaxMemoryBytes() > 0) {
+      // reload and read under the pool lock, a concurrent spill would null the value in between
+      return pool.load(this);
+    }
+    return r;
+  }
+
+  /**
+   * Caller must hold the lock of this resource.
+   */
+  Object getLoadedObject() {
+    return r;
+  }
+
+  /**
+   * Where the object of a local resource is kept.
+   */
+  enum SpillState {
+    IN_MEMORY,
+    // picked by the pool to be spilled, the object is kept in memory until the spill file is
+    // written, and it is not spilled if it's accessed before
+    SPILLING,
+    SPILLED,
+    // removed from the pool, the spill file left, if there's any, is deleted on next access
+    RELEASED
+  }
+
+  SpillState getSpillState() {
+    return spillState;
+  }
+
+  /**
+   * Caller must hold the pool lock.
+   */
+  void setSpillState(SpillState spillState) {
+    this.spillState = spillState;
+  }
+
+  long getEstimatedSize() {
+    return estimatedSize;
+  }
+
+  void setEstimatedSize(long estimatedSize) {
+    this.estimatedSize = estimatedSize;
+  }
+
+  boolean isSpilled() {
+    return spillState == SpillState.SPILLED;
+  }
+
+  File getSpillFile() {
+    return spillFile;
+  }
+
+  /**
+   * Serialize the object to the given file, the object is kept in memory.
+   * Caller must hold the lock of this resource.
+   */
+  void writeSpillFile(File file) throws IOException {
+    ByteBuffer buf = serializeObject(r);
+    if (buf == null) {
+      throw new IOException("Resource " + resourceId + " is not serializable");
+    }
+    Files.write(file.toPath(), buf.array());
+  }
+
+  /**
+   * Release the in-memory reference to the object written to the given file.
+   * Caller must hold the lock of this resource and the pool lock.
+   */
+  void setSpilled(File file) {
+    this.spillFile = file;
+    this.r = null;
+    this.spillState = SpillState.SPILLED;
+  }
+
+  /**
+   * Read the object back from the spill file, the file is kept.
+   * Caller must hold the lock of this resource.
+   */
+  Object readSpillFile() throws IOException, ClassNotFoundException {
+    return deserializeObject(ByteBuffer.wrap(Files.readAllBytes(spillFile.toPath())));
+  }
+
+  /**
+   * Keep the given object in memory instead of the spill file, which is left to the caller to
+   * delete. Caller must hold the lock of this resource and the pool lock.
+   */
+  void setLoaded(Object r) {
+    this.r = r;
+    this.spillFile = null;
+  }
+
+  /**
+   * Delete the spill file if there's any. Caller must hold the lock of this resource.
+   */
+  void discardSpill() {
+    File file = spillFile;
+    this.spillFile = null;
+    if (file != null) {
+      deleteSpillFile(file);
+    }
+  }
+
+  void deleteSpillFile(File file) {
+    if (!file.delete()) {
+      LOGGER.warn("Fail to delete spill file {} of resource {}", file, resourceId);
+    }
   }
 
   public boolean isSerializable() {
@@ -283,7 +427,7 @@ public class Resource implements JsonSerializable, Serializable {
     } else {
       // inference method param types
       boolean found = false;
-      Method[] methods = r.getClass().getDeclaredMethods();
+      Method[] methods = getObject().getClass().getDeclaredMethods();
 
       for (Method m : methods) {
         // try to find method by name
@@ -333,13 +477,14 @@ public class Resource implements JsonSerializable, Serializable {
    */
   public Object invokeMethod(
       String methodName, Class[] paramTypes, Object[] params) {
-    if (r != null) {
+    Object o = getObject();
+    if (o != null) {
       try {
-        Method method = r.getClass().getMethod(
+        Method method = o.getClass().getMethod(
             methodName,
             paramTypes);
         method.setAccessible(true);
-        Object ret = method.invoke(r, params);
+        Object ret = method.invoke(o, params);
         return ret;
       } catch (Exception e) {
         logException(e);
@@ -361,12 +506,13 @@ public class Resource implements JsonSerializable, Serializable {
    */
   public Resource invokeMethod(
       String methodName, Class[] paramTypes, Object[] params, String returnResourceName) {
-    if (r != null) {
+    Object o = getObject();
+    if (o != null) {
       try {
-        Method method = r.getClass().getMethod(
+        Method method = o.getClass().getMethod(
             methodName,
             paramTypes);
-        Object ret = method.invoke(r, params);
+        Object ret = method.invoke(o, params);
         pool.put(
             resourceId.getNoteId(),
             resourceId.getParagraphId(),
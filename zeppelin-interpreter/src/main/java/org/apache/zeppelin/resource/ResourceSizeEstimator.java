@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+/**
+ * Rough estimation of the memory held by a resource object.
+ * Strings, arrays of primitives and boxed primitives are sized directly, other serializable
+ * objects are sized by their serialized form. Returns -1 when the size can't be estimated.
+ */
+public class ResourceSizeEstimator {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResourceSizeEstimator.class);
+
+  private static final int OBJECT_HEADER = 16;
+
+  private ResourceSizeEstimator() {
+  }
+
+  public static long estimate(Object o) {
+    if (o == null) {
+      return 0;
+    }
+    if (o instanceof String) {
+      return OBJECT_HEADER + 2L * ((String) o).length();
+    }
+    if (o instanceof Number || o instanceof Boolean || o instanceof Character) {
+      return OBJECT_HEADER;
+    }
+    if (o instanceof byte[]) {
+      return OBJECT_HEADER + ((byte[]) o).length;
+    }
+    if (o instanceof char[]) {
+      return OBJECT_HEADER + 2L * ((char[]) o).length;
+    }
+    if (o instanceof int[]) {
+      return OBJECT_HEADER + 4L * ((int[]) o).length;
+    }
+    if (o instanceof long[]) {
+      return OBJECT_HEADER + 8L * ((long[]) o).length;
+    }
+    if (o instanceof double[]) {
+      return OBJECT_HEADER + 8L * ((double[]) o).length;
+    }
+    if (!(o instanceof Serializable)) {
+      return -1;
+    }
+
+    CountingOutputStream out = new CountingOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+      oos.writeObject(o);
+    } catch (IOException | RuntimeException e) {
+      LOGGER.debug("Fail to estimate size of {}", o.getClass().getName(), e);
+      return -1;
+    }
+    return out.count;
+  }
+
+  /**
+   * OutputStream that only counts the bytes written to it.
+   */
+  private static class CountingOutputStream extends OutputStream {
+    private long count;
+
+    @Override
+    public void write(int b) {
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count += len;
+    }
+  }
+}
@@ -24,9 +24,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
 
 /**
  * Abstract class for scheduler implementation. Implementor just need to implement method
@@ -38,8 +36,10 @@ public abstract class AbstractScheduler implements Scheduler {
 
   protected String name;
   protected volatile boolean terminate = false;
-  protected BlockingQueue<Job> queue = new LinkedBlockingQueue<>();
+  protected JobQueue queue = new JobQueue();
   protected Map<String, Job> jobs = new ConcurrentHashMap<>();
+  // max number of pending jobs, 0 means unbounded
+  protected volatile int maxQueueSize = 0;
   private Thread schedulerThread;
 
   public AbstractScheduler(String name) {
@@ -60,15 +60,41 @@ public abstract class AbstractScheduler implements Scheduler {
     return jobs.get(jobId);
   }
 
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  /**
+   * Set the max number of pending jobs, jobs submitted when the queue is full are rejected
+   * with {@link JobRejectedException}. 0 or negative means unbounded.
+   */
+  public void setMaxQueueSize(int maxQueueSize) {
+    this.maxQueueSize = maxQueueSize;
+  }
+
+  /**
+   * Submit the job to the lane of its priority.
+   *
+   * @throws JobRejectedException when the queue is full, the status of the job is unchanged.
+   */
   @Override
   public void submit(Job job) {
+    Job.Status before = job.getStatus();
     job.setStatus(Job.Status.PENDING);
-    try {
-      queue.put(job);
-    } catch (InterruptedException e) {
-      throw new RuntimeException(String.format("Unable to submit job %s", job.getId()), e);
-    }
     jobs.put(job.getId(), job);
+    job.pendingScheduler = this;
+    if (!queue.offer(job, maxQueueSize)) {
+      job.pendingScheduler = null;
+      jobs.remove(job.getId(), job);
+      job.setStatusWithoutNotification(before);
+      throw rejected(job);
+    }
+  }
+
+  protected JobRejectedException rejected(Job job) {
+    return new JobRejectedException(String.format(
+        "Job %s is rejected because there are already %d pending jobs in scheduler %s, " +
+            "please try again later", job.getId(), maxQueueSize, name));
   }
 
   @Override
@@ -78,13 +104,28 @@ public abstract class AbstractScheduler implements Scheduler {
     return job;
   }
 
+  /**
+   * Remove the job if it is still pending in this scheduler, return false if it is not.
+   */
+  protected boolean removePendingJob(Job job) {
+    if (queue.remove(job)) {
+      job.pendingScheduler = null;
+      jobs.remove(job.getId(), job);
+      LOGGER.info("Pending job {} is removed from scheduler {}", job.getId(), name);
+      return true;
+    }
+    return false;
+  }
+
   @Override
   public void run() {
     schedulerThread = Thread.currentThread();
     while (!terminate && !schedulerThread.isInterrupted()) {
       Job runningJob = null;
       try {
+        awaitCapacity();
         runningJob = queue.take();
+        runningJob.pendingScheduler = null;
       } catch (InterruptedException e) {
         LOGGER.warn("{} is interrupted", getClass().getSimpleName());
         break;
@@ -94,12 +135,21 @@ public abstract class AbstractScheduler implements Scheduler {
     }
   }
 
+  /**
+   * Wait until the scheduler is able to run one more job. Subclasses that run jobs in a bounded
+   * pool override this so that pending jobs stay in the priority queue rather than in the
+   * queue of the pool.
+   */
+  protected void awaitCapacity() throws InterruptedException {
+  }
+
   public abstract void runJobInScheduler(Job job);
 
   @Override
   public void stop() {
     terminate = true;
-    for (Job job : queue) {
+    for (Job job : queue.drain()) {
+      job.pendingScheduler = null;
       job.aborted = true;
       job.jobAbort();
     }
@@ -16,19 +16,42 @@
  */
 package org.apache.zeppelin.scheduler;
 
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Factory class for Executor
+ * Registry of the named thread pools of Zeppelin server and interpreter process.
+ *
+ * The default size of each pool is given by the caller and can be overridden by
+ * zeppelin.executor.[name].threads, where [name] is the name of the pool without trailing '-'.
+ * zeppelin.executor.[name].queueSize bounds the queue of a fixed size pool (unbounded by default)
+ * and zeppelin.executor.[name].rejectionPolicy (abort, caller_runs, discard, discard_oldest)
+ * decides what happens when it is full. {@link #getStats()} returns the state of all the pools.
  */
 public class ExecutorFactory {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorFactory.class);
+
   private static ExecutorFactory instance;
   private static Long _executorLock = new Long(0);
 
-  private Map<String, ExecutorService> executors = new HashMap<>();
+  private Map<String, ThreadPoolExecutor> executors = new HashMap<>();
+  private ZeppelinConfiguration zConf = ZeppelinConfiguration.create();
 
   private ExecutorFactory() {
 
@@ -45,23 +68,166 @@ public class ExecutorFactory {
     return instance;
   }
 
+  /**
+   * Rejection handler which counts the rejected tasks.
+   */
+  private static class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+    private final String policy;
+    private final RejectedExecutionHandler handler;
+    private final AtomicLong rejected = new AtomicLong();
+
+    CountingRejectedExecutionHandler(String policy) {
+      this.policy = policy;
+      switch (policy) {
+        case "caller_runs":
+          this.handler = new ThreadPoolExecutor.CallerRunsPolicy();
+          break;
+        case "discard":
+          this.handler = new ThreadPoolExecutor.DiscardPolicy();
+          break;
+        case "discard_oldest":
+          this.handler = new ThreadPoolExecutor.DiscardOldestPolicy();
+          break;
+        default:
+          this.handler = new ThreadPoolExecutor.AbortPolicy();
+      }
+    }
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+      rejected.incrementAndGet();
+      handler.rejectedExecution(r, executor);
+    }
+  }
+
+  private String getProperty(String name, String key) {
+    String poolName = name.replaceAll("[-\\s]+$", "");
+    String propertyName = "zeppelin.executor." + poolName + "." + key;
+    String envName = propertyName.toUpperCase().replaceAll("[^A-Z0-9]", "_");
+    return zConf.getString(envName, propertyName, null);
+  }
+
+  private int getIntProperty(String name, String key, int defaultValue) {
+    String value = getProperty(name, key);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      LOGGER.warn("Invalid {} of thread pool {}: {}, use the default {}",
+          key, name, value, defaultValue);
+      return defaultValue;
+    }
+  }
+
+  private int getThreads(String name, int defaultThreads) {
+    return getIntProperty(name, "threads", defaultThreads);
+  }
+
+  private CountingRejectedExecutionHandler getRejectionHandler(String name) {
+    String policy = getProperty(name, "rejectionPolicy");
+    return new CountingRejectedExecutionHandler(policy == null ? "abort" : policy);
+  }
+
+  /**
+   * Get the pool of the given name, create a fixed size pool if it doesn't exist.
+   */
   public ExecutorService createOrGet(String name, int numThread) {
     synchronized (executors) {
       if (!executors.containsKey(name)) {
-        executors.put(name, Executors.newScheduledThreadPool(numThread,
-            new SchedulerThreadFactory(name)));
+        int threads = getThreads(name, numThread);
+        int queueSize = getIntProperty(name, "queueSize", Integer.MAX_VALUE);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+            0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueSize),
+            new SchedulerThreadFactory(name),
+            getRejectionHandler(name));
+        register(name, executor);
+      }
+      return executors.get(name);
+    }
+  }
+
+  /**
+   * Get the pool of the given name, create a pool which can run delayed and periodic tasks if
+   * it doesn't exist.
+   *
+   * @throws IllegalStateException if a pool of the given name exists and can't schedule tasks
+   */
+  public ScheduledExecutorService createOrGetScheduled(String name, int numThread) {
+    synchronized (executors) {
+      if (!executors.containsKey(name)) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+            getThreads(name, numThread), new SchedulerThreadFactory(name),
+            getRejectionHandler(name));
+        register(name, executor);
+      }
+      ThreadPoolExecutor executor = executors.get(name);
+      if (!(executor instanceof ScheduledExecutorService)) {
+        throw new IllegalStateException("Thread pool " + name +
+            " is already created and it is not a scheduled pool");
+      }
+      return (ScheduledExecutorService) executor;
+    }
+  }
+
+  /**
+   * Get the pool of the given name, create a pool without limit of threads if it doesn't exist.
+   * Idle threads are released after one minute.
+   */
+  public ExecutorService createOrGetCached(String name) {
+    synchronized (executors) {
+      if (!executors.containsKey(name)) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(0, getThreads(name, Integer.MAX_VALUE),
+            60L, TimeUnit.SECONDS, new SynchronousQueue<>(), new SchedulerThreadFactory(name),
+            getRejectionHandler(name));
+        register(name, executor);
       }
       return executors.get(name);
     }
   }
 
+  private void register(String name, ThreadPoolExecutor executor) {
+    LOGGER.debug("Create thread pool {}", name);
+    executors.put(name, executor);
+  }
+
   /**
    * ThreadPool created for running note via rest api.
-   * TODO(zjffdu) Should use property to configure the thread pool size.
    * @return
    */
   public ExecutorService getNoteJobExecutor() {
-    return createOrGet("NoteJobThread-", 50);
+    return createOrGet("NoteJobThread-",
+        zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_JOB_EXECUTOR_THREADS));
+  }
+
+  /**
+   * State of each pool: threads, active, queued, completed and rejected task counts, and
+   * the rejection policy.
+   */
+  public Map<String, Map<String, Object>> getStats() {
+    Map<String, Map<String, Object>> stats = new TreeMap<>();
+    synchronized (executors) {
+      for (Map.Entry<String, ThreadPoolExecutor> entry : executors.entrySet()) {
+        ThreadPoolExecutor executor = entry.getValue();
+        Map<String, Object> poolStats = new LinkedHashMap<>();
+        poolStats.put("poolSize", executor.getPoolSize());
+        poolStats.put("maxPoolSize", executor instanceof ScheduledThreadPoolExecutor ?
+            executor.getCorePoolSize() : executor.getMaximumPoolSize());
+        poolStats.put("largestPoolSize", executor.getLargestPoolSize());
+        poolStats.put("active", executor.getActiveCount());
+        poolStats.put("queued", executor.getQueue().size());
+        poolStats.put("completed", executor.getCompletedTaskCount());
+        if (executor.getRejectedExecutionHandler() instanceof CountingRejectedExecutionHandler) {
+          CountingRejectedExecutionHandler handler =
+              (CountingRejectedExecutionHandler) executor.getRejectedExecutionHandler();
+          poolStats.put("rejected", handler.rejected.get());
+          poolStats.put("rejectionPolicy", handler.policy);
+        }
+        stats.put(entry.getKey(), poolStats);
+      }
+    }
+    return stats;
   }
 
   public void shutdown(String name) {
@@ -74,10 +240,21 @@ public class ExecutorFactory {
     }
   }
 
+  /**
+   * Shutdown the pool of the given name and interrupt its running tasks.
+   */
+  public void shutdownNow(String name) {
+    synchronized (executors) {
+      ExecutorService e = executors.remove(name);
+      if (e != null) {
+        e.shutdownNow();
+      }
+    }
+  }
 
   public void shutdownAll() {
     synchronized (executors) {
-      for (String name : executors.keySet()) {
+      for (String name : new ArrayList<>(executors.keySet())) {
         shutdown(name);
       }
     }
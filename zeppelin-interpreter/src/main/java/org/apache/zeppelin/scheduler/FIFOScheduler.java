@@ -18,30 +18,43 @@
 package org.apache.zeppelin.scheduler;
 
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 /**
  * FIFOScheduler runs submitted job sequentially
  */
 public class FIFOScheduler extends AbstractScheduler {
 
+  private String executorName;
   private ExecutorService executor;
+  private Semaphore worker = new Semaphore(1);
 
   FIFOScheduler(String name) {
     super(name);
-    executor = Executors.newSingleThreadExecutor(
-        new SchedulerThreadFactory("FIFOScheduler-" + name + "-Worker-"));
+    executorName = "FIFOScheduler-" + name + "-Worker-";
+    executor = ExecutorFactory.singleton().createOrGet(executorName, 1);
+  }
+
+  @Override
+  protected void awaitCapacity() throws InterruptedException {
+    worker.acquire();
   }
 
   @Override
   public void runJobInScheduler(final Job job) {
     // run job in the SingleThreadExecutor since this is FIFO.
-    executor.execute(() -> runJob(job));
+    executor.execute(() -> {
+      try {
+        runJob(job);
+      } finally {
+        worker.release();
+      }
+    });
   }
 
   @Override
   public void stop() {
     super.stop();
-    executor.shutdownNow();
+    ExecutorFactory.singleton().shutdownNow(executorName);
   }
 }
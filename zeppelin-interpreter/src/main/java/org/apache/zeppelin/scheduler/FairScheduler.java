@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * FairScheduler keeps one queue per job group (user or note) and dispatches jobs in weighted
+ * round-robin order (deficit round robin where each job costs 1), so that one group submitting
+ * many jobs can't block the jobs of other groups. At most maxConcurrency jobs run at the same
+ * time, jobs are only handed over to the worker threads when a worker is free.
+ */
+public class FairScheduler extends AbstractScheduler {
+  private static final Logger LOGGER = LoggerFactory.getLogger(FairScheduler.class);
+
+  private final int maxConcurrency;
+  private final Function<Job, String> jobGroup;
+  private final Map<String, Integer> weights;
+  private final String executorName;
+  private final ExecutorService executor;
+
+  // guarded by this
+  private final LinkedHashMap<String, GroupQueue> groupQueues = new LinkedHashMap<>();
+  private int running = 0;
+
+  FairScheduler(String name,
+                int maxConcurrency,
+                Function<Job, String> jobGroup,
+                Map<String, Integer> weights) {
+    super(name);
+    this.maxConcurrency = maxConcurrency;
+    this.jobGroup = jobGroup;
+    this.weights = weights;
+    this.executorName = "FairScheduler-" + name + "-Worker-";
+    this.executor = ExecutorFactory.singleton().createOrGet(executorName, maxConcurrency);
+  }
+
+  /**
+   * Pending jobs and statistics of one job group.
+   */
+  private static class GroupQueue {
+    private final LinkedList<Job> jobs = new LinkedList<>();
+    private final Map<String, Long> submitTimes = new HashMap<>();
+    private final int weight;
+    private int deficit;
+    private long dispatchedJobs;
+    private long totalWaitTime;
+    private long maxWaitTime;
+
+    GroupQueue(int weight) {
+      this.weight = weight;
+    }
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * No scheduler thread is needed, jobs are dispatched when submitted and when a job finishes.
+   */
+  @Override
+  public void run() {
+  }
+
+  @Override
+  public void submit(Job job) {
+    String group = getGroup(job);
+    synchronized (this) {
+      if (maxQueueSize > 0 && getPendingJobCount() >= maxQueueSize) {
+        throw rejected(job);
+      }
+      job.setStatus(Job.Status.PENDING);
+      job.pendingScheduler = this;
+      jobs.put(job.getId(), job);
+      GroupQueue groupQueue = groupQueues.computeIfAbsent(group,
+          g -> new GroupQueue(Math.max(1, weights.getOrDefault(g, 1))));
+      groupQueue.jobs.add(job);
+      groupQueue.submitTimes.put(job.getId(), System.currentTimeMillis());
+    }
+    dispatch();
+  }
+
+  private String getGroup(Job job) {
+    try {
+      String group = jobGroup.apply(job);
+      return group == null ? "" : group;
+    } catch (Exception e) {
+      LOGGER.warn("Fail to get group of job {}", job.getId(), e);
+      return "";
+    }
+  }
+
+  @Override
+  public Job cancel(String jobId) {
+    synchronized (this) {
+      Iterator<GroupQueue> it = groupQueues.values().iterator();
+      while (it.hasNext()) {
+        GroupQueue groupQueue = it.next();
+        groupQueue.jobs.removeIf(job -> job.getId().equals(jobId));
+        groupQueue.submitTimes.remove(jobId);
+        if (groupQueue.jobs.isEmpty()) {
+          it.remove();
+        }
+      }
+    }
+    return super.cancel(jobId);
+  }
+
+  @Override
+  protected boolean removePendingJob(Job job) {
+    synchronized (this) {
+      Iterator<GroupQueue> it = groupQueues.values().iterator();
+      while (it.hasNext()) {
+        GroupQueue groupQueue = it.next();
+        if (groupQueue.jobs.removeIf(pending -> pending == job)) {
+          groupQueue.submitTimes.remove(job.getId());
+          if (groupQueue.jobs.isEmpty()) {
+            it.remove();
+          }
+          job.pendingScheduler = null;
+          jobs.remove(job.getId(), job);
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // guarded by this
+  private int getPendingJobCount() {
+    int count = 0;
+    for (GroupQueue groupQueue : groupQueues.values()) {
+      count += groupQueue.jobs.size();
+    }
+    return count;
+  }
+
+  private void dispatch() {
+    synchronized (this) {
+      while (!terminate && running < maxConcurrency) {
+        Job job = nextJob(groupQueues, true);
+        if (job == null) {
+          return;
+        }
+        job.pendingScheduler = null;
+        if (job.getStatus() == Job.Status.ABORT) {
+          // aborted while pending
+          jobs.remove(job.getId());
+          continue;
+        }
+        running++;
+        runJobInScheduler(job);
+      }
+    }
+  }
+
+  /**
+   * Take the next job in deficit round robin order. Groups are kept in round robin order by
+   * moving a group to the end once it used up its deficit, and are removed once drained.
+   */
+  private Job nextJob(LinkedHashMap<String, GroupQueue> queues, boolean recordWaitTime) {
+    while (!queues.isEmpty()) {
+      Iterator<Map.Entry<String, GroupQueue>> it = queues.entrySet().iterator();
+      Map.Entry<String, GroupQueue> entry = it.next();
+      GroupQueue groupQueue = entry.getValue();
+      if (groupQueue.jobs.isEmpty()) {
+        it.remove();
+        continue;
+      }
+      if (groupQueue.deficit <= 0) {
+        groupQueue.deficit += groupQueue.weight;
+      }
+      Job job = groupQueue.jobs.poll();
+      groupQueue.deficit--;
+      if (groupQueue.jobs.isEmpty()) {
+        // the group is added again with a new queue when it submits its next job
+        it.remove();
+      } else if (groupQueue.deficit <= 0) {
+        // move to the end of the round
+        it.remove();
+        queues.put(entry.getKey(), groupQueue);
+      }
+      if (recordWaitTime) {
+        Long submitTime = groupQueue.submitTimes.remove(job.getId());
+        if (submitTime != null) {
+          long waitTime = System.currentTimeMillis() - submitTime;
+          groupQueue.dispatchedJobs++;
+          groupQueue.totalWaitTime += waitTime;
+          groupQueue.maxWaitTime = Math.max(groupQueue.maxWaitTime, waitTime);
+        }
+      }
+      return job;
+    }
+    return null;
+  }
+
+  @Override
+  public void runJobInScheduler(Job job) {
+    executor.execute(() -> {
+      try {
+        runJob(job);
+      } finally {
+        synchronized (this) {
+          running--;
+        }
+        dispatch();
+      }
+    });
+  }
+
+  /**
+   * Position of the job in the queue, 0 means the job will be the next one to run,
+   * -1 means the job is not pending in this scheduler.
+   */
+  public synchronized int getQueuePosition(String jobId) {
+    // replay the dispatch order on a copy of the queues
+    LinkedHashMap<String, GroupQueue> queues = new LinkedHashMap<>();
+    for (Map.Entry<String, GroupQueue> entry : groupQueues.entrySet()) {
+      GroupQueue copy = new GroupQueue(entry.getValue().weight);
+      copy.deficit = entry.getValue().deficit;
+      copy.jobs.addAll(entry.getValue().jobs);
+      queues.put(entry.getKey(), copy);
+    }
+    int position = 0;
+    for (Job job = nextJob(queues, false); job != null; job = nextJob(queues, false)) {
+      if (job.getId().equals(jobId)) {
+        return position;
+      }
+      position++;
+    }
+    return -1;
+  }
+
+  /**
+   * Group of the given job, null when the job is not pending in this scheduler.
+   */
+  public synchronized String getQueueGroup(String jobId) {
+    for (Map.Entry<String, GroupQueue> entry : groupQueues.entrySet()) {
+      if (entry.getValue().submitTimes.containsKey(jobId)) {
+        return entry.getKey();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Queue statistics per group that has pending jobs: pending jobs, dispatched jobs, average and
+   * max wait time in milliseconds of the dispatched jobs, and wait time of the oldest pending job.
+   * Statistics of a group are dropped together with its queue once all its jobs are dispatched.
+   */
+  public synchronized Map<String, Map<String, Long>> getQueueStats() {
+    long now = System.currentTimeMillis();
+    Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+    for (Map.Entry<String, GroupQueue> entry : groupQueues.entrySet()) {
+      GroupQueue groupQueue = entry.getValue();
+      long oldestSubmitTime = now;
+      for (Long submitTime : groupQueue.submitTimes.values()) {
+        oldestSubmitTime = Math.min(oldestSubmitTime, submitTime);
+      }
+      Map<String, Long> groupStats = new LinkedHashMap<>();
+      groupStats.put("pendingJobs", (long) groupQueue.jobs.size());
+      groupStats.put("dispatchedJobs", groupQueue.dispatchedJobs);
+      groupStats.put("avgWaitTime", groupQueue.dispatchedJobs == 0 ?
+          0 : groupQueue.totalWaitTime / groupQueue.dispatchedJobs);
+      groupStats.put("maxWaitTime", groupQueue.maxWaitTime);
+      groupStats.put("currentWaitTime", now - oldestSubmitTime);
+      stats.put(entry.getKey(), groupStats);
+    }
+    return stats;
+  }
+
+  @Override
+  public void stop() {
+    List<Job> pendingJobs = new ArrayList<>();
+    synchronized (this) {
+      terminate = true;
+      for (GroupQueue groupQueue : groupQueues.values()) {
+        pendingJobs.addAll(groupQueue.jobs);
+      }
+      groupQueues.clear();
+    }
+    for (Job job : pendingJobs) {
+      job.pendingScheduler = null;
+      job.aborted = true;
+      job.jobAbort();
+    }
+    super.stop();
+    ExecutorFactory.singleton().shutdownNow(executorName);
+  }
+}
@@ -72,6 +72,17 @@ public abstract class Job<T> {
     }
   }
 
+  /**
+   * Job priority, used by the scheduler to pick the next pending job.
+   *
+   * INTERACTIVE - Job is triggered by a user from the notebook UI
+   * REST - Job is triggered via the REST API
+   * CRON - Job is triggered by the cron scheduler
+   */
+  public enum Priority {
+    INTERACTIVE, REST, CRON
+  }
+
   private String jobName;
   private String id;
 
@@ -84,6 +95,13 @@ public abstract class Job<T> {
   private volatile String errorMessage;
   private transient volatile Throwable exception;
   private transient JobListener listener;
+  // position in the queue of the scheduler while pending, -1 if unknown
+  private transient volatile int queuePosition = -1;
+  // statistics of the scheduler queue group of this job while pending, null if unknown
+  private transient volatile Map<String, Long> queueStats;
+  private transient volatile Priority priority = Priority.INTERACTIVE;
+  // scheduler in which this job is pending, null when it is not pending
+  transient volatile AbstractScheduler pendingScheduler;
 
   public Job(String jobName, JobListener listener) {
     this.jobName = jobName;
@@ -228,6 +246,12 @@ public abstract class Job<T> {
   protected abstract boolean jobAbort();
 
   public void abort() {
+    AbstractScheduler scheduler = pendingScheduler;
+    if (scheduler != null && scheduler.removePendingJob(this)) {
+      // never started, nothing to abort
+      setStatus(Status.ABORT);
+      return;
+    }
     aborted = jobAbort();
   }
 
@@ -257,6 +281,30 @@ public abstract class Job<T> {
 
   public abstract void setResult(T result);
 
+  public int getQueuePosition() {
+    return queuePosition;
+  }
+
+  public void setQueuePosition(int queuePosition) {
+    this.queuePosition = queuePosition;
+  }
+
+  public Map<String, Long> getQueueStats() {
+    return queueStats;
+  }
+
+  public void setQueueStats(Map<String, Long> queueStats) {
+    this.queueStats = queueStats;
+  }
+
+  public Priority getPriority() {
+    return priority;
+  }
+
+  public void setPriority(Priority priority) {
+    this.priority = priority;
+  }
+
   public String getErrorMessage() {
     return errorMessage;
   }
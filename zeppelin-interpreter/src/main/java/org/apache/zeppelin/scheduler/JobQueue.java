@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Queue of pending jobs with one FIFO lane per {@link Job.Priority}. Jobs of a higher priority
+ * lane are always taken first. Removing a job (e.g. cancelling a pending job) is O(1).
+ *
+ * Jobs are compared by identity rather than {@link Job#equals(Object)}, because different
+ * jobs may share the same id (e.g. paragraphs of different users in personalized mode).
+ */
+public class JobQueue {
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  // guarded by lock
+  private final EnumMap<Job.Priority, LinkedHashMap<JobKey, Job>> lanes = new EnumMap<>(Job.Priority.class);
+  private int size = 0;
+
+  /**
+   * Identity key of a job in the lanes.
+   */
+  private static class JobKey {
+    private final Job job;
+
+    JobKey(Job job) {
+      this.job = job;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof JobKey && ((JobKey) o).job == job;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(job);
+    }
+  }
+
+  public JobQueue() {
+    for (Job.Priority priority : Job.Priority.values()) {
+      lanes.put(priority, new LinkedHashMap<>());
+    }
+  }
+
+  /**
+   * Add the job to the lane of its priority.
+   *
+   * @param maxSize max number of jobs in the queue, 0 or negative means unbounded
+   * @return false if the queue is full
+   */
+  public boolean offer(Job job, int maxSize) {
+    lock.lock();
+    try {
+      if (maxSize > 0 && size >= maxSize) {
+        return false;
+      }
+      if (lanes.get(job.getPriority()).put(new JobKey(job), job) == null) {
+        size++;
+      }
+      notEmpty.signal();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Take the oldest job of the highest priority lane, wait until one is available.
+   */
+  public Job take() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (size == 0) {
+        notEmpty.await();
+      }
+      for (LinkedHashMap<JobKey, Job> lane : lanes.values()) {
+        if (!lane.isEmpty()) {
+          Iterator<Job> it = lane.values().iterator();
+          Job job = it.next();
+          it.remove();
+          size--;
+          return job;
+        }
+      }
+      throw new IllegalStateException("JobQueue size is " + size + " but all lanes are empty");
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Remove the job from the queue, return false if it is not pending in this queue.
+   */
+  public boolean remove(Job job) {
+    lock.lock();
+    try {
+      JobKey key = new JobKey(job);
+      for (LinkedHashMap<JobKey, Job> lane : lanes.values()) {
+        if (lane.remove(key) != null) {
+          size--;
+          return true;
+        }
+      }
+      return false;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int size() {
+    lock.lock();
+    try {
+      return size;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Number of pending jobs of each priority.
+   */
+  public Map<Job.Priority, Integer> getLaneSizes() {
+    lock.lock();
+    try {
+      Map<Job.Priority, Integer> laneSizes = new EnumMap<>(Job.Priority.class);
+      for (Map.Entry<Job.Priority, LinkedHashMap<JobKey, Job>> entry : lanes.entrySet()) {
+        laneSizes.put(entry.getKey(), entry.getValue().size());
+      }
+      return laneSizes;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Remove and return all the pending jobs in the order they would have been taken.
+   */
+  public List<Job> drain() {
+    lock.lock();
+    try {
+      List<Job> jobs = new ArrayList<>(size);
+      for (LinkedHashMap<JobKey, Job> lane : lanes.values()) {
+        jobs.addAll(lane.values());
+        lane.clear();
+      }
+      size = 0;
+      return jobs;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
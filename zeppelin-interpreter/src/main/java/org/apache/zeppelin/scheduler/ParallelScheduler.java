@@ -18,24 +18,50 @@
 package org.apache.zeppelin.scheduler;
 
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 /**
  * Parallel scheduler runs submitted job concurrently.
  */
 public class ParallelScheduler extends AbstractScheduler {
 
+  private String executorName;
   private ExecutorService executor;
+  private int maxConcurrency;
+  private Semaphore workers;
 
   ParallelScheduler(String name, int maxConcurrency) {
     super(name);
-    this.executor = Executors.newFixedThreadPool(maxConcurrency,
-        new SchedulerThreadFactory("ParallelScheduler-Worker-"));
+    this.maxConcurrency = maxConcurrency;
+    this.workers = new Semaphore(maxConcurrency);
+    this.executorName = "ParallelScheduler-" + name + "-Worker-";
+    this.executor = ExecutorFactory.singleton().createOrGet(executorName, maxConcurrency);
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  @Override
+  public void stop() {
+    super.stop();
+    ExecutorFactory.singleton().shutdownNow(executorName);
+  }
+
+  @Override
+  protected void awaitCapacity() throws InterruptedException {
+    workers.acquire();
   }
 
   @Override
   public void runJobInScheduler(final Job runningJob) {
     // submit this job to a FixedThreadPool so that at most maxConcurrencyJobs running
-    executor.execute(() -> runJob(runningJob));
+    executor.execute(() -> {
+      try {
+        runJob(runningJob);
+      } finally {
+        workers.release();
+      }
+    });
   }
 }
@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 
 /**
  * Factory class for creating schedulers except RemoteScheduler as RemoteScheduler runs in
@@ -93,7 +94,20 @@ public class SchedulerFactory {
     }
   }
 
-  
+  public Scheduler createOrGetFairScheduler(String name,
+                                           int maxConcurrency,
+                                           Function<Job, String> jobGroup,
+                                           Map<String, Integer> weights) {
+    synchronized (schedulers) {
+      if (!schedulers.containsKey(name)) {
+        FairScheduler s = new FairScheduler(name, maxConcurrency, jobGroup, weights);
+        schedulers.put(name, s);
+        executor.execute(s);
+      }
+      return schedulers.get(name);
+    }
+  }
+
   public Scheduler createOrGetScheduler(Scheduler scheduler) {
     synchronized (schedulers) {
       if (!schedulers.containsKey(scheduler.getName())) {
@@ -28,7 +28,9 @@ public class ColumnDef implements Serializable {
   public enum TYPE {
     STRING,
     LONG,
-    INT
+    INT,
+    DOUBLE,
+    DATE
   }
 
   private String name;
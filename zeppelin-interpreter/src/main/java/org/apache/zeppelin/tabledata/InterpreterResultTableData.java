@@ -19,46 +19,210 @@ package org.apache.zeppelin.tabledata;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 
 import java.io.Serializable;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
- * Table data with interpreter result type 'TABLE'
+ * Table data with interpreter result type 'TABLE'.
+ *
+ * The message data is parsed lazily. Nothing is parsed on construction, the header is parsed on
+ * the first call of {@link #columns()} and rows are parsed one by one while iterating
+ * {@link #rows()}, so only the current row is held besides the message data. The values of a
+ * row are copies of its fields in the data. Column types are inferred from the first
+ * {@link #TYPE_INFERENCE_ROWS} rows, row values are kept as String.
  */
 public class InterpreterResultTableData implements TableData, Serializable {
+  static final int TYPE_INFERENCE_ROWS = 100;
+
+  private static final DateTimeFormatter DATE_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd[[ ]['T']HH:mm[:ss][.SSS]]");
+
   private final InterpreterResultMessage msg;
-  ColumnDef [] columnDef;
-  List<Row> rows = new LinkedList<>();
+  private transient volatile ColumnDef[] columnDef;
 
   public InterpreterResultTableData(InterpreterResultMessage msg) {
     this.msg = msg;
+  }
 
-    String[] lines = msg.getData().split("\n");
-    if (lines == null || lines.length == 0) {
-      columnDef = null;
-    } else {
-      String[] headerRow = lines[0].split("\t");
-      columnDef = new ColumnDef[headerRow.length];
-      for (int i = 0; i < headerRow.length; i++) {
-        columnDef[i] = new ColumnDef(headerRow[i], ColumnDef.TYPE.STRING);
-      }
+  @Override
+  public ColumnDef[] columns() {
+    ColumnDef[] cols = columnDef;
+    if (cols == null) {
+      cols = parseColumns();
+      columnDef = cols;
+    }
+    return cols;
+  }
+
+  @Override
+  public Iterator<Row> rows() {
+    return new RowIterator();
+  }
 
-      for (int r = 1; r < lines.length; r++) {
-        Object [] row = lines[r].split("\t");
-        rows.add(new Row(row));
+  private ColumnDef[] parseColumns() {
+    String data = msg.getData();
+    int end = dataEnd(data);
+    if (end == 0 && !data.isEmpty()) {
+      // only line separators, no header
+      return null;
+    }
+
+    String[] headerRow = splitFields(data, 0, lineEnd(data, 0, end));
+    ColumnDef.TYPE[] types = new ColumnDef.TYPE[headerRow.length];
+    boolean[] seen = new boolean[headerRow.length];
+    Iterator<Row> it = rows();
+    for (int r = 0; r < TYPE_INFERENCE_ROWS && it.hasNext(); r++) {
+      Object[] row = it.next().get();
+      for (int i = 0; i < types.length && i < row.length; i++) {
+        String value = (String) row[i];
+        if (value.isEmpty()) {
+          continue;
+        }
+        types[i] = seen[i] ? widen(types[i], value) : typeOf(value);
+        seen[i] = true;
       }
     }
+
+    ColumnDef[] cols = new ColumnDef[headerRow.length];
+    for (int i = 0; i < headerRow.length; i++) {
+      cols[i] = new ColumnDef(headerRow[i], types[i] == null ? ColumnDef.TYPE.STRING : types[i]);
+    }
+    return cols;
   }
 
+  private static ColumnDef.TYPE widen(ColumnDef.TYPE type, String value) {
+    switch (type) {
+      case LONG:
+        if (isLong(value)) {
+          return ColumnDef.TYPE.LONG;
+        }
+        return isDouble(value) ? ColumnDef.TYPE.DOUBLE : ColumnDef.TYPE.STRING;
+      case DOUBLE:
+        return isDouble(value) ? ColumnDef.TYPE.DOUBLE : ColumnDef.TYPE.STRING;
+      case DATE:
+        return isDate(value) ? ColumnDef.TYPE.DATE : ColumnDef.TYPE.STRING;
+      default:
+        return ColumnDef.TYPE.STRING;
+    }
+  }
 
-  @Override
-  public ColumnDef[] columns() {
-    return columnDef;
+  private static ColumnDef.TYPE typeOf(String value) {
+    if (isLong(value)) {
+      return ColumnDef.TYPE.LONG;
+    } else if (isDouble(value)) {
+      return ColumnDef.TYPE.DOUBLE;
+    } else if (isDate(value)) {
+      return ColumnDef.TYPE.DATE;
+    } else {
+      return ColumnDef.TYPE.STRING;
+    }
   }
 
-  @Override
-  public Iterator<Row> rows() {
-    return rows.iterator();
+  private static boolean isLong(String value) {
+    try {
+      Long.parseLong(value);
+      return true;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private static boolean isDouble(String value) {
+    try {
+      Double.parseDouble(value);
+      return true;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private static boolean isDate(String value) {
+    // cheap check before parsing, dates start with 'yyyy-'
+    if (value.length() < 10 || value.charAt(4) != '-') {
+      return false;
+    }
+    try {
+      DATE_FORMAT.parse(value);
+      return true;
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+
+  /**
+   * End of the data without trailing line separators, the same lines
+   * String.split("\n") would return.
+   */
+  private static int dataEnd(String data) {
+    int end = data.length();
+    while (end > 0 && data.charAt(end - 1) == '\n') {
+      end--;
+    }
+    return end;
+  }
+
+  private static int lineEnd(String data, int start, int end) {
+    int lineEnd = data.indexOf('\n', start);
+    return (lineEnd < 0 || lineEnd > end) ? end : lineEnd;
+  }
+
+  /**
+   * Split data[start, end) by tab, same result as String.split("\t") on the line.
+   */
+  private static String[] splitFields(String data, int start, int end) {
+    if (start == end) {
+      return new String[]{""};
+    }
+    List<String> fields = new ArrayList<>();
+    int fieldStart = start;
+    for (int i = start; i < end; i++) {
+      // scan char by char, indexOf would look past the end of the line
+      if (data.charAt(i) == '\t') {
+        fields.add(data.substring(fieldStart, i));
+        fieldStart = i + 1;
+      }
+    }
+    fields.add(data.substring(fieldStart, end));
+    // trailing empty fields are removed, as String.split does
+    int size = fields.size();
+    while (size > 0 && fields.get(size - 1).isEmpty()) {
+      size--;
+    }
+    return fields.subList(0, size).toArray(new String[size]);
+  }
+
+  /**
+   * Parses rows from the message data on demand.
+   */
+  private class RowIterator implements Iterator<Row> {
+    private final String data = msg.getData();
+    private final int end = dataEnd(data);
+    private int pos;
+
+    RowIterator() {
+      // skip header
+      int headerEnd = lineEnd(data, 0, end);
+      pos = headerEnd + 1;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return pos <= end;
+    }
+
+    @Override
+    public Row next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int lineEnd = lineEnd(data, pos, end);
+      Object[] row = splitFields(data, pos, lineEnd);
+      pos = lineEnd + 1;
+      return new Row(row);
+    }
   }
 }
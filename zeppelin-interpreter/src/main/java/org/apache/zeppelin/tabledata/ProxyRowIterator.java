@@ -33,8 +33,8 @@ public class ProxyRowIterator implements Iterator<Row> {
 
   @Override
   public boolean hasNext() {
-    rows.invokeMethod("hasNext");
-    return false;
+    // null when the call fails, e.g. the resource is removed from the pool
+    return Boolean.TRUE.equals(rows.invokeMethod("hasNext"));
   }
 
   @Override
@@ -24,6 +24,8 @@ struct RegisterInfo {
   1: string host,
   2: i32 port
   3: string interpreterGroupId
+  4: optional map<string, i64> startupTimes
+  5: optional i64 pid
 }
 
 struct WebUrlInfo {
@@ -118,7 +120,11 @@ service RemoteInterpreterEventService {
   void runParagraphs(1: RunParagraphsEvent event);
 
   void addAngularObject(1: string intpGroupId, 2: string json);
+  // notify that a resource has been put into or removed from the resource pool of intpGroupId
+  void invalidateResource(1: string intpGroupId, 2: string json);
   void updateAngularObject(1: string intpGroupId, 2: string json);
+  // json serialized list of AngularObjects updated within the coalesce interval
+  void updateAngularObjects(1: string intpGroupId, 2: string json);
   void removeAngularObject(1: string intpGroupId, 2: string noteId, 3: string paragraphId, 4: string name);
 
   void sendWebUrl(1: WebUrlInfo weburlInfo);
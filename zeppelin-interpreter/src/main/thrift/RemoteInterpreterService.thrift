@@ -102,6 +102,8 @@ service RemoteInterpreterService {
   void shutdown();
 
   string getStatus(1: string sessionId, 2:string jobId);
+  // json of queue position and wait time of a pending job, used by FairScheduler
+  string getQueueInfo(1: string sessionId, 2: string jobId);
 
   list<string> resourcePoolGetAll();
   // get value of resource
@@ -115,6 +117,8 @@ service RemoteInterpreterService {
   void angularObjectAdd(1: string name, 2: string sessionId, 3: string paragraphId, 4: string object);
   void angularObjectRemove(1: string name, 2: string sessionId, 3: string paragraphId);
   void angularRegistryPush(1: string registry);
+  // drop cached value of a remote resource
+  void resourceInvalidate(1: string json);
 
   RemoteApplicationResult loadApplication(1: string applicationInstanceId, 2: string packageInfo, 3: string sessionId, 4: string paragraphId);
   RemoteApplicationResult unloadApplication(1: string applicationInstanceId);
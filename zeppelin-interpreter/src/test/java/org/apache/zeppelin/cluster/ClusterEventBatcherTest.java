@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClusterEventBatcherTest {
+
+  @Test
+  public void testEncodeDecode() {
+    List<String> messages = Arrays.asList("{\"clusterEvent\":\"BROADCAST_NOTE\"}", "", "中文");
+    byte[] frame = ClusterEventBatcher.encode(messages, 4096);
+    assertEquals(ClusterEventBatcher.FRAME_MAGIC, frame[0]);
+    assertEquals(0, frame[2] & ClusterEventBatcher.FLAG_GZIP);
+    assertEquals(messages, ClusterEventBatcher.decode(frame));
+  }
+
+  @Test
+  public void testCompression() {
+    List<String> messages = Collections.singletonList(StringUtils.repeat("output line\n", 1000));
+    byte[] frame = ClusterEventBatcher.encode(messages, 4096);
+    assertEquals(ClusterEventBatcher.FLAG_GZIP, frame[2] & ClusterEventBatcher.FLAG_GZIP);
+    assertTrue(frame.length < 1000);
+    assertEquals(messages, ClusterEventBatcher.decode(frame));
+
+    // negative threshold disables compression
+    frame = ClusterEventBatcher.encode(messages, -1);
+    assertEquals(0, frame[2] & ClusterEventBatcher.FLAG_GZIP);
+    assertEquals(messages, ClusterEventBatcher.decode(frame));
+  }
+
+  @Test
+  public void testDecodePlainMessage() {
+    // servers without batching send the message itself
+    String message = "{\"clusterEvent\":\"BROADCAST_NOTE\"}";
+    assertEquals(Collections.singletonList(message),
+        ClusterEventBatcher.decode(message.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDecodeUnknownVersion() {
+    ClusterEventBatcher.decode(new byte[]{ClusterEventBatcher.FRAME_MAGIC, 100, 0});
+  }
+
+  @Test
+  public void testBatching() throws InterruptedException {
+    List<String> topics = Collections.synchronizedList(new ArrayList<>());
+    List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    ClusterEventBatcher batcher = new ClusterEventBatcher(200, 4096, (topic, data) -> {
+      topics.add(topic);
+      batches.add(ClusterEventBatcher.decode(data));
+    });
+
+    batcher.send("topic1", "msg1");
+    batcher.send("topic2", "msg2");
+    batcher.send("topic1", "msg3");
+    assertEquals(0, batches.size());
+
+    Thread.sleep(1000);
+    assertEquals(Arrays.asList("topic1", "topic2"), topics);
+    assertEquals(Arrays.asList("msg1", "msg3"), batches.get(0));
+    assertEquals(Collections.singletonList("msg2"), batches.get(1));
+
+    // pending messages are sent on shutdown
+    batcher.send("topic1", "msg4");
+    batcher.shutdown();
+    assertEquals(3, batches.size());
+    assertEquals(Collections.singletonList("msg4"), batches.get(2));
+  }
+
+  @Test
+  public void testNoBatching() {
+    List<List<String>> batches = new ArrayList<>();
+    ClusterEventBatcher batcher = new ClusterEventBatcher(0, 4096,
+        (topic, data) -> batches.add(ClusterEventBatcher.decode(data)));
+    batcher.send("topic1", "msg1");
+    batcher.send("topic1", "msg2");
+    assertEquals(2, batches.size());
+    assertEquals(Collections.singletonList("msg2"), batches.get(1));
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster;
+
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.apache.zeppelin.cluster.meta.ClusterMetaEntity;
+import org.apache.zeppelin.cluster.meta.ClusterMetaType;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.apache.zeppelin.cluster.meta.ClusterMetaOperation.DELETE_OPERATION;
+import static org.apache.zeppelin.cluster.meta.ClusterMetaOperation.PUT_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ClusterMetaUpdateTest {
+
+  @Test
+  public void testMergeClusterMeta() {
+    List<ClusterMetaEntity> entities = Arrays.asList(
+        put("intp1", ClusterMeta.STATUS, ClusterMeta.ONLINE_STATUS),
+        put("intp2", ClusterMeta.STATUS, ClusterMeta.ONLINE_STATUS),
+        put("intp1", ClusterMeta.INTP_MEMORY_USED, 100L),
+        new ClusterMetaEntity(DELETE_OPERATION, ClusterMetaType.INTP_PROCESS_META, "intp2", null),
+        put("intp2", ClusterMeta.STATUS, ClusterMeta.OFFLINE_STATUS));
+
+    ArrayList<ClusterMetaEntity> merged = ClusterManager.mergeClusterMeta(entities);
+    assertEquals(4, merged.size());
+    assertEquals("intp1", merged.get(0).getKey());
+    assertEquals(ClusterMeta.ONLINE_STATUS, merged.get(0).getValues().get(ClusterMeta.STATUS));
+    assertEquals(100L, merged.get(0).getValues().get(ClusterMeta.INTP_MEMORY_USED));
+    // the put after the delete is kept on its own
+    assertEquals(DELETE_OPERATION, merged.get(2).getOperation());
+    assertEquals(PUT_OPERATION, merged.get(3).getOperation());
+    assertEquals(ClusterMeta.OFFLINE_STATUS, merged.get(3).getValues().get(ClusterMeta.STATUS));
+
+    // the entities are not changed by the merge
+    assertEquals(1, entities.get(0).getValues().size());
+    merged.get(3).getValues().put(ClusterMeta.INTP_MEMORY_USED, 200L);
+    assertEquals(1, entities.get(4).getValues().size());
+  }
+
+  @Test
+  public void testApplyClusterMeta() {
+    HashMap<String, HashMap<String, Object>> clusterMeta = new HashMap<>();
+    clusterMeta.put("intp1", new HashMap<>());
+    clusterMeta.get("intp1").put(ClusterMeta.STATUS, ClusterMeta.OFFLINE_STATUS);
+    clusterMeta.get("intp1").put(ClusterMeta.INTP_MEMORY_USED, 100L);
+    clusterMeta.put("intp2", new HashMap<>());
+
+    List<ClusterMetaEntity> pending = Arrays.asList(
+        put("intp1", ClusterMeta.STATUS, ClusterMeta.ONLINE_STATUS),
+        new ClusterMetaEntity(DELETE_OPERATION, ClusterMetaType.INTP_PROCESS_META, "intp2", null),
+        put("intp3", ClusterMeta.STATUS, ClusterMeta.ONLINE_STATUS),
+        new ClusterMetaEntity(PUT_OPERATION, ClusterMetaType.SERVER_META, "intp1", null));
+
+    HashMap<String, HashMap<String, Object>> intp1 = new HashMap<>();
+    intp1.put("intp1", new HashMap<>(clusterMeta.get("intp1")));
+    ClusterManager.applyClusterMeta(intp1, ClusterMetaType.INTP_PROCESS_META, "intp1", pending);
+    assertEquals(1, intp1.size());
+    assertEquals(ClusterMeta.ONLINE_STATUS, intp1.get("intp1").get(ClusterMeta.STATUS));
+    assertEquals(100L, intp1.get("intp1").get(ClusterMeta.INTP_MEMORY_USED));
+
+    ClusterManager.applyClusterMeta(clusterMeta, ClusterMetaType.INTP_PROCESS_META, "", pending);
+    assertEquals(2, clusterMeta.size());
+    assertEquals(ClusterMeta.ONLINE_STATUS, clusterMeta.get("intp1").get(ClusterMeta.STATUS));
+    assertFalse(clusterMeta.containsKey("intp2"));
+    assertEquals(ClusterMeta.ONLINE_STATUS, clusterMeta.get("intp3").get(ClusterMeta.STATUS));
+  }
+
+  @Test
+  public void testHeartbeatSendsChangedFields() {
+    ClusterMonitor monitor = new ClusterMonitor(null);
+
+    HashMap<String, Object> sent = monitor.changedHeartbeatMeta(heartbeat(1000L, 4));
+    assertEquals(4, sent.size());
+
+    // memory within the tolerance and unchanged cpu are not sent
+    sent = monitor.changedHeartbeatMeta(heartbeat(1005L, 4));
+    assertTrue(sent.containsKey(ClusterMeta.LATEST_HEARTBEAT));
+    assertTrue(sent.containsKey(ClusterMeta.STATUS));
+    assertFalse(sent.containsKey(ClusterMeta.MEMORY_USED));
+    assertFalse(sent.containsKey(ClusterMeta.CPU_USED));
+
+    sent = monitor.changedHeartbeatMeta(heartbeat(2000L, 4));
+    assertEquals(2000L, sent.get(ClusterMeta.MEMORY_USED));
+    assertFalse(sent.containsKey(ClusterMeta.CPU_USED));
+
+    // all the fields are sent again periodically
+    for (int i = 3; i < 10; i++) {
+      monitor.changedHeartbeatMeta(heartbeat(2000L, 4));
+    }
+    assertEquals(4, monitor.changedHeartbeatMeta(heartbeat(2000L, 4)).size());
+  }
+
+  private static ClusterMetaEntity put(String key, String field, Object value) {
+    HashMap<String, Object> values = new HashMap<>();
+    values.put(field, value);
+    return new ClusterMetaEntity(PUT_OPERATION, ClusterMetaType.INTP_PROCESS_META, key, values);
+  }
+
+  private static HashMap<String, Object> heartbeat(long memoryUsed, long cpuUsed) {
+    HashMap<String, Object> meta = new HashMap<>();
+    meta.put(ClusterMeta.MEMORY_USED, memoryUsed);
+    meta.put(ClusterMeta.CPU_USED, cpuUsed);
+    meta.put(ClusterMeta.LATEST_HEARTBEAT, LocalDateTime.now());
+    meta.put(ClusterMeta.STATUS, ClusterMeta.ONLINE_STATUS);
+    return meta;
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.cluster.placement;
+
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PlacementEngineTest {
+
+  private static final long GB = 1024L * 1024 * 1024;
+
+  @Test
+  public void testSpreadConcurrentLaunches() {
+    PlacementEngine engine = new PlacementEngine(new SpreadPlacementPolicy(), GB, 60000);
+    Map<String, HashMap<String, Object>> serverMeta = new HashMap<>();
+    serverMeta.put("node1", serverMeta("node1", 10, 10 * GB));
+    serverMeta.put("node2", serverMeta("node2", 10, 10 * GB));
+    serverMeta.put("node3", serverMeta("node3", 10, 10 * GB));
+    Map<String, HashMap<String, Object>> intpMeta = new HashMap<>();
+
+    // heartbeats are not updated between the launches, reservations spread them
+    Map<String, Integer> launches = new HashMap<>();
+    for (int i = 0; i < 6; i++) {
+      HashMap<String, Object> meta = engine.place("intp" + i, serverMeta, intpMeta);
+      launches.merge((String) meta.get(ClusterMeta.NODE_NAME), 1, Integer::sum);
+    }
+    assertEquals(3, launches.size());
+    assertEquals(2, (int) launches.get("node1"));
+    assertEquals(2, (int) launches.get("node2"));
+    assertEquals(2, (int) launches.get("node3"));
+  }
+
+  @Test
+  public void testScoreOnCpuMemoryAndProcesses() {
+    PlacementEngine engine = new PlacementEngine(new SpreadPlacementPolicy(), GB, 60000);
+    Map<String, HashMap<String, Object>> serverMeta = new HashMap<>();
+    // most free memory, but busy cpu
+    serverMeta.put("node1", serverMeta("node1", 90, 6 * GB));
+    serverMeta.put("node2", serverMeta("node2", 20, 4 * GB));
+    Map<String, HashMap<String, Object>> intpMeta = new HashMap<>();
+    assertEquals("node2", nodeName(engine.place("intp1", serverMeta, intpMeta)));
+
+    // running processes count as load, and offline ones don't
+    engine.release("intp1");
+    serverMeta.put("node1", serverMeta("node1", 20, 4 * GB));
+    intpMeta.put("p1", intpMeta("node2", ClusterMeta.ONLINE_STATUS, 0));
+    intpMeta.put("p2", intpMeta("node1", ClusterMeta.OFFLINE_STATUS, 0));
+    assertEquals("node1", nodeName(engine.place("intp1", serverMeta, intpMeta)));
+
+    // reservation of another server, expired reservations are ignored
+    engine.release("intp1");
+    intpMeta.put("p3", intpMeta("node1", ClusterMeta.RESERVED_STATUS,
+        System.currentTimeMillis()));
+    intpMeta.put("p4", intpMeta("node1", ClusterMeta.RESERVED_STATUS,
+        System.currentTimeMillis() - 120000));
+    assertEquals("node2", nodeName(engine.place("intp1", serverMeta, intpMeta)));
+  }
+
+  @Test
+  public void testBinPack() {
+    PlacementEngine engine = new PlacementEngine(new BinPackPlacementPolicy(), 2 * GB, 60000);
+    Map<String, HashMap<String, Object>> serverMeta = new HashMap<>();
+    serverMeta.put("node1", serverMeta("node1", 50, 5 * GB));
+    serverMeta.put("node2", serverMeta("node2", 10, 9 * GB));
+    Map<String, HashMap<String, Object>> intpMeta = new HashMap<>();
+
+    // fill node1 until it has not enough memory left for a reservation
+    assertEquals("node1", nodeName(engine.place("intp1", serverMeta, intpMeta)));
+    assertEquals("node1", nodeName(engine.place("intp2", serverMeta, intpMeta)));
+    assertEquals("node2", nodeName(engine.place("intp3", serverMeta, intpMeta)));
+  }
+
+  @Test
+  public void testAffinity() {
+    PlacementEngine engine = new PlacementEngine(new AffinityPlacementPolicy(), GB, 60000);
+    Map<String, HashMap<String, Object>> serverMeta = new HashMap<>();
+    serverMeta.put("node1", serverMeta("node1", 80, 2 * GB));
+    serverMeta.put("node2", serverMeta("node2", 10, 9 * GB));
+    Map<String, HashMap<String, Object>> intpMeta = new HashMap<>();
+    intpMeta.put("intp1", intpMeta("node1", ClusterMeta.OFFLINE_STATUS, 0));
+
+    assertEquals("node1", nodeName(engine.place("intp1", serverMeta, intpMeta)));
+    assertEquals("node2", nodeName(engine.place("intp2", serverMeta, intpMeta)));
+
+    // previous node has not enough memory
+    engine.release("intp1");
+    serverMeta.put("node1", serverMeta("node1", 80, GB / 2));
+    assertEquals("node2", nodeName(engine.place("intp1", serverMeta, intpMeta)));
+  }
+
+  @Test
+  public void testExpiredReservations() {
+    PlacementEngine engine = new PlacementEngine(new SpreadPlacementPolicy(), GB, 60000);
+    Map<String, HashMap<String, Object>> serverMeta = new HashMap<>();
+    serverMeta.put("node1", serverMeta("node1", 10, 10 * GB));
+    Map<String, HashMap<String, Object>> intpMeta = new HashMap<>();
+    long now = System.currentTimeMillis();
+    intpMeta.put("reserved", intpMeta("node1", ClusterMeta.RESERVED_STATUS, now));
+    intpMeta.put("expired", intpMeta("node1", ClusterMeta.RESERVED_STATUS, now - 120000));
+    // the leader marks a reservation offline after the heartbeat timeout
+    intpMeta.put("expiredOffline", intpMeta("node1", ClusterMeta.OFFLINE_STATUS, now - 120000));
+    intpMeta.put("online", intpMeta("node1", ClusterMeta.ONLINE_STATUS, now - 120000));
+    // a process which was online is not a reservation, even if it is offline now
+    HashMap<String, Object> offline = intpMeta("node1", ClusterMeta.OFFLINE_STATUS, 0);
+    offline.put(ClusterMeta.INTP_TSERVER_HOST, "host1");
+    intpMeta.put("offline", offline);
+
+    List<String> expired = engine.getExpiredReservations(intpMeta);
+    Collections.sort(expired);
+    assertEquals(Arrays.asList("expired", "expiredOffline"), expired);
+
+    // a reservation of this server isn't expired before its launch finishes
+    engine.place("intp1", serverMeta, intpMeta);
+    intpMeta.put("intp1", intpMeta("node1", ClusterMeta.RESERVED_STATUS, now - 120000));
+    assertFalse(engine.getExpiredReservations(intpMeta).contains("intp1"));
+    engine.release("intp1");
+    assertTrue(engine.getExpiredReservations(intpMeta).contains("intp1"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPolicy() {
+    PlacementEngine.createPolicy("org.apache.zeppelin.NoSuchPolicy");
+  }
+
+  private static String nodeName(HashMap<String, Object> meta) {
+    return (String) meta.get(ClusterMeta.NODE_NAME);
+  }
+
+  private static HashMap<String, Object> serverMeta(String nodeName, long cpuUsed,
+                                                    long memoryFree) {
+    HashMap<String, Object> meta = new HashMap<>();
+    meta.put(ClusterMeta.NODE_NAME, nodeName);
+    meta.put(ClusterMeta.STATUS, ClusterMeta.ONLINE_STATUS);
+    meta.put(ClusterMeta.CPU_USED, cpuUsed);
+    meta.put(ClusterMeta.CPU_CAPACITY, 100L);
+    meta.put(ClusterMeta.MEMORY_USED, 10 * GB - memoryFree);
+    meta.put(ClusterMeta.MEMORY_CAPACITY, 10 * GB);
+    return meta;
+  }
+
+  private static HashMap<String, Object> intpMeta(String nodeName, String status,
+                                                  long reservedTime) {
+    HashMap<String, Object> meta = new HashMap<>();
+    meta.put(ClusterMeta.NODE_NAME, nodeName);
+    meta.put(ClusterMeta.STATUS, status);
+    meta.put(ClusterMeta.INTP_RESERVED_TIME, reservedTime);
+    return meta;
+  }
+}
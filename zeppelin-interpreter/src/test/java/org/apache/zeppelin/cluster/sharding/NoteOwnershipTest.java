@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.sharding;
+
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NoteOwnershipTest {
+
+  @Test
+  public void testRingBalanceAndMoves() {
+    ConsistentHashRing ring = new ConsistentHashRing(Arrays.asList("node1", "node2", "node3"),
+        NoteOwnership.VIRTUAL_NODES);
+    ConsistentHashRing grownRing = new ConsistentHashRing(
+        Arrays.asList("node1", "node2", "node3", "node4"), NoteOwnership.VIRTUAL_NODES);
+
+    Map<String, Integer> owned = new HashMap<>();
+    int moved = 0;
+    for (int i = 0; i < 3000; i++) {
+      String noteId = "note" + i;
+      String owner = ring.getOwner(noteId);
+      owned.merge(owner, 1, Integer::sum);
+      String newOwner = grownRing.getOwner(noteId);
+      if (!owner.equals(newOwner)) {
+        // notes only move to the new server
+        assertEquals("node4", newOwner);
+        moved++;
+      }
+    }
+    assertEquals(3, owned.size());
+    for (int count : owned.values()) {
+      assertTrue("unbalanced: " + owned, count > 700 && count < 1300);
+    }
+    assertTrue("moved: " + moved, moved > 450 && moved < 1050);
+  }
+
+  @Test
+  public void testOwnershipOfOnlineServers() {
+    NoteOwnership ownership = new NoteOwnership("node1");
+    AtomicInteger changes = new AtomicInteger();
+    ownership.addListener(o -> changes.incrementAndGet());
+
+    // owns every note before the cluster meta is known
+    assertTrue(ownership.isOwner("note1"));
+    assertNull(ownership.getOwnerMeta("note1"));
+
+    Map<String, HashMap<String, Object>> serverMeta = new HashMap<>();
+    serverMeta.put("node1", serverMeta("node1", ClusterMeta.ONLINE_STATUS));
+    serverMeta.put("node2", serverMeta("node2", ClusterMeta.ONLINE_STATUS));
+    assertTrue(ownership.update(serverMeta));
+    assertFalse(ownership.update(serverMeta));
+    assertEquals(1, changes.get());
+
+    String remoteNote = null;
+    for (int i = 0; remoteNote == null; i++) {
+      if (!ownership.isOwner("note" + i)) {
+        remoteNote = "note" + i;
+      }
+    }
+    assertEquals("node2", ownership.getOwner(remoteNote));
+    assertEquals("node2", ownership.getOwnerMeta(remoteNote).get(ClusterMeta.NODE_NAME));
+
+    // the notes of an offline server are taken over
+    serverMeta.put("node2", serverMeta("node2", ClusterMeta.OFFLINE_STATUS));
+    assertTrue(ownership.update(serverMeta));
+    assertEquals(2, changes.get());
+    assertTrue(ownership.isOwner(remoteNote));
+  }
+
+  private static HashMap<String, Object> serverMeta(String nodeName, String status) {
+    HashMap<String, Object> meta = new HashMap<>();
+    meta.put(ClusterMeta.NODE_NAME, nodeName);
+    meta.put(ClusterMeta.STATUS, status);
+    return meta;
+  }
+}
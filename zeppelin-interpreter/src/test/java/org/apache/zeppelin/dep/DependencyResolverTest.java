@@ -24,12 +24,26 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.sonatype.aether.RepositoryException;
+import org.sonatype.aether.resolution.ArtifactResult;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class DependencyResolverTest {
   private static DependencyResolver resolver;
@@ -114,4 +128,128 @@ public class DependencyResolverTest {
     resolver.load("one.two:1.0", testCopyPath);
   }
 
+  @Test
+  public void testResolutionCacheAndOfflineMode() throws Exception {
+    File fileRepo = new File(tmpDir, "file-repo");
+    deployArtifact(fileRepo, "b", "");
+    deployArtifact(fileRepo, "a", "<dependencies><dependency>" +
+        "<groupId>org.apache.zeppelin.test</groupId><artifactId>b</artifactId>" +
+        "<version>1.0</version></dependency></dependencies>");
+    String localRepo = new File(tmpDir, "cache-repo").getAbsolutePath();
+
+    DependencyResolver online = new DependencyResolver(localRepo);
+    online.delRepo("central");
+    online.delRepo("local");
+    online.addRepo("file", fileRepo.toURI().toString(), false);
+    List<File> files = online.load("org.apache.zeppelin.test:a:1.0");
+    assertEquals(2, files.size());
+    assertEquals(1, online.getResolutionCache().size());
+
+    // a new resolver without any repository serves the cached classpath
+    DependencyResolver offline = new DependencyResolver(localRepo);
+    offline.delRepo("central");
+    offline.delRepo("local");
+    offline.addRepo("file", fileRepo.toURI().toString(), false);
+    offline.setOffline(true);
+    FileUtils.deleteDirectory(fileRepo);
+    assertEquals(files, offline.load("org.apache.zeppelin.test:a:1.0"));
+
+    // not cached
+    try {
+      offline.load("org.apache.zeppelin.test:b:1.0");
+      fail("Should fail to resolve uncached artifact in offline mode");
+    } catch (RepositoryException e) {
+      assertTrue(e.getMessage().contains("offline"));
+    }
+
+    // cached files removed from the local repository
+    FileUtils.forceDelete(files.get(1));
+    try {
+      offline.load("org.apache.zeppelin.test:a:1.0");
+      fail("Should fail to resolve artifact with missing files in offline mode");
+    } catch (RepositoryException e) {
+      assertTrue(e.getMessage().contains("offline"));
+    }
+  }
+
+  @Test
+  public void testConcurrentLoad() throws Exception {
+    File fileRepo = new File(tmpDir, "concurrent-file-repo");
+    deployArtifact(fileRepo, "c", "");
+    deployArtifact(fileRepo, "d", "");
+    deployArtifact(fileRepo, "e", "");
+    AtomicInteger resolving = new AtomicInteger();
+    AtomicInteger maxResolving = new AtomicInteger();
+    AtomicInteger resolutions = new AtomicInteger();
+    CountDownLatch resolveStarted = new CountDownLatch(1);
+    CountDownLatch resolveBlocked = new CountDownLatch(1);
+    DependencyResolver concurrent =
+        new DependencyResolver(new File(tmpDir, "concurrent-repo").getAbsolutePath()) {
+          @Override
+          public List<ArtifactResult> getArtifactsWithDep(String dependency,
+                                                          Collection<String> excludes)
+              throws RepositoryException {
+            maxResolving.accumulateAndGet(resolving.incrementAndGet(), Math::max);
+            resolutions.incrementAndGet();
+            try {
+              if (dependency.endsWith(":e:1.0")) {
+                resolveStarted.countDown();
+                resolveBlocked.await(30, TimeUnit.SECONDS);
+              }
+              return super.getArtifactsWithDep(dependency, excludes);
+            } catch (InterruptedException e) {
+              throw new RepositoryException("interrupted", e);
+            } finally {
+              resolving.decrementAndGet();
+            }
+          }
+        };
+    concurrent.delRepo("central");
+    concurrent.delRepo("local");
+    concurrent.addRepo("file", fileRepo.toURI().toString(), false);
+
+    // resolutions of the same or different artifacts never overlap, and each artifact is
+    // resolved only once
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<File>>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        String artifact = i % 2 == 0 ? "org.apache.zeppelin.test:c:1.0"
+            : "org.apache.zeppelin.test:d:1.0";
+        results.add(executor.submit(() -> concurrent.load(artifact)));
+      }
+      for (Future<List<File>> result : results) {
+        assertEquals(1, result.get(30, TimeUnit.SECONDS).size());
+      }
+      assertEquals(1, maxResolving.get());
+      assertEquals(2, resolutions.get());
+
+      // cached classpaths are served while another artifact is being resolved
+      Future<List<File>> blocked =
+          executor.submit(() -> concurrent.load("org.apache.zeppelin.test:e:1.0"));
+      assertTrue(resolveStarted.await(30, TimeUnit.SECONDS));
+      Future<List<File>> cached =
+          executor.submit(() -> concurrent.load("org.apache.zeppelin.test:c:1.0"));
+      assertEquals(1, cached.get(30, TimeUnit.SECONDS).size());
+      assertFalse(blocked.isDone());
+      resolveBlocked.countDown();
+      assertEquals(1, blocked.get(30, TimeUnit.SECONDS).size());
+      assertEquals(3, resolutions.get());
+    } finally {
+      resolveBlocked.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  private void deployArtifact(File repo, String artifactId, String dependencies)
+      throws Exception {
+    File dir = new File(repo, "org/apache/zeppelin/test/" + artifactId + "/1.0");
+    String pom = "<project><modelVersion>4.0.0</modelVersion>" +
+        "<groupId>org.apache.zeppelin.test</groupId><artifactId>" + artifactId + "</artifactId>" +
+        "<version>1.0</version>" + dependencies + "</project>";
+    FileUtils.writeStringToFile(new File(dir, artifactId + "-1.0.pom"), pom,
+        StandardCharsets.UTF_8);
+    FileUtils.writeStringToFile(new File(dir, artifactId + "-1.0.jar"), artifactId,
+        StandardCharsets.UTF_8);
+  }
 }
@@ -20,6 +20,7 @@ package org.apache.zeppelin.display;
 import org.apache.thrift.TException;
 import org.junit.Test;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
@@ -111,4 +112,57 @@ public class AngularObjectRegistryTest {
     assertEquals(5, registry.getAllWithGlobal("noteId1").size());
   }
 
+  @Test
+  public void testCoalesceUpdates() throws TException {
+    final AtomicInteger onUpdate = new AtomicInteger(0);
+    final AtomicInteger onBatchUpdate = new AtomicInteger(0);
+
+    AngularObjectRegistry registry = new AngularObjectRegistry("intpId",
+        new AngularObjectRegistryListener() {
+
+          @Override
+          public void onAddAngularObject(String interpreterGroupId, AngularObject angularObject) {
+          }
+
+          @Override
+          public void onUpdateAngularObject(String interpreterGroupId, AngularObject angularObject) {
+            onUpdate.incrementAndGet();
+          }
+
+          @Override
+          public void onUpdateAngularObjects(String interpreterGroupId,
+                                             List<AngularObject> angularObjects) {
+            onBatchUpdate.incrementAndGet();
+            assertEquals(2, angularObjects.size());
+            assertEquals("v3", angularObjects.get(0).get());
+          }
+
+          @Override
+          public void onRemoveAngularObject(String interpreterGroupId, AngularObject angularObject) {
+          }
+        });
+    // large interval so that nothing is flushed by the scheduler during the test
+    registry.setUpdateCoalesceInterval(60 * 1000);
+
+    AngularObject ao1 = registry.add("name1", "v0", "note1", null);
+    AngularObject ao2 = registry.add("name2", "v0", "note1", null);
+    AngularObject ao3 = registry.add("name3", "v0", "note1", null);
+    ao1.set("v1");
+    ao1.set("v2");
+    ao2.set("v1");
+    ao3.set("v1");
+    ao1.set("v3");
+    // pending update of a removed object is dropped
+    registry.remove("name3", "note1", null);
+    assertEquals(0, onUpdate.get());
+    assertEquals(0, onBatchUpdate.get());
+
+    registry.flushUpdates();
+    assertEquals(0, onUpdate.get());
+    assertEquals(1, onBatchUpdate.get());
+
+    // nothing left to flush
+    registry.flushUpdates();
+    assertEquals(1, onBatchUpdate.get());
+  }
 }
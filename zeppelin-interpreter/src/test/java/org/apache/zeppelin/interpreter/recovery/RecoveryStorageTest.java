@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.recovery;
+
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.launcher.InterpreterClient;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RecoveryStorageTest {
+
+  @After
+  public void tearDown() {
+    System.clearProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_RECOVERY_TIMEOUT.getVarName());
+  }
+
+  @Test
+  public void testRecover() throws IOException {
+    TestRecoveryStorage recoveryStorage = new TestRecoveryStorage();
+    TestClient client1 = recoveryStorage.addClient("group1", true);
+    recoveryStorage.addClient("group2", false);
+    recoveryStorage.init();
+
+    assertEquals(client1, recoveryStorage.getInterpreterClient("group1"));
+    assertNull(recoveryStorage.getInterpreterClient("group2"));
+    assertNull(recoveryStorage.getInterpreterClient("group3"));
+    // the interpreter process that can't be recovered is removed from storage
+    assertEquals(1, recoveryStorage.stoppedClients.size());
+    assertEquals("group2", recoveryStorage.stoppedClients.get(0).getInterpreterGroupId());
+  }
+
+  @Test
+  public void testRecoverTimeout() throws IOException, InterruptedException {
+    System.setProperty(ZeppelinConfiguration.ConfVars.ZEPPELIN_RECOVERY_TIMEOUT.getVarName(),
+        "100");
+    TestRecoveryStorage recoveryStorage = new TestRecoveryStorage();
+    TestClient client = recoveryStorage.addClient("group1", true);
+    client.recovering = new CountDownLatch(1);
+    recoveryStorage.init();
+
+    try {
+      assertNull(recoveryStorage.getInterpreterClient("group1"));
+      assertEquals(1, recoveryStorage.stoppedClients.size());
+      // the interpreter process which is not recovered in time is stopped
+      assertTrue(client.stopped.await(10, TimeUnit.SECONDS));
+    } finally {
+      client.recovering.countDown();
+    }
+  }
+
+  private static class TestRecoveryStorage extends RecoveryStorage {
+    private final Map<String, InterpreterClient> clients = new HashMap<>();
+    private final List<InterpreterClient> stoppedClients = new ArrayList<>();
+
+    TestRecoveryStorage() {
+      super(ZeppelinConfiguration.create());
+    }
+
+    TestClient addClient(String interpreterGroupId, boolean running) {
+      TestClient client = new TestClient(interpreterGroupId, running);
+      clients.put(interpreterGroupId, client);
+      return client;
+    }
+
+    @Override
+    public void onInterpreterClientStart(InterpreterClient client) {
+    }
+
+    @Override
+    public synchronized void onInterpreterClientStop(InterpreterClient client) {
+      stoppedClients.add(client);
+    }
+
+    @Override
+    public Map<String, InterpreterClient> restore() {
+      return clients;
+    }
+  }
+
+  private static class TestClient implements InterpreterClient {
+    private final String interpreterGroupId;
+    private final boolean running;
+    private volatile CountDownLatch recovering;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    TestClient(String interpreterGroupId, boolean running) {
+      this.interpreterGroupId = interpreterGroupId;
+      this.running = running;
+    }
+
+    @Override
+    public String getInterpreterGroupId() {
+      return interpreterGroupId;
+    }
+
+    @Override
+    public String getInterpreterSettingName() {
+      return "test";
+    }
+
+    @Override
+    public void start(String userName) {
+    }
+
+    @Override
+    public void stop() {
+      stopped.countDown();
+    }
+
+    @Override
+    public String getHost() {
+      return "localhost";
+    }
+
+    @Override
+    public int getPort() {
+      return 0;
+    }
+
+    @Override
+    public boolean isRunning() {
+      return running;
+    }
+
+    @Override
+    public boolean recover() {
+      if (recovering != null) {
+        try {
+          recovering.await();
+        } catch (InterruptedException e) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
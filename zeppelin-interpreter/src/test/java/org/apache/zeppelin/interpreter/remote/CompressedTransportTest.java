@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TTransport;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompressedTransportTest {
+
+  private static final String LARGE_VALUE = StringUtils.repeat("key\tvalue\n", 10000);
+
+  @Test
+  public void testCompressedClient() throws TException {
+    CompressedTransport.Factory factory =
+        new CompressedTransport.Factory(CompressedTransport.Codec.DEFLATE, 1, 1024);
+    TMemoryBuffer wire = new TMemoryBuffer(1024);
+    TTransport clientTransport = factory.getClientTransport(wire);
+    TTransport serverTransport = factory.getTransport(wire);
+    // input and output transport of the server share the same instance
+    assertTrue(serverTransport == factory.getTransport(wire));
+
+    writeMessage(new TBinaryProtocol(clientTransport), "request", LARGE_VALUE);
+    assertEquals(CompressedTransport.MAGIC, wire.getArray()[0]);
+    assertTrue(wire.length() < LARGE_VALUE.length() / 10);
+    assertEquals(LARGE_VALUE, readMessage(new TBinaryProtocol(serverTransport), "request"));
+
+    // small message is not compressed
+    writeMessage(new TBinaryProtocol(clientTransport), "request", "small");
+    assertEquals("small", readMessage(new TBinaryProtocol(serverTransport), "request"));
+
+    // server replies with compression as the client sent frames
+    writeMessage(new TBinaryProtocol(serverTransport), "response", LARGE_VALUE);
+    assertEquals(LARGE_VALUE, readMessage(new TBinaryProtocol(clientTransport), "response"));
+  }
+
+  @Test
+  public void testPlainClient() throws TException {
+    CompressedTransport.Factory factory =
+        new CompressedTransport.Factory(CompressedTransport.Codec.DEFLATE, 1, 1024);
+    TMemoryBuffer wire = new TMemoryBuffer(1024);
+    TTransport serverTransport = factory.getTransport(wire);
+    factory.getTransport(wire);
+
+    // client without compression talks plain thrift
+    writeMessage(new TBinaryProtocol(wire), "request", LARGE_VALUE);
+    assertEquals(LARGE_VALUE, readMessage(new TBinaryProtocol(serverTransport), "request"));
+
+    // server replies without compression as the client doesn't support it
+    int offset = wire.length();
+    writeMessage(new TBinaryProtocol(serverTransport), "response", LARGE_VALUE);
+    assertNotEquals(CompressedTransport.MAGIC, wire.getArray()[offset]);
+    assertEquals(LARGE_VALUE, readMessage(new TBinaryProtocol(wire), "response"));
+  }
+
+  @Test
+  public void testServerTransportOfConnection() {
+    CompressedTransport.Factory factory =
+        new CompressedTransport.Factory(CompressedTransport.Codec.DEFLATE, 1, 1024);
+    TMemoryBuffer wire = new TMemoryBuffer(1024);
+    TTransport serverTransport = factory.getTransport(wire);
+    // the connection is wrapped once, however many times it's asked for
+    assertTrue(serverTransport == factory.getTransport(wire));
+    assertTrue(serverTransport == factory.getTransport(wire));
+    assertTrue(serverTransport == factory.getTransport(serverTransport));
+    assertTrue(serverTransport != factory.getTransport(new TMemoryBuffer(1024)));
+    assertEquals(2, factory.getServerTransportCount());
+
+    // and released when it's closed
+    serverTransport.close();
+    serverTransport.close();
+    assertEquals(1, factory.getServerTransportCount());
+    assertTrue(serverTransport != factory.getTransport(wire));
+  }
+
+  @Test
+  public void testDisabled() {
+    CompressedTransport.Factory factory =
+        new CompressedTransport.Factory(CompressedTransport.Codec.NONE, 1, 1024);
+    TMemoryBuffer wire = new TMemoryBuffer(1024);
+    assertTrue(wire == factory.getClientTransport(wire));
+  }
+
+  private void writeMessage(TProtocol protocol, String name, String value) throws TException {
+    protocol.writeMessageBegin(new TMessage(name, TMessageType.CALL, 1));
+    protocol.writeString(value);
+    protocol.writeMessageEnd();
+    protocol.getTransport().flush();
+  }
+
+  private String readMessage(TProtocol protocol, String name) throws TException {
+    TMessage message = protocol.readMessageBegin();
+    assertEquals(name, message.name);
+    String value = protocol.readString();
+    protocol.readMessageEnd();
+    return value;
+  }
+}
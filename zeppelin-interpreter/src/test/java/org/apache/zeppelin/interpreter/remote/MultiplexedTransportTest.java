@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.thrift.RegisterInfo;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class MultiplexedTransportTest {
+
+  private RemoteInterpreterEventService.Iface handler;
+  private TServer server;
+  private Thread serverThread;
+  private MultiplexedTransport transport;
+
+  @Before
+  public void setUp() throws IOException, InterruptedException {
+    System.setProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_MULTIPLEXED_ENABLED.getVarName(),
+        "true");
+    ZeppelinConfiguration zConf = ZeppelinConfiguration.create();
+    handler = mock(RemoteInterpreterEventService.Iface.class);
+    TServerTransport serverTransport = ThriftServerFactory.createServerTransport(zConf, ":");
+    int port = ThriftServerFactory.getPort(serverTransport);
+    server = ThriftServerFactory.createServer(zConf, "MultiplexedServer", serverTransport,
+        new RemoteInterpreterEventService.Processor<>(handler));
+    serverThread = new Thread(server::serve);
+    serverThread.start();
+    while (!server.isServing()) {
+      Thread.sleep(10);
+    }
+    transport = new MultiplexedTransport("MultiplexedTransportTest", () -> {
+      TSocket socket = new TSocket("localhost", port);
+      try {
+        socket.open();
+      } catch (TTransportException e) {
+        throw new IOException(e);
+      }
+      return socket;
+    });
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    transport.close();
+    server.stop();
+    serverThread.join(10 * 1000);
+    System.clearProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_MULTIPLEXED_ENABLED.getVarName());
+  }
+
+  @Test
+  public void testOutOfOrderResponses() throws Exception {
+    CountDownLatch released = new CountDownLatch(1);
+    // the call of group1 blocks until the call of group2 is processed
+    doAnswer(invocation -> {
+      RegisterInfo registerInfo = (RegisterInfo) invocation.getArguments()[0];
+      if (registerInfo.getInterpreterGroupId().equals("group1")) {
+        assertTrue(released.await(10, TimeUnit.SECONDS));
+      } else {
+        released.countDown();
+      }
+      return null;
+    }).when(handler).registerInterpreterProcess(any(RegisterInfo.class));
+
+    RemoteInterpreterEventService.Client client1 =
+        new RemoteInterpreterEventService.Client(new TBinaryProtocol(transport.openStream()));
+    RemoteInterpreterEventService.Client client2 =
+        new RemoteInterpreterEventService.Client(new TBinaryProtocol(transport.openStream()));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> call1 = executor.submit(() -> {
+        client1.registerInterpreterProcess(new RegisterInfo("localhost", 1, "group1"));
+        return null;
+      });
+      client2.registerInterpreterProcess(new RegisterInfo("localhost", 2, "group2"));
+      assertNull(call1.get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // both calls went through the same connection
+    assertEquals(1L, ThriftServerFactory.getStats().get("MultiplexedServer").get("connections"));
+    assertEquals(2L, ThriftServerFactory.getStats().get("MultiplexedServer").get("requests"));
+  }
+
+  @Test
+  public void testConnectionFailure() throws Exception {
+    CountDownLatch called = new CountDownLatch(1);
+    CountDownLatch finished = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      called.countDown();
+      finished.await(10, TimeUnit.SECONDS);
+      return null;
+    }).when(handler).registerInterpreterProcess(any(RegisterInfo.class));
+
+    RemoteInterpreterEventService.Client client =
+        new RemoteInterpreterEventService.Client(new TBinaryProtocol(transport.openStream()));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> call = executor.submit(() -> {
+        client.registerInterpreterProcess(new RegisterInfo("localhost", 1, "group1"));
+        return null;
+      });
+      assertTrue(called.await(10, TimeUnit.SECONDS));
+      // the call in flight fails instead of waiting for a response which never comes
+      server.stop();
+      serverThread.join(10 * 1000);
+      try {
+        call.get(10, TimeUnit.SECONDS);
+        fail("Call should fail when the connection is closed");
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof TException);
+      }
+      assertFalse(client.getInputProtocol().getTransport().isOpen());
+    } finally {
+      finished.countDown();
+      executor.shutdownNow();
+    }
+  }
+}
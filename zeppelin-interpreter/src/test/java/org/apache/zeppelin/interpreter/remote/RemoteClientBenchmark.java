@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.thrift.RegisterInfo;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the pooled connections of interpreter RPC with the multiplexed connection of
+ * {@link MultiplexedTransport}. It is not run by the build, run it with
+ * <pre>
+ * mvn -pl zeppelin-interpreter test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=org.apache.zeppelin.interpreter.remote.RemoteClientBenchmark \
+ *   -Dexec.args="32 2000 1"
+ * </pre>
+ * The arguments are the number of concurrent callers, the number of calls of each caller and
+ * the time in ms each call spends on the server. Throughput, p50 and p99 latency and the number
+ * of connections opened to the server are printed for each mode.
+ */
+public class RemoteClientBenchmark {
+
+  private static final String SERVER_NAME = "RemoteClientBenchmark";
+
+  public static void main(String[] args) throws Exception {
+    int callers = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+    int calls = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+    long workMs = args.length > 2 ? Long.parseLong(args[2]) : 1;
+
+    // warm up
+    run(false, callers, calls / 10, workMs);
+    run(true, callers, calls / 10, workMs);
+
+    System.out.println(String.format("%d callers, %d calls each, %d ms per call",
+        callers, calls, workMs));
+    System.out.println(String.format("%-12s %12s %10s %10s %12s",
+        "mode", "calls/s", "p50 ms", "p99 ms", "connections"));
+    for (boolean multiplexed : new boolean[]{false, true}) {
+      System.out.println(run(multiplexed, callers, calls, workMs));
+    }
+    System.exit(0);
+  }
+
+  private static String run(boolean multiplexed, int callers, int calls, long workMs)
+      throws Exception {
+    System.setProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_MULTIPLEXED_ENABLED.getVarName(),
+        String.valueOf(multiplexed));
+    ZeppelinConfiguration zConf = ZeppelinConfiguration.create();
+    RemoteInterpreterEventService.Iface handler = (RemoteInterpreterEventService.Iface)
+        Proxy.newProxyInstance(RemoteClientBenchmark.class.getClassLoader(),
+            new Class[]{RemoteInterpreterEventService.Iface.class},
+            (proxy, method, methodArgs) -> {
+              if (workMs > 0) {
+                Thread.sleep(workMs);
+              }
+              return null;
+            });
+    TServerTransport serverTransport = ThriftServerFactory.createServerTransport(zConf, ":");
+    int port = ThriftServerFactory.getPort(serverTransport);
+    TServer server = ThriftServerFactory.createServer(zConf, SERVER_NAME, serverTransport,
+        new RemoteInterpreterEventService.Processor<>(handler));
+    Thread serverThread = new Thread(server::serve);
+    serverThread.start();
+    while (!server.isServing()) {
+      Thread.sleep(10);
+    }
+
+    RemoteInterpreterEventClient client = new RemoteInterpreterEventClient("localhost", port);
+    RegisterInfo registerInfo = new RegisterInfo("localhost", port, "group");
+    ExecutorService executor = Executors.newFixedThreadPool(callers);
+    long[] latencies = new long[callers * calls];
+    Object connections;
+    long elapsed;
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      long start = System.nanoTime();
+      for (int i = 0; i < callers; i++) {
+        int offset = i * calls;
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < calls; j++) {
+            long callStart = System.nanoTime();
+            client.callRemoteFunction(c -> {
+              c.registerInterpreterProcess(registerInfo);
+              return null;
+            });
+            latencies[offset + j] = System.nanoTime() - callStart;
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      elapsed = System.nanoTime() - start;
+      connections = ThriftServerFactory.getStats().get(SERVER_NAME).get("connections");
+    } finally {
+      executor.shutdownNow();
+      client.shutdown();
+      server.stop();
+      serverThread.join();
+    }
+
+    Arrays.sort(latencies);
+    return String.format("%-12s %12.0f %10.2f %10.2f %12s",
+        multiplexed ? "multiplexed" : "pooled",
+        latencies.length / (elapsed / 1e9),
+        percentile(latencies, 0.50),
+        percentile(latencies, 0.99),
+        connections);
+  }
+
+  private static double percentile(long[] sortedLatencies, double p) {
+    int index = (int) Math.ceil(p * sortedLatencies.length) - 1;
+    return sortedLatencies[Math.max(index, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.thrift.RegisterInfo;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ThriftServerFactoryTest {
+
+  @After
+  public void tearDown() {
+    System.clearProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_NONBLOCKING_ENABLED.getVarName());
+  }
+
+  @Test
+  public void testBlockingServer() throws IOException, TException, InterruptedException {
+    ZeppelinConfiguration zConf = ZeppelinConfiguration.create();
+    Map<String, Object> stats = callServer(zConf, "BlockingServer");
+    assertEquals("blocking", stats.get("mode"));
+  }
+
+  @Test
+  public void testNonblockingServer() throws IOException, TException, InterruptedException {
+    System.setProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_NONBLOCKING_ENABLED.getVarName(),
+        "true");
+    ZeppelinConfiguration zConf = ZeppelinConfiguration.create();
+    Map<String, Object> stats = callServer(zConf, "NonblockingServer");
+    assertEquals("nonblocking", stats.get("mode"));
+    // worker pool is released with the server
+    assertFalse(ExecutorFactory.singleton().getStats().containsKey("NonblockingServer-"));
+  }
+
+  /**
+   * Call the server twice through the client transport of zConf, return the stats of the server
+   * taken before it is stopped.
+   */
+  private Map<String, Object> callServer(ZeppelinConfiguration zConf, String name)
+      throws IOException, TException, InterruptedException {
+    RemoteInterpreterEventService.Iface handler = mock(RemoteInterpreterEventService.Iface.class);
+    TServerTransport serverTransport = ThriftServerFactory.createServerTransport(zConf, ":");
+    int port = ThriftServerFactory.getPort(serverTransport);
+    TServer server = ThriftServerFactory.createServer(zConf, name, serverTransport,
+        new RemoteInterpreterEventService.Processor<>(handler));
+    Thread serverThread = new Thread(server::serve);
+    serverThread.start();
+
+    Map<String, Object> stats;
+    TTransport transport = CompressedTransport.Factory.create(zConf)
+        .getClientTransport(new TSocket("localhost", port));
+    try {
+      transport.open();
+      RemoteInterpreterEventService.Client client =
+          new RemoteInterpreterEventService.Client(new TBinaryProtocol(transport));
+      RegisterInfo registerInfo = new RegisterInfo("localhost", 1234, "group");
+      client.registerInterpreterProcess(registerInfo);
+      client.registerInterpreterProcess(registerInfo);
+      verify(handler, times(2)).registerInterpreterProcess(registerInfo);
+
+      stats = ThriftServerFactory.getStats().get(name);
+      assertEquals(port, stats.get("port"));
+      assertEquals(1, stats.get("openConnections"));
+      assertEquals(1L, stats.get("connections"));
+      assertTrue((Long) stats.get("requests") >= 2);
+    } finally {
+      transport.close();
+      server.stop();
+      serverThread.join(10 * 1000);
+    }
+    assertFalse(server.isServing());
+    assertFalse(ThriftServerFactory.getStats().containsKey(name));
+    return stats;
+  }
+}
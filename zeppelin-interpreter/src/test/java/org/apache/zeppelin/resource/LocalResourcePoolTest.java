@@ -16,11 +16,25 @@
  */
 package org.apache.zeppelin.resource;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -48,4 +62,142 @@ public class LocalResourcePoolTest {
     assertNotNull(pool.remove("item1"));
     assertNull(pool.remove("item1"));
   }
+
+  @Rule
+  public TemporaryFolder tmpDir = new TemporaryFolder();
+
+  @Test
+  public void testEvictLeastRecentlyUsed() throws Exception {
+    File spillDir = tmpDir.newFolder("spill");
+    // each value takes about 2KB
+    LocalResourcePool pool = new LocalResourcePool("pool1", 5000, spillDir);
+    pool.put("item1", repeat('a', 1000));
+    pool.put("item2", repeat('b', 1000));
+    assertEquals(0, pool.getEvictionCount());
+
+    // access item1, so item2 becomes the least recently used one
+    pool.get("item1");
+    pool.put("item3", repeat('c', 1000));
+    assertEquals(1, pool.getEvictionCount());
+    assertEquals(1, spillDir.list().length);
+    assertTrue(pool.getMemoryUsed() <= 5000);
+
+    // reload item2 transparently, item1 is evicted instead
+    assertEquals(repeat('b', 1000), pool.get("item2").get());
+    assertEquals(1, pool.getReloadCount());
+    assertEquals(2, pool.getEvictionCount());
+    assertEquals(1, spillDir.list().length);
+    assertEquals(3, pool.getAll().size());
+
+    // removing a spilled resource deletes its spill file
+    assertEquals(repeat('a', 1000), pool.remove("item1").get());
+    assertEquals(0, spillDir.list().length);
+    assertEquals(2, pool.getMetrics().get("resources").longValue());
+  }
+
+  @Test
+  public void testReloadThroughResourceHandle() throws Exception {
+    File spillDir = tmpDir.newFolder("spill");
+    LocalResourcePool pool = new LocalResourcePool("pool1", 3000, spillDir);
+    pool.put("item1", repeat('a', 1000));
+    Resource resource = pool.get("item1");
+
+    pool.put("item2", repeat('b', 1000));
+    assertTrue(resource.isSpilled());
+    assertEquals(repeat('a', 1000), resource.get());
+    assertFalse(resource.isSpilled());
+  }
+
+  @Test
+  public void testSpillDoesNotBlockPool() throws Exception {
+    File spillDir = tmpDir.newFolder("spill");
+    LocalResourcePool pool = new LocalResourcePool("pool1", 3000, spillDir);
+    pool.put("item1", new BlockingValue(repeat('a', 1000)));
+    BlockingValue.writing = new CountDownLatch(1);
+    BlockingValue.proceed = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      // item1 is spilled by this put, which blocks on writing the spill file
+      Future<?> put = executor.submit(() -> pool.put("item2", repeat('b', 1000)));
+      assertTrue(BlockingValue.writing.await(10, TimeUnit.SECONDS));
+
+      // the pool can still be used meanwhile
+      assertEquals(repeat('b', 1000),
+          executor.submit(() -> pool.get("item2").get()).get(10, TimeUnit.SECONDS));
+      assertEquals(2, pool.getAll().size());
+      assertEquals(1, pool.getMetrics().get("spilledResources").longValue());
+
+      BlockingValue.proceed.countDown();
+      put.get(10, TimeUnit.SECONDS);
+      assertEquals(1, pool.getEvictionCount());
+      assertEquals(1, spillDir.list().length);
+    } finally {
+      BlockingValue.proceed.countDown();
+      BlockingValue.writing = null;
+      executor.shutdownNow();
+    }
+
+    assertEquals(repeat('a', 1000), ((BlockingValue) pool.get("item1").get()).value);
+    assertEquals(1, pool.getReloadCount());
+  }
+
+  @Test
+  public void testCloseDeletesSpillFiles() throws Exception {
+    File spillDir = tmpDir.newFolder("spill");
+    LocalResourcePool pool = new LocalResourcePool("pool1", 3000, spillDir);
+    pool.put("item1", repeat('a', 1000));
+    pool.put("item2", repeat('b', 1000));
+    assertEquals(1, spillDir.list().length);
+
+    pool.close();
+    assertFalse(spillDir.exists());
+  }
+
+  @Test
+  public void testPinNonSerializableResource() throws Exception {
+    File spillDir = tmpDir.newFolder("spill");
+    LocalResourcePool pool = new LocalResourcePool("pool1", 10, spillDir);
+    Object notSerializable = new Object();
+    pool.put("item1", notSerializable);
+    pool.put("item2", repeat('a', 100));
+
+    assertSame(notSerializable, pool.get("item1").get());
+    assertEquals(1, pool.getMetrics().get("pinnedResources").longValue());
+  }
+
+  /**
+   * Value which blocks on serialization, while it's armed.
+   */
+  private static class BlockingValue implements Serializable {
+    private static volatile CountDownLatch writing;
+    private static volatile CountDownLatch proceed;
+
+    private final String value;
+
+    BlockingValue(String value) {
+      this.value = value;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      CountDownLatch latch = writing;
+      if (latch != null) {
+        latch.countDown();
+        try {
+          proceed.await();
+        } catch (InterruptedException e) {
+          throw new IOException(e);
+        }
+      }
+      out.defaultWriteObject();
+    }
+  }
+
+  private String repeat(char c, int n) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < n; i++) {
+      sb.append(c);
+    }
+    return sb.toString();
+  }
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ExecutorFactoryTest {
+
+  @After
+  public void tearDown() {
+    ExecutorFactory.singleton().shutdownNow("ExecutorFactoryTest-");
+    System.clearProperty("zeppelin.executor.ExecutorFactoryTest.threads");
+    System.clearProperty("zeppelin.executor.ExecutorFactoryTest.queueSize");
+  }
+
+  @Test
+  public void testConfigAndStats() throws InterruptedException {
+    System.setProperty("zeppelin.executor.ExecutorFactoryTest.threads", "1");
+    System.setProperty("zeppelin.executor.ExecutorFactoryTest.queueSize", "1");
+    ExecutorService executor = ExecutorFactory.singleton().createOrGet("ExecutorFactoryTest-", 5);
+
+    CountDownLatch latch = new CountDownLatch(1);
+    executor.submit(() -> {
+      latch.await();
+      return null;
+    });
+    executor.submit(() -> { });
+    try {
+      executor.submit(() -> { });
+      fail("Task should be rejected when the queue is full");
+    } catch (RejectedExecutionException e) {
+      // expected
+    }
+
+    Map<String, Object> stats = ExecutorFactory.singleton().getStats().get("ExecutorFactoryTest-");
+    assertEquals(1, stats.get("maxPoolSize"));
+    assertEquals(1, stats.get("queued"));
+    assertEquals(1L, stats.get("rejected"));
+    assertEquals("abort", stats.get("rejectionPolicy"));
+    latch.countDown();
+
+    ExecutorFactory.singleton().shutdownNow("ExecutorFactoryTest-");
+    assertFalse(ExecutorFactory.singleton().getStats().containsKey("ExecutorFactoryTest-"));
+  }
+
+  @Test
+  public void testInvalidConfig() {
+    System.setProperty("zeppelin.executor.ExecutorFactoryTest.threads", "two");
+    System.setProperty("zeppelin.executor.ExecutorFactoryTest.queueSize", "");
+    ExecutorFactory.singleton().createOrGet("ExecutorFactoryTest-", 2);
+
+    Map<String, Object> stats = ExecutorFactory.singleton().getStats().get("ExecutorFactoryTest-");
+    assertEquals(2, stats.get("maxPoolSize"));
+  }
+
+  @Test
+  public void testScheduledPoolOfExistingName() {
+    ExecutorFactory.singleton().createOrGet("ExecutorFactoryTest-", 1);
+    try {
+      ExecutorFactory.singleton().createOrGetScheduled("ExecutorFactoryTest-", 1);
+      fail("Fixed size pool should not be returned as scheduled pool");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().contains("ExecutorFactoryTest-"));
+    }
+  }
+}
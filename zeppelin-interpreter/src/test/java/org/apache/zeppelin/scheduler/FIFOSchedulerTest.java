@@ -80,4 +80,60 @@ public class FIFOSchedulerTest extends TestCase {
     assertEquals(null, job2.getReturn());
     s.stop();
   }
+
+  @Test
+  public void testPriority() throws InterruptedException {
+    Scheduler s = schedulerSvc.createOrGetFIFOScheduler("test");
+
+    Job job1 = new SleepingJob("job1", null, 500);
+    Job cronJob = new SleepingJob("cronJob", null, 500);
+    cronJob.setPriority(Job.Priority.CRON);
+    Job restJob = new SleepingJob("restJob", null, 500);
+    restJob.setPriority(Job.Priority.REST);
+    Job interactiveJob = new SleepingJob("interactiveJob", null, 500);
+
+    s.submit(job1);
+    Thread.sleep(100);
+    s.submit(cronJob);
+    s.submit(restJob);
+    s.submit(interactiveJob);
+
+    Thread.sleep(600);
+    assertEquals(Status.FINISHED, job1.getStatus());
+    assertEquals(Status.RUNNING, interactiveJob.getStatus());
+    assertEquals(Status.PENDING, restJob.getStatus());
+    assertEquals(Status.PENDING, cronJob.getStatus());
+
+    // cancel pending job removes it from the queue
+    restJob.abort();
+    assertEquals(Status.ABORT, restJob.getStatus());
+    assertNull(s.getJob(restJob.getId()));
+
+    Thread.sleep(500);
+    assertEquals(Status.RUNNING, cronJob.getStatus());
+    s.stop();
+  }
+
+  @Test
+  public void testMaxQueueSize() throws InterruptedException {
+    AbstractScheduler s = (AbstractScheduler) schedulerSvc.createOrGetFIFOScheduler("test");
+    s.setMaxQueueSize(1);
+
+    Job job1 = new SleepingJob("job1", null, 500);
+    Job job2 = new SleepingJob("job2", null, 500);
+    Job job3 = new SleepingJob("job3", null, 500);
+
+    s.submit(job1);
+    Thread.sleep(100);
+    s.submit(job2);
+    try {
+      s.submit(job3);
+      fail("job3 should be rejected because the queue is full");
+    } catch (JobRejectedException e) {
+      assertEquals(Status.READY, job3.getStatus());
+    }
+    assertEquals(Status.RUNNING, job1.getStatus());
+    assertEquals(Status.PENDING, job2.getStatus());
+    s.stop();
+  }
 }
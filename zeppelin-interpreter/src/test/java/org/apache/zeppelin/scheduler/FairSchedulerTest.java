@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import junit.framework.TestCase;
+import org.apache.zeppelin.scheduler.Job.Status;
+import org.junit.Test;
+
+import java.util.HashMap;
+
+public class FairSchedulerTest extends TestCase {
+
+  private SchedulerFactory schedulerSvc;
+
+  @Override
+  public void setUp() throws Exception {
+    schedulerSvc = new SchedulerFactory();
+  }
+
+  @Override
+  public void tearDown() {
+    schedulerSvc.destroy();
+  }
+
+  @Test
+  public void testFairShare() throws InterruptedException {
+    // job group is the user prefix of the job name
+    FairScheduler s = (FairScheduler) schedulerSvc.createOrGetFairScheduler("test", 1,
+        job -> job.getJobName().split("-")[0], new HashMap<>());
+
+    Job user1Job1 = new SleepingJob("user1-1", null, 500);
+    Job user1Job2 = new SleepingJob("user1-2", null, 100);
+    Job user1Job3 = new SleepingJob("user1-3", null, 100);
+    Job user1Job4 = new SleepingJob("user1-4", null, 100);
+    Job user2Job1 = new SleepingJob("user2-1", null, 100);
+    s.submit(user1Job1);
+    s.submit(user1Job2);
+    s.submit(user1Job3);
+    s.submit(user1Job4);
+    s.submit(user2Job1);
+    Thread.sleep(200);
+
+    assertEquals(Status.RUNNING, user1Job1.getStatus());
+    assertEquals(Status.PENDING, user2Job1.getStatus());
+    // user2 doesn't need to wait for all the jobs of user1
+    assertEquals(0, s.getQueuePosition(user1Job2.getId()));
+    assertEquals(1, s.getQueuePosition(user2Job1.getId()));
+    assertEquals(2, s.getQueuePosition(user1Job3.getId()));
+    assertEquals(3, s.getQueuePosition(user1Job4.getId()));
+    assertEquals(-1, s.getQueuePosition(user1Job1.getId()));
+    assertEquals("user2", s.getQueueGroup(user2Job1.getId()));
+    assertEquals(3, (long) s.getQueueStats().get("user1").get("pendingJobs"));
+    assertTrue(s.getQueueStats().get("user2").get("currentWaitTime") >= 100);
+
+    Thread.sleep(1000);
+    assertEquals(Status.FINISHED, user1Job4.getStatus());
+    assertEquals(Status.FINISHED, user2Job1.getStatus());
+    assertTrue(user2Job1.getDateStarted().before(user1Job3.getDateStarted()));
+    // queues of the drained groups are removed
+    assertTrue(s.getQueueStats().isEmpty());
+  }
+
+  @Test
+  public void testWeight() throws InterruptedException {
+    HashMap<String, Integer> weights = new HashMap<>();
+    weights.put("user1", 2);
+    FairScheduler s = (FairScheduler) schedulerSvc.createOrGetFairScheduler("test", 1,
+        job -> job.getJobName().split("-")[0], weights);
+
+    Job user3Job1 = new SleepingJob("user3-1", null, 500);
+    Job user2Job1 = new SleepingJob("user2-1", null, 100);
+    Job user2Job2 = new SleepingJob("user2-2", null, 100);
+    Job user1Job1 = new SleepingJob("user1-1", null, 100);
+    Job user1Job2 = new SleepingJob("user1-2", null, 100);
+    Job user1Job3 = new SleepingJob("user1-3", null, 100);
+    s.submit(user3Job1);
+    s.submit(user2Job1);
+    s.submit(user2Job2);
+    s.submit(user1Job1);
+    s.submit(user1Job2);
+    s.submit(user1Job3);
+    Thread.sleep(200);
+
+    assertEquals(Status.RUNNING, user3Job1.getStatus());
+    // user1 runs 2 jobs per round
+    assertEquals(0, s.getQueuePosition(user2Job1.getId()));
+    assertEquals(1, s.getQueuePosition(user1Job1.getId()));
+    assertEquals(2, s.getQueuePosition(user1Job2.getId()));
+    assertEquals(3, s.getQueuePosition(user2Job2.getId()));
+    assertEquals(4, s.getQueuePosition(user1Job3.getId()));
+
+    s.cancel(user1Job3.getId());
+    assertEquals(-1, s.getQueuePosition(user1Job3.getId()));
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.tabledata;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the lazy parsing of {@link InterpreterResultTableData} with splitting the whole
+ * message into rows up front, as it was done before. It is not run by the build, run it with
+ * <pre>
+ * mvn -pl zeppelin-interpreter test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=org.apache.zeppelin.tabledata.InterpreterResultTableDataBenchmark \
+ *   -Dexec.args="1000000 8 5"
+ * </pre>
+ * The arguments are the number of rows, the number of columns and the number of runs. The time
+ * to the first row, the time to iterate all the rows and the bytes allocated are printed for
+ * each mode, as the median of the runs.
+ */
+public class InterpreterResultTableDataBenchmark {
+
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  public static void main(String[] args) {
+    int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+    int columns = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+    int runs = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+    InterpreterResultMessage msg = new InterpreterResultMessage(
+        InterpreterResult.Type.TABLE, createData(rows, columns));
+
+    // warm up
+    run(false, msg);
+    run(true, msg);
+
+    System.out.println(String.format("%d rows, %d columns, %d chars, %d runs",
+        rows, columns, msg.getData().length(), runs));
+    System.out.println(String.format("%-8s %14s %12s %14s",
+        "mode", "first row ms", "all rows ms", "allocated MB"));
+    for (boolean lazy : new boolean[]{false, true}) {
+      long[][] results = new long[3][runs];
+      for (int i = 0; i < runs; i++) {
+        long[] result = run(lazy, msg);
+        for (int j = 0; j < result.length; j++) {
+          results[j][i] = result[j];
+        }
+      }
+      System.out.println(String.format("%-8s %14.2f %12.2f %14.2f",
+          lazy ? "lazy" : "split",
+          median(results[0]) / (double) TimeUnit.MILLISECONDS.toNanos(1),
+          median(results[1]) / (double) TimeUnit.MILLISECONDS.toNanos(1),
+          median(results[2]) / (1024.0 * 1024)));
+    }
+  }
+
+  /**
+   * @return nanos to the first row, nanos to iterate all the rows, bytes allocated
+   */
+  private static long[] run(boolean lazy, InterpreterResultMessage msg) {
+    long threadId = Thread.currentThread().getId();
+    long allocatedStart = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+
+    TableData table = lazy ? new InterpreterResultTableData(msg) : new SplitTableData(msg);
+    table.columns();
+    Iterator<Row> it = table.rows();
+    long fields = it.next().get().length;
+    long firstRow = System.nanoTime() - start;
+    while (it.hasNext()) {
+      fields += it.next().get().length;
+    }
+    long allRows = System.nanoTime() - start;
+    long allocated = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - allocatedStart;
+    if (fields == 0) {
+      throw new IllegalStateException("No fields are parsed");
+    }
+    return new long[]{firstRow, allRows, allocated};
+  }
+
+  private static String createData(int rows, int columns) {
+    StringBuilder data = new StringBuilder();
+    for (int c = 0; c < columns; c++) {
+      data.append(c == 0 ? "" : "\t").append("col").append(c);
+    }
+    data.append('\n');
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < columns; c++) {
+        data.append(c == 0 ? "" : "\t").append(c % 2 == 0 ? "value" + r : r * 0.5);
+      }
+      data.append('\n');
+    }
+    return data.toString();
+  }
+
+  private static long median(long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2];
+  }
+
+  /**
+   * Splits the whole message into rows on construction.
+   */
+  private static class SplitTableData implements TableData {
+    private final ColumnDef[] columnDef;
+    private final List<Row> rows = new LinkedList<>();
+
+    SplitTableData(InterpreterResultMessage msg) {
+      String[] lines = msg.getData().split("\n");
+      String[] headerRow = lines[0].split("\t");
+      columnDef = new ColumnDef[headerRow.length];
+      for (int i = 0; i < headerRow.length; i++) {
+        columnDef[i] = new ColumnDef(headerRow[i], ColumnDef.TYPE.STRING);
+      }
+      for (int r = 1; r < lines.length; r++) {
+        rows.add(new Row(lines[r].split("\t")));
+      }
+    }
+
+    @Override
+    public ColumnDef[] columns() {
+      return columnDef;
+    }
+
+    @Override
+    public Iterator<Row> rows() {
+      return rows.iterator();
+    }
+  }
+}
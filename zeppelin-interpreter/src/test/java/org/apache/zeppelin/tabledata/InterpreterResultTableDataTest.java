@@ -23,6 +23,7 @@ import org.junit.Test;
 import java.util.Iterator;
 
 import static junit.framework.TestCase.assertFalse;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class InterpreterResultTableDataTest {
@@ -51,4 +52,40 @@ public class InterpreterResultTableDataTest {
 
     assertFalse(it.hasNext());
   }
+
+  @Test
+  public void testColumnTypes() {
+    InterpreterResultMessage msg = new InterpreterResultMessage(
+        InterpreterResult.Type.TABLE,
+        "name\tcount\tratio\tday\n" +
+        "sun\t100\t0.5\t2020-01-01\n" +
+        "moon\t\t1\t2020-01-02 10:00:00\n" +
+        "star\t300\t2e3\tunknown\n");
+    InterpreterResultTableData table = new InterpreterResultTableData(msg);
+
+    ColumnDef[] cols = table.columns();
+    assertEquals(ColumnDef.TYPE.STRING, cols[0].type());
+    assertEquals(ColumnDef.TYPE.LONG, cols[1].type());
+    assertEquals(ColumnDef.TYPE.DOUBLE, cols[2].type());
+    assertEquals(ColumnDef.TYPE.STRING, cols[3].type());
+
+    // row values are not converted
+    Iterator<Row> it = table.rows();
+    assertEquals("100", it.next().get()[1]);
+  }
+
+  @Test
+  public void testSameRowsAsSplit() {
+    String data = "a\tb\n\t\n\n1\t\t\nx\ty\tz\n\n\n";
+    InterpreterResultTableData table = new InterpreterResultTableData(
+        new InterpreterResultMessage(InterpreterResult.Type.TABLE, data));
+
+    String[] lines = data.split("\n");
+    assertEquals(lines[0].split("\t").length, table.columns().length);
+    Iterator<Row> it = table.rows();
+    for (int r = 1; r < lines.length; r++) {
+      assertArrayEquals(lines[r].split("\t"), it.next().get());
+    }
+    assertFalse(it.hasNext());
+  }
 }
@@ -63,4 +63,11 @@ public class TableDataProxyTest {
 
     assertFalse(it.hasNext());
   }
+
+  @Test
+  public void testProxyRowIteratorOfFailedCall() {
+    // invoking a method which doesn't exist returns null
+    pool.put("rows", "not an iterator");
+    assertFalse(new ProxyRowIterator(pool.get("rows")).hasNext());
+  }
 }
@@ -99,7 +99,7 @@ public class ClusterInterpreterLauncher extends StandardInterpreterLauncher
     // No process was found for the InterpreterGroup ID
     String srvHost = null;
     int srvPort = 0;
-    HashMap<String, Object> meta = clusterServer.getIdleNodeMeta();
+    HashMap<String, Object> meta = clusterServer.placeInterpreterProcess(intpGroupId);
     if (null == meta) {
       LOGGER.error("Don't get idle node meta, launch interpreter on local.");
       InterpreterClient clusterIntpProcess = createInterpreterProcess(context);
@@ -120,6 +120,7 @@ public class ClusterInterpreterLauncher extends StandardInterpreterLauncher
           clusterIntpProcess.start(context.getUserName());
         } catch (IOException e) {
           LOGGER.error(e.getMessage(), e);
+          clusterServer.releaseInterpreterProcessPlacement(intpGroupId);
           return clusterIntpProcess;
         }
       } else {
@@ -170,6 +171,7 @@ public class ClusterInterpreterLauncher extends StandardInterpreterLauncher
           }
         });
     if (null == intpClient) {
+      clusterServer.releaseInterpreterProcessPlacement(intpGroupId);
       String errorInfo = String.format("Creating process %s failed on remote server %s:%d",
           intpGroupId, srvHost, srvPort);
       throw new IOException(errorInfo);
@@ -19,7 +19,6 @@ package org.apache.zeppelin.interpreter.launcher;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.collect.Maps;
-import com.google.common.io.Files;
 import com.google.common.io.Resources;
 
 import java.io.File;
@@ -32,7 +31,6 @@ import java.net.URL;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,13 +40,11 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.spotify.docker.client.DefaultDockerClient;
 import com.spotify.docker.client.DockerClient;
-import com.spotify.docker.client.LogStream;
 import com.spotify.docker.client.ProgressHandler;
 import com.spotify.docker.client.exceptions.DockerException;
 import com.spotify.docker.client.messages.Container;
 import com.spotify.docker.client.messages.ContainerConfig;
 import com.spotify.docker.client.messages.ContainerCreation;
-import com.spotify.docker.client.messages.ExecCreation;
 import com.spotify.docker.client.messages.HostConfig;
 import com.spotify.docker.client.messages.PortBinding;
 import com.spotify.docker.client.messages.ProgressMessage;
@@ -57,13 +53,11 @@ import org.apache.commons.io.filefilter.FileFilterUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.launcher.utils.TarFileEntry;
-import org.apache.zeppelin.interpreter.launcher.utils.TarUtils;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars.ZEPPELIN_SERVER_KERBEROS_KEYTAB;
 
 public class DockerInterpreterProcess extends RemoteInterpreterProcess {
@@ -177,8 +171,21 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
       portBindings.put(port, hostPorts);
     }
 
-    final HostConfig hostConfig = HostConfig.builder()
-        .networkMode("host").portBindings(portBindings).build();
+    // files of the interpreter, conf and dependencies deployed into the container,
+    // local path -> path in the container
+    Map<String, String> payloadFiles = getPayloadFiles();
+    boolean mountPayload = zconf.isDockerPayloadMount();
+
+    HostConfig.Builder hostConfigBuilder = HostConfig.builder()
+        .networkMode("host").portBindings(portBindings);
+    if (mountPayload) {
+      List<String> binds = new ArrayList<>();
+      for (Map.Entry<String, String> entry : payloadFiles.entrySet()) {
+        binds.add(entry.getKey() + ":" + entry.getValue() + ":ro");
+      }
+      hostConfigBuilder.binds(binds);
+    }
+    final HostConfig hostConfig = hostConfigBuilder.build();
 
     DockerSpecTemplate specTemplate = new DockerSpecTemplate();
     specTemplate.loadProperties(getTemplateBindings());
@@ -194,16 +201,13 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
     List<String> listEnv = getListEnvs();
     LOGGER.info("docker listEnv = {}", listEnv);
 
-    // check if the interpreter process exit script
-    // if interpreter process exit, then container need exit
+    // the interpreter process is the main process of the container,
+    // so that the container exits with the interpreter process
     StringBuilder sbStartCmd = new StringBuilder();
-    sbStartCmd.append("sleep 10; ");
-    sbStartCmd.append("process=RemoteInterpreterServer; ");
-    sbStartCmd.append("RUNNING_PIDS=$(ps x | grep $process | grep -v grep | awk '{print $1}'); ");
-    sbStartCmd.append("while [ ! -z \"$RUNNING_PIDS\" ]; ");
-    sbStartCmd.append("do sleep 1; ");
-    sbStartCmd.append("RUNNING_PIDS=$(ps x | grep $process | grep -v grep | awk '{print $1}'); ");
-    sbStartCmd.append("done");
+    if (!mountPayload) {
+      sbStartCmd.append(getDeployCommand());
+    }
+    sbStartCmd.append("exec ").append(dockerCommand);
 
     // Create container with exposed ports
     final ContainerConfig containerConfig = ContainerConfig.builder()
@@ -230,12 +234,12 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
           = docker.createContainer(containerConfig, containerName);
       this.containerId = containerCreation.id();
 
+      if (!mountPayload) {
+        deployToContainer(containerId, payloadFiles);
+      }
+
       // Start container
       docker.startContainer(containerId);
-
-      copyRunFileToContainer(containerId);
-
-      execInContainer(containerId, dockerCommand, false);
     } catch (DockerException e) {
       LOGGER.error(e.getMessage(), e);
       throw new IOException(e.getMessage());
@@ -245,36 +249,29 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
     }
 
     long startTime = System.currentTimeMillis();
+    long timeoutTime = startTime + getConnectTimeout();
 
-    // wait until interpreter send dockerStarted message through thrift rpc
+    // wait until interpreter send dockerStarted message through thrift rpc,
+    // which is sent after its thrift rpc server is serving
     synchronized (dockerStarted) {
-      if (!dockerStarted.get()) {
+      while (!dockerStarted.get()) {
+        long timetoTimeout = timeoutTime - System.currentTimeMillis();
+        if (timetoTimeout <= 0) {
+          stop();
+          throw new IOException("Interpreter docker creation is time out in "
+              + getConnectTimeout() / 1000 + " seconds");
+        }
         try {
-          dockerStarted.wait(getConnectTimeout());
+          dockerStarted.wait(timetoTimeout);
         } catch (InterruptedException e) {
           LOGGER.error("Remote interpreter is not accessible");
+          Thread.currentThread().interrupt();
           throw new IOException(e.getMessage());
         }
       }
     }
-
-    if (!dockerStarted.get()) {
-      LOGGER.info("Interpreter docker creation is time out in {} seconds",
-          getConnectTimeout() / 1000);
-    }
-
-    // waits for interpreter thrift rpc server ready
-    while (System.currentTimeMillis() - startTime < getConnectTimeout()) {
-      if (RemoteInterpreterUtils.checkIfRemoteEndpointAccessible(getHost(), getPort())) {
-        break;
-      } else {
-        try {
-          Thread.sleep(1000);
-        } catch (InterruptedException e) {
-          LOGGER.error(e.getMessage(), e);
-        }
-      }
-    }
+    LOGGER.info("Interpreter container {} is started in {} ms", containerName,
+        System.currentTimeMillis() - startTime);
   }
 
   @Override
@@ -284,7 +281,7 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
     LOGGER.info("Interpreter container created {}:{}", containerHost, containerPort);
     synchronized (dockerStarted) {
       dockerStarted.set(true);
-      dockerStarted.notify();
+      dockerStarted.notifyAll();
     }
   }
 
@@ -418,24 +415,18 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
     return null;
   }
 
-  // upload configure file to submarine interpreter container
+  // configure files uploaded to submarine interpreter container
   // keytab file & zeppelin-site.xml & krb5.conf
   // The submarine configures the mount file into the container through `localization`
   // NOTE: The path to the file uploaded to the container,
   // Can not be repeated, otherwise it will lead to failure.
-  private void copyRunFileToContainer(String containerId)
-      throws IOException, DockerException, InterruptedException {
+  @VisibleForTesting
+  Map<String, String> getPayloadFiles() throws IOException {
     HashMap<String, String> copyFiles = new HashMap<>();
 
-    // Rebuild directory
-    rmInContainer(containerId, zeppelinHome);
-    mkdirInContainer(containerId, zeppelinHome);
-
-
     // 1) zeppelin-site.xml is uploaded to `${CONTAINER_ZEPPELIN_HOME}` directory in the container
     String confPath = "/conf";
     String zeplConfPath = getPathByHome(zeppelinHome, confPath);
-    mkdirInContainer(containerId, zeplConfPath);
     copyFiles.put(zeplConfPath + "/zeppelin-site.xml", zeplConfPath + "/zeppelin-site.xml");
     copyFiles.put(zeplConfPath + "/log4j.properties", zeplConfPath + "/log4j.properties");
     copyFiles.put(zeplConfPath + "/log4j_yarn_cluster.properties",
@@ -445,7 +436,6 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
     String krb5conf = "/etc/krb5.conf";
     File krb5File = new File(krb5conf);
     if (krb5File.exists()) {
-      rmInContainer(containerId, krb5conf);
       copyFiles.put(krb5conf, krb5conf);
     } else {
       LOGGER.warn("{} file not found, Did not upload the krb5.conf to the container!", krb5conf);
@@ -493,8 +483,6 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
     // 5) spark conf dir
     if (envs.containsKey("SPARK_CONF_DIR")) {
       String sparkConfDir = envs.get("SPARK_CONF_DIR");
-      rmInContainer(containerId, CONTAINER_SPARK_HOME + "/conf");
-      mkdirInContainer(containerId, CONTAINER_SPARK_HOME + "/conf");
       copyFiles.put(sparkConfDir, CONTAINER_SPARK_HOME + "/conf");
       envs.put("SPARK_CONF_DIR", CONTAINER_SPARK_HOME + "/conf");
     }
@@ -504,15 +492,13 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
       //    directory in the container
       String binPath = "/bin";
       String zeplBinPath = getPathByHome(zeppelinHome, binPath);
-      mkdirInContainer(containerId, zeplBinPath);
-      docker.copyToContainer(new File(zeplBinPath).toPath(), containerId, zeplBinPath);
+      copyFiles.put(zeplBinPath, zeplBinPath);
 
       // 7) ${ZEPPELIN_HOME}/interpreter/spark is uploaded to `${CONTAINER_ZEPPELIN_HOME}`
       //    directory in the container
       String intpGrpPath = "/interpreter/" + interpreterGroupName;
       String intpGrpAllPath = getPathByHome(zeppelinHome, intpGrpPath);
-      mkdirInContainer(containerId, intpGrpAllPath);
-      docker.copyToContainer(new File(intpGrpAllPath).toPath(), containerId, intpGrpAllPath);
+      copyFiles.put(intpGrpAllPath, intpGrpAllPath);
 
       // 8) ${ZEPPELIN_HOME}/lib/interpreter/zeppelin-interpreter-shaded-<version>.jar
       //    is uploaded to `${CONTAINER_ZEPPELIN_HOME}` directory in the container
@@ -529,85 +515,40 @@ public class DockerInterpreterProcess extends RemoteInterpreterProcess {
       }
     }
 
-    deployToContainer(containerId, copyFiles);
+    return copyFiles;
   }
 
-  private void deployToContainer(String containerId, HashMap<String, String> copyFiles)
+  // Upload the payload to CONTAINER_UPLOAD_TAR_DIR of the created container, the payload
+  // archive of the same files is reused by all the launches
+  private void deployToContainer(String containerId, Map<String, String> copyFiles)
       throws InterruptedException, DockerException, IOException {
-    // mkdir CONTAINER_UPLOAD_TAR_DIR
-    mkdirInContainer(containerId, CONTAINER_UPLOAD_TAR_DIR);
-
-    // file tar package
-    String tarFile = file2Tar(copyFiles);
-
-    // copy tar to ZEPPELIN_CONTAINER_DIR, auto unzip
-    InputStream inputStream = new FileInputStream(tarFile);
-    try {
-      docker.copyToContainer(inputStream, containerId, CONTAINER_UPLOAD_TAR_DIR);
-    } finally {
-      inputStream.close();
+    List<TarFileEntry> tarFileEntries = new ArrayList<>();
+    for (Map.Entry<String, String> entry : copyFiles.entrySet()) {
+      tarFileEntries.add(new TarFileEntry(new File(entry.getKey()),
+          CONTAINER_UPLOAD_TAR_DIR + entry.getValue()));
     }
+    File payload = new DockerPayloadCache(new File(zconf.getDockerPayloadCacheDir()),
+        zconf.getDockerPayloadCacheSize()).getPayload(tarFileEntries);
 
-    // copy all files in CONTAINER_UPLOAD_TAR_DIR to the root directory
-    cpdirInContainer(containerId, CONTAINER_UPLOAD_TAR_DIR + "/*", "/");
-
-    // delete tar file in the local
-    File fileTar = new File(tarFile);
-    fileTar.delete();
-  }
-
-  private void mkdirInContainer(String containerId, String path)
-      throws DockerException, InterruptedException {
-    String execCommand = "mkdir " + path + " -p";
-    execInContainer(containerId, execCommand, true);
-  }
-
-  private void rmInContainer(String containerId, String path)
-      throws DockerException, InterruptedException {
-    String execCommand = "rm " + path + " -R";
-    execInContainer(containerId, execCommand, true);
-  }
-
-  private void cpdirInContainer(String containerId, String from, String to)
-      throws DockerException, InterruptedException {
-    String execCommand = "cp " + from + " " + to + " -R";
-    execInContainer(containerId, execCommand, true);
-  }
-
-  private void execInContainer(String containerId, String execCommand, boolean logout)
-      throws DockerException, InterruptedException {
-
-    LOGGER.info("exec container commmand: " + execCommand);
-
-    final String[] command = {"sh", "-c", execCommand};
-    final ExecCreation execCreation = docker.execCreate(
-        containerId, command, DockerClient.ExecCreateParam.attachStdout(),
-        DockerClient.ExecCreateParam.attachStderr());
-
-    LogStream logStream = docker.execStart(execCreation.id());
-    while (logStream.hasNext() && logout) {
-      final String log = UTF_8.decode(logStream.next().content()).toString();
-      LOGGER.info(log);
+    // auto unzip
+    try (InputStream inputStream = new FileInputStream(payload)) {
+      docker.copyToContainer(inputStream, containerId, "/");
     }
   }
 
-  private String file2Tar(HashMap<String, String> copyFiles) throws IOException {
-    File tmpDir = Files.createTempDir();
-
-    Date date = new Date();
-    String tarFileName = tmpDir.getPath() + date.getTime() + ".tar";
-
-    List<TarFileEntry> tarFileEntries = new ArrayList<>();
-    for (Map.Entry<String, String> entry : copyFiles.entrySet()) {
-      String filePath = entry.getKey();
-      String archivePath = entry.getValue();
-      TarFileEntry tarFileEntry = new TarFileEntry(new File(filePath), archivePath);
-      tarFileEntries.add(tarFileEntry);
+  // Commands run in the container before the interpreter process, to replace the zeppelin
+  // of the container image with the uploaded payload
+  @VisibleForTesting
+  String getDeployCommand() {
+    StringBuilder command = new StringBuilder();
+    command.append("rm -rf ").append(zeppelinHome).append("; ");
+    if (envs.containsKey("SPARK_CONF_DIR")) {
+      command.append("rm -rf ").append(CONTAINER_SPARK_HOME).append("/conf; ");
     }
-
-    TarUtils.compress(tarFileName, tarFileEntries);
-
-    return tarFileName;
+    // copy all files in CONTAINER_UPLOAD_TAR_DIR to the root directory
+    command.append("cp -R ").append(CONTAINER_UPLOAD_TAR_DIR).append("/. / && ");
+    command.append("rm -rf ").append(CONTAINER_UPLOAD_TAR_DIR).append("; ");
+    return command.toString();
   }
 
   @VisibleForTesting
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.launcher;
+
+import org.apache.zeppelin.interpreter.launcher.utils.TarFileEntry;
+import org.apache.zeppelin.interpreter.launcher.utils.TarUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the tar archives of the files deployed into interpreter containers, e.g. the
+ * interpreter directory, conf and dependencies, so that launching a container doesn't archive
+ * the same files again. An archive is addressed by the digest of its entries: the path of each
+ * file in the archive, with its size and modification time, so any change of a file leads to
+ * a new archive. The least recently used archives beyond the max number are deleted.
+ */
+public class DockerPayloadCache {
+  private static final Logger LOGGER = LoggerFactory.getLogger(DockerPayloadCache.class);
+
+  private static final String PAYLOAD_SUFFIX = ".tar.gz";
+
+  // digest -> lock, payloads are shared by the launches of all the interpreter processes
+  private static final Map<String, Object> BUILD_LOCKS = new ConcurrentHashMap<>();
+
+  private final File cacheDir;
+  private final int maxPayloads;
+
+  public DockerPayloadCache(File cacheDir, int maxPayloads) {
+    this.cacheDir = cacheDir;
+    this.maxPayloads = maxPayloads;
+  }
+
+  /**
+   * Get the archive of the entries, it is created if there's no archive of the same files yet.
+   */
+  public File getPayload(List<TarFileEntry> entries) throws IOException {
+    String digest = digest(entries);
+    File payload = new File(cacheDir, digest + PAYLOAD_SUFFIX);
+    synchronized (BUILD_LOCKS.computeIfAbsent(digest, k -> new Object())) {
+      if (payload.exists()) {
+        LOGGER.info("Reuse cached payload {}", payload.getAbsolutePath());
+        // used recently, see evict
+        payload.setLastModified(System.currentTimeMillis());
+        return payload;
+      }
+
+      if (!cacheDir.exists() && !cacheDir.mkdirs()) {
+        throw new IOException("Fail to create payload cache dir " + cacheDir.getAbsolutePath());
+      }
+      File tmpPayload = File.createTempFile(digest, ".tmp", cacheDir);
+      try {
+        TarUtils.compress(tmpPayload.getAbsolutePath(), entries);
+        Files.move(tmpPayload.toPath(), payload.toPath(), StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        tmpPayload.delete();
+      }
+      LOGGER.info("Create payload {} with {} bytes", payload.getAbsolutePath(), payload.length());
+    }
+    evict(payload);
+    return payload;
+  }
+
+  // delete the least recently used payloads beyond the max number, except the given one
+  private void evict(File keep) {
+    File[] payloads = cacheDir.listFiles((dir, name) -> name.endsWith(PAYLOAD_SUFFIX));
+    if (payloads == null || payloads.length <= maxPayloads) {
+      return;
+    }
+    Arrays.sort(payloads, Comparator.comparingLong(File::lastModified).reversed());
+    for (int i = maxPayloads; i < payloads.length; i++) {
+      if (!payloads[i].equals(keep)) {
+        LOGGER.info("Delete least recently used payload {}", payloads[i].getAbsolutePath());
+        payloads[i].delete();
+      }
+    }
+  }
+
+  /**
+   * Digest of the path in the archive, size and modification time of all the files.
+   */
+  static String digest(List<TarFileEntry> entries) throws IOException {
+    MessageDigest md;
+    try {
+      md = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e);
+    }
+    List<TarFileEntry> sorted = new ArrayList<>(entries);
+    sorted.sort(Comparator.comparing(TarFileEntry::getArchivePath));
+    for (TarFileEntry entry : sorted) {
+      update(md, entry.getFile(), entry.getArchivePath());
+    }
+    StringBuilder hex = new StringBuilder();
+    for (byte b : md.digest()) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  private static void update(MessageDigest md, File file, String archivePath) {
+    if (file.isFile()) {
+      md.update((archivePath + "\n" + file.length() + "\n" + file.lastModified() + "\n")
+          .getBytes(StandardCharsets.UTF_8));
+    } else if (file.isDirectory()) {
+      File[] children = file.listFiles();
+      if (children != null) {
+        Arrays.sort(children);
+        for (File child : children) {
+          update(md, child, archivePath + "/" + child.getName());
+        }
+      }
+    } else {
+      // not archived, see TarUtils
+      md.update((archivePath + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.launcher;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.interpreter.launcher.utils.TarFileEntry;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DockerPayloadCacheTest {
+
+  @Rule
+  public TemporaryFolder tmpDir = new TemporaryFolder();
+
+  @Test
+  public void testReusePayload() throws IOException {
+    File confDir = tmpDir.newFolder("conf");
+    File site = new File(confDir, "zeppelin-site.xml");
+    FileUtils.write(site, "<configuration/>", StandardCharsets.UTF_8);
+    List<TarFileEntry> entries = Arrays.asList(
+        new TarFileEntry(confDir, "/tmp/zeppelin-tar/opt/zeppelin/conf"));
+
+    DockerPayloadCache cache = new DockerPayloadCache(tmpDir.newFolder("cache"), 10);
+    File payload = cache.getPayload(entries);
+    assertTrue(payload.exists());
+    assertEquals(payload, cache.getPayload(entries));
+
+    // any change of the files leads to a new payload
+    FileUtils.write(site, "<configuration></configuration>", StandardCharsets.UTF_8);
+    File newPayload = cache.getPayload(entries);
+    assertNotEquals(payload, newPayload);
+    assertTrue(newPayload.exists());
+  }
+
+  @Test
+  public void testEvictPayload() throws IOException {
+    File cacheDir = tmpDir.newFolder("cache");
+    DockerPayloadCache cache = new DockerPayloadCache(cacheDir, 2);
+    File[] payloads = new File[3];
+    for (int i = 0; i < payloads.length; i++) {
+      File file = tmpDir.newFile("file" + i);
+      payloads[i] = cache.getPayload(Arrays.asList(new TarFileEntry(file, "/file" + i)));
+      payloads[i].setLastModified(System.currentTimeMillis() - (payloads.length - i) * 1000);
+    }
+    // the least recently used one is deleted
+    assertFalse(payloads[0].exists());
+    assertTrue(payloads[1].exists());
+    assertTrue(payloads[2].exists());
+    assertEquals(2, cacheDir.listFiles().length);
+  }
+}
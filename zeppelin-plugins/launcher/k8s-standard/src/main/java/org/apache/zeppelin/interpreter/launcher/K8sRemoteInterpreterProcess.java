@@ -3,11 +3,18 @@ package org.apache.zeppelin.interpreter.launcher;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.io.IOUtils;
@@ -15,6 +22,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,11 +31,16 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.hubspot.jinjava.Jinjava;
 
+import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodCondition;
 import io.fabric8.kubernetes.api.model.PodStatus;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.LocalPortForward;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.ParameterNamespaceListVisitFromServerGetDeleteRecreateWaitApplicable;
 
 public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
@@ -54,6 +67,19 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
   private AtomicBoolean started = new AtomicBoolean(false);
   private Random rand = new Random();
 
+  // state of the pod from the watch of the pod, see PodWatcher
+  private volatile Watch podWatch;
+  private volatile String podPhase;
+  private volatile boolean podReady = false;
+  private volatile String podFailure;
+
+  // reasons of a waiting container which doesn't recover by itself
+  private static final Set<String> CONTAINER_FAILURE_REASONS = new HashSet<>(Arrays.asList(
+      "CrashLoopBackOff", "InvalidImageName", "ErrImageNeverPull", "CreateContainerConfigError"));
+
+  // apply the K8s objects of a spec file concurrently, shared by all the interpreter processes
+  private static final String APPLY_EXECUTOR = "K8sSpecApplier-";
+
   private static final String SPARK_DRIVER_MEMORY = "spark.driver.memory";
   private static final String SPARK_DRIVER_MEMORY_OVERHEAD = "spark.driver.memoryOverhead";
   private static final String SPARK_DRIVER_CORES = "spark.driver.cores";
@@ -123,6 +149,12 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
   public void start(String userName) throws IOException {
 
     Properties templateProperties = getTemplateBindings(userName);
+    // watch the pod before it's created, not to miss any of its events
+    try {
+      podWatch = client.pods().inNamespace(namespace).withName(podName).watch(new PodWatcher());
+    } catch (KubernetesClientException e) {
+      LOGGER.warn("Can't watch interpreter pod {}, wait for the interpreter only", podName, e);
+    }
     // create new pod
     apply(specTemplates, false, templateProperties);
 
@@ -134,9 +166,15 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
     long startTime = System.currentTimeMillis();
     long timeoutTime = startTime + getConnectTimeout();
 
-    // wait until interpreter send started message through thrift rpc
+    // wait until interpreter send started message through thrift rpc, which is sent after its
+    // thrift rpc server is serving, and the pod is ready to be connected through its service
     synchronized (started) {
-      while (!started.get()) {
+      while (!started.get() || !isPodReady()) {
+        if (podFailure != null) {
+          stop();
+          throw new IOException("Fail to launch zeppelin interpreter on kubernetes, "
+              + podFailure);
+        }
         long timetoTimeout = timeoutTime - System.currentTimeMillis();
         if (timetoTimeout <= 0) {
           stop();
@@ -148,28 +186,98 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
           LOGGER.error("Interrupt received. Try to stop the interpreter and interrupt the current thread.", e);
           stop();
           Thread.currentThread().interrupt();
+          throw new IOException("Launching zeppelin interpreter on kubernetes is interrupted");
         }
       }
     }
+    LOGGER.info("Interpreter pod {} is ready in {} ms", podName,
+        System.currentTimeMillis() - startTime);
+  }
+
+  // the readiness is unknown without the watch of the pod
+  private boolean isPodReady() {
+    return podReady || podWatch == null;
+  }
 
-    // waits for interpreter thrift rpc server ready
-    while (!RemoteInterpreterUtils.checkIfRemoteEndpointAccessible(getHost(), getPort())) {
-      if (System.currentTimeMillis() - timeoutTime > 0) {
-        stop();
-        throw new IOException("Launching zeppelin interpreter on kubernetes is time out, kill it now");
+  /**
+   * Track the phase and the readiness of the interpreter pod, and fail the launch as soon as
+   * the pod or its container fails.
+   */
+  private class PodWatcher implements Watcher<Pod> {
+
+    @Override
+    public void eventReceived(Action action, Pod pod) {
+      if (action == Action.DELETED) {
+        podPhase = "Deleted";
+        podReady = false;
+        podFailure = "pod " + podName + " is deleted";
+      } else if (pod != null && pod.getStatus() != null) {
+        PodStatus status = pod.getStatus();
+        podPhase = status.getPhase();
+        podReady = isReady(status);
+        String failure = getFailure(status);
+        if (failure != null) {
+          podFailure = "pod " + podName + " " + failure;
+        }
+      }
+      LOGGER.debug("Interpreter pod {} {}, phase: {}, ready: {}", podName, action, podPhase,
+          podReady);
+      synchronized (started) {
+        started.notifyAll();
       }
-      try {
-        Thread.sleep(1000);
-      } catch (InterruptedException e) {
-        LOGGER.error("Interrupt received. Try to stop the interpreter and interrupt the current thread.", e);
-        stop();
-        Thread.currentThread().interrupt();
+    }
+
+    @Override
+    public void onClose(KubernetesClientException cause) {
+      if (cause != null) {
+        LOGGER.warn("Watch of interpreter pod {} is closed", podName, cause);
+        // fall back to get the pod status
+        podWatch = null;
+        podPhase = null;
+        synchronized (started) {
+          started.notifyAll();
+        }
       }
     }
   }
 
+  static boolean isReady(PodStatus status) {
+    if (status.getConditions() != null) {
+      for (PodCondition condition : status.getConditions()) {
+        if ("Ready".equals(condition.getType())) {
+          return "True".equals(condition.getStatus());
+        }
+      }
+    }
+    return false;
+  }
+
+  static String getFailure(PodStatus status) {
+    if ("Failed".equals(status.getPhase()) || "Succeeded".equals(status.getPhase())) {
+      return "is " + status.getPhase() + (status.getMessage() == null ? "" :
+          ": " + status.getMessage());
+    }
+    if (status.getContainerStatuses() != null) {
+      for (ContainerStatus containerStatus : status.getContainerStatuses()) {
+        if (containerStatus.getState() != null
+            && containerStatus.getState().getWaiting() != null
+            && CONTAINER_FAILURE_REASONS.contains(
+                containerStatus.getState().getWaiting().getReason())) {
+          return "container " + containerStatus.getName() + " is "
+              + containerStatus.getState().getWaiting().getReason()
+              + (containerStatus.getState().getWaiting().getMessage() == null ? "" :
+                  ": " + containerStatus.getState().getWaiting().getMessage());
+        }
+      }
+    }
+    return null;
+  }
+
   @Override
   public void stop() {
+    if (podWatch != null) {
+      podWatch.close();
+    }
     Properties templateProperties = getTemplateBindings(null);
     // delete pod
     try {
@@ -204,6 +312,9 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
 
   @Override
   public boolean isRunning() {
+    if (podWatch != null && podPhase != null) {
+      return "Running".equals(podPhase) && started.get();
+    }
     try {
       if (RemoteInterpreterUtils.checkIfRemoteEndpointAccessible(getHost(), getPort())) {
         return true;
@@ -245,12 +356,30 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
       specTemplate.loadProperties(templateProperties);
       String template = specTemplate.render(path);
       ParameterNamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata, Boolean> k8sObjects = client.load(IOUtils.toInputStream(template, StandardCharsets.UTF_8));
-      LOGGER.info("Apply {} with {} K8s Objects", path.getAbsolutePath(), k8sObjects.get().size());
+      List<HasMetadata> objects = k8sObjects.get();
+      LOGGER.info("Apply {} with {} K8s Objects", path.getAbsolutePath(), objects.size());
       LOGGER.debug(template);
-      if (delete) {
-        k8sObjects.inNamespace(namespace).delete();
-      } else {
-        k8sObjects.inNamespace(namespace).createOrReplace();
+      // the objects of a spec don't depend on each other, e.g. pod, service and role
+      ExecutorService applyExecutor = ExecutorFactory.singleton().createOrGetCached(APPLY_EXECUTOR);
+      List<Future<?>> futures = new ArrayList<>();
+      for (HasMetadata object : objects) {
+        futures.add(applyExecutor.submit(() -> {
+          if (delete) {
+            client.resource(object).inNamespace(namespace).delete();
+          } else {
+            client.resource(object).inNamespace(namespace).createOrReplace();
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while applying " + path.getAbsolutePath(), e);
+        } catch (ExecutionException e) {
+          throw new IOException("Fail to apply " + path.getAbsolutePath(), e.getCause());
+        }
       }
     } else {
       LOGGER.error("Can't apply {}", path.getAbsolutePath());
@@ -26,6 +26,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.recovery.RecoveryStorage;
@@ -43,7 +44,8 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(K8sStandardInterpreterLauncher.class);
-  private InterpreterLaunchContext context;
+  // the launcher is shared by all the interpreter settings, interpreter pods may be launched
+  // concurrently, so the launch context is passed around instead of kept in fields
   private final KubernetesClient client;
 
   public K8sStandardInterpreterLauncher(ZeppelinConfiguration zConf, RecoveryStorage recoveryStorage) throws IOException {
@@ -95,7 +97,7 @@ public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
    * return <service-name>.<namespace>.svc
    * @throws IOException
    */
-  private String getZeppelinService() throws IOException {
+  private String getZeppelinService(InterpreterLaunchContext context) throws IOException {
     if (isRunningOnKubernetes()) {
       return String.format("%s.%s.svc",
               zConf.getK8sServiceName(),
@@ -109,7 +111,7 @@ public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
    * get Zeppelin server rpc port
    * Read env variable "<HOSTNAME>_SERVICE_PORT_RPC"
    */
-  private int getZeppelinServiceRpcPort() {
+  private int getZeppelinServiceRpcPort(InterpreterLaunchContext context) {
     String envServicePort = System.getenv(
             String.format("%s_SERVICE_PORT_RPC", getHostname().replaceAll("[-.]", "_").toUpperCase()));
     if (envServicePort != null) {
@@ -134,8 +136,7 @@ public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
   @Override
   public InterpreterClient launchDirectly(InterpreterLaunchContext context) throws IOException {
     LOGGER.info("Launching Interpreter: {}", context.getInterpreterSettingGroup());
-    this.context = context;
-    this.properties = context.getProperties();
+    Properties properties = context.getProperties();
 
     return new K8sRemoteInterpreterProcess(
             client,
@@ -147,11 +148,11 @@ public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
             context.getInterpreterSettingName(),
             properties,
             buildEnvFromProperties(context),
-            getZeppelinService(),
-            getZeppelinServiceRpcPort(),
+            getZeppelinService(context),
+            getZeppelinServiceRpcPort(context),
             zConf.getK8sPortForward(),
             zConf.getK8sSparkContainerImage(),
-            getConnectTimeout(),
+            getConnectTimeout(properties),
             isUserImpersonateForSparkInterpreter(context));
   }
 
@@ -169,6 +170,7 @@ public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
       }
     }
     env.put("INTERPRETER_GROUP_ID", context.getInterpreterGroupId());
+    env.putAll(buildRpcEnv());
     return env;
   }
 
@@ -19,16 +19,23 @@ package org.apache.zeppelin.interpreter.launcher;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Rule;
 import org.junit.Test;
 
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodStatus;
+import io.fabric8.kubernetes.api.model.PodStatusBuilder;
 import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
 
 public class K8sRemoteInterpreterProcessTest {
@@ -394,4 +401,102 @@ public class K8sRemoteInterpreterProcessTest {
     assertEquals("1280Mi", p.get("zeppelin.k8s.interpreter.memory"));
   }
 
+  @Test
+  public void testPodStatus() {
+    PodStatus pending = new PodStatusBuilder().withPhase("Pending").build();
+    assertFalse(K8sRemoteInterpreterProcess.isReady(pending));
+    assertNull(K8sRemoteInterpreterProcess.getFailure(pending));
+
+    PodStatus ready = new PodStatusBuilder().withPhase("Running")
+        .addNewCondition().withType("Ready").withStatus("True").endCondition()
+        .build();
+    assertTrue(K8sRemoteInterpreterProcess.isReady(ready));
+    assertNull(K8sRemoteInterpreterProcess.getFailure(ready));
+
+    PodStatus crashing = new PodStatusBuilder().withPhase("Running")
+        .addNewContainerStatus().withName("sh")
+          .withNewState().withNewWaiting().withReason("CrashLoopBackOff").endWaiting().endState()
+        .endContainerStatus()
+        .build();
+    assertTrue(K8sRemoteInterpreterProcess.getFailure(crashing).contains("CrashLoopBackOff"));
+    assertTrue(K8sRemoteInterpreterProcess.getFailure(
+        new PodStatusBuilder().withPhase("Failed").build()).contains("Failed"));
+  }
+
+  @Test
+  public void testStartOnReadyPod() throws InterruptedException {
+    K8sRemoteInterpreterProcess intp = createShellProcess(10000);
+    AtomicReference<Exception> error = new AtomicReference<>();
+    Thread starter = new Thread(() -> {
+      try {
+        intp.start("user1");
+      } catch (Exception e) {
+        error.set(e);
+      }
+    });
+    starter.start();
+
+    // registered, but the pod is not ready yet
+    intp.processStarted(12321, intp.getHost());
+    Thread.sleep(500);
+    assertTrue(starter.isAlive());
+
+    server.getClient().pods().inNamespace("default").create(pod(intp.getPodName(),
+        new PodStatusBuilder().withPhase("Running")
+            .addNewCondition().withType("Ready").withStatus("True").endCondition()
+            .build()));
+    starter.join(5000);
+    assertFalse(starter.isAlive());
+    assertNull(error.get());
+    assertTrue(intp.isRunning());
+  }
+
+  @Test
+  public void testStartOnFailedPod() throws InterruptedException {
+    K8sRemoteInterpreterProcess intp = createShellProcess(60000);
+    AtomicReference<Exception> error = new AtomicReference<>();
+    Thread starter = new Thread(() -> {
+      try {
+        intp.start("user1");
+      } catch (Exception e) {
+        error.set(e);
+      }
+    });
+    starter.start();
+    Thread.sleep(500);
+
+    server.getClient().pods().inNamespace("default").create(pod(intp.getPodName(),
+        new PodStatusBuilder().withPhase("Failed").build()));
+    // fails long before the connect timeout
+    starter.join(5000);
+    assertFalse(starter.isAlive());
+    assertNotNull(error.get());
+    assertTrue(error.get().getMessage().contains("Failed"));
+  }
+
+  private K8sRemoteInterpreterProcess createShellProcess(int connectTimeout) {
+    return new K8sRemoteInterpreterProcess(
+        server.getClient(),
+        "default",
+        new File(".skip"),
+        "interpreter-container:1.0",
+        "shared_process",
+        "sh",
+        "shell",
+        new Properties(),
+        new HashMap<String, String>(),
+        "zeppelin.server.service",
+        12320,
+        false,
+        "spark-container:1.0",
+        connectTimeout,
+        false);
+  }
+
+  private Pod pod(String name, PodStatus status) {
+    return new PodBuilder()
+        .withNewMetadata().withName(name).withNamespace("default").endMetadata()
+        .withStatus(status)
+        .build();
+  }
 }
@@ -60,6 +60,7 @@ public class YarnInterpreterLauncher extends InterpreterLauncher {
     }
     env.put("INTERPRETER_GROUP_ID", context.getInterpreterGroupId());
     env.put("ZEPPELIN_INTERPRETER_LAUNCHER", "yarn");
+    env.putAll(buildRpcEnv());
     return env;
   }
 
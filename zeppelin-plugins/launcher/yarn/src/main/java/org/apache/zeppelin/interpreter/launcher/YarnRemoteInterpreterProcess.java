@@ -43,11 +43,10 @@ import org.apache.hadoop.yarn.api.records.YarnApplicationState;
 import org.apache.hadoop.yarn.client.api.YarnClient;
 import org.apache.hadoop.yarn.client.api.YarnClientApplication;
 import org.apache.hadoop.yarn.conf.YarnConfiguration;
-import org.apache.hadoop.yarn.exceptions.ApplicationNotFoundException;
-import org.apache.hadoop.yarn.exceptions.YarnException;
 import org.apache.hadoop.yarn.util.ConverterUtils;
 import org.apache.hadoop.yarn.util.Records;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.YarnAppMonitor;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -80,7 +79,9 @@ public class YarnRemoteInterpreterProcess extends RemoteInterpreterProcess {
   private final Properties properties;
   private final Map<String, String> envs;
   private AtomicBoolean isYarnAppRunning = new AtomicBoolean(false);
-  private String errorMessage;
+  private volatile String errorMessage;
+  // the latest report of the yarn app from YarnAppMonitor
+  private ApplicationReport appReport;
 
   /************** Hadoop related **************************/
   private Configuration hadoopConf;
@@ -173,19 +174,22 @@ public class YarnRemoteInterpreterProcess extends RemoteInterpreterProcess {
       appContext = createApplicationSubmissionContext(appContext);
       yarnClient.submitApplication(appContext);
 
-      long start = System.currentTimeMillis();
-      ApplicationReport appReport = getApplicationReport(appId);
-      while (appReport.getYarnApplicationState() != YarnApplicationState.FAILED &&
-              appReport.getYarnApplicationState() != YarnApplicationState.FINISHED &&
-              appReport.getYarnApplicationState() != YarnApplicationState.KILLED &&
-              appReport.getYarnApplicationState() != YarnApplicationState.RUNNING) {
-        LOGGER.info("Wait for zeppelin interpreter yarn app to be started");
-        Thread.sleep(2000);
-        if ((System.currentTimeMillis() - start) > getConnectTimeout()) {
-          yarnClient.killApplication(this.appId);
-          throw new IOException("Launching zeppelin interpreter in yarn is time out, kill it now");
+      // the status of yarn app is checked by YarnAppMonitor together with all the other yarn apps
+      YarnAppMonitor.get(hadoopConf).addYarnApp(appId, this::onYarnAppStateChanged);
+      long timeoutTime = System.currentTimeMillis() + getConnectTimeout();
+      ApplicationReport appReport;
+      synchronized (isYarnAppRunning) {
+        while (!isYarnAppStarted(this.appReport)) {
+          long timeToTimeout = timeoutTime - System.currentTimeMillis();
+          if (timeToTimeout <= 0) {
+            YarnAppMonitor.get(hadoopConf).removeYarnApp(appId);
+            yarnClient.killApplication(this.appId);
+            throw new IOException("Launching zeppelin interpreter in yarn is time out, kill it now");
+          }
+          LOGGER.info("Wait for zeppelin interpreter yarn app to be started");
+          isYarnAppRunning.wait(timeToTimeout);
         }
-        appReport = getApplicationReport(appId);
+        appReport = this.appReport;
       }
 
       if (appReport.getYarnApplicationState() != YarnApplicationState.RUNNING) {
@@ -194,7 +198,6 @@ public class YarnRemoteInterpreterProcess extends RemoteInterpreterProcess {
                 + ", applicationId=" + appId
                 + ", diagnostics=" + appReport.getDiagnostics());
       }
-      isYarnAppRunning.set(true);
 
     } catch (Exception e) {
       LOGGER.error("Fail to launch yarn interpreter process", e);
@@ -206,17 +209,26 @@ public class YarnRemoteInterpreterProcess extends RemoteInterpreterProcess {
     }
   }
 
-  private ApplicationReport getApplicationReport(ApplicationId appId) throws YarnException, IOException {
-    ApplicationReport report = yarnClient.getApplicationReport(appId);
-    if (report.getYarnApplicationState() == null) {
-      // The state can be null when the ResourceManager does not know about the app but the YARN
-      // application history server has an incomplete entry for it. Treat this scenario as if the
-      // application does not exist, since the final app status cannot be determined. This also
-      // matches the behavior for this scenario if the history server was not configured.
-      throw new ApplicationNotFoundException("YARN reports no state for application "
-              + appId);
+  private void onYarnAppStateChanged(ApplicationReport report) {
+    synchronized (isYarnAppRunning) {
+      this.appReport = report;
+      YarnApplicationState state = report.getYarnApplicationState();
+      if (state == YarnApplicationState.RUNNING) {
+        isYarnAppRunning.set(true);
+      } else if (isYarnAppRunning.getAndSet(false)) {
+        LOGGER.warn("Yarn app {} of interpreter group {} is {}", appId,
+            getInterpreterGroupId(), state);
+        this.errorMessage = report.getDiagnostics();
+      }
+      isYarnAppRunning.notifyAll();
     }
-    return report;
+  }
+
+  private static boolean isYarnAppStarted(ApplicationReport report) {
+    return report != null && (report.getYarnApplicationState() == YarnApplicationState.RUNNING ||
+            report.getYarnApplicationState() == YarnApplicationState.FINISHED ||
+            report.getYarnApplicationState() == YarnApplicationState.FAILED ||
+            report.getYarnApplicationState() == YarnApplicationState.KILLED);
   }
 
   private ApplicationSubmissionContext createApplicationSubmissionContext(
@@ -531,6 +543,9 @@ public class YarnRemoteInterpreterProcess extends RemoteInterpreterProcess {
       shutdown();
     }
 
+    if (appId != null) {
+      YarnAppMonitor.get(hadoopConf).removeYarnApp(appId);
+    }
     yarnClient.stop();
     LOGGER.info("Remote process terminated");
   }
@@ -18,7 +18,9 @@
 package org.apache.zeppelin.rest;
 
 import com.google.common.collect.Lists;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.ws.rs.BadRequestException;
@@ -28,7 +30,12 @@ import javax.ws.rs.Path;
 import javax.ws.rs.QueryParam;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.annotation.ZeppelinApi;
+import org.apache.zeppelin.interpreter.InterpreterSettingManager;
+import org.apache.zeppelin.interpreter.LifecycleManager;
+import org.apache.zeppelin.interpreter.lifecycle.MemoryPressureLifecycleManager;
+import org.apache.zeppelin.interpreter.remote.ThriftServerFactory;
 import org.apache.zeppelin.rest.message.LoggerRequest;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.apache.zeppelin.service.AdminService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,10 +47,13 @@ public class AdminRestApi {
   private static final Logger logger = LoggerFactory.getLogger(AdminRestApi.class);
 
   private AdminService adminService;
+  private InterpreterSettingManager interpreterSettingManager;
 
   @Inject
-  public AdminRestApi(AdminService adminService) {
+  public AdminRestApi(AdminService adminService,
+                      InterpreterSettingManager interpreterSettingManager) {
     this.adminService = adminService;
+    this.interpreterSettingManager = interpreterSettingManager;
   }
 
   /**
@@ -83,4 +93,45 @@ public class AdminRestApi {
 
     return Lists.newArrayList(adminService.getLogger(loggerRequest.getName()));
   }
+
+  /**
+   * It gets the state of the thread pools of zeppelin server.
+   *
+   * @return Threads, active, queued, completed and rejected task counts of each pool.
+   */
+  @GET
+  @Path("executors")
+  @ZeppelinApi
+  public Map<String, Map<String, Object>> getExecutors() {
+    return ExecutorFactory.singleton().getStats();
+  }
+
+  /**
+   * It gets the state of the thrift servers of zeppelin server.
+   *
+   * @return Mode, port, open and total connection and request counts of each server.
+   */
+  @GET
+  @Path("rpc")
+  @ZeppelinApi
+  public Map<String, Map<String, Object>> getRpcServers() {
+    return ThriftServerFactory.getStats();
+  }
+
+  /**
+   * It gets the metrics of the interpreter lifecycle manager.
+   *
+   * @return Memory usage and eviction counts of MemoryPressureLifecycleManager, empty for the
+   *     other lifecycle managers.
+   */
+  @GET
+  @Path("lifecycle")
+  @ZeppelinApi
+  public Map<String, Long> getLifecycleMetrics() {
+    LifecycleManager lifecycleManager = interpreterSettingManager.getLifecycleManager();
+    if (lifecycleManager instanceof MemoryPressureLifecycleManager) {
+      return ((MemoryPressureLifecycleManager) lifecycleManager).getMetrics();
+    }
+    return Collections.emptyMap();
+  }
 }
@@ -48,6 +48,7 @@ import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteInfo;
 import org.apache.zeppelin.notebook.Notebook;
 import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.notebook.ParagraphResultCache;
 import org.apache.zeppelin.notebook.AuthorizationService;
 import org.apache.zeppelin.notebook.scheduler.SchedulerService;
 import org.apache.zeppelin.rest.exception.BadRequestException;
@@ -62,6 +63,8 @@ import org.apache.zeppelin.rest.message.ParagraphJobStatus;
 import org.apache.zeppelin.rest.message.RenameNoteRequest;
 import org.apache.zeppelin.rest.message.ParametersRequest;
 import org.apache.zeppelin.rest.message.UpdateParagraphRequest;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.JobRejectedException;
 import org.apache.zeppelin.search.SearchService;
 import org.apache.zeppelin.server.JsonResponse;
 import org.apache.zeppelin.service.AuthenticationService;
@@ -718,7 +721,7 @@ public class NotebookRestApi extends AbstractRestApi {
 
     //TODO(zjffdu), can we run a note via rest api when cron is enabled ?
     try {
-      note.runAll(subject, blocking, isolated, params);
+      note.runAll(subject, blocking, isolated, params, Job.Priority.REST);
       return new JsonResponse<>(Status.OK).build();
     } catch (Exception ex) {
       LOGGER.error("Exception from run", ex);
@@ -829,7 +832,7 @@ public class NotebookRestApi extends AbstractRestApi {
     }
     notebookService.runParagraph(noteId, paragraphId, paragraph.getTitle(),
             paragraph.getText(), params, new HashMap<>(),
-            false, false, getServiceContext(), new RestServiceCallback<>());
+            false, false, Job.Priority.REST, getServiceContext(), new RestServiceCallback<>());
     return new JsonResponse<>(Status.OK).build();
   }
 
@@ -867,12 +870,15 @@ public class NotebookRestApi extends AbstractRestApi {
 
     if (notebookService.runParagraph(noteId, paragraphId, paragraph.getTitle(),
         paragraph.getText(), params,
-        new HashMap<>(), false, true, getServiceContext(), new RestServiceCallback<>())) {
+        new HashMap<>(), false, true, Job.Priority.REST, getServiceContext(),
+        new RestServiceCallback<>())) {
       note = notebookService.getNote(noteId, getServiceContext(), new RestServiceCallback<>());
       Paragraph p = note.getParagraph(paragraphId);
       InterpreterResult result = p.getReturn();
       if (result.code() == InterpreterResult.Code.SUCCESS) {
         return new JsonResponse<>(Status.OK, result).build();
+      } else if (p.getException() instanceof JobRejectedException) {
+        return new JsonResponse<>(Status.SERVICE_UNAVAILABLE, result).build();
       } else {
         return new JsonResponse<>(Status.INTERNAL_SERVER_ERROR, result).build();
       }
@@ -993,6 +999,17 @@ public class NotebookRestApi extends AbstractRestApi {
     return new JsonResponse<>(Status.OK, response).build();
   }
 
+  /**
+   * Get statistics of the queue of cron runs: pending, running, finished and dropped runs,
+   * and their wait time.
+   */
+  @GET
+  @Path("cron/queue")
+  @ZeppelinApi
+  public Response getCronQueueStats() {
+    return new JsonResponse<>(Status.OK, schedulerService.getCronQueueStats()).build();
+  }
+
   /**
    * Get note jobs for job manager.
    *
@@ -1037,6 +1054,17 @@ public class NotebookRestApi extends AbstractRestApi {
     return new JsonResponse<>(Status.OK, response).build();
   }
 
+  /**
+   * Get statistics of the paragraph result cache: hits, misses, hitRate, evictions, entries
+   * and bytes.
+   */
+  @GET
+  @Path("resultCache")
+  @ZeppelinApi
+  public Response getResultCacheStats() {
+    return new JsonResponse<>(Status.OK, ParagraphResultCache.singleton().getStats()).build();
+  }
+
   /**
    * Search for a Notes with permissions.
    */
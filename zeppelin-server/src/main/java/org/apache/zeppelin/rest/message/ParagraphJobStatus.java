@@ -21,6 +21,8 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.scheduler.Job;
 
+import java.util.Map;
+
 public class ParagraphJobStatus {
   private String id;
   private String status;
@@ -28,6 +30,10 @@ public class ParagraphJobStatus {
   private String started;
   private String finished;
   private String progress;
+  // position in the interpreter's fair scheduler queue and statistics of its queue group,
+  // only set while the paragraph is pending
+  private Integer queuePosition;
+  private Map<String, Long> queueStats;
 
   public ParagraphJobStatus(Paragraph p) {
     this.id = p.getId();
@@ -51,6 +57,10 @@ public class ParagraphJobStatus {
       }
     } else {
       this.progress = String.valueOf(0);
+      if (p.getStatus() == Job.Status.PENDING && p.getQueuePosition() >= 0) {
+        this.queuePosition = p.getQueuePosition();
+        this.queueStats = p.getQueueStats();
+      }
     }
   }
 
@@ -73,4 +83,12 @@ public class ParagraphJobStatus {
   public String getProgress() {
     return progress;
   }
+
+  public Integer getQueuePosition() {
+    return queuePosition;
+  }
+
+  public Map<String, Long> getQueueStats() {
+    return queueStats;
+  }
 }
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.server;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.cluster.ClusterManagerServer;
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.apache.zeppelin.cluster.sharding.NoteOwnership;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Redirect the rest requests of a note to the server owning the note, when note sharding is
+ * enabled in cluster mode. The redirect is temporary (307) so that the method and the body of
+ * the request are kept, and is done only once, a redirected request is served by the server
+ * it's redirected to even if the owner has changed in the meantime.
+ *
+ * The requests running or stopping a note or a paragraph are always redirected, the
+ * interpreters of the note are bound to its owner and a run by another server would compete
+ * with the owner for them. A client which can't follow the redirect, e.g. because its session
+ * cookie is scoped to the host it logged in, has to opt out explicitly by setting the
+ * {@link #FOLLOW_OWNER_HEADER} header to false. The other requests of a note are redirected
+ * only for the clients which opt in by setting the header to true.
+ */
+public class NoteOwnerRedirectFilter implements Filter {
+  private static final Logger LOGGER = LoggerFactory.getLogger(NoteOwnerRedirectFilter.class);
+
+  static final String REDIRECTED_PARAM = "noteOwnerRedirect";
+  static final String FOLLOW_OWNER_HEADER = "X-Zeppelin-Follow-Note-Owner";
+
+  // /api/notebook/{noteId}/..., /api/notebook/job/{noteId}/..., etc.
+  private static final Pattern NOTE_PATH =
+      Pattern.compile("^/api/notebook/(?:job/|cron/|run/|export/)?([^/]+)");
+  // paths of the notebook rest api which don't belong to a note
+  // paths of the requests running or stopping a note or a paragraph
+  private static final Pattern RUN_PATH = Pattern.compile("^/api/notebook/(?:job|run)/");
+  private static final Set<String> RUN_METHODS = new HashSet<>(Arrays.asList("POST", "DELETE"));
+  private static final Set<String> NON_NOTE_PATHS = new HashSet<>(Arrays.asList(
+      "import", "search", "jobmanager", "resultCache", "job", "cron", "run", "export", "queue"));
+
+  private NoteOwnership noteOwnership;
+
+  @Override
+  public void init(FilterConfig filterConfig) throws ServletException {
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    if (conf.isClusterMode()) {
+      noteOwnership = ClusterManagerServer.getInstance(conf).getNoteOwnership();
+    }
+  }
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain)
+      throws IOException, ServletException {
+    String ownerAddress = getOwnerAddress((HttpServletRequest) request);
+    if (ownerAddress == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    HttpServletRequest httpRequest = (HttpServletRequest) request;
+    StringBuilder location = new StringBuilder(ownerAddress).append(httpRequest.getRequestURI())
+        .append('?');
+    if (httpRequest.getQueryString() != null) {
+      location.append(httpRequest.getQueryString()).append('&');
+    }
+    location.append(REDIRECTED_PARAM).append("=true");
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Redirect {} {} to {}", httpRequest.getMethod(), httpRequest.getRequestURI(),
+          location);
+    }
+
+    HttpServletResponse httpResponse = (HttpServletResponse) response;
+    httpResponse.setStatus(HttpServletResponse.SC_TEMPORARY_REDIRECT);
+    httpResponse.setHeader("Location", location.toString());
+  }
+
+  // http address of the server owning the note of the request, null if the request is served
+  // by this server
+  private String getOwnerAddress(HttpServletRequest request) {
+    if (noteOwnership == null || !isRedirectAllowed(request)) {
+      return null;
+    }
+    String noteId = getNoteId(getPath(request));
+    if (noteId == null) {
+      return null;
+    }
+    HashMap<String, Object> ownerMeta = noteOwnership.getOwnerMeta(noteId);
+    if (ownerMeta == null) {
+      return null;
+    }
+    return (String) ownerMeta.get(ClusterMeta.SERVER_HTTP_ADDRESS);
+  }
+
+  static boolean isRedirectAllowed(HttpServletRequest request) {
+    // cors preflight requests can't follow redirects, and the body of the request is not parsed
+    // for the parameter
+    if ("OPTIONS".equalsIgnoreCase(request.getMethod())
+        || StringUtils.contains(request.getQueryString(), REDIRECTED_PARAM + "=")) {
+      return false;
+    }
+    String followOwner = request.getHeader(FOLLOW_OWNER_HEADER);
+    if (followOwner != null) {
+      return Boolean.parseBoolean(followOwner);
+    }
+    return isRunRequest(request);
+  }
+
+  static boolean isRunRequest(HttpServletRequest request) {
+    return RUN_METHODS.contains(StringUtils.upperCase(request.getMethod()))
+        && RUN_PATH.matcher(getPath(request)).find();
+  }
+
+  private static String getPath(HttpServletRequest request) {
+    return request.getRequestURI().substring(request.getContextPath().length());
+  }
+
+  static String getNoteId(String path) {
+    Matcher matcher = NOTE_PATH.matcher(path);
+    if (!matcher.find()) {
+      return null;
+    }
+    String noteId = matcher.group(1);
+    return StringUtils.isEmpty(noteId) || NON_NOTE_PATHS.contains(noteId) ? null : noteId;
+  }
+
+  @Override
+  public void destroy() {}
+}
@@ -297,6 +297,7 @@ public class ZeppelinServer extends ResourceConfig {
                   jettyWebServer.stop();
                 }
                 if (sharedServiceLocator != null) {
+                  sharedServiceLocator.getService(SchedulerService.class).close();
                   if (!conf.isRecoveryEnabled()) {
                     sharedServiceLocator.getService(InterpreterSettingManager.class).close();
                   }
@@ -420,6 +421,9 @@ public class ZeppelinServer extends ResourceConfig {
 
       NotebookServer notebookServer = serviceLocator.getService(NotebookServer.class);
       clusterManagerServer.addClusterEventListeners(ClusterManagerServer.CLUSTER_NOTE_EVENT_TOPIC, notebookServer);
+      if (clusterManagerServer.getNoteOwnership() != null) {
+        clusterManagerServer.getNoteOwnership().addListener(notebookServer);
+      }
 
       AuthorizationService authorizationService = serviceLocator.getService(AuthorizationService.class);
       clusterManagerServer.addClusterEventListeners(ClusterManagerServer.CLUSTER_AUTH_EVENT_TOPIC, authorizationService);
@@ -530,6 +534,11 @@ public class ZeppelinServer extends ResourceConfig {
     webapp.setSessionHandler(new SessionHandler());
     webapp.addServlet(servletHolder, "/api/*");
 
+    if (conf.isClusterMode() && conf.isClusterNoteSharding()) {
+      webapp.addFilter(new FilterHolder(NoteOwnerRedirectFilter.class), "/api/*",
+          EnumSet.allOf(DispatcherType.class));
+    }
+
     String shiroIniPath = conf.getShiroPath();
     if (!StringUtils.isBlank(shiroIniPath)) {
       webapp.setInitParameter("shiroConfigLocations", new File(shiroIniPath).toURI().toString());
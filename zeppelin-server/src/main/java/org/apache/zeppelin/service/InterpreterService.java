@@ -18,7 +18,6 @@
 package org.apache.zeppelin.service;
 
 import com.google.common.collect.Lists;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -27,7 +26,6 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import javax.inject.Inject;
 import jline.internal.Preconditions;
 import org.apache.commons.io.FileUtils;
@@ -35,6 +33,7 @@ import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.dep.DependencyResolver;
 import org.apache.zeppelin.interpreter.InterpreterSettingManager;
 import org.apache.zeppelin.rest.message.InterpreterInstallationRequest;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonatype.aether.RepositoryException;
@@ -46,11 +45,7 @@ public class InterpreterService {
 
   private static final String ZEPPELIN_ARTIFACT_PREFIX = "zeppelin-";
   private static final Logger logger = LoggerFactory.getLogger(InterpreterService.class);
-  private static final ExecutorService executorService =
-      Executors.newSingleThreadExecutor(
-          new ThreadFactoryBuilder()
-              .setNameFormat(InterpreterService.class.getSimpleName() + "-")
-              .build());
+  private static final String INSTALL_EXECUTOR = InterpreterService.class.getSimpleName() + "-";
 
   private final ZeppelinConfiguration conf;
   private final InterpreterSettingManager interpreterSettingManager;
@@ -74,6 +69,7 @@ public class InterpreterService {
     String localRepoPath = conf.getInterpreterLocalRepoPath();
 
     final DependencyResolver dependencyResolver = new DependencyResolver(localRepoPath);
+    dependencyResolver.setOffline(conf.isInterpreterDepOffline());
 
     String proxyUrl = conf.getZeppelinProxyUrl();
     if (null != proxyUrl) {
@@ -112,6 +108,7 @@ public class InterpreterService {
     }
 
     // It might take time to finish it
+    ExecutorService executorService = ExecutorFactory.singleton().createOrGet(INSTALL_EXECUTOR, 1);
     executorService.execute(
         new Runnable() {
           @Override
@@ -308,6 +308,26 @@ public class NotebookService {
                               boolean blocking,
                               ServiceContext context,
                               ServiceCallback<Paragraph> callback) throws IOException {
+    return runParagraph(noteId, paragraphId, title, text, params, config, failIfDisabled,
+        blocking, Job.Priority.INTERACTIVE, context, callback);
+  }
+
+  /**
+   * Run paragraph with the given priority, see
+   * {@link #runParagraph(String, String, String, String, Map, Map, boolean, boolean,
+   * ServiceContext, ServiceCallback)}.
+   */
+  public boolean runParagraph(String noteId,
+                              String paragraphId,
+                              String title,
+                              String text,
+                              Map<String, Object> params,
+                              Map<String, Object> config,
+                              boolean failIfDisabled,
+                              boolean blocking,
+                              Job.Priority priority,
+                              ServiceContext context,
+                              ServiceCallback<Paragraph> callback) throws IOException {
 
     LOGGER.info("Start to run paragraph: " + paragraphId + " of note: " + noteId);
     if (!checkPermission(noteId, Permission.RUNNER, Message.OP.RUN_PARAGRAPH, context, callback)) {
@@ -353,7 +373,7 @@ public class NotebookService {
 
     try {
       notebook.saveNote(note, context.getAutheInfo());
-      note.run(p.getId(), blocking, context.getAutheInfo().getUser());
+      note.run(p.getId(), blocking, context.getAutheInfo().getUser(), priority);
       callback.onSuccess(p, context);
       return true;
     } catch (Exception ex) {
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.notebook.Paragraph;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versions of the paragraphs replicated between the zeppelin servers of a cluster, so that
+ * paragraph changes can be sent as deltas instead of the whole note.
+ *
+ * Every paragraph event a server sends carries a version of one sequence of that server.
+ * A paragraph patch is the base of the following status deltas of that paragraph, which refer
+ * to the version of the patch. A receiver only applies a delta on the base it has from the same
+ * server with the same version, otherwise a patch was missed and the receiver has to fall back
+ * to the paragraph of its own notebook.
+ */
+class ClusterParagraphReplicas {
+  // keep the bases of recently changed paragraphs only, the others fall back to the notebook
+  static final int MAX_PARAGRAPHS = 1000;
+
+  // a restarted server starts a new sequence, so it identifies itself with a new source
+  private final String source = UUID.randomUUID().toString();
+  private final AtomicLong sequence = new AtomicLong(0);
+
+  // paragraphId -> version of the last patch this server sent
+  private final Map<String, Long> sentPatches = new BoundedMap<>(MAX_PARAGRAPHS);
+  // paragraphId -> last patch received from the other servers
+  private final Map<String, Replica> receivedPatches = new BoundedMap<>(MAX_PARAGRAPHS);
+
+  String getSource() {
+    return source;
+  }
+
+  /**
+   * Take the version of a patch of the paragraph this server is going to send.
+   */
+  synchronized long newPatchVersion(String paragraphId) {
+    long version = sequence.incrementAndGet();
+    sentPatches.put(paragraphId, version);
+    return version;
+  }
+
+  /**
+   * @return version of the last patch of the paragraph this server sent, null if there is none
+   */
+  synchronized Long getPatchVersion(String paragraphId) {
+    return sentPatches.get(paragraphId);
+  }
+
+  synchronized void putReplica(String source, long version, Paragraph paragraph) {
+    receivedPatches.put(paragraph.getId(), new Replica(source, version, paragraph));
+  }
+
+  /**
+   * @return last paragraph received from any server, null if there is none
+   */
+  synchronized Paragraph getReplica(String paragraphId) {
+    Replica replica = receivedPatches.get(paragraphId);
+    return replica == null ? null : replica.paragraph;
+  }
+
+  /**
+   * @return the paragraph the delta of source was based on, null if this server doesn't have
+   * that version of the paragraph
+   */
+  synchronized Paragraph getReplica(String source, long version, String paragraphId) {
+    Replica replica = receivedPatches.get(paragraphId);
+    if (replica == null || replica.version != version
+        || !StringUtils.equals(replica.source, source)) {
+      return null;
+    }
+    return replica.paragraph;
+  }
+
+  private static class Replica {
+    final String source;
+    final long version;
+    final Paragraph paragraph;
+
+    Replica(String source, long version, Paragraph paragraph) {
+      this.source = source;
+      this.version = version;
+      this.paragraph = paragraph;
+    }
+  }
+
+  private static class BoundedMap<K, V> extends LinkedHashMap<K, V> {
+    private final int maxSize;
+
+    BoundedMap(int maxSize) {
+      super(16, 0.75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+      return size() > maxSize;
+    }
+  }
+}
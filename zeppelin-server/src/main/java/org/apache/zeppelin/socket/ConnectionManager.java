@@ -155,6 +155,11 @@ public class ConnectionManager {
     }
   }
 
+  public boolean hasNoteConnection(String noteId) {
+    List<NotebookSocket> socketList = noteSocketMap.get(noteId);
+    return socketList != null && !socketList.isEmpty();
+  }
+
   public String getAssociatedNoteId(NotebookSocket socket) {
     String associatedNoteId = null;
     synchronized (noteSocketMap) {
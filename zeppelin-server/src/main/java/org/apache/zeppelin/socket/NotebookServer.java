@@ -17,8 +17,11 @@
 package org.apache.zeppelin.socket;
 
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import java.io.IOException;
 import java.lang.reflect.Type;
@@ -33,8 +36,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -46,6 +50,9 @@ import org.apache.zeppelin.cluster.ClusterManagerServer;
 import org.apache.zeppelin.cluster.event.ClusterEvent;
 import org.apache.zeppelin.cluster.event.ClusterEventListener;
 import org.apache.zeppelin.cluster.event.ClusterMessage;
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.apache.zeppelin.cluster.sharding.NoteOwnership;
+import org.apache.zeppelin.cluster.sharding.NoteOwnershipListener;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectRegistry;
@@ -75,10 +82,12 @@ import org.apache.zeppelin.notebook.repo.NotebookRepoWithVersionControl.Revision
 import org.apache.zeppelin.notebook.socket.Message;
 import org.apache.zeppelin.notebook.socket.Message.OP;
 import org.apache.zeppelin.rest.exception.ForbiddenException;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.service.ConfigurationService;
 import org.apache.zeppelin.service.JobManagerService;
 import org.apache.zeppelin.service.NotebookService;
+import org.apache.zeppelin.service.ServiceCallback;
 import org.apache.zeppelin.service.ServiceContext;
 import org.apache.zeppelin.service.SimpleServiceCallback;
 import org.apache.zeppelin.ticket.TicketContainer;
@@ -108,7 +117,8 @@ public class NotebookServer extends WebSocketServlet
         ApplicationEventListener,
         ParagraphJobListener,
         NoteEventListener,
-        ClusterEventListener {
+        ClusterEventListener,
+        NoteOwnershipListener {
 
   /**
    * Job manager service type.
@@ -138,7 +148,15 @@ public class NotebookServer extends WebSocketServlet
       .registerTypeAdapterFactory(Input.TypeAdapterFactory).create();
   private static AtomicReference<NotebookServer> self = new AtomicReference<>();
 
-  private ExecutorService executorService = Executors.newFixedThreadPool(10);
+  private ExecutorService executorService =
+      ExecutorFactory.singleton().createOrGet("NotebookServer-", 10);
+
+  private final ClusterParagraphReplicas clusterParagraphReplicas =
+      new ClusterParagraphReplicas();
+  // connections of the requests forwarded to the owners of their notes, by request id, to send
+  // the failures of the requests back to them
+  private final Cache<String, NotebookSocket> forwardedRequestConnections =
+      CacheBuilder.newBuilder().expireAfterWrite(10, TimeUnit.MINUTES).build();
 
   private Provider<Notebook> notebookProvider;
   private Provider<NotebookService> notebookServiceProvider;
@@ -599,7 +617,7 @@ public class NotebookServer extends WebSocketServlet
 
   public void broadcastParagraph(Note note, Paragraph p) {
     inlineBroadcastParagraph(note, p);
-    broadcastClusterEvent(ClusterEvent.BROADCAST_PARAGRAPH, note, p);
+    broadcastClusterParagraphPatch(note, p);
   }
 
   private void inlineBroadcastParagraphs(Map<String, Paragraph> userParagraphMap,
@@ -683,17 +701,135 @@ public class NotebookServer extends WebSocketServlet
       }
     }
 
+    broadcastClusterMessage(conf, clusterMessage);
+  }
+
+  private void broadcastClusterMessage(ZeppelinConfiguration conf, ClusterMessage clusterMessage) {
     String msg = ClusterMessage.serializeMessage(clusterMessage);
     ClusterManagerServer.getInstance(conf).broadcastClusterEvent(
         ClusterManagerServer.CLUSTER_NOTE_EVENT_TOPIC, msg);
   }
 
+  // Replicate the paragraph without the rest of the note. While the paragraph is pending or
+  // running its results are left out, the output events and the patch of the finished
+  // paragraph carry them.
+  private void broadcastClusterParagraphPatch(Note note, Paragraph p) {
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    if (!conf.isClusterMode()) {
+      return;
+    }
+
+    boolean omitResults = p.getStatus().isPending() || p.getStatus().isRunning();
+    JsonObject paragraphJson = Note.getGSON().toJsonTree(p).getAsJsonObject();
+    if (omitResults) {
+      paragraphJson.remove("results");
+    }
+    GUI formsSettings = new GUI();
+    formsSettings.setForms(note.getNoteForms());
+    formsSettings.setParams(note.getNoteParams());
+
+    ClusterMessage clusterMessage = new ClusterMessage(ClusterEvent.PARAGRAPH_PATCH)
+        .put("NoteId", note.getId())
+        .put("Paragraph", Note.getGSON().toJson(paragraphJson))
+        .put("NoteForms", formsSettings.toJson())
+        .put("OmitResults", String.valueOf(omitResults))
+        .put("Source", clusterParagraphReplicas.getSource())
+        .put("Version", String.valueOf(clusterParagraphReplicas.newPatchVersion(p.getId())));
+    broadcastClusterMessage(conf, clusterMessage);
+  }
+
+  // Replicate the status of a paragraph, based on the last patch of the paragraph
+  private void broadcastClusterParagraphStatus(Paragraph p) {
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    if (!conf.isClusterMode()) {
+      return;
+    }
+
+    Long patchVersion = clusterParagraphReplicas.getPatchVersion(p.getId());
+    if (patchVersion == null) {
+      // the other servers need a patch to apply the status on
+      broadcastClusterParagraphPatch(p.getNote(), p);
+      return;
+    }
+
+    ClusterMessage clusterMessage = new ClusterMessage(ClusterEvent.PARAGRAPH_STATUS)
+        .put("NoteId", p.getNote().getId())
+        .put("ParagraphId", p.getId())
+        .put("Status", p.getStatus().name())
+        .put("Source", clusterParagraphReplicas.getSource())
+        .put("PatchVersion", String.valueOf(patchVersion));
+    if (p.getDateStarted() != null) {
+      clusterMessage.put("DateStarted", String.valueOf(p.getDateStarted().getTime()));
+    }
+    if (p.getDateFinished() != null) {
+      clusterMessage.put("DateFinished", String.valueOf(p.getDateFinished().getTime()));
+    }
+    broadcastClusterMessage(conf, clusterMessage);
+  }
+
+  private void broadcastClusterParagraphProgress(Paragraph p, int progress) {
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    if (!conf.isClusterMode()) {
+      return;
+    }
+
+    ClusterMessage clusterMessage = new ClusterMessage(ClusterEvent.PARAGRAPH_STATUS)
+        .put("NoteId", p.getNote().getId())
+        .put("ParagraphId", p.getId())
+        .put("Progress", String.valueOf(progress));
+    broadcastClusterMessage(conf, clusterMessage);
+  }
+
+  private void broadcastClusterParagraphOutput(ClusterEvent event, String noteId,
+                                               String paragraphId, int index,
+                                               InterpreterResult.Type type, String output) {
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    if (!conf.isClusterMode()) {
+      return;
+    }
+
+    ClusterMessage clusterMessage = new ClusterMessage(event)
+        .put("NoteId", noteId)
+        .put("ParagraphId", paragraphId)
+        .put("Index", String.valueOf(index))
+        .put("Data", output);
+    if (type != null) {
+      clusterMessage.put("Type", type.name());
+    }
+    broadcastClusterMessage(conf, clusterMessage);
+  }
+
   @Override
   public void onClusterEvent(String msg) {
     if (LOG.isDebugEnabled()) {
       LOG.debug("onClusterEvent : {}", msg);
     }
     ClusterMessage message = ClusterMessage.deserializeMessage(msg);
+    if (message.clusterEvent == null) {
+      LOG.warn("Unknown clusterEvent of message version {}, msg:{}", message.getVersion(), msg);
+      return;
+    }
+
+    switch (message.clusterEvent) {
+      case PARAGRAPH_PATCH:
+        onClusterParagraphPatch(message);
+        return;
+      case PARAGRAPH_STATUS:
+        onClusterParagraphStatus(message);
+        return;
+      case PARAGRAPH_APPEND_OUTPUT:
+      case PARAGRAPH_UPDATE_OUTPUT:
+        onClusterParagraphOutput(message);
+        return;
+      case FORWARD_NOTE_REQUEST:
+        onClusterForwardedRequest(message);
+        return;
+      case FORWARD_NOTE_REPLY:
+        onClusterForwardedReply(message);
+        return;
+      default:
+        break;
+    }
 
     Note note = null;
     Paragraph paragraph = null;
@@ -753,6 +889,218 @@ public class NotebookServer extends WebSocketServlet
     }
   }
 
+  private void onClusterParagraphPatch(ClusterMessage message) {
+    String noteId = message.get("NoteId");
+    Paragraph paragraph = Paragraph.fromJson(message.get("Paragraph"));
+    Note note = getClusterNote(noteId);
+    if (Boolean.parseBoolean(message.get("OmitResults"))) {
+      Paragraph base = clusterParagraphReplicas.getReplica(paragraph.getId());
+      if (base == null && note != null) {
+        base = note.getParagraph(paragraph.getId());
+      }
+      if (base != null) {
+        paragraph.setResult(base.getReturn());
+      }
+    }
+    clusterParagraphReplicas.putReplica(message.get("Source"),
+        Long.parseLong(message.get("Version")), paragraph);
+
+    getConnectionManager().broadcast(noteId, new Message(OP.SAVE_NOTE_FORMS)
+        .put("formsData", GUI.fromJson(message.get("NoteForms"))));
+    // personalized paragraphs are replicated by BROADCAST_PARAGRAPHS
+    if (note == null || !note.isPersonalizedMode()) {
+      getConnectionManager().broadcast(noteId,
+          new Message(OP.PARAGRAPH).put("paragraph", paragraph));
+    }
+  }
+
+  private void onClusterParagraphStatus(ClusterMessage message) {
+    String noteId = message.get("NoteId");
+    String paragraphId = message.get("ParagraphId");
+    if (message.get("Progress") != null) {
+      getConnectionManager().broadcast(noteId, new Message(OP.PROGRESS)
+          .put("id", paragraphId).put("progress", Integer.parseInt(message.get("Progress"))));
+      return;
+    }
+
+    String source = message.get("Source");
+    long patchVersion = Long.parseLong(message.get("PatchVersion"));
+    Paragraph paragraph = clusterParagraphReplicas.getReplica(source, patchVersion, paragraphId);
+    Note note = getClusterNote(noteId);
+    if (paragraph == null) {
+      // The patch this status is based on was missed, continue from the paragraph
+      // of this server's notebook.
+      Paragraph localParagraph = note == null ? null : note.getParagraph(paragraphId);
+      if (localParagraph == null) {
+        LOG.warn("Paragraph {} of note {} doesn't exist, skip its status", paragraphId, noteId);
+        return;
+      }
+      paragraph = Paragraph.fromJson(localParagraph.toJson());
+      clusterParagraphReplicas.putReplica(source, patchVersion, paragraph);
+    }
+
+    paragraph.setStatusWithoutNotification(Status.valueOf(message.get("Status")));
+    if (message.get("DateStarted") != null) {
+      paragraph.setDateStarted(new Date(Long.parseLong(message.get("DateStarted"))));
+    }
+    if (message.get("DateFinished") != null) {
+      paragraph.setDateFinished(new Date(Long.parseLong(message.get("DateFinished"))));
+    }
+    if (note == null || !note.isPersonalizedMode()) {
+      getConnectionManager().broadcast(noteId,
+          new Message(OP.PARAGRAPH).put("paragraph", paragraph));
+    }
+  }
+
+  private void onClusterParagraphOutput(ClusterMessage message) {
+    String noteId = message.get("NoteId");
+    String paragraphId = message.get("ParagraphId");
+    int index = Integer.parseInt(message.get("Index"));
+    if (message.clusterEvent == ClusterEvent.PARAGRAPH_APPEND_OUTPUT) {
+      getConnectionManager().broadcast(noteId, new Message(OP.PARAGRAPH_APPEND_OUTPUT)
+          .put("noteId", noteId).put("paragraphId", paragraphId)
+          .put("index", index).put("data", message.get("Data")));
+      return;
+    }
+
+    Message msg = new Message(OP.PARAGRAPH_UPDATE_OUTPUT).put("noteId", noteId)
+        .put("paragraphId", paragraphId).put("index", index)
+        .put("type", InterpreterResult.Type.valueOf(message.get("Type")))
+        .put("data", message.get("Data"));
+    Note note = getClusterNote(noteId);
+    Paragraph paragraph = note == null ? null : note.getParagraph(paragraphId);
+    if (paragraph != null && note.isPersonalizedMode()) {
+      if (null != paragraph.getUser()) {
+        getConnectionManager().multicastToUser(paragraph.getUser(), msg);
+      }
+    } else {
+      getConnectionManager().broadcast(noteId, msg);
+    }
+  }
+
+  // Forward the request of the note to the server owning it when note sharding is enabled,
+  // the clients of this server get the results by the cluster paragraph events and the failure
+  // of the request by FORWARD_NOTE_REPLY. The user is authenticated by this server and its
+  // identity is passed to the owner only by the cluster transport, the same as the rest
+  // requests running a note are served by the owner, which authenticates the redirected client.
+  private boolean forwardToNoteOwner(NotebookSocket conn, String noteId, Message fromMessage) {
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    if (!conf.isClusterMode() || noteId == null) {
+      return false;
+    }
+    ClusterManagerServer clusterManagerServer = ClusterManagerServer.getInstance(conf);
+    NoteOwnership noteOwnership = clusterManagerServer.getNoteOwnership();
+    HashMap<String, Object> ownerMeta =
+        noteOwnership == null ? null : noteOwnership.getOwnerMeta(noteId);
+    if (ownerMeta == null) {
+      return false;
+    }
+
+    String requestId = UUID.randomUUID().toString();
+    forwardedRequestConnections.put(requestId, conn);
+    ClusterMessage clusterMessage = new ClusterMessage(ClusterEvent.FORWARD_NOTE_REQUEST)
+        .put("NoteId", noteId)
+        .put("Message", serializeMessage(fromMessage))
+        .put("RequestId", requestId)
+        .put("ReplyHost", clusterManagerServer.getClusterHost())
+        .put("ReplyPort", String.valueOf(clusterManagerServer.getClusterPort()));
+    clusterManagerServer.unicastClusterEvent((String) ownerMeta.get(ClusterMeta.SERVER_HOST),
+        (int) ownerMeta.get(ClusterMeta.SERVER_PORT), ClusterManagerServer.CLUSTER_NOTE_EVENT_TOPIC,
+        ClusterMessage.serializeMessage(clusterMessage));
+    return true;
+  }
+
+  // Run the request forwarded by another server, which doesn't own the note
+  private void onClusterForwardedRequest(ClusterMessage message) {
+    String noteId = message.get("NoteId");
+    Message fromMessage = deserializeMessage(message.get("Message"));
+    ServiceContext context = getServiceContext(fromMessage);
+    try {
+      Note note = getNotebook().getNote(noteId);
+      if (note != null && !note.isRunning() && !note.haveRunningOrPendingParagraphs()) {
+        // the note may be changed by the other server since it's loaded by this server
+        getNotebook().getNote(noteId, true);
+      }
+      switch (fromMessage.op) {
+        case RUN_PARAGRAPH:
+          runParagraph(noteId, fromMessage, context,
+              new ForwardedRequestCallback<Paragraph>(message) {
+                @Override
+                public void onSuccess(Paragraph p, ServiceContext context) throws IOException {
+                  super.onSuccess(p, context);
+                  onParagraphRun(p, (String) fromMessage.get("id"), context);
+                }
+              });
+          break;
+        case RUN_ALL_PARAGRAPHS:
+          runAllParagraphs(noteId, fromMessage, context,
+              new ForwardedRequestCallback<>(message));
+          break;
+        case CANCEL_PARAGRAPH:
+          getNotebookService().cancelParagraph(noteId, (String) fromMessage.get("id"), context,
+              new ForwardedRequestCallback<>(message));
+          break;
+        default:
+          LOG.warn("Can not run forwarded request {} of note {}", fromMessage.op, noteId);
+          replyForwardedRequest(message, new Message(OP.ERROR_INFO)
+              .put("info", "Can not run forwarded request " + fromMessage.op));
+          break;
+      }
+    } catch (IOException e) {
+      LOG.error("Fail to run forwarded request {} of note {}", fromMessage.op, noteId, e);
+      replyForwardedRequest(message, getFailureMessage(e));
+    }
+  }
+
+  // Send the failure of the forwarded request back to the server which forwarded it
+  private void replyForwardedRequest(ClusterMessage request, Message failure) {
+    if (request.get("RequestId") == null) {
+      // forwarded by a server which doesn't wait for the reply
+      return;
+    }
+    ClusterMessage clusterMessage = new ClusterMessage(ClusterEvent.FORWARD_NOTE_REPLY)
+        .put("RequestId", request.get("RequestId"))
+        .put("Message", serializeMessage(failure));
+    ClusterManagerServer.getInstance(ZeppelinConfiguration.create()).unicastClusterEvent(
+        request.get("ReplyHost"), Integer.parseInt(request.get("ReplyPort")),
+        ClusterManagerServer.CLUSTER_NOTE_EVENT_TOPIC,
+        ClusterMessage.serializeMessage(clusterMessage));
+  }
+
+  // Send the failure of the request forwarded by this server to the connection sending it
+  private void onClusterForwardedReply(ClusterMessage message) {
+    String requestId = message.get("RequestId");
+    NotebookSocket conn = forwardedRequestConnections.getIfPresent(requestId);
+    if (conn == null) {
+      LOG.warn("No connection of the forwarded request {}, it may be closed", requestId);
+      return;
+    }
+    forwardedRequestConnections.invalidate(requestId);
+    try {
+      conn.send(message.get("Message"));
+    } catch (IOException e) {
+      LOG.error("Fail to send the reply of the forwarded request {}", requestId, e);
+    }
+  }
+
+  @Override
+  public void onOwnershipChanged(NoteOwnership noteOwnership) {
+    // notes which are not owned any more are loaded again when they are accessed
+    int unloaded = getNotebook().unloadNotes(noteId -> !noteOwnership.isOwner(noteId)
+        && !getConnectionManager().hasNoteConnection(noteId));
+    LOG.info("Unloaded {} notes which are owned by other servers", unloaded);
+  }
+
+  // note of this server's notebook that a cluster event refers to, null if there is none
+  private Note getClusterNote(String noteId) {
+    try {
+      return getNotebook().getNote(noteId);
+    } catch (IOException e) {
+      LOG.warn("Fail to get note {} of cluster event", noteId, e);
+      return null;
+    }
+  }
+
   public void listNotesInfo(NotebookSocket conn, Message message) throws IOException {
     getNotebookService().listNotesInfo(false, getServiceContext(message),
         new WebSocketServiceCallback<List<NoteInfo>>(conn) {
@@ -1471,6 +1819,9 @@ public class NotebookServer extends WebSocketServlet
   private void cancelParagraph(NotebookSocket conn, Message fromMessage) throws IOException {
     final String paragraphId = (String) fromMessage.get("id");
     String noteId = getConnectionManager().getAssociatedNoteId(conn);
+    if (forwardToNoteOwner(conn, noteId, fromMessage)) {
+      return;
+    }
     getNotebookService().cancelParagraph(noteId, paragraphId, getServiceContext(fromMessage),
         new WebSocketServiceCallback<>(conn));
   }
@@ -1478,13 +1829,21 @@ public class NotebookServer extends WebSocketServlet
   private void runAllParagraphs(NotebookSocket conn,
                                 Message fromMessage) throws IOException {
     final String noteId = (String) fromMessage.get("noteId");
+    if (forwardToNoteOwner(conn, noteId, fromMessage)) {
+      return;
+    }
+    runAllParagraphs(noteId, fromMessage, getServiceContext(fromMessage),
+        new WebSocketServiceCallback<Paragraph>(conn));
+  }
+
+  private void runAllParagraphs(String noteId, Message fromMessage, ServiceContext context,
+                                ServiceCallback<Paragraph> callback) throws IOException {
     List<Map<String, Object>> paragraphs =
         gson.fromJson(String.valueOf(fromMessage.data.get("paragraphs")),
             new TypeToken<List<Map<String, Object>>>() {
             }.getType());
 
-    getNotebookService().runAllParagraphs(noteId, paragraphs, getServiceContext(fromMessage),
-        new WebSocketServiceCallback<Paragraph>(conn));
+    getNotebookService().runAllParagraphs(noteId, paragraphs, context, callback);
   }
 
   private void broadcastSpellExecution(NotebookSocket conn,
@@ -1507,34 +1866,48 @@ public class NotebookServer extends WebSocketServlet
                             Message fromMessage) throws IOException {
     String paragraphId = (String) fromMessage.get("id");
     String noteId = getConnectionManager().getAssociatedNoteId(conn);
-    String text = (String) fromMessage.get("paragraph");
-    String title = (String) fromMessage.get("title");
-    Map<String, Object> params = (Map<String, Object>) fromMessage.get("params");
-    Map<String, Object> config = (Map<String, Object>) fromMessage.get("config");
-    getNotebookService().runParagraph(noteId, paragraphId, title, text, params, config,
-        false, false, getServiceContext(fromMessage),
+    if (forwardToNoteOwner(conn, noteId, fromMessage)) {
+      return;
+    }
+    runParagraph(noteId, fromMessage, getServiceContext(fromMessage),
         new WebSocketServiceCallback<Paragraph>(conn) {
           @Override
           public void onSuccess(Paragraph p, ServiceContext context) throws IOException {
             super.onSuccess(p, context);
-            if (p.getNote().isPersonalizedMode()) {
-              Paragraph p2 = p.getNote().clearPersonalizedParagraphOutput(paragraphId,
-                  context.getAutheInfo().getUser());
-              getConnectionManager().unicastParagraph(p.getNote(), p2, context.getAutheInfo().getUser());
-            }
-
-            // if it's the last paragraph and not empty, let's add a new one
-            boolean isTheLastParagraph = p.getNote().isLastParagraph(paragraphId);
-            if (!(Strings.isNullOrEmpty(p.getText()) ||
-                Strings.isNullOrEmpty(p.getScriptText())) &&
-                isTheLastParagraph) {
-              Paragraph newPara = p.getNote().addNewParagraph(p.getAuthenticationInfo());
-              broadcastNewParagraph(p.getNote(), newPara);
-            }
+            onParagraphRun(p, paragraphId, context);
           }
         });
   }
 
+  private void runParagraph(String noteId, Message fromMessage, ServiceContext context,
+                            ServiceCallback<Paragraph> callback) throws IOException {
+    String paragraphId = (String) fromMessage.get("id");
+    String text = (String) fromMessage.get("paragraph");
+    String title = (String) fromMessage.get("title");
+    Map<String, Object> params = (Map<String, Object>) fromMessage.get("params");
+    Map<String, Object> config = (Map<String, Object>) fromMessage.get("config");
+    getNotebookService().runParagraph(noteId, paragraphId, title, text, params, config,
+        false, false, context, callback);
+  }
+
+  private void onParagraphRun(Paragraph p, String paragraphId, ServiceContext context)
+      throws IOException {
+    if (p.getNote().isPersonalizedMode()) {
+      Paragraph p2 = p.getNote().clearPersonalizedParagraphOutput(paragraphId,
+          context.getAutheInfo().getUser());
+      getConnectionManager().unicastParagraph(p.getNote(), p2, context.getAutheInfo().getUser());
+    }
+
+    // if it's the last paragraph and not empty, let's add a new one
+    boolean isTheLastParagraph = p.getNote().isLastParagraph(paragraphId);
+    if (!(Strings.isNullOrEmpty(p.getText()) ||
+        Strings.isNullOrEmpty(p.getScriptText())) &&
+        isTheLastParagraph) {
+      Paragraph newPara = p.getNote().addNewParagraph(p.getAuthenticationInfo());
+      broadcastNewParagraph(p.getNote(), newPara);
+    }
+  }
+
   private void sendAllConfigurations(NotebookSocket conn,
                                      Message message) throws IOException {
 
@@ -1652,6 +2025,8 @@ public class NotebookServer extends WebSocketServlet
     Message msg = new Message(OP.PARAGRAPH_APPEND_OUTPUT).put("noteId", noteId)
         .put("paragraphId", paragraphId).put("index", index).put("data", output);
     getConnectionManager().broadcast(noteId, msg);
+    broadcastClusterParagraphOutput(ClusterEvent.PARAGRAPH_APPEND_OUTPUT,
+        noteId, paragraphId, index, null, output);
   }
 
   /**
@@ -1680,6 +2055,8 @@ public class NotebookServer extends WebSocketServlet
       } else {
         getConnectionManager().broadcast(noteId, msg);
       }
+      broadcastClusterParagraphOutput(ClusterEvent.PARAGRAPH_UPDATE_OUTPUT,
+          noteId, paragraphId, index, type, output);
     } catch (IOException e) {
       LOG.warn("Fail to call onOutputUpdated", e);
     }
@@ -1887,6 +2264,7 @@ public class NotebookServer extends WebSocketServlet
   public void onProgressUpdate(Paragraph p, int progress) {
     getConnectionManager().broadcast(p.getNote().getId(),
         new Message(OP.PROGRESS).put("id", p.getId()).put("progress", progress));
+    broadcastClusterParagraphProgress(p, progress);
   }
 
   @Override
@@ -1920,7 +2298,13 @@ public class NotebookServer extends WebSocketServlet
     }
 
     p.setStatusToUserParagraph(p.getStatus());
-    broadcastParagraph(p.getNote(), p);
+    inlineBroadcastParagraph(p.getNote(), p);
+    if (p.isTerminated()) {
+      // results are final, replicate them with the paragraph
+      broadcastClusterParagraphPatch(p.getNote(), p);
+    } else {
+      broadcastClusterParagraphStatus(p);
+    }
     try {
       broadcastUpdateNoteJobInfo(p.getNote(), System.currentTimeMillis() - 5000);
     } catch (IOException e) {
@@ -2232,19 +2616,40 @@ public class NotebookServer extends WebSocketServlet
     @Override
     public void onFailure(Exception ex, ServiceContext context) throws IOException {
       super.onFailure(ex, context);
-      if (ex instanceof ForbiddenException) {
-        Type type = new TypeToken<Map<String, String>>() {}.getType();
-        Map<String, String> jsonObject =
-            gson.fromJson(((ForbiddenException) ex).getResponse().getEntity().toString(), type);
-        conn.send(serializeMessage(new Message(OP.AUTH_INFO)
-            .put("info", jsonObject.get("message"))));
-      } else {
-        String message = ex.getMessage();
-        if (ex.getCause() != null) {
-          message += ", cause: " + ex.getCause().getMessage();
-        }
-        conn.send(serializeMessage(new Message(OP.ERROR_INFO).put("info", message)));
-      }
+      conn.send(serializeMessage(getFailureMessage(ex)));
+    }
+  }
+
+  /**
+   * Callback of the request forwarded by another server, which sends the failure of the
+   * request back to the server forwarding it.
+   */
+  private class ForwardedRequestCallback<T> extends SimpleServiceCallback<T> {
+
+    private ClusterMessage request;
+
+    ForwardedRequestCallback(ClusterMessage request) {
+      this.request = request;
+    }
+
+    @Override
+    public void onFailure(Exception ex, ServiceContext context) throws IOException {
+      super.onFailure(ex, context);
+      replyForwardedRequest(request, getFailureMessage(ex));
+    }
+  }
+
+  private static Message getFailureMessage(Exception ex) {
+    if (ex instanceof ForbiddenException) {
+      Type type = new TypeToken<Map<String, String>>() {}.getType();
+      Map<String, String> jsonObject =
+          gson.fromJson(((ForbiddenException) ex).getResponse().getEntity().toString(), type);
+      return new Message(OP.AUTH_INFO).put("info", jsonObject.get("message"));
+    }
+    String message = ex.getMessage();
+    if (ex.getCause() != null) {
+      message += ", cause: " + ex.getCause().getMessage();
     }
+    return new Message(OP.ERROR_INFO).put("info", message);
   }
 }
@@ -27,6 +27,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -36,6 +38,11 @@ import static org.junit.Assert.fail;
 public class ClusterNoteEventListenerTest implements ClusterEventListener {
   private static Logger LOGGER = LoggerFactory.getLogger(ClusterNoteEventListenerTest.class);
 
+  // keys of the paragraph delta events besides Paragraph
+  private static final Set<String> PARAGRAPH_DELTA_KEYS = new HashSet<>(Arrays.asList(
+      "NoteId", "ParagraphId", "NoteForms", "OmitResults", "Source", "Version", "PatchVersion",
+      "Status", "DateStarted", "DateFinished", "Progress", "Index", "Type", "Data"));
+
   public String receiveMsg = null;
 
   @Override
@@ -75,6 +82,8 @@ public class ClusterNoteEventListenerTest implements ClusterEventListener {
         userParagraphMap = gson.fromJson(json, new TypeToken<Map<String, Paragraph>>() {
         }.getType());
         LOGGER.debug(userParagraphMap.toString());
+      } else if (PARAGRAPH_DELTA_KEYS.contains(key)) {
+        LOGGER.debug("{} : {}", key, json);
       } else {
         receiveMsg = null;
         fail("Unknown clusterEvent : " + message.clusterEvent);
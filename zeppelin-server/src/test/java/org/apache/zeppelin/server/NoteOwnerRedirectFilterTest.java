@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.server;
+
+import org.junit.Test;
+
+import javax.servlet.http.HttpServletRequest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NoteOwnerRedirectFilterTest {
+
+  @Test
+  public void testNoteIdOfPath() {
+    assertEquals("2A94M5J1Z", NoteOwnerRedirectFilter.getNoteId("/api/notebook/2A94M5J1Z"));
+    assertEquals("2A94M5J1Z",
+        NoteOwnerRedirectFilter.getNoteId("/api/notebook/2A94M5J1Z/paragraph/p1"));
+    assertEquals("2A94M5J1Z", NoteOwnerRedirectFilter.getNoteId("/api/notebook/job/2A94M5J1Z"));
+    assertEquals("2A94M5J1Z",
+        NoteOwnerRedirectFilter.getNoteId("/api/notebook/run/2A94M5J1Z/p1"));
+    assertEquals("2A94M5J1Z", NoteOwnerRedirectFilter.getNoteId("/api/notebook/cron/2A94M5J1Z"));
+    assertEquals("2A94M5J1Z",
+        NoteOwnerRedirectFilter.getNoteId("/api/notebook/export/2A94M5J1Z"));
+
+    assertNull(NoteOwnerRedirectFilter.getNoteId("/api/notebook"));
+    assertNull(NoteOwnerRedirectFilter.getNoteId("/api/notebook/"));
+    assertNull(NoteOwnerRedirectFilter.getNoteId("/api/notebook/import"));
+    assertNull(NoteOwnerRedirectFilter.getNoteId("/api/notebook/search"));
+    assertNull(NoteOwnerRedirectFilter.getNoteId("/api/notebook/cron/queue"));
+    assertNull(NoteOwnerRedirectFilter.getNoteId("/api/notebook/jobmanager/12345/"));
+    assertNull(NoteOwnerRedirectFilter.getNoteId("/api/interpreter/setting"));
+  }
+
+  @Test
+  public void testRedirectOnlyOptedInClients() {
+    String path = "/api/notebook/2A94M5J1Z";
+    assertFalse(NoteOwnerRedirectFilter.isRedirectAllowed(mockRequest("POST", path, null, null)));
+    assertFalse(
+        NoteOwnerRedirectFilter.isRedirectAllowed(mockRequest("POST", path, "false", null)));
+    assertTrue(NoteOwnerRedirectFilter.isRedirectAllowed(mockRequest("POST", path, "true", null)));
+    assertTrue(NoteOwnerRedirectFilter.isRedirectAllowed(mockRequest("GET", path, "true", "a=1")));
+    // preflight and already redirected requests are served locally
+    assertFalse(
+        NoteOwnerRedirectFilter.isRedirectAllowed(mockRequest("OPTIONS", path, "true", null)));
+    assertFalse(NoteOwnerRedirectFilter.isRedirectAllowed(
+        mockRequest("GET", path, "true", "a=1&noteOwnerRedirect=true")));
+  }
+
+  @Test
+  public void testRedirectRunRequestsByDefault() {
+    assertTrue(NoteOwnerRedirectFilter.isRedirectAllowed(
+        mockRequest("POST", "/api/notebook/job/2A94M5J1Z", null, null)));
+    assertTrue(NoteOwnerRedirectFilter.isRedirectAllowed(
+        mockRequest("POST", "/api/notebook/job/2A94M5J1Z/p1", null, null)));
+    assertTrue(NoteOwnerRedirectFilter.isRedirectAllowed(
+        mockRequest("DELETE", "/api/notebook/job/2A94M5J1Z/p1", null, null)));
+    assertTrue(NoteOwnerRedirectFilter.isRedirectAllowed(
+        mockRequest("POST", "/api/notebook/run/2A94M5J1Z/p1", null, "a=1")));
+    // the status of the jobs is served locally
+    assertFalse(NoteOwnerRedirectFilter.isRedirectAllowed(
+        mockRequest("GET", "/api/notebook/job/2A94M5J1Z", null, null)));
+    // clients which can't follow the redirect opt out explicitly
+    assertFalse(NoteOwnerRedirectFilter.isRedirectAllowed(
+        mockRequest("POST", "/api/notebook/job/2A94M5J1Z", "false", null)));
+    assertFalse(NoteOwnerRedirectFilter.isRedirectAllowed(
+        mockRequest("POST", "/api/notebook/run/2A94M5J1Z/p1", null, "noteOwnerRedirect=true")));
+  }
+
+  private HttpServletRequest mockRequest(String method, String path, String followOwner,
+                                         String query) {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    when(request.getMethod()).thenReturn(method);
+    when(request.getContextPath()).thenReturn("");
+    when(request.getRequestURI()).thenReturn(path);
+    when(request.getHeader(NoteOwnerRedirectFilter.FOLLOW_OWNER_HEADER)).thenReturn(followOwner);
+    when(request.getQueryString()).thenReturn(query);
+    return request;
+  }
+}
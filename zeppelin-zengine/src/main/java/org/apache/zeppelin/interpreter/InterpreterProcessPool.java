@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterManagedProcess;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of interpreter processes launched ahead of time for an interpreter setting in isolated
+ * mode (per user or per note), so that a new interpreter group doesn't wait for the launch of
+ * its process. A prelaunched process is bound to an interpreter group when it is taken from the
+ * pool, the interpreters of each session and their user are created in it afterwards as usual.
+ * The pool is filled when the interpreter setting is created, loaded or updated, and refilled
+ * in the background after each take.
+ *
+ * Only the processes of the local launchers without user impersonation are prelaunched, because
+ * the os user and environment of a process can not be changed after it is launched.
+ */
+public class InterpreterProcessPool {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(InterpreterProcessPool.class);
+
+  public static final String POOL_SIZE = "zeppelin.interpreter.prelaunch.size";
+  private static final String EXECUTOR_NAME = "InterpreterProcessPool-";
+  private static final Set<String> LOCAL_LAUNCHERS = new HashSet<>(
+      Arrays.asList("StandardInterpreterLauncher", "SparkInterpreterLauncher"));
+  private static final AtomicLong SEQUENCE = new AtomicLong();
+
+  private final InterpreterSetting interpreterSetting;
+  private final LinkedList<RemoteInterpreterManagedProcess> idleProcesses = new LinkedList<>();
+  // processes being launched, they register themselves to the event server before being idle
+  private final Map<String, RemoteInterpreterProcess> launchingProcesses =
+      new ConcurrentHashMap<>();
+  // properties which the idle processes are launched with
+  private Properties properties;
+  private int launching;
+  // increased when the pool is closed, so that the processes launched before are dropped
+  private long generation;
+
+  InterpreterProcessPool(InterpreterSetting interpreterSetting) {
+    this.interpreterSetting = interpreterSetting;
+  }
+
+  /**
+   * Take an idle process and bind it to the given interpreter group. Return null if the pool
+   * is disabled, empty, or the processes in it are not launched with the given properties
+   * (e.g. the properties are changed via ConfInterpreter).
+   */
+  public RemoteInterpreterManagedProcess take(String interpreterGroupId, Properties properties) {
+    if (!isEnabled(properties)) {
+      return null;
+    }
+    Properties settingProperties = interpreterSetting.getJavaProperties();
+    RemoteInterpreterManagedProcess process = null;
+    synchronized (this) {
+      if (!settingProperties.equals(this.properties)) {
+        // interpreter setting is updated, the idle processes are outdated
+        clear();
+        this.properties = settingProperties;
+      }
+      if (properties.equals(this.properties)) {
+        while (process == null && !idleProcesses.isEmpty()) {
+          process = idleProcesses.poll();
+          if (!process.isRunning()) {
+            LOGGER.warn("Prelaunched interpreter process {} is not running: {}",
+                process.getInterpreterGroupId(), process.getErrorMessage());
+            process.stop();
+            process = null;
+          }
+        }
+      }
+      fill();
+    }
+    if (process != null) {
+      LOGGER.info("Bind prelaunched interpreter process {} to InterpreterGroup: {}",
+          process.getInterpreterGroupId(), interpreterGroupId);
+      process.setInterpreterGroupId(interpreterGroupId);
+    }
+    return process;
+  }
+
+  /**
+   * Launch the idle processes ahead of the first take, so that the first interpreter group
+   * doesn't wait either. Called when the interpreter setting is created, loaded or updated.
+   */
+  public void prefill() {
+    Properties settingProperties = interpreterSetting.getJavaProperties();
+    if (!isEnabled(settingProperties)) {
+      return;
+    }
+    synchronized (this) {
+      if (!settingProperties.equals(this.properties)) {
+        clear();
+        this.properties = settingProperties;
+      }
+      fill();
+    }
+  }
+
+  /**
+   * Process which is being launched for this pool, used when it registers itself.
+   */
+  public RemoteInterpreterProcess getLaunchingProcess(String interpreterGroupId) {
+    return launchingProcesses.get(interpreterGroupId);
+  }
+
+  @VisibleForTesting
+  public synchronized int getIdleCount() {
+    return idleProcesses.size();
+  }
+
+  /**
+   * Stop all the idle processes, the pool is refilled on next prefill or take.
+   */
+  public synchronized void close() {
+    clear();
+    this.properties = null;
+  }
+
+  private boolean isEnabled(Properties properties) {
+    InterpreterOption option = interpreterSetting.getOption();
+    return getSize(properties) > 0 && option.isIsolated() && !option.isUserImpersonate()
+        && !option.isExistingProcess()
+        && LOCAL_LAUNCHERS.contains(interpreterSetting.getLauncherPlugin(properties));
+  }
+
+  private int getSize(Properties properties) {
+    return Integer.parseInt(properties.getProperty(POOL_SIZE, "0"));
+  }
+
+  private void clear() {
+    generation++;
+    List<RemoteInterpreterManagedProcess> processes = new ArrayList<>(idleProcesses);
+    idleProcesses.clear();
+    if (!processes.isEmpty()) {
+      LOGGER.info("Stop {} prelaunched interpreter processes of {}", processes.size(),
+          interpreterSetting.getName());
+      ExecutorFactory.singleton().createOrGet(EXECUTOR_NAME, 2).submit(() -> {
+        for (RemoteInterpreterManagedProcess process : processes) {
+          process.stop();
+        }
+      });
+    }
+  }
+
+  private void fill() {
+    int size = getSize(properties);
+    while (idleProcesses.size() + launching < size) {
+      launching++;
+      long launchGeneration = generation;
+      Properties launchProperties = properties;
+      ExecutorFactory.singleton().createOrGet(EXECUTOR_NAME, 2).submit(
+          () -> launch(launchGeneration, launchProperties));
+    }
+  }
+
+  private void launch(long launchGeneration, Properties launchProperties) {
+    String id = interpreterSetting.getId() + "-prelaunched-" + SEQUENCE.incrementAndGet();
+    RemoteInterpreterManagedProcess process = null;
+    try {
+      RemoteInterpreterProcess launched =
+          interpreterSetting.launchInterpreterProcess(id, "anonymous", launchProperties);
+      if (launched instanceof RemoteInterpreterManagedProcess) {
+        process = (RemoteInterpreterManagedProcess) launched;
+        LOGGER.info("Prelaunch interpreter process {}", id);
+        launchingProcesses.put(id, process);
+        process.start("anonymous");
+      } else {
+        LOGGER.warn("Unable to prelaunch interpreter process of {}", interpreterSetting.getName());
+        launched.stop();
+      }
+    } catch (Exception e) {
+      LOGGER.warn("Fail to prelaunch interpreter process of " + interpreterSetting.getName(), e);
+      if (process != null) {
+        process.stop();
+        process = null;
+      }
+    } finally {
+      launchingProcesses.remove(id);
+    }
+
+    boolean idle = false;
+    synchronized (this) {
+      launching--;
+      if (process != null && launchGeneration == generation) {
+        idleProcesses.add(process);
+        idle = true;
+      }
+    }
+    if (process != null && !idle) {
+      process.stop();
+    }
+  }
+}
@@ -128,6 +128,8 @@ public class InterpreterSetting {
   private final transient Map<String, ManagedInterpreterGroup> interpreterGroups =
       new ConcurrentHashMap<>();
 
+  private final transient InterpreterProcessPool processPool = new InterpreterProcessPool(this);
+
   private final transient ReentrantReadWriteLock.ReadLock interpreterGroupReadLock;
   private final transient ReentrantReadWriteLock.WriteLock interpreterGroupWriteLock;
 
@@ -543,6 +545,7 @@ public class InterpreterSetting {
 
   public void close() {
     LOGGER.info("Close InterpreterSetting: " + name);
+    processPool.close();
     List<Thread> closeThreads = interpreterGroups.values().stream()
             .map(g -> new Thread(g::close, name + "-close"))
             .peek(t -> t.setUncaughtExceptionHandler((th, e) ->
@@ -862,14 +865,36 @@ public class InterpreterSetting {
                                                                  Properties properties)
       throws IOException {
     InterpreterLauncher launcher = createLauncher(properties);
-    InterpreterLaunchContext launchContext = new
-        InterpreterLaunchContext(properties, option, interpreterRunner, userName,
-        interpreterGroupId, id, group, name, interpreterEventServer.getPort(), interpreterEventServer.getHost());
-    RemoteInterpreterProcess process = (RemoteInterpreterProcess) launcher.launch(launchContext);
+    RemoteInterpreterProcess process = (RemoteInterpreterProcess) launcher.launch(
+        createLaunchContext(interpreterGroupId, userName, properties));
     recoveryStorage.onInterpreterClientStart(process);
     return process;
   }
 
+  /**
+   * Create interpreter process without recording it in RecoveryStorage, used to prelaunch
+   * interpreter process before it is bound to any interpreter group.
+   */
+  RemoteInterpreterProcess launchInterpreterProcess(String interpreterGroupId,
+                                                    String userName,
+                                                    Properties properties)
+      throws IOException {
+    InterpreterLauncher launcher = createLauncher(properties);
+    return (RemoteInterpreterProcess) launcher.launchDirectly(
+        createLaunchContext(interpreterGroupId, userName, properties));
+  }
+
+  private InterpreterLaunchContext createLaunchContext(String interpreterGroupId,
+                                                       String userName,
+                                                       Properties properties) {
+    return new InterpreterLaunchContext(properties, option, interpreterRunner, userName,
+        interpreterGroupId, id, group, name, interpreterEventServer.getPort(), interpreterEventServer.getHost());
+  }
+
+  public InterpreterProcessPool getProcessPool() {
+    return processPool;
+  }
+
   List<Interpreter> getOrCreateSession(String user, String noteId) {
     return getOrCreateSession(new ExecutionContextBuilder().setUser(user).setNoteId(noteId).createExecutionContext());
   }
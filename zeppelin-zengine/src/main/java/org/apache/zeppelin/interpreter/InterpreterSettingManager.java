@@ -57,6 +57,7 @@ import org.apache.zeppelin.notebook.NoteEventListener;
 import org.apache.zeppelin.notebook.Notebook;
 import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.notebook.ParagraphTextParser;
+import org.apache.zeppelin.resource.DistributedResourcePool;
 import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
@@ -171,6 +172,7 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     LOGGER.debug("InterpreterRootPath: {}", interpreterDirPath);
     this.dependencyResolver =
         new DependencyResolver(conf.getString(ConfVars.ZEPPELIN_INTERPRETER_LOCALREPO));
+    this.dependencyResolver.setOffline(conf.isInterpreterDepOffline());
     this.interpreterRepositories = dependencyResolver.getRepos();
     this.defaultInterpreterGroup = conf.getString(ConfVars.ZEPPELIN_INTERPRETER_GROUP_DEFAULT);
     this.gson = new GsonBuilder().setPrettyPrinting().create();
@@ -351,6 +353,10 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
 
     // must init Recovery after init of InterpreterSettingManager
     recoveryStorage.init();
+
+    for (InterpreterSetting interpreterSetting : interpreterSettings.values()) {
+      interpreterSetting.getProcessPool().prefill();
+    }
   }
 
   /**
@@ -544,6 +550,19 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     return null;
   }
 
+  /**
+   * Get the process which is being prelaunched with the given interpreter group id.
+   */
+  public RemoteInterpreterProcess getPrelaunchedProcess(String groupId) {
+    for (InterpreterSetting setting : interpreterSettings.values()) {
+      RemoteInterpreterProcess process = setting.getProcessPool().getLaunchingProcess(groupId);
+      if (process != null) {
+        return process;
+      }
+    }
+    return null;
+  }
+
   /**
    * Get editor setting for one paragraph based on its paragraph text and noteId
    *
@@ -676,6 +695,10 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     return recoveryStorage;
   }
 
+  public LifecycleManager getLifecycleManager() {
+    return lifecycleManager;
+  }
+
   public void removeResourcesBelongsToParagraph(String noteId, String paragraphId) {
     for (ManagedInterpreterGroup intpGroup : getAllInterpreterGroup()) {
       ResourceSet resourceSet = new ResourceSet();
@@ -828,6 +851,7 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     initInterpreterSetting(setting);
     interpreterSettings.put(setting.getId(), setting);
     saveToFile();
+    setting.getProcessPool().prefill();
 
     return setting;
   }
@@ -889,6 +913,7 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
         if (initiator) {
           saveToFile();
         }
+        intpSetting.getProcessPool().prefill();
       } catch (Exception e) {
         loadFromFile();
         throw new IOException(e);
@@ -940,6 +965,7 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     InterpreterSetting setting = interpreterSettings.get(id);
     copyDependenciesFromLocalPath(setting);
     setting.close();
+    setting.getProcessPool().prefill();
   }
 
   public InterpreterSetting get(String id) {
@@ -991,6 +1017,19 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     return removed;
   }
 
+  /**
+   * @return true when any interpreter setting enables the cache of remote resources, see
+   *     {@link DistributedResourcePool#REMOTE_CACHE_SIZE}
+   */
+  public boolean isResourcePoolRemoteCacheInUse() {
+    for (InterpreterSetting setting : interpreterSettings.values()) {
+      if (DistributedResourcePool.isRemoteCacheEnabled(setting.getJavaProperties())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Get interpreter settings
    */
@@ -61,10 +61,13 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
       throws IOException {
     synchronized (interpreterProcessCreationLock) {
       if (remoteInterpreterProcess == null) {
-        LOGGER.info("Create InterpreterProcess for InterpreterGroup: " + getId());
-        remoteInterpreterProcess = interpreterSetting.createInterpreterProcess(id, userName,
-                properties);
-        remoteInterpreterProcess.start(userName);
+        remoteInterpreterProcess = interpreterSetting.getProcessPool().take(id, properties);
+        if (remoteInterpreterProcess == null) {
+          LOGGER.info("Create InterpreterProcess for InterpreterGroup: " + getId());
+          remoteInterpreterProcess = interpreterSetting.createInterpreterProcess(id, userName,
+                  properties);
+          remoteInterpreterProcess.start(userName);
+        }
         interpreterSetting.getLifecycleManager().onInterpreterProcessStarted(this);
         getInterpreterSetting().getRecoveryStorage()
                 .onInterpreterClientStart(remoteInterpreterProcess);
@@ -20,8 +20,8 @@ package org.apache.zeppelin.interpreter;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import org.apache.thrift.TException;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.helium.ApplicationEventListener;
@@ -31,6 +31,7 @@ import org.apache.zeppelin.interpreter.remote.RemoteAngularObject;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.apache.zeppelin.interpreter.remote.ThriftServerFactory;
 import org.apache.zeppelin.interpreter.thrift.AppOutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.AppOutputUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.AppStatusUpdateEvent;
@@ -45,11 +46,13 @@ import org.apache.zeppelin.interpreter.thrift.RunParagraphsEvent;
 import org.apache.zeppelin.interpreter.thrift.ServiceException;
 import org.apache.zeppelin.interpreter.thrift.WebUrlInfo;
 import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.resource.DistributedResourcePool;
 import org.apache.zeppelin.resource.RemoteResource;
 import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,7 +62,7 @@ import java.nio.ByteBuffer;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -72,20 +75,27 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
   private String portRange;
   private int port;
   private String host;
-  private TThreadPoolServer thriftServer;
+  private TServer thriftServer;
   private InterpreterSettingManager interpreterSettingManager;
 
+  private static final String APPEND_EXECUTOR = "AppendOutput-";
   private final ScheduledExecutorService appendService =
-      Executors.newSingleThreadScheduledExecutor();
+      ExecutorFactory.singleton().createOrGetScheduled(APPEND_EXECUTOR, 1);
+  // push resource invalidations to interpreter processes in order, without blocking the caller
+  private static final String RESOURCE_INVALIDATE_EXECUTOR = "ResourceInvalidate-";
+  private final ExecutorService resourceInvalidateService =
+      ExecutorFactory.singleton().createOrGet(RESOURCE_INVALIDATE_EXECUTOR, 1);
   private ScheduledFuture<?> appendFuture;
   private AppendOutputRunner runner;
   private final RemoteInterpreterProcessListener listener;
   private final ApplicationEventListener appListener;
+  private final ZeppelinConfiguration zConf;
 
 
   public RemoteInterpreterEventServer(ZeppelinConfiguration zConf,
                                       InterpreterSettingManager interpreterSettingManager) {
     this.portRange = zConf.getZeppelinServerRPCPortRange();
+    this.zConf = zConf;
     this.interpreterSettingManager = interpreterSettingManager;
     this.listener = interpreterSettingManager.getRemoteInterpreterProcessListener();
     this.appListener = interpreterSettingManager.getAppEventListener();
@@ -95,10 +105,10 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     Thread startingThread = new Thread() {
       @Override
       public void run() {
-        TServerSocket tSocket = null;
+        TServerTransport tSocket = null;
         try {
-          tSocket = RemoteInterpreterUtils.createTServerSocket(portRange);
-          port = tSocket.getServerSocket().getLocalPort();
+          tSocket = ThriftServerFactory.createServerTransport(zConf, portRange);
+          port = ThriftServerFactory.getPort(tSocket);
           host = RemoteInterpreterUtils.findAvailableHostAddress();
         } catch (IOException e1) {
           throw new RuntimeException(e1);
@@ -107,8 +117,8 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
         LOGGER.info("InterpreterEventServer is starting at {}:{}", host, port);
         RemoteInterpreterEventService.Processor processor =
             new RemoteInterpreterEventService.Processor(RemoteInterpreterEventServer.this);
-        thriftServer = new TThreadPoolServer(
-            new TThreadPoolServer.Args(tSocket).processor(processor));
+        thriftServer = ThriftServerFactory.createServer(zConf, "RemoteInterpreterEventServer",
+            tSocket, processor);
         thriftServer.serve();
       }
     };
@@ -142,7 +152,8 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     if (appendFuture != null) {
       appendFuture.cancel(true);
     }
-    appendService.shutdownNow();
+    ExecutorFactory.singleton().shutdownNow(APPEND_EXECUTOR);
+    ExecutorFactory.singleton().shutdownNow(RESOURCE_INVALIDATE_EXECUTOR);
     LOGGER.info("RemoteInterpreterEventServer is stopped");
   }
 
@@ -159,18 +170,29 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
   public void registerInterpreterProcess(RegisterInfo registerInfo) throws TException {
     InterpreterGroup interpreterGroup =
         interpreterSettingManager.getInterpreterGroupById(registerInfo.getInterpreterGroupId());
-    if (interpreterGroup == null) {
-      LOGGER.warn("No such interpreterGroup: " + registerInfo.getInterpreterGroupId());
-      return;
+    RemoteInterpreterProcess interpreterProcess;
+    if (interpreterGroup != null) {
+      interpreterProcess = ((ManagedInterpreterGroup) interpreterGroup).getInterpreterProcess();
+    } else {
+      // prelaunched process which is not bound to any interpreter group yet
+      interpreterProcess =
+          interpreterSettingManager.getPrelaunchedProcess(registerInfo.getInterpreterGroupId());
+      if (interpreterProcess == null) {
+        LOGGER.warn("No such interpreterGroup: " + registerInfo.getInterpreterGroupId());
+        return;
+      }
     }
-    RemoteInterpreterProcess interpreterProcess =
-        ((ManagedInterpreterGroup) interpreterGroup).getInterpreterProcess();
     if (interpreterProcess == null) {
       LOGGER.warn("Interpreter process does not existed yet for InterpreterGroup: " +
           registerInfo.getInterpreterGroupId());
     }
-    LOGGER.info("Register interpreter process: {}:{}, {}",
-            registerInfo.getHost(), registerInfo.getPort(), registerInfo.getInterpreterGroupId());
+    LOGGER.info("Register interpreter process: {}:{}, {}, startup times(ms): {}",
+            registerInfo.getHost(), registerInfo.getPort(), registerInfo.getInterpreterGroupId(),
+            registerInfo.getStartupTimes());
+    interpreterProcess.setStartupTimes(registerInfo.getStartupTimes());
+    if (registerInfo.isSetPid()) {
+      interpreterProcess.setPid(registerInfo.getPid());
+    }
     interpreterProcess.processStarted(registerInfo.port, registerInfo.host);
   }
 
@@ -277,6 +299,48 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     }
   }
 
+  /**
+   * Forward the invalidation of a resource owned by intpGroupId to all the other
+   * running interpreter processes that cache remote resources, so they drop their
+   * cached value of it.
+   *
+   * @param intpGroupId owner interpreter group id
+   * @param json serialized ResourceInvalidateEventMessage
+   * @throws TException
+   */
+  @Override
+  public void invalidateResource(String intpGroupId, String json) throws TException {
+    LOGGER.debug("Invalidate resource, interpreterGroupId: {}, json: {}", intpGroupId, json);
+    resourceInvalidateService.submit(() -> {
+      for (ManagedInterpreterGroup intpGroup :
+          interpreterSettingManager.getAllInterpreterGroup()) {
+        if (intpGroup.getId().equals(intpGroupId) || !isRemoteCacheEnabled(intpGroup)) {
+          continue;
+        }
+        RemoteInterpreterProcess remoteInterpreterProcess =
+            intpGroup.getRemoteInterpreterProcess();
+        if (remoteInterpreterProcess == null || !remoteInterpreterProcess.isRunning()) {
+          continue;
+        }
+        try {
+          remoteInterpreterProcess.callRemoteFunction(client -> {
+            client.resourceInvalidate(json);
+            return null;
+          });
+        } catch (Exception e) {
+          LOGGER.warn("Fail to invalidate resource of interpreter group: " +
+              intpGroup.getId(), e);
+        }
+      }
+    });
+  }
+
+  private boolean isRemoteCacheEnabled(ManagedInterpreterGroup intpGroup) {
+    InterpreterSetting setting = intpGroup.getInterpreterSetting();
+    return setting != null
+        && DistributedResourcePool.isRemoteCacheEnabled(setting.getJavaProperties());
+  }
+
   @Override
   public void updateAngularObject(String intpGroupId, String json) throws TException {
     AngularObject angularObject = AngularObject.fromJson(json);
@@ -305,6 +369,16 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     }
   }
 
+  @Override
+  public void updateAngularObjects(String intpGroupId, String json) throws TException {
+    List<String> angularObjectJsons = GSON.fromJson(json,
+        new TypeToken<List<String>>() {
+        }.getType());
+    for (String angularObjectJson : angularObjectJsons) {
+      updateAngularObject(intpGroupId, angularObjectJson);
+    }
+  }
+
   @Override
   public void removeAngularObject(String intpGroupId,
                                   String noteId,
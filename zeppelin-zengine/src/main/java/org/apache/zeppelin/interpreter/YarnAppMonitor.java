@@ -17,86 +17,127 @@
 
 package org.apache.zeppelin.interpreter;
 
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.yarn.api.records.ApplicationId;
 import org.apache.hadoop.yarn.api.records.ApplicationReport;
 import org.apache.hadoop.yarn.api.records.YarnApplicationState;
 import org.apache.hadoop.yarn.client.api.YarnClient;
 import org.apache.hadoop.yarn.conf.YarnConfiguration;
+import org.apache.hadoop.yarn.exceptions.ApplicationNotFoundException;
+import org.apache.hadoop.yarn.exceptions.YarnException;
+import org.apache.hadoop.yarn.util.Records;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterManagedProcess;
-import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
  * This class will launch a thread to check yarn app status regularly.
+ *
+ * The status of all the monitored yarn apps is fetched in bulk, by one getApplications call for
+ * the active apps of their users and application types, and fanned out to the listener of each
+ * app. Only the app that is checked the first time, or that is no longer active, is fetched by
+ * its own getApplicationReport call, so there are at most 2 such calls for each app.
+ *
+ * An app is checked every 2 seconds until it is running, then every
+ * zeppelin.interpreter.yarn.monitor.interval_secs, which is doubled after each check until
+ * zeppelin.interpreter.yarn.monitor.max_interval_secs. The bulk call is only made when any
+ * app is due to be checked, the other apps in its result keep their check interval unless
+ * their state has changed.
  */
 public class YarnAppMonitor {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(YarnAppMonitor.class);
-  private static YarnAppMonitor instance;
 
-  private ZeppelinConfiguration conf;
-  private ScheduledExecutorService executor;
+  private static final EnumSet<YarnApplicationState> ACTIVE_STATES = EnumSet.of(
+      YarnApplicationState.NEW, YarnApplicationState.NEW_SAVING, YarnApplicationState.SUBMITTED,
+      YarnApplicationState.ACCEPTED, YarnApplicationState.RUNNING);
+  private static final long STARTING_CHECK_INTERVAL = 2000;
+  private static final long TICK_INTERVAL = 1000;
+
+  // resource manager -> YarnAppMonitor
+  private static final Map<String, YarnAppMonitor> INSTANCES = new HashMap<>();
+
+  private final long checkInterval;
+  private final long maxCheckInterval;
   private YarnClient yarnClient;
-  private ConcurrentHashMap<ApplicationId, RemoteInterpreterManagedProcess> apps;
+  private final ConcurrentHashMap<ApplicationId, YarnApp> apps = new ConcurrentHashMap<>();
+
+  /**
+   * Listener of the status of yarn app.
+   */
+  public interface YarnAppListener {
 
-  public static synchronized YarnAppMonitor get() {
-    if (instance == null) {
-      instance = new YarnAppMonitor();
+    /**
+     * Called when the state of yarn app is changed, including the first time it is checked.
+     * It is not called any more after the app is finished, failed or killed. An app which is
+     * not found by yarn, or whose state is not reported, is reported as failed.
+     *
+     * @param report
+     */
+    void onYarnAppStateChanged(ApplicationReport report);
+  }
+
+  private static class YarnApp {
+    private final YarnAppListener listener;
+    // null until the app is checked the first time
+    private YarnApplicationState state;
+    private String applicationType;
+    private String user;
+    private long checkInterval;
+    private long nextCheckTime;
+
+    YarnApp(YarnAppListener listener) {
+      this.listener = listener;
     }
-    return instance;
   }
 
-  private YarnAppMonitor() {
+  public static YarnAppMonitor get() {
+    return get(new YarnConfiguration());
+  }
+
+  /**
+   * Get the YarnAppMonitor of the resource manager of this hadoop configuration.
+   */
+  public static synchronized YarnAppMonitor get(Configuration hadoopConf) {
+    String resourceManager =
+        hadoopConf.get(YarnConfiguration.RM_ADDRESS, YarnConfiguration.DEFAULT_RM_ADDRESS) + "/" +
+        hadoopConf.get(YarnConfiguration.RM_CLUSTER_ID, "");
+    return INSTANCES.computeIfAbsent(resourceManager,
+        k -> new YarnAppMonitor(ZeppelinConfiguration.create(), hadoopConf));
+  }
+
+  private YarnAppMonitor(ZeppelinConfiguration conf, Configuration hadoopConf) {
+    this.checkInterval = getCheckInterval(conf);
+    this.maxCheckInterval = getMaxCheckInterval(conf);
     try {
-      this.conf = ZeppelinConfiguration.create();
       this.yarnClient = YarnClient.createYarnClient();
-      YarnConfiguration yarnConf = new YarnConfiguration();
+      YarnConfiguration yarnConf = new YarnConfiguration(hadoopConf);
       // disable timeline service as we only query yarn app here.
       // Otherwise we may hit this kind of ERROR:
       // java.lang.ClassNotFoundException: com.sun.jersey.api.client.config.ClientConfig
       yarnConf.set("yarn.timeline-service.enabled", "false");
       yarnClient.init(yarnConf);
       yarnClient.start();
-      this.executor = Executors.newSingleThreadScheduledExecutor(new SchedulerThreadFactory("YarnAppsMonitor-Thread"));
-      this.apps = new ConcurrentHashMap<>();
-      this.executor.scheduleAtFixedRate(() -> {
-                try {
-                  Iterator<Map.Entry<ApplicationId, RemoteInterpreterManagedProcess>> iter = apps.entrySet().iterator();
-                  while (iter.hasNext()) {
-                    Map.Entry<ApplicationId, RemoteInterpreterManagedProcess> entry = iter.next();
-                    ApplicationId appId = entry.getKey();
-                    RemoteInterpreterManagedProcess interpreterManagedProcess = entry.getValue();
-                    ApplicationReport appReport = yarnClient.getApplicationReport(appId);
-                    if (appReport.getYarnApplicationState() == YarnApplicationState.FAILED ||
-                            appReport.getYarnApplicationState() == YarnApplicationState.KILLED) {
-                      String yarnDiagnostics = appReport.getDiagnostics();
-                      interpreterManagedProcess.processStopped("Yarn diagnostics: " + yarnDiagnostics);
-                      iter.remove();
-                      LOGGER.info("Remove " + appId + " from YarnAppMonitor, because its state is " +
-                              appReport.getYarnApplicationState());
-                    } else if (appReport.getYarnApplicationState() == YarnApplicationState.FINISHED) {
-                      iter.remove();
-                      LOGGER.info("Remove " + appId + " from YarnAppMonitor, because its state is " +
-                              appReport.getYarnApplicationState());
-                    }
-                  }
-                } catch (Exception e) {
-                  LOGGER.warn("Fail to check yarn app status", e);
-                }
-              },
-              conf.getInt("zeppelin.interpreter.yarn.monitor.interval_secs", 10),
-              conf.getInt("zeppelin.interpreter.yarn.monitor.interval_secs", 10),
-              TimeUnit.SECONDS);
+      ExecutorFactory.singleton().createOrGetScheduled("YarnAppsMonitor-", 1)
+          .scheduleWithFixedDelay(() -> {
+            try {
+              checkApps(System.currentTimeMillis());
+            } catch (Exception e) {
+              LOGGER.warn("Fail to check yarn app status", e);
+            }
+          }, TICK_INTERVAL, TICK_INTERVAL, TimeUnit.MILLISECONDS);
 
       LOGGER.info("YarnAppMonitor is started");
     } catch (Throwable e) {
@@ -104,8 +145,143 @@ public class YarnAppMonitor {
     }
   }
 
-  public void addYarnApp(ApplicationId appId, RemoteInterpreterManagedProcess interpreterManagedProcess) {
+  @VisibleForTesting
+  YarnAppMonitor(ZeppelinConfiguration conf, YarnClient yarnClient) {
+    this.checkInterval = getCheckInterval(conf);
+    this.maxCheckInterval = getMaxCheckInterval(conf);
+    this.yarnClient = yarnClient;
+  }
+
+  private static long getCheckInterval(ZeppelinConfiguration conf) {
+    return conf.getInt(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_YARN_MONITOR_INTERVAL_SECS) * 1000L;
+  }
+
+  private static long getMaxCheckInterval(ZeppelinConfiguration conf) {
+    return Math.max(getCheckInterval(conf), conf.getInt(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_YARN_MONITOR_MAX_INTERVAL_SECS) * 1000L);
+  }
+
+  public void addYarnApp(ApplicationId appId, YarnAppListener listener) {
     LOGGER.info("Add " + appId + " to YarnAppMonitor");
-    this.apps.put(appId, interpreterManagedProcess);
+    this.apps.put(appId, new YarnApp(listener));
+  }
+
+  public void addYarnApp(ApplicationId appId, RemoteInterpreterManagedProcess interpreterManagedProcess) {
+    addYarnApp(appId, report -> {
+      if (report.getYarnApplicationState() == YarnApplicationState.FAILED ||
+              report.getYarnApplicationState() == YarnApplicationState.KILLED) {
+        interpreterManagedProcess.processStopped("Yarn diagnostics: " + report.getDiagnostics());
+      }
+    });
+  }
+
+  public void removeYarnApp(ApplicationId appId) {
+    if (this.apps.remove(appId) != null) {
+      LOGGER.info("Remove " + appId + " from YarnAppMonitor");
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void checkApps(long now) throws IOException, YarnException {
+    boolean due = false;
+    Set<String> applicationTypes = new HashSet<>();
+    Set<String> users = new HashSet<>();
+    for (YarnApp app : apps.values()) {
+      due |= app.nextCheckTime <= now;
+      if (app.applicationType != null && app.user != null) {
+        applicationTypes.add(app.applicationType);
+        users.add(app.user);
+      }
+    }
+    if (!due) {
+      return;
+    }
+
+    Map<ApplicationId, ApplicationReport> activeReports = new HashMap<>();
+    if (!applicationTypes.isEmpty()) {
+      // only the apps of the users of the monitored apps, not all the apps on the cluster
+      for (ApplicationReport report :
+          yarnClient.getApplications(null, users, applicationTypes, ACTIVE_STATES)) {
+        activeReports.put(report.getApplicationId(), report);
+      }
+    }
+    for (Map.Entry<ApplicationId, YarnApp> entry : apps.entrySet()) {
+      ApplicationId appId = entry.getKey();
+      YarnApp app = entry.getValue();
+      ApplicationReport report = activeReports.get(appId);
+      if (report == null) {
+        // checked the first time, or no longer active
+        try {
+          report = yarnClient.getApplicationReport(appId);
+        } catch (ApplicationNotFoundException e) {
+          LOGGER.warn("Report " + appId + " as failed, because it is not found");
+          report = createLostReport(appId, app, "Yarn app " + appId + " is not found");
+        } catch (IOException | YarnException e) {
+          LOGGER.warn("Fail to check status of yarn app " + appId, e);
+          continue;
+        }
+        if (report.getYarnApplicationState() == null) {
+          // The state can be null when the ResourceManager does not know about the app but the
+          // YARN application history server has an incomplete entry for it.
+          LOGGER.warn("Report " + appId + " as failed, because yarn reports no state");
+          report = createLostReport(appId, app, "Yarn reports no state of app " + appId);
+        }
+      }
+      if (app.nextCheckTime > now && report.getYarnApplicationState() == app.state) {
+        // not due, keep its back off
+        continue;
+      }
+      update(appId, app, report, now);
+    }
+  }
+
+  /**
+   * Report of the app which is lost without a final state, as a failed app, so that its
+   * listener is notified before the app is removed.
+   */
+  private static ApplicationReport createLostReport(ApplicationId appId, YarnApp app,
+                                                    String diagnostics) {
+    ApplicationReport report = Records.newRecord(ApplicationReport.class);
+    report.setApplicationId(appId);
+    report.setApplicationType(app.applicationType);
+    report.setUser(app.user);
+    report.setYarnApplicationState(YarnApplicationState.FAILED);
+    report.setDiagnostics(diagnostics);
+    return report;
+  }
+
+  @VisibleForTesting
+  synchronized long getNextCheckTime(ApplicationId appId) {
+    YarnApp app = apps.get(appId);
+    return app == null ? -1 : app.nextCheckTime;
+  }
+
+  private void update(ApplicationId appId, YarnApp app, ApplicationReport report, long now) {
+    YarnApplicationState state = report.getYarnApplicationState();
+    YarnApplicationState previousState = app.state;
+    app.state = state;
+    app.applicationType = report.getApplicationType();
+    app.user = report.getUser();
+    if (state != previousState) {
+      try {
+        app.listener.onYarnAppStateChanged(report);
+      } catch (Exception e) {
+        LOGGER.warn("Fail to notify status of yarn app " + appId, e);
+      }
+    }
+
+    if (!ACTIVE_STATES.contains(state)) {
+      apps.remove(appId, app);
+      LOGGER.info("Remove " + appId + " from YarnAppMonitor, because its state is " + state);
+    } else if (state != YarnApplicationState.RUNNING) {
+      app.checkInterval = Math.min(STARTING_CHECK_INTERVAL, checkInterval);
+      app.nextCheckTime = now + app.checkInterval;
+    } else {
+      // back off while the app keeps running
+      app.checkInterval = previousState != YarnApplicationState.RUNNING ? checkInterval :
+          Math.min(app.checkInterval * 2, maxCheckInterval);
+      app.nextCheckTime = now + app.checkInterval;
+    }
   }
 }
@@ -87,6 +87,14 @@ public class StandardInterpreterLauncher extends InterpreterLauncher {
       }
     }
     env.put("INTERPRETER_GROUP_ID", context.getInterpreterGroupId());
+    env.putAll(buildRpcEnv());
+    // interpreter.sh generates and reuses class data sharing archive of this interpreter setting
+    String cdsEnabled = context.getProperties().getProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_CDS_ENABLED.getVarName(),
+        String.valueOf(zConf.isInterpreterCdsEnabled()));
+    if (Boolean.parseBoolean(cdsEnabled)) {
+      env.put("ZEPPELIN_INTP_CDS_ENABLED", "true");
+    }
     return env;
   }
 }
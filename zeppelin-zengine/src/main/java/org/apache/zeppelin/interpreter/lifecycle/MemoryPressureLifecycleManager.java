@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.lifecycle;
+
+import com.sun.management.OperatingSystemMXBean;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.cluster.ClusterManagerServer;
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.apache.zeppelin.cluster.meta.ClusterMetaType;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterServer;
+import org.apache.zeppelin.interpreter.util.ProcessMemory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Besides closing interpreter groups after timeout like {@link TimeoutLifecycleManager}, this
+ * lifecycle manager closes idle interpreter groups when the memory usage of the host exceeds the
+ * high watermark. The least recently used groups are closed first, until the memory used by
+ * their processes brings the usage below the low watermark.
+ *
+ * In cluster mode the usage of each zeppelin server host is checked on its own, and only the
+ * groups whose process runs on a host above the high watermark are closed. Otherwise all the
+ * groups are charged to this host.
+ *
+ * Memory of an interpreter process is its resident memory when it runs on this host (based on
+ * the pid it reports when registering), or the memory reported by its cluster heartbeat.
+ */
+public class MemoryPressureLifecycleManager extends TimeoutLifecycleManager {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(MemoryPressureLifecycleManager.class);
+
+  // host of the memory usage outside cluster mode, all the interpreter groups are charged to it
+  static final String LOCAL_HOST = "";
+
+  private final ZeppelinConfiguration zConf;
+  private final float highWatermark;
+  private final float lowWatermark;
+  private final long minIdleTime;
+
+  private final AtomicLong pressureChecks = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong evictedBytes = new AtomicLong();
+  private final AtomicLong lastEvictionTime = new AtomicLong();
+  private volatile Map<String, MemoryUsage> lastMemoryUsages = Collections.emptyMap();
+  private volatile boolean started = false;
+
+  public MemoryPressureLifecycleManager(ZeppelinConfiguration zConf) {
+    super(zConf);
+    this.zConf = zConf;
+    this.highWatermark = zConf.getFloat(ZeppelinConfiguration.ConfVars
+        .ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_MEMORY_HIGH_WATERMARK);
+    float low = zConf.getFloat(ZeppelinConfiguration.ConfVars
+        .ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_MEMORY_LOW_WATERMARK);
+    if (low > highWatermark) {
+      LOGGER.warn("Low memory watermark {} is greater than high watermark {}, use {} instead",
+          low, highWatermark, highWatermark);
+      low = highWatermark;
+    }
+    this.lowWatermark = low;
+    this.minIdleTime = zConf.getLong(ZeppelinConfiguration.ConfVars
+        .ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_MEMORY_MIN_IDLE_TIME);
+    this.started = true;
+    LOGGER.info("MemoryPressureLifecycleManager is started with highWatermark: " + highWatermark
+        + ", lowWatermark: " + lowWatermark + ", minIdleTime: " + minIdleTime);
+  }
+
+  @Override
+  protected void checkInterpreterGroups() {
+    super.checkInterpreterGroups();
+    // the first check may be scheduled before this constructor is finished
+    if (!started) {
+      return;
+    }
+    try {
+      checkMemoryPressure(System.currentTimeMillis());
+    } catch (Exception e) {
+      // never let the exception cancel the periodical check
+      LOGGER.warn("Fail to check memory pressure", e);
+    }
+  }
+
+  void checkMemoryPressure(long now) {
+    Map<String, MemoryUsage> usages = getMemoryUsages();
+    lastMemoryUsages = usages;
+    for (Map.Entry<String, MemoryUsage> entry : usages.entrySet()) {
+      checkMemoryPressure(now, entry.getKey(), entry.getValue());
+    }
+  }
+
+  private void checkMemoryPressure(long now, String host, MemoryUsage usage) {
+    if (usage.capacity <= 0 || usage.used <= highWatermark * usage.capacity) {
+      return;
+    }
+    pressureChecks.incrementAndGet();
+
+    long bytesToFree = usage.used - (long) (lowWatermark * usage.capacity);
+    // idle interpreter groups running on the host, least recently used first
+    List<ManagedInterpreterGroup> idleGroups = interpreterGroups.entrySet().stream()
+        .filter(entry -> now - entry.getValue() >= minIdleTime)
+        .filter(entry -> LOCAL_HOST.equals(host) || host.equals(getHost(entry.getKey())))
+        .sorted(Map.Entry.comparingByValue())
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+    if (idleGroups.isEmpty()) {
+      LOGGER.warn("Memory usage {}/{} of host {} is above the high watermark, but no interpreter "
+          + "group on it is idle for {} ms", usage.used, usage.capacity, host, minIdleTime);
+      return;
+    }
+
+    for (ManagedInterpreterGroup interpreterGroup : idleGroups) {
+      long memory = getProcessMemory(interpreterGroup);
+      LOGGER.info("Close idle InterpreterGroup {} using {} bytes, as memory usage {}/{} of host "
+              + "{} is above the high watermark", interpreterGroup.getId(), memory, usage.used,
+          usage.capacity, host);
+      closeInterpreterGroup(interpreterGroup);
+      evictions.incrementAndGet();
+      lastEvictionTime.set(now);
+      if (memory < 0) {
+        // unknown memory, measure again in the next check before closing more
+        break;
+      }
+      evictedBytes.addAndGet(memory);
+      bytesToFree -= memory;
+      if (bytesToFree <= 0) {
+        break;
+      }
+    }
+    LOGGER.info("Memory pressure metrics: {}", getMetrics());
+  }
+
+  /**
+   * Memory usage of each online zeppelin server host in cluster mode, otherwise of this host
+   * under {@link #LOCAL_HOST}.
+   */
+  protected Map<String, MemoryUsage> getMemoryUsages() {
+    if (zConf.isClusterMode()) {
+      Map<String, MemoryUsage> clusterUsages = getClusterMemoryUsages();
+      if (!clusterUsages.isEmpty()) {
+        return clusterUsages;
+      }
+    }
+    return Collections.singletonMap(LOCAL_HOST, getHostMemoryUsage());
+  }
+
+  /**
+   * Host the process of the interpreter group runs on, null if unknown.
+   */
+  protected String getHost(ManagedInterpreterGroup interpreterGroup) {
+    RemoteInterpreterProcess process = interpreterGroup.getInterpreterProcess();
+    if (process == null) {
+      return null;
+    }
+    try {
+      return process.getHost();
+    } catch (Exception e) {
+      LOGGER.debug("Fail to get host of InterpreterGroup {}", interpreterGroup.getId(), e);
+      return null;
+    }
+  }
+
+  /**
+   * Memory in bytes used by the process of the interpreter group, -1 if unknown.
+   */
+  protected long getProcessMemory(ManagedInterpreterGroup interpreterGroup) {
+    RemoteInterpreterProcess process = interpreterGroup.getInterpreterProcess();
+    if (process == null) {
+      return -1;
+    }
+    long pid = process.getPid();
+    // make sure the pid is not from a process running on another host
+    if (ProcessMemory.commandLineContains(pid, RemoteInterpreterServer.class.getName())) {
+      return ProcessMemory.residentMemory(pid);
+    }
+    if (zConf.isClusterMode()) {
+      Map<String, Object> meta = ClusterManagerServer.getInstance(zConf)
+          .getClusterMeta(ClusterMetaType.INTP_PROCESS_META, interpreterGroup.getId())
+          .get(interpreterGroup.getId());
+      if (meta != null && meta.get(ClusterMeta.INTP_MEMORY_USED) instanceof Number) {
+        return ((Number) meta.get(ClusterMeta.INTP_MEMORY_USED)).longValue();
+      }
+    }
+    return -1;
+  }
+
+  private Map<String, MemoryUsage> getClusterMemoryUsages() {
+    Map<String, HashMap<String, Object>> servers = ClusterManagerServer.getInstance(zConf)
+        .getClusterMeta(ClusterMetaType.SERVER_META, "");
+    Map<String, MemoryUsage> usages = new HashMap<>();
+    for (Map<String, Object> meta : servers.values()) {
+      if (!ClusterMeta.ONLINE_STATUS.equals(meta.get(ClusterMeta.STATUS))
+          || !(meta.get(ClusterMeta.SERVER_HOST) instanceof String)
+          || !(meta.get(ClusterMeta.MEMORY_USED) instanceof Number)
+          || !(meta.get(ClusterMeta.MEMORY_CAPACITY) instanceof Number)) {
+        continue;
+      }
+      usages.put((String) meta.get(ClusterMeta.SERVER_HOST),
+          new MemoryUsage(((Number) meta.get(ClusterMeta.MEMORY_USED)).longValue(),
+              ((Number) meta.get(ClusterMeta.MEMORY_CAPACITY)).longValue()));
+    }
+    return usages;
+  }
+
+  private MemoryUsage getHostMemoryUsage() {
+    // MemAvailable counts reclaimable page cache as free, unlike the free physical memory
+    File meminfo = new File("/proc/meminfo");
+    if (meminfo.isFile()) {
+      try {
+        long total = -1;
+        long available = -1;
+        for (String line : Files.readAllLines(meminfo.toPath(), StandardCharsets.UTF_8)) {
+          if (line.startsWith("MemTotal:")) {
+            total = parseMemInfoBytes(line);
+          } else if (line.startsWith("MemAvailable:")) {
+            available = parseMemInfoBytes(line);
+          }
+        }
+        if (total > 0 && available >= 0) {
+          return new MemoryUsage(total - available, total);
+        }
+      } catch (IOException | NumberFormatException e) {
+        LOGGER.debug("Unable to read /proc/meminfo", e);
+      }
+    }
+    OperatingSystemMXBean osBean =
+        ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+    long total = osBean.getTotalPhysicalMemorySize();
+    return new MemoryUsage(total - osBean.getFreePhysicalMemorySize(), total);
+  }
+
+  private static long parseMemInfoBytes(String line) {
+    // MemTotal:       16314972 kB
+    String value = StringUtils.substringAfter(line, ":").trim();
+    return Long.parseLong(StringUtils.substringBefore(value, " ")) * 1024;
+  }
+
+  /**
+   * Metrics of memory pressure and the evictions caused by it. The memory usage of the last
+   * check is summed over the hosts, and is also given per host in cluster mode.
+   */
+  public Map<String, Long> getMetrics() {
+    Map<String, Long> metrics = new TreeMap<>();
+    Map<String, MemoryUsage> usages = lastMemoryUsages;
+    long used = 0;
+    long capacity = 0;
+    for (Map.Entry<String, MemoryUsage> entry : usages.entrySet()) {
+      used += entry.getValue().used;
+      capacity += entry.getValue().capacity;
+      if (!LOCAL_HOST.equals(entry.getKey())) {
+        metrics.put("memoryUsed." + entry.getKey(), entry.getValue().used);
+        metrics.put("memoryCapacity." + entry.getKey(), entry.getValue().capacity);
+      }
+    }
+    metrics.put("interpreterGroups", (long) interpreterGroups.size());
+    metrics.put("hosts", (long) usages.size());
+    metrics.put("memoryUsed", usages.isEmpty() ? -1 : used);
+    metrics.put("memoryCapacity", usages.isEmpty() ? -1 : capacity);
+    metrics.put("pressureChecks", pressureChecks.get());
+    metrics.put("evictions", evictions.get());
+    metrics.put("evictedBytes", evictedBytes.get());
+    metrics.put("lastEvictionTime", lastEvictionTime.get());
+    return metrics;
+  }
+
+  /**
+   * Used and total memory in bytes.
+   */
+  protected static class MemoryUsage {
+    final long used;
+    final long capacity;
+
+    MemoryUsage(long used, long capacity) {
+      this.used = used;
+      this.capacity = capacity;
+    }
+  }
+}
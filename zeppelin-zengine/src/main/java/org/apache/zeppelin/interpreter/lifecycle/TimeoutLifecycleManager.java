@@ -3,13 +3,14 @@ package org.apache.zeppelin.interpreter.lifecycle;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.LifecycleManager;
 import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
@@ -27,39 +28,59 @@ public class TimeoutLifecycleManager implements LifecycleManager {
   private static final Logger LOGGER = LoggerFactory.getLogger(TimeoutLifecycleManager.class);
 
   // ManagerInterpreterGroup -> LastTimeUsing timestamp
-  private Map<ManagedInterpreterGroup, Long> interpreterGroups = new ConcurrentHashMap<>();
+  protected final Map<ManagedInterpreterGroup, Long> interpreterGroups = new ConcurrentHashMap<>();
 
   private long checkInterval;
   private long timeoutThreshold;
 
-  private ScheduledExecutorService checkScheduler;
+  static final String CHECK_EXECUTOR = "LifecycleManagerCheck-";
+
+  private ScheduledFuture<?> checkFuture;
 
   public TimeoutLifecycleManager(ZeppelinConfiguration zConf) {
     this.checkInterval = zConf.getLong(ZeppelinConfiguration.ConfVars
             .ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_TIMEOUT_CHECK_INTERVAL);
     this.timeoutThreshold = zConf.getLong(
         ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_TIMEOUT_THRESHOLD);
-    this.checkScheduler = Executors.newScheduledThreadPool(1);
-    this.checkScheduler.scheduleAtFixedRate(() -> {
-      long now = System.currentTimeMillis();
-      for (Map.Entry<ManagedInterpreterGroup, Long> entry : interpreterGroups.entrySet()) {
-        ManagedInterpreterGroup interpreterGroup = entry.getKey();
-        Long lastTimeUsing = entry.getValue();
-        if ((now - lastTimeUsing) > timeoutThreshold) {
-          LOGGER.info("InterpreterGroup {} is timeout.", interpreterGroup.getId());
-          try {
-            interpreterGroup.close();
-          } catch (Exception e) {
-            LOGGER.warn("Fail to close interpreterGroup: " + interpreterGroup.getId(), e);
-          }
-          interpreterGroups.remove(entry.getKey());
-        }
-      }
-    }, checkInterval, checkInterval, MILLISECONDS);
+    ScheduledExecutorService checkScheduler =
+        ExecutorFactory.singleton().createOrGetScheduled(CHECK_EXECUTOR, 1);
+    this.checkFuture = checkScheduler.scheduleAtFixedRate(this::checkInterpreterGroups,
+        checkInterval, checkInterval, MILLISECONDS);
     LOGGER.info("TimeoutLifecycleManager is started with checkinterval: " + checkInterval
         + ", timeoutThreshold: " + timeoutThreshold);
   }
 
+  /**
+   * Stop checking the interpreter groups, the pool is shared by all the lifecycle managers.
+   */
+  public void close() {
+    checkFuture.cancel(false);
+  }
+
+  /**
+   * Run periodically, close the interpreter groups which are timeout.
+   */
+  protected void checkInterpreterGroups() {
+    long now = System.currentTimeMillis();
+    for (Map.Entry<ManagedInterpreterGroup, Long> entry : interpreterGroups.entrySet()) {
+      ManagedInterpreterGroup interpreterGroup = entry.getKey();
+      Long lastTimeUsing = entry.getValue();
+      if ((now - lastTimeUsing) > timeoutThreshold) {
+        LOGGER.info("InterpreterGroup {} is timeout.", interpreterGroup.getId());
+        closeInterpreterGroup(interpreterGroup);
+      }
+    }
+  }
+
+  protected void closeInterpreterGroup(ManagedInterpreterGroup interpreterGroup) {
+    try {
+      interpreterGroup.close();
+    } catch (Exception e) {
+      LOGGER.warn("Fail to close interpreterGroup: " + interpreterGroup.getId(), e);
+    }
+    interpreterGroups.remove(interpreterGroup);
+  }
+
   @Override
   public void onInterpreterProcessStarted(ManagedInterpreterGroup interpreterGroup) {
     LOGGER.info("Process of InterpreterGroup {} is started", interpreterGroup.getId());
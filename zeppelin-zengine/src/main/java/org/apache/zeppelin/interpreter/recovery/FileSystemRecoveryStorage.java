@@ -17,9 +17,9 @@
 
 package org.apache.zeppelin.interpreter.recovery;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.fs.Path;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
-import org.apache.zeppelin.interpreter.InterpreterSetting;
 import org.apache.zeppelin.interpreter.InterpreterSettingManager;
 import org.apache.zeppelin.interpreter.launcher.InterpreterClient;
 import org.apache.zeppelin.notebook.FileSystemStorage;
@@ -27,7 +27,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -35,18 +37,40 @@ import java.util.Map;
 /**
  * Hadoop compatible FileSystem based RecoveryStorage implementation.
  * All the running interpreter process info will be save into files on hdfs.
- * Each interpreter setting will have one file.
  *
- * Save InterpreterProcess in the format of:
- * InterpreterGroupId host:port
+ * The start and stop of each interpreter process is appended to the journal file, which is
+ * compacted into the snapshot file once it has zeppelin.recovery.journal.compaction.threshold
+ * entries. Replaying the journal on top of the snapshot is idempotent, so a compaction that fails
+ * between writing the snapshot and deleting the journal doesn't lose or revive any process.
+ *
+ * Save InterpreterProcess in the snapshot in the format of:
+ * InterpreterSettingName InterpreterGroupId host:port
+ *
+ * and in the journal in the format of:
+ * START InterpreterSettingName InterpreterGroupId host:port
+ * STOP InterpreterSettingName InterpreterGroupId
+ *
+ * The recovery files of the previous format, InterpreterGroupId host:port in one
+ * InterpreterSettingName.recovery file for each interpreter setting, are restored as well
+ * and removed by the next compaction.
  */
 public class FileSystemRecoveryStorage extends RecoveryStorage {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemRecoveryStorage.class);
 
+  private static final String SNAPSHOT_FILE = "recovery.snapshot";
+  private static final String JOURNAL_FILE = "recovery.journal";
+  private static final String START = "START";
+  private static final String STOP = "STOP";
+
   private FileSystemStorage fs;
   private Path recoveryDir;
+  private Path snapshotFile;
+  private Path journalFile;
   private InterpreterSettingManager interpreterSettingManager;
+  private int journalEntries;
+  // false when the FileSystem doesn't support append, then snapshot is written for each change
+  private boolean appendSupported = true;
 
   public FileSystemRecoveryStorage(ZeppelinConfiguration zConf,
                                    InterpreterSettingManager interpreterSettingManager)
@@ -59,41 +83,136 @@ public class FileSystemRecoveryStorage extends RecoveryStorage {
     this.recoveryDir = this.fs.makeQualified(new Path(zConf.getRecoveryDir()));
     LOGGER.info("Using folder {} to store recovery data", recoveryDir);
     this.fs.tryMkDir(recoveryDir);
+    this.snapshotFile = new Path(recoveryDir, SNAPSHOT_FILE);
+    this.journalFile = new Path(recoveryDir, JOURNAL_FILE);
+    if (fs.exists(journalFile)) {
+      this.journalEntries = StringUtils.countMatches(fs.readFile(journalFile), "\n");
+    }
   }
 
   @Override
   public void onInterpreterClientStart(InterpreterClient client) throws IOException {
-    save(client.getInterpreterSettingName());
+    journal(START + "\t" + client.getInterpreterSettingName() + "\t" +
+        client.getInterpreterGroupId() + "\t" + client.getHost() + ":" + client.getPort());
   }
 
   @Override
   public void onInterpreterClientStop(InterpreterClient client) throws IOException {
-    save(client.getInterpreterSettingName());
+    journal(STOP + "\t" + client.getInterpreterSettingName() + "\t" +
+        client.getInterpreterGroupId());
   }
 
-  private void save(String interpreterSettingName) throws IOException {
-    InterpreterSetting interpreterSetting =
-        interpreterSettingManager.getInterpreterSettingByName(interpreterSettingName);
-    String recoveryData = RecoveryUtils.getRecoveryData(interpreterSetting);
-    LOGGER.debug("Updating recovery data of {}: {}", interpreterSettingName, recoveryData);
-    Path recoveryFile = new Path(recoveryDir, interpreterSettingName + ".recovery");
-    fs.writeFile(recoveryData, recoveryFile, true);
+  private synchronized void journal(String entry) throws IOException {
+    LOGGER.debug("Updating recovery data: {}", entry);
+    if (appendSupported) {
+      try {
+        fs.appendFile(entry + "\n", journalFile);
+        if (++journalEntries >= zConf.getRecoveryJournalCompactionThreshold()) {
+          compact(readRecords());
+        }
+        return;
+      } catch (UnsupportedOperationException | IOException e) {
+        if (!isAppendNotSupported(e)) {
+          throw (IOException) e;
+        }
+        LOGGER.warn("{} doesn't support append, write recovery snapshot for each change instead: "
+            + "{}", fs.getFs().getClass().getName(), e.getMessage());
+        appendSupported = false;
+      }
+    }
+    Map<String, String> records = readRecords();
+    replay(records, entry);
+    compact(records);
   }
 
-  @Override
-  public Map<String, InterpreterClient> restore() throws IOException {
-    Map<String, InterpreterClient> clients = new HashMap<>();
-    List<Path> paths = fs.list(new Path(recoveryDir + "/*.recovery"));
+  /**
+   * Some FileSystems throw IOException("Not supported") rather than
+   * UnsupportedOperationException, e.g. S3AFileSystem. FileSystem#hasPathCapability is not
+   * available in hadoop 2.7, so the message of the failure is checked.
+   */
+  static boolean isAppendNotSupported(Exception e) {
+    for (Throwable t = e; t != null; t = t.getCause()) {
+      if (t instanceof UnsupportedOperationException
+          || StringUtils.containsIgnoreCase(t.getMessage(), "not supported")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Write the records into snapshot, then remove the journal and recovery files of the
+   * previous format which are covered by it.
+   */
+  private void compact(Map<String, String> records) throws IOException {
+    LOGGER.debug("Compacting recovery data of {} interpreter processes", records.size());
+    fs.writeFile(StringUtils.join(records.values(), "\n"), snapshotFile, true);
+    if (fs.exists(journalFile)) {
+      fs.delete(journalFile);
+    }
+    for (Path path : fs.list(new Path(recoveryDir + "/*.recovery"))) {
+      fs.delete(path);
+    }
+    journalEntries = 0;
+  }
 
-    for (Path path : paths) {
+  /**
+   * Read InterpreterGroupId -> snapshot line of all the running interpreter processes.
+   */
+  private Map<String, String> readRecords() throws IOException {
+    Map<String, String> records = new LinkedHashMap<>();
+    for (Path path : fs.list(new Path(recoveryDir + "/*.recovery"))) {
       String fileName = path.getName();
       String interpreterSettingName = fileName.substring(0,
           fileName.length() - ".recovery".length());
-      String recoveryContent = fs.readFile(path);
-      clients.putAll(RecoveryUtils.restoreFromRecoveryData(
-              recoveryContent, interpreterSettingName, interpreterSettingManager, zConf));
+      for (String line : fs.readFile(path).split(System.lineSeparator())) {
+        if (!StringUtils.isBlank(line)) {
+          replay(records, START + "\t" + interpreterSettingName + "\t" + line);
+        }
+      }
+    }
+    if (fs.exists(snapshotFile)) {
+      for (String line : fs.readFile(snapshotFile).split("\n")) {
+        if (!StringUtils.isBlank(line)) {
+          replay(records, START + "\t" + line);
+        }
+      }
     }
+    if (fs.exists(journalFile)) {
+      for (String line : fs.readFile(journalFile).split("\n")) {
+        replay(records, line);
+      }
+    }
+    return records;
+  }
+
+  private static void replay(Map<String, String> records, String entry) {
+    String[] tokens = entry.split("\t");
+    if (tokens.length == 4 && START.equals(tokens[0])) {
+      records.put(tokens[2], tokens[1] + "\t" + tokens[2] + "\t" + tokens[3]);
+    } else if (tokens.length == 3 && STOP.equals(tokens[0])) {
+      records.remove(tokens[2]);
+    } else if (!StringUtils.isBlank(entry)) {
+      // e.g. the last entry which is partially written when zeppelin server is killed
+      LOGGER.warn("Ignore invalid recovery data: {}", entry);
+    }
+  }
 
+  @Override
+  public synchronized Map<String, InterpreterClient> restore() throws IOException {
+    // InterpreterSettingName -> recovery data of its interpreter processes
+    Map<String, List<String>> recoveryData = new HashMap<>();
+    for (String record : readRecords().values()) {
+      String[] tokens = record.split("\t", 2);
+      recoveryData.computeIfAbsent(tokens[0], k -> new ArrayList<>()).add(tokens[1]);
+    }
+
+    Map<String, InterpreterClient> clients = new HashMap<>();
+    for (Map.Entry<String, List<String>> entry : recoveryData.entrySet()) {
+      clients.putAll(RecoveryUtils.restoreFromRecoveryData(
+          StringUtils.join(entry.getValue(), System.lineSeparator()), entry.getKey(),
+          interpreterSettingManager, zConf));
+    }
     return clients;
   }
 }
@@ -30,6 +30,7 @@ import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterSetting;
 import org.apache.zeppelin.interpreter.LifecycleManager;
 import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
@@ -37,6 +38,8 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
+import org.apache.zeppelin.resource.DistributedResourcePool;
+import org.apache.zeppelin.scheduler.AbstractScheduler;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.RemoteScheduler;
 import org.apache.zeppelin.scheduler.Scheduler;
@@ -45,6 +48,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -152,6 +156,18 @@ public class RemoteInterpreter extends Interpreter {
     }
   }
 
+  /**
+   * Interpreter processes only need to publish updates of their resources when some
+   * interpreter setting caches remote resources.
+   */
+  private boolean isResourcePoolRemoteCacheInUse() {
+    InterpreterSetting setting = getInterpreterGroup().getInterpreterSetting();
+    if (setting == null || setting.getInterpreterSettingManager() == null) {
+      return DistributedResourcePool.isRemoteCacheEnabled(getProperties());
+    }
+    return setting.getInterpreterSettingManager().isResourcePoolRemoteCacheInUse();
+  }
+
   private void internal_create() throws IOException {
     synchronized (this) {
       if (!isCreated) {
@@ -160,10 +176,13 @@ public class RemoteInterpreter extends Interpreter {
           throw new IOException("Interpreter process is not running\n" +
                   interpreterProcess.getErrorMessage());
         }
+        Map<String, String> properties = new HashMap<>((Map) getProperties());
+        properties.put(DistributedResourcePool.REMOTE_CACHE_IN_USE,
+            String.valueOf(isResourcePoolRemoteCacheInUse()));
         interpreterProcess.callRemoteFunction(client -> {
           LOGGER.info("Create RemoteInterpreter {}", getClassName());
           client.createInterpreter(getInterpreterGroup().getId(), sessionId,
-              className, (Map) getProperties(), getUserName());
+              className, properties, getUserName());
           return null;
         });
         isCreated = true;
@@ -348,6 +367,24 @@ public class RemoteInterpreter extends Interpreter {
     });
   }
 
+  /**
+   * Queue information of a pending job, only available when the remote interpreter
+   * uses FairScheduler.
+   */
+  public String getQueueInfo(final String jobId) {
+    if (!isOpened) {
+      return "{}";
+    }
+    RemoteInterpreterProcess interpreterProcess = null;
+    try {
+      interpreterProcess = getOrCreateInterpreterProcess();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    return interpreterProcess.callRemoteFunction(client -> {
+      return client.getQueueInfo(sessionId, jobId);
+    });
+  }
 
   @Override
   public Scheduler getScheduler() {
@@ -359,20 +396,32 @@ public class RemoteInterpreter extends Interpreter {
               RemoteInterpreter.class.getSimpleName() + "-" + getInterpreterGroup().getId() + "-" + sessionId,
               SchedulerFactory.singleton().getExecutor(),
               this);
-      return SchedulerFactory.singleton().createOrGetScheduler(s);
+      return setMaxQueueSize(SchedulerFactory.singleton().createOrGetScheduler(s));
     } else if (executionMode.equals("note")) {
       String noteId = getProperty(".noteId");
       Scheduler s = new RemoteScheduler(
               RemoteInterpreter.class.getSimpleName() + "-" + noteId,
               SchedulerFactory.singleton().getExecutor(),
               this);
-      return SchedulerFactory.singleton().createOrGetScheduler(s);
+      return setMaxQueueSize(SchedulerFactory.singleton().createOrGetScheduler(s));
     } else {
       throw new RuntimeException("Invalid execution mode: " + executionMode);
     }
 
   }
 
+  /**
+   * Apply the max number of pending paragraphs of this interpreter, paragraphs submitted
+   * when the queue is full fail immediately instead of waiting.
+   */
+  private Scheduler setMaxQueueSize(Scheduler scheduler) {
+    if (scheduler instanceof AbstractScheduler) {
+      ((AbstractScheduler) scheduler).setMaxQueueSize(
+          Integer.parseInt(getProperty("zeppelin.interpreter.scheduler.maxQueueSize", "0")));
+    }
+    return scheduler;
+  }
+
   private RemoteInterpreterContext convert(InterpreterContext ic) {
     return new RemoteInterpreterContext(ic.getNoteId(), ic.getNoteName(), ic.getParagraphId(),
         ic.getReplName(), ic.getParagraphTitle(), ic.getParagraphText(),
@@ -48,7 +48,7 @@ public class RemoteInterpreterManagedProcess extends RemoteInterpreterProcess {
   private final String interpreterDir;
   private final String localRepoDir;
   private final String interpreterSettingName;
-  private final String interpreterGroupId;
+  private String interpreterGroupId;
   private final boolean isUserImpersonated;
   private String errorMessage;
 
@@ -110,6 +110,7 @@ public class RemoteInterpreterManagedProcess extends RemoteInterpreterProcess {
     cmdLine.addArgument("-g", false);
     cmdLine.addArgument(interpreterSettingName, false);
 
+    long launchTime = System.currentTimeMillis();
     interpreterProcessLauncher = new InterpreterProcessLauncher(cmdLine, env);
     interpreterProcessLauncher.launch();
     interpreterProcessLauncher.waitForReady(getConnectTimeout());
@@ -124,6 +125,8 @@ public class RemoteInterpreterManagedProcess extends RemoteInterpreterProcess {
       throw new IOException("Fail to launch interpreter process:\n" +
               interpreterProcessLauncher.getErrorMessage());
     } else {
+      LOGGER.info("Interpreter process of {} is started in {} ms, startup times(ms): {}",
+          interpreterGroupId, System.currentTimeMillis() - launchTime, getStartupTimes());
       String launchOutput = interpreterProcessLauncher.getProcessLaunchOutput();
       Matcher m = YARN_APP_PATTER.matcher(launchOutput);
       if (m.find()) {
@@ -192,6 +195,14 @@ public class RemoteInterpreterManagedProcess extends RemoteInterpreterProcess {
     return interpreterGroupId;
   }
 
+  /**
+   * Bind this process to another interpreter group, used when a prelaunched process is taken
+   * from InterpreterProcessPool.
+   */
+  public void setInterpreterGroupId(String interpreterGroupId) {
+    this.interpreterGroupId = interpreterGroupId;
+  }
+
   @VisibleForTesting
   public String getInterpreterRunner() {
     return interpreterRunner;
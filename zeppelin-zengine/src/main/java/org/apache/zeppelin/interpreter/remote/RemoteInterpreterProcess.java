@@ -20,13 +20,16 @@ import com.google.gson.Gson;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.launcher.InterpreterClient;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Map;
 
 /**
  * Abstract class for interpreter process
@@ -39,6 +42,12 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
   protected String intpEventServerHost;
   protected int intpEventServerPort;
   private PooledRemoteClient<Client> remoteClient;
+  // connection shared by the clients in multiplexed mode
+  private MultiplexedTransport multiplexedTransport;
+  // time in ms spent in each startup phase of the interpreter process, reported when registering
+  private Map<String, Long> startupTimes;
+  // pid reported by the interpreter process when registering, -1 if unknown
+  private volatile long pid = -1;
 
   public RemoteInterpreterProcess(int connectTimeout,
                                   String intpEventServerHost,
@@ -46,26 +55,59 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
     this.connectTimeout = connectTimeout;
     this.intpEventServerHost = intpEventServerHost;
     this.intpEventServerPort = intpEventServerPort;
-    this.remoteClient = new PooledRemoteClient<Client>(() -> {
-      TSocket transport = new TSocket(getHost(), getPort());
-      try {
-        transport.open();
-      } catch (TTransportException e) {
-        throw new IOException(e);
-      }
-      TProtocol protocol = new  TBinaryProtocol(transport);
-      return new Client(protocol);
-    });
+    ZeppelinConfiguration zConf = ZeppelinConfiguration.create();
+    if (zConf.isInterpreterRpcMultiplexedEnabled()) {
+      this.multiplexedTransport = new MultiplexedTransport("RemoteInterpreterProcess",
+          this::openSocket);
+      this.remoteClient = new PooledRemoteClient<Client>(() ->
+          new Client(new TBinaryProtocol(multiplexedTransport.openStream())));
+    } else {
+      CompressedTransport.Factory transportFactory = CompressedTransport.Factory.create(zConf);
+      this.remoteClient = new PooledRemoteClient<Client>(() -> {
+        TProtocol protocol =
+            new TBinaryProtocol(transportFactory.getClientTransport(openSocket()));
+        return new Client(protocol);
+      });
+    }
+  }
+
+  private TTransport openSocket() throws IOException {
+    TSocket socket = new TSocket(getHost(), getPort());
+    try {
+      socket.open();
+    } catch (TTransportException e) {
+      throw new IOException(e);
+    }
+    return socket;
   }
 
   public int getConnectTimeout() {
     return connectTimeout;
   }
 
+  public Map<String, Long> getStartupTimes() {
+    return startupTimes;
+  }
+
+  public void setStartupTimes(Map<String, Long> startupTimes) {
+    this.startupTimes = startupTimes;
+  }
+
+  public long getPid() {
+    return pid;
+  }
+
+  public void setPid(long pid) {
+    this.pid = pid;
+  }
+
   public void shutdown() {
     if (remoteClient != null) {
       remoteClient.shutdown();
     }
+    if (multiplexedTransport != null) {
+      multiplexedTransport.close();
+    }
   }
 
   /**
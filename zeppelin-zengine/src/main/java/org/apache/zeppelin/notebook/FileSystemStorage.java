@@ -2,6 +2,7 @@ package org.apache.zeppelin.notebook;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -235,6 +236,22 @@ public class FileSystemStorage {
     });
   }
 
+  /**
+   * Append content to the end of file, the file is created if it doesn't exist.
+   *
+   * @throws UnsupportedOperationException if the FileSystem doesn't support append, e.g. s3a
+   */
+  public void appendFile(final String content, final Path file) throws IOException {
+    callHdfsOperation(() -> {
+      byte[] bytes = content.getBytes(
+          zConf.getString(ZeppelinConfiguration.ConfVars.ZEPPELIN_ENCODING));
+      try (FSDataOutputStream out = fs.exists(file) ? fs.append(file) : fs.create(file, false)) {
+        out.write(bytes);
+      }
+      return null;
+    });
+  }
+
   public void move(Path src, Path dest) throws IOException {
     callHdfsOperation(() -> {
       fs.rename(src, dest);
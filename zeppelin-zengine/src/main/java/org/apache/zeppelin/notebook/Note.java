@@ -44,6 +44,7 @@ import org.apache.zeppelin.interpreter.remote.RemoteAngularObjectRegistry;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.notebook.utility.IdHashes;
 import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
@@ -65,6 +66,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represent the note of Zeppelin. All the note and its paragraph operations are done
@@ -94,6 +100,8 @@ public class Note implements JsonSerializable {
       .create();
   private static final DateTimeFormatter DATE_TIME_FORMATTER =
           DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+  // distinguishes the thread pools of concurrent runAll of the same note
+  private static final AtomicLong RUN_ALL_SEQUENCE = new AtomicLong();
 
   private List<Paragraph> paragraphs = new LinkedList<>();
   private String name = "";
@@ -731,6 +739,17 @@ public class Note implements JsonSerializable {
                      boolean blocking,
                      boolean isolated,
                      Map<String, Object> params) throws Exception {
+    runAll(authInfo, blocking, isolated, params, Job.Priority.INTERACTIVE);
+  }
+
+  /**
+   * Run all the paragraphs of this note, the paragraphs are submitted with the given priority.
+   */
+  public void runAll(AuthenticationInfo authInfo,
+                     boolean blocking,
+                     boolean isolated,
+                     Map<String, Object> params,
+                     Job.Priority priority) throws Exception {
     if (isRunning()) {
       throw new Exception("Unable to run note:" + id + " because it is still in RUNNING state.");
     }
@@ -739,7 +758,7 @@ public class Note implements JsonSerializable {
     setStartTime(DATE_TIME_FORMATTER.format(LocalDateTime.now()));
     if (blocking) {
       try {
-        runAllSync(authInfo, isolated, params);
+        runAllSync(authInfo, isolated, params, priority);
       } finally {
         setRunning(false);
         setIsolatedMode(false);
@@ -748,7 +767,7 @@ public class Note implements JsonSerializable {
     } else {
       ExecutorFactory.singleton().getNoteJobExecutor().submit(() -> {
         try {
-          runAllSync(authInfo, isolated, params);
+          runAllSync(authInfo, isolated, params, priority);
         } catch (Exception e) {
           LOGGER.warn("Fail to run note: " + id, e);
         } finally {
@@ -766,36 +785,24 @@ public class Note implements JsonSerializable {
    * @param authInfo
    * @param isolated
    */
-  private void runAllSync(AuthenticationInfo authInfo, boolean isolated, Map<String, Object> params) throws Exception {
+  private void runAllSync(AuthenticationInfo authInfo,
+                          boolean isolated,
+                          Map<String, Object> params,
+                          Job.Priority priority) throws Exception {
     try {
+      int parallelism = getRunAllParallelism();
+      if (parallelism > 1) {
+        runAllParallel(authInfo, params, parallelism, priority);
+        return;
+      }
       for (Paragraph p : getParagraphs()) {
         if (!p.isEnabled()) {
           continue;
         }
-        p.setAuthenticationInfo(authInfo);
-        Map<String, Object> originalParams = p.settings.getParams();
-        try {
-          if (params != null && !params.isEmpty()) {
-            p.settings.setParams(params);
-          }
-          Interpreter interpreter = p.getBindedInterpreter();
-          if (interpreter != null) {
-            // set interpreter property to execution.mode to be note
-            // so that it could use the correct scheduler. see ZEPPELIN-4832
-            interpreter.setProperty(".execution.mode", "note");
-            interpreter.setProperty(".noteId", id);
-          }
-          // Must run each paragraph in blocking way.
-          if (!run(p.getId(), true)) {
-            LOGGER.warn("Skip running the remain notes because paragraph {} fails", p.getId());
-            throw new Exception("Fail to run note because paragraph " + p.getId() + " is failed, result: " +
-                    p.getReturn());
-          }
-        } catch (InterpreterNotFoundException e) {
-          // ignore, because the following run method will fail if interpreter not found.
-        } finally {
-          // reset params to the original value
-          p.settings.setParams(originalParams);
+        if (!runParagraphOfNote(p, authInfo, params, priority)) {
+          LOGGER.warn("Skip running the remain notes because paragraph {} fails", p.getId());
+          throw new Exception("Fail to run note because paragraph " + p.getId() + " is failed, result: " +
+                  p.getReturn());
         }
       }
     } catch (Exception e) {
@@ -817,6 +824,143 @@ public class Note implements JsonSerializable {
     }
   }
 
+  /**
+   * Number of paragraphs that run all can run at the same time, note config 'runAllParallelism'
+   * overrides zeppelin.notebook.runAll.parallelism.
+   */
+  private int getRunAllParallelism() {
+    Object parallelism = getConfig().get("runAllParallelism");
+    if (parallelism != null) {
+      return (int) Double.parseDouble(parallelism.toString());
+    }
+    return ZeppelinConfiguration.create().getInt(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_NOTEBOOK_RUN_ALL_PARALLELISM);
+  }
+
+  /**
+   * Run the paragraphs following the dependencies of {@link ParagraphDag}, independent paragraphs
+   * run at the same time up to the given parallelism. When a paragraph fails, the paragraphs
+   * depending on it are skipped while the other ones keep running.
+   */
+  private void runAllParallel(AuthenticationInfo authInfo,
+                              Map<String, Object> params,
+                              int parallelism,
+                              Job.Priority priority) throws Exception {
+    List<Paragraph> enabledParagraphs = new ArrayList<>();
+    for (Paragraph p : getParagraphs()) {
+      if (p.isEnabled()) {
+        // the dag binds the interpreters, which must be the ones of the user running the note
+        p.setAuthenticationInfo(authInfo);
+        enabledParagraphs.add(p);
+      }
+    }
+    ParagraphDag dag = new ParagraphDag(enabledParagraphs);
+    Map<String, Integer> pendingDependencies = new HashMap<>();
+    LinkedList<Paragraph> readyParagraphs = new LinkedList<>();
+    for (Paragraph p : enabledParagraphs) {
+      pendingDependencies.put(p.getId(), dag.getDependencies(p.getId()).size());
+      if (dag.getDependencies(p.getId()).isEmpty()) {
+        readyParagraphs.add(p);
+      }
+    }
+
+    Map<String, Long> runTimes = new ConcurrentHashMap<>();
+    Set<String> failedParagraphs = ConcurrentHashMap.newKeySet();
+    Set<String> skippedParagraphs = new HashSet<>();
+    String executorName = "RunAll-" + id + "-" + RUN_ALL_SEQUENCE.incrementAndGet() + "-";
+    ExecutorService executor = ExecutorFactory.singleton().createOrGet(executorName, parallelism);
+    CompletionService<Paragraph> completionService = new ExecutorCompletionService<>(executor);
+    try {
+      int running = 0;
+      while (!readyParagraphs.isEmpty() || running > 0) {
+        while (!readyParagraphs.isEmpty()) {
+          Paragraph p = readyParagraphs.poll();
+          completionService.submit(() -> {
+            long start = System.currentTimeMillis();
+            boolean success = false;
+            try {
+              success = runParagraphOfNote(p, authInfo, params, priority);
+            } catch (Exception e) {
+              LOGGER.warn("Fail to run paragraph {} of note {}", p.getId(), id, e);
+            } finally {
+              runTimes.put(p.getId(), System.currentTimeMillis() - start);
+              if (!success) {
+                failedParagraphs.add(p.getId());
+              }
+            }
+            return p;
+          });
+          running++;
+        }
+
+        Paragraph finished = completionService.take().get();
+        running--;
+        if (failedParagraphs.contains(finished.getId())) {
+          Set<String> downstream = dag.getAllDependents(finished.getId());
+          if (!downstream.isEmpty()) {
+            LOGGER.warn("Skip running paragraphs {} because paragraph {} fails",
+                downstream, finished.getId());
+          }
+          skippedParagraphs.addAll(downstream);
+          continue;
+        }
+        for (String dependent : dag.getDependents(finished.getId())) {
+          int pending = pendingDependencies.merge(dependent, -1, Integer::sum);
+          if (pending == 0 && !skippedParagraphs.contains(dependent)) {
+            readyParagraphs.add(getParagraph(dependent));
+          }
+        }
+      }
+    } finally {
+      ExecutorFactory.singleton().shutdownNow(executorName);
+    }
+
+    List<String> criticalPath = dag.getCriticalPath(runTimes);
+    long criticalPathTime = 0;
+    for (String paragraphId : criticalPath) {
+      criticalPathTime += runTimes.getOrDefault(paragraphId, 0L);
+    }
+    getInfo().put("criticalPath", criticalPath);
+    getInfo().put("criticalPathTime", criticalPathTime);
+    LOGGER.info("Critical path of running note {}: {}, {} ms", id, criticalPath, criticalPathTime);
+
+    if (!failedParagraphs.isEmpty()) {
+      throw new Exception("Fail to run note because paragraphs " + failedParagraphs +
+          " are failed, skipped paragraphs: " + skippedParagraphs);
+    }
+  }
+
+  /**
+   * Run one paragraph as part of running the whole note, return false if the paragraph fails.
+   */
+  private boolean runParagraphOfNote(Paragraph p,
+                                     AuthenticationInfo authInfo,
+                                     Map<String, Object> params,
+                                     Job.Priority priority) {
+    p.setAuthenticationInfo(authInfo);
+    Map<String, Object> originalParams = p.settings.getParams();
+    try {
+      if (params != null && !params.isEmpty()) {
+        p.settings.setParams(params);
+      }
+      Interpreter interpreter = p.getBindedInterpreter();
+      if (interpreter != null) {
+        // set interpreter property to execution.mode to be note
+        // so that it could use the correct scheduler. see ZEPPELIN-4832
+        interpreter.setProperty(".execution.mode", "note");
+        interpreter.setProperty(".noteId", id);
+      }
+      // Must run each paragraph in blocking way.
+      return run(p.getId(), true, null, priority);
+    } catch (InterpreterNotFoundException e) {
+      // ignore, because the following run method will fail if interpreter not found.
+      return true;
+    } finally {
+      // reset params to the original value
+      p.settings.setParams(originalParams);
+    }
+  }
+
   /**
    * Run a single paragraph in non-blocking way.
    *
@@ -848,12 +992,24 @@ public class Note implements JsonSerializable {
   public boolean run(String paragraphId,
                      boolean blocking,
                      String ctxUser) {
+    return run(paragraphId, blocking, ctxUser, Job.Priority.INTERACTIVE);
+  }
+
+  /**
+   * Run a single paragraph with the given priority. Return true only when paragraph run
+   * successfully.
+   */
+  public boolean run(String paragraphId,
+                     boolean blocking,
+                     String ctxUser,
+                     Job.Priority priority) {
     Paragraph p = getParagraph(paragraphId);
 
     if (isPersonalizedMode() && ctxUser != null)
       p = p.getUserParagraph(ctxUser);
 
     p.setListener(this.paragraphJobListener);
+    p.setPriority(priority);
     return p.execute(blocking);
   }
 
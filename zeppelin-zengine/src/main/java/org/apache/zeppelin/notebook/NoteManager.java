@@ -33,6 +33,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -307,6 +308,30 @@ public class NoteManager {
     return noteNode.getNote();
   }
 
+  /**
+   * Release the memory of the loaded notes which are accepted by the filter and not running,
+   * they are loaded from NotebookRepo again on the next access.
+   *
+   * @param noteIdFilter
+   * @return number of unloaded notes
+   */
+  public int unloadNotes(Predicate<String> noteIdFilter) {
+    int unloaded = 0;
+    for (Map.Entry<String, String> entry : notesInfo.entrySet()) {
+      if (!noteIdFilter.test(entry.getKey())) {
+        continue;
+      }
+      try {
+        if (getNoteNode(entry.getValue()).unload()) {
+          unloaded++;
+        }
+      } catch (IOException e) {
+        LOGGER.warn("Fail to unload note: " + entry.getValue(), e);
+      }
+    }
+    return unloaded;
+  }
+
   /**
    *
    * @param folderName  Absolute path of folder name
@@ -584,6 +609,23 @@ public class NoteManager {
       return this.note;
     }
 
+    /**
+     * Release the memory of the note unless it is running.
+     *
+     * @return true if the note is unloaded
+     */
+    public synchronized boolean unload() {
+      if (!note.isLoaded() || note.isRunning() || note.haveRunningOrPendingParagraphs()) {
+        return false;
+      }
+      // the cron job of the note refers to the loaded note
+      if (StringUtils.isNotBlank((String) note.getConfig().get("cron"))) {
+        return false;
+      }
+      note.unLoad();
+      return true;
+    }
+
     public Folder getParent() {
       return parent;
     }
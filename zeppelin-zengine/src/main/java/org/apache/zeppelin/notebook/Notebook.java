@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.inject.Inject;
@@ -369,6 +370,15 @@ public class Notebook {
     return note;
   }
 
+  /**
+   * Release the memory of the loaded notes which are accepted by the filter and not running.
+   * @param noteIdFilter
+   * @return number of unloaded notes
+   */
+  public int unloadNotes(Predicate<String> noteIdFilter) {
+    return noteManager.unloadNotes(noteIdFilter);
+  }
+
   public void saveNote(Note note, AuthenticationInfo subject) throws IOException {
     noteManager.saveNote(note, subject);
     fireNoteUpdateEvent(note, subject);
@@ -45,6 +45,7 @@ import org.apache.zeppelin.interpreter.Interpreter.FormType;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterNotFoundException;
+import org.apache.zeppelin.interpreter.InterpreterOption;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
@@ -55,6 +56,7 @@ import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.JobListener;
+import org.apache.zeppelin.scheduler.JobRejectedException;
 import org.apache.zeppelin.scheduler.JobWithProgressPoller;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
@@ -364,6 +366,11 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
       setReturn(intpResult, e);
       setStatus(Job.Status.ERROR);
       return false;
+    } catch (JobRejectedException e) {
+      LOGGER.warn(e.getMessage());
+      setReturn(new InterpreterResult(InterpreterResult.Code.ERROR, e.getMessage()), e);
+      setStatus(Job.Status.ERROR);
+      return false;
     } catch (Throwable e) {
       InterpreterResult intpResult =
               new InterpreterResult(InterpreterResult.Code.ERROR,
@@ -448,14 +455,29 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
         boolean shouldInjectCredentials = Boolean.parseBoolean(injectPropStr);
 
         InterpreterResult ret = null;
-        if (shouldInjectCredentials) {
-          UserCredentials creds = context.getAuthenticationInfo().getUserCredentials();
-          CredentialInjector credinjector = new CredentialInjector(creds);
-          String code = credinjector.replaceCredentials(script);
-          ret = interpreter.interpret(code, context);
-          ret = credinjector.hidePasswords(ret);
-        } else {
-          ret = interpreter.interpret(script, context);
+        ParagraphResultCache resultCache = ParagraphResultCache.singleton();
+        long cacheTtl = resultCache.getTtl(localProperties);
+        String cacheKey = null;
+        if (cacheTtl > 0) {
+          cacheKey = getResultCacheKey(interpreterSetting, script, shouldInjectCredentials);
+          ret = resultCache.get(cacheKey);
+          if (ret != null) {
+            LOGGER.info("Use cached result of paragraph {}", getId());
+          }
+        }
+        if (ret == null) {
+          if (shouldInjectCredentials) {
+            UserCredentials creds = context.getAuthenticationInfo().getUserCredentials();
+            CredentialInjector credinjector = new CredentialInjector(creds);
+            String code = credinjector.replaceCredentials(script);
+            ret = interpreter.interpret(code, context);
+            ret = credinjector.hidePasswords(ret);
+          } else {
+            ret = interpreter.interpret(script, context);
+          }
+          if (cacheKey != null) {
+            resultCache.put(cacheKey, ret, cacheTtl);
+          }
         }
 
         if (interpreter.getFormType() == FormType.NATIVE) {
@@ -484,6 +506,35 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     }
   }
 
+  /**
+   * Key of the result of this paragraph in {@link ParagraphResultCache}. Results are shared
+   * between users and notes unless the interpreter is scoped/isolated per user or per note,
+   * or credentials are injected.
+   */
+  private String getResultCacheKey(InterpreterSetting interpreterSetting,
+                                   String script,
+                                   boolean injectCredentials) {
+    StringBuilder scope = new StringBuilder(interpreterSetting.getId())
+        .append("/").append(interpreter.getClassName());
+    InterpreterOption option = interpreterSetting.getOption();
+    if (injectCredentials || option.perUserScoped() || option.perUserIsolated()) {
+      scope.append("/user:").append(getUser());
+    }
+    if (option.perNoteScoped() || option.perNoteIsolated()) {
+      scope.append("/note:").append(note.getId());
+    }
+    Map<String, Object> params = new HashMap<>();
+    if (settings.getParams() != null) {
+      params.putAll(settings.getParams());
+    }
+    if (note.getNoteParams() != null) {
+      for (Map.Entry<String, Object> noteParam : note.getNoteParams().entrySet()) {
+        params.put("note." + noteParam.getKey(), noteParam.getValue());
+      }
+    }
+    return ParagraphResultCache.getKey(scope.toString(), script, params, localProperties);
+  }
+
   @Override
   protected boolean jobAbort() {
     if (interpreter == null) {
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.interpreter.Interpreter;
+import org.apache.zeppelin.interpreter.InterpreterNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Dependency graph of paragraphs, used to run the paragraphs of a note in parallel.
+ *
+ * A paragraph depends on:
+ * - the paragraphs listed in its local property 'dependsOn', e.g. %jdbc(dependsOn="id1,id2"),
+ *   %jdbc(dependsOn="") for no dependency. When 'dependsOn' is not specified, it depends on the
+ *   previous paragraph bound to the same interpreter group, e.g. %spark and %spark.pyspark, so
+ *   that paragraphs sharing interpreter state still run in order.
+ * - the last previous paragraph which does z.put of a resource this paragraph does z.get on.
+ *
+ * Only previous paragraphs can be depended on, so the note order is always a valid
+ * execution order.
+ */
+public class ParagraphDag {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParagraphDag.class);
+
+  public static final String DEPENDS_ON = "dependsOn";
+
+  private static final Pattern RESOURCE_PUT =
+      Pattern.compile("\\bz\\.put\\(\\s*[\"']([^\"']+)[\"']");
+  private static final Pattern RESOURCE_GET =
+      Pattern.compile("\\bz\\.get\\(\\s*[\"']([^\"']+)[\"']");
+
+  private final List<Paragraph> paragraphs;
+  private final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+  private final Map<String, Set<String>> dependents = new HashMap<>();
+
+  public ParagraphDag(List<Paragraph> paragraphs) {
+    this.paragraphs = paragraphs;
+    Map<String, String> lastParagraphOfInterpreterGroup = new HashMap<>();
+    Map<String, String> lastResourceWriter = new HashMap<>();
+    for (Paragraph p : paragraphs) {
+      Set<String> upstream = new LinkedHashSet<>();
+      String interpreterGroup = getInterpreterGroupId(p);
+      String dependsOn = p.getLocalProperties() == null ?
+          null : p.getLocalProperties().get(DEPENDS_ON);
+      if (dependsOn != null) {
+        for (String id : dependsOn.split(",")) {
+          id = id.trim();
+          if (id.isEmpty()) {
+            continue;
+          }
+          if (dependencies.containsKey(id)) {
+            upstream.add(id);
+          } else {
+            LOGGER.warn("Ignore dependency {} of paragraph {}, it is not a previous paragraph",
+                id, p.getId());
+          }
+        }
+      } else if (lastParagraphOfInterpreterGroup.containsKey(interpreterGroup)) {
+        upstream.add(lastParagraphOfInterpreterGroup.get(interpreterGroup));
+      }
+
+      String script = p.getScriptText();
+      for (String name : findResourceNames(RESOURCE_GET, script)) {
+        String writer = lastResourceWriter.get(name);
+        if (writer != null && !writer.equals(p.getId())) {
+          upstream.add(writer);
+        }
+      }
+      for (String name : findResourceNames(RESOURCE_PUT, script)) {
+        lastResourceWriter.put(name, p.getId());
+      }
+      lastParagraphOfInterpreterGroup.put(interpreterGroup, p.getId());
+
+      dependencies.put(p.getId(), upstream);
+      dependents.put(p.getId(), new LinkedHashSet<>());
+      for (String id : upstream) {
+        dependents.get(id).add(p.getId());
+      }
+    }
+  }
+
+  /**
+   * Id of the interpreter group the paragraph is bound to. When it can't be bound, the group
+   * name of its interpreter text is used instead.
+   */
+  private static String getInterpreterGroupId(Paragraph p) {
+    if (p.getNote() != null && p.getNote().getInterpreterFactory() != null) {
+      try {
+        Interpreter interpreter = p.getBindedInterpreter();
+        if (interpreter.getInterpreterGroup() != null) {
+          return interpreter.getInterpreterGroup().getId();
+        }
+      } catch (InterpreterNotFoundException e) {
+        LOGGER.debug("No interpreter bound to paragraph {}", p.getId(), e);
+      }
+    }
+    String intpText = StringUtils.defaultString(p.getIntpText());
+    int dot = intpText.indexOf('.');
+    return dot < 0 ? intpText : intpText.substring(0, dot);
+  }
+
+  private static Set<String> findResourceNames(Pattern pattern, String script) {
+    Set<String> names = new LinkedHashSet<>();
+    if (script != null) {
+      Matcher matcher = pattern.matcher(script);
+      while (matcher.find()) {
+        names.add(matcher.group(1));
+      }
+    }
+    return names;
+  }
+
+  public List<Paragraph> getParagraphs() {
+    return paragraphs;
+  }
+
+  public Set<String> getDependencies(String paragraphId) {
+    return Collections.unmodifiableSet(dependencies.get(paragraphId));
+  }
+
+  public Set<String> getDependents(String paragraphId) {
+    return Collections.unmodifiableSet(dependents.get(paragraphId));
+  }
+
+  /**
+   * All paragraphs which depend on the given paragraph directly or indirectly.
+   */
+  public Set<String> getAllDependents(String paragraphId) {
+    Set<String> result = new LinkedHashSet<>();
+    LinkedList<String> queue = new LinkedList<>(dependents.get(paragraphId));
+    while (!queue.isEmpty()) {
+      String id = queue.poll();
+      if (result.add(id)) {
+        queue.addAll(dependents.get(id));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The longest path of the graph weighted by the paragraph run time. Paragraphs without
+   * run time are counted as 0.
+   */
+  public List<String> getCriticalPath(Map<String, Long> runTimes) {
+    Map<String, Long> pathTime = new HashMap<>();
+    Map<String, String> previous = new HashMap<>();
+    String last = null;
+    for (String id : dependencies.keySet()) {
+      String slowest = null;
+      long upstreamTime = 0;
+      for (String upstream : dependencies.get(id)) {
+        if (slowest == null || pathTime.get(upstream) > upstreamTime) {
+          slowest = upstream;
+          upstreamTime = pathTime.get(upstream);
+        }
+      }
+      if (slowest != null) {
+        previous.put(id, slowest);
+      }
+      pathTime.put(id, upstreamTime + runTimes.getOrDefault(id, 0L));
+      if (last == null || pathTime.get(id) > pathTime.get(last)) {
+        last = id;
+      }
+    }
+
+    LinkedList<String> path = new LinkedList<>();
+    for (String id = last; id != null; id = previous.get(id)) {
+      path.addFirst(id);
+    }
+    return new ArrayList<>(path);
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Cache of paragraph results, so that paragraphs which are rerun with the same text, forms and
+ * interpreter (e.g. dashboards refreshed by cron) get their previous result without running the
+ * interpreter again. It is opt-in per paragraph via local property {@link #CACHE_TTL} and
+ * bounded by number of entries and total size, least recently used entries are evicted first.
+ */
+public class ParagraphResultCache {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParagraphResultCache.class);
+
+  // local property of paragraph, time to live of the cached result in seconds
+  public static final String CACHE_TTL = "cacheTtl";
+
+  private static ParagraphResultCache instance;
+
+  private final int maxEntries;
+  private final long maxBytes;
+  // access ordered, guarded by this
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long bytes = 0;
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  private static class Entry {
+    private final InterpreterResult result;
+    private final long expireTime;
+    private final long bytes;
+
+    Entry(InterpreterResult result, long expireTime, long bytes) {
+      this.result = result;
+      this.expireTime = expireTime;
+      this.bytes = bytes;
+    }
+  }
+
+  public ParagraphResultCache(int maxEntries, long maxBytes) {
+    this.maxEntries = maxEntries;
+    this.maxBytes = maxBytes;
+  }
+
+  public static synchronized ParagraphResultCache singleton() {
+    if (instance == null) {
+      ZeppelinConfiguration zConf = ZeppelinConfiguration.create();
+      instance = new ParagraphResultCache(zConf.getParagraphResultCacheMaxEntries(),
+          zConf.getParagraphResultCacheMaxBytes());
+    }
+    return instance;
+  }
+
+  public boolean isEnabled() {
+    return maxEntries > 0 && maxBytes > 0;
+  }
+
+  /**
+   * Time to live in milliseconds specified by the local properties of the paragraph,
+   * 0 when the result of the paragraph should not be cached.
+   */
+  public long getTtl(Map<String, String> localProperties) {
+    if (!isEnabled() || !localProperties.containsKey(CACHE_TTL)) {
+      return 0;
+    }
+    try {
+      return Math.max(0, Long.parseLong(localProperties.get(CACHE_TTL).trim()) * 1000);
+    } catch (NumberFormatException e) {
+      LOGGER.warn("Invalid {}: {}", CACHE_TTL, localProperties.get(CACHE_TTL));
+      return 0;
+    }
+  }
+
+  /**
+   * Key of the cached result, hash of all the inputs that determine the result of a paragraph.
+   *
+   * @param scope interpreter setting id, and user/note id when the interpreter is not shared
+   * @param text paragraph text after dynamic forms are resolved
+   * @param params values of the paragraph forms and note forms
+   * @param localProperties local properties of the paragraph
+   */
+  public static String getKey(String scope,
+                              String text,
+                              Map<String, Object> params,
+                              Map<String, String> localProperties) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      update(digest, scope);
+      update(digest, text);
+      for (Map.Entry<String, Object> param : new TreeMap<>(params).entrySet()) {
+        update(digest, param.getKey());
+        update(digest, String.valueOf(param.getValue()));
+      }
+      for (Map.Entry<String, String> property : new TreeMap<>(localProperties).entrySet()) {
+        if (!property.getKey().equals(CACHE_TTL) && !property.getKey().equals("isRecover")) {
+          update(digest, property.getKey());
+          update(digest, property.getValue());
+        }
+      }
+      StringBuilder builder = new StringBuilder();
+      for (byte b : digest.digest()) {
+        builder.append(String.format("%02x", b));
+      }
+      return builder.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException("SHA-256 is not available", e);
+    }
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    // length prefix so that ("ab", "c") and ("a", "bc") have different keys
+    digest.update((byte) (bytes.length >>> 24));
+    digest.update((byte) (bytes.length >>> 16));
+    digest.update((byte) (bytes.length >>> 8));
+    digest.update((byte) bytes.length);
+    digest.update(bytes);
+  }
+
+  /**
+   * Return a copy of the cached result, null if it is absent or expired.
+   */
+  public synchronized InterpreterResult get(String key) {
+    Entry entry = entries.get(key);
+    if (entry != null && entry.expireTime <= System.currentTimeMillis()) {
+      remove(key);
+      entry = null;
+    }
+    if (entry == null) {
+      misses++;
+      return null;
+    }
+    hits++;
+    return copy(entry.result);
+  }
+
+  /**
+   * Cache the result, only successful results are cached.
+   */
+  public synchronized void put(String key, InterpreterResult result, long ttl) {
+    if (ttl <= 0 || result.code() != InterpreterResult.Code.SUCCESS) {
+      return;
+    }
+    long size = 0;
+    for (InterpreterResultMessage message : result.message()) {
+      size += message.getData().length() * 2L;
+    }
+    if (size > maxBytes) {
+      LOGGER.debug("Result of {} bytes is too large to be cached", size);
+      return;
+    }
+    remove(key);
+    entries.put(key, new Entry(copy(result), System.currentTimeMillis() + ttl, size));
+    bytes += size;
+
+    Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+    while ((entries.size() > maxEntries || bytes > maxBytes) && it.hasNext()) {
+      bytes -= it.next().getValue().bytes;
+      it.remove();
+      evictions++;
+    }
+  }
+
+  private void remove(String key) {
+    Entry entry = entries.remove(key);
+    if (entry != null) {
+      bytes -= entry.bytes;
+    }
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    bytes = 0;
+  }
+
+  private static InterpreterResult copy(InterpreterResult result) {
+    return new InterpreterResult(result.code(), new ArrayList<>(result.message()));
+  }
+
+  /**
+   * Statistics of the cache: hits, misses, hitRate, evictions, entries and bytes.
+   */
+  public synchronized Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("hits", hits);
+    stats.put("misses", misses);
+    stats.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+    stats.put("evictions", evictions);
+    stats.put("entries", entries.size());
+    stats.put("bytes", bytes);
+    return stats;
+  }
+}
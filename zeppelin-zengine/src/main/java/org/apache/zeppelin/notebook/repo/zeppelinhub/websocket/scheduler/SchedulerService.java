@@ -16,7 +16,8 @@
  */
 package org.apache.zeppelin.notebook.repo.zeppelinhub.websocket.scheduler;
 
-import java.util.concurrent.Executors;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -26,11 +27,13 @@ import java.util.concurrent.TimeUnit;
  */
 public class SchedulerService {
 
+  static final String EXECUTOR_NAME = "ZeppelinHubScheduler-";
+
   private final ScheduledExecutorService pool;
   private static SchedulerService instance = null;
 
   private SchedulerService(int numberOfThread) {
-    pool = Executors.newScheduledThreadPool(numberOfThread);
+    pool = ExecutorFactory.singleton().createOrGetScheduled(EXECUTOR_NAME, numberOfThread);
   }
 
   public static SchedulerService create(int numberOfThread) {
@@ -56,7 +59,7 @@ public class SchedulerService {
   }
 
   public void close() {
-    pool.shutdown();
+    ExecutorFactory.singleton().shutdown(EXECUTOR_NAME);
   }
 
 }
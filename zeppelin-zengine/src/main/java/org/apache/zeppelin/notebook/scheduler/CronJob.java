@@ -18,10 +18,13 @@
 package org.apache.zeppelin.notebook.scheduler;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.cluster.ClusterManagerServer;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.ExecutionContext;
 import org.apache.zeppelin.interpreter.ExecutionContextBuilder;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
 import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
@@ -38,6 +41,27 @@ public class CronJob implements org.quartz.Job {
   public void execute(JobExecutionContext context) {
     JobDataMap jobDataMap = context.getJobDetail().getJobDataMap();
     Note note = (Note) jobDataMap.get("note");
+    CronJobDispatcher dispatcher = (CronJobDispatcher) jobDataMap.get("dispatcher");
+    if (dispatcher != null) {
+      // run it later when there's a free slot, don't block the quartz thread
+      dispatcher.submit(note, context.getNextFireTime() == null ? 0
+          : context.getNextFireTime().getTime());
+    } else {
+      runNote(note);
+    }
+  }
+
+  /**
+   * Run all the paragraphs of the note as its cron job.
+   */
+  public static void runNote(Note note) {
+    ZeppelinConfiguration conf = ZeppelinConfiguration.create();
+    if (conf.isClusterMode()
+        && !ClusterManagerServer.getInstance(conf).isNoteOwner(note.getId())) {
+      LOGGER.info("Skip cron job of note: {}, it is run by the server owning the note",
+          note.getId());
+      return;
+    }
     LOGGER.info("Start cron job of note: " + note.getId());
     if (note.haveRunningOrPendingParagraphs()) {
       LOGGER.warn(
@@ -58,7 +82,7 @@ public class CronJob implements org.quartz.Job {
                     StringUtils.isEmpty(cronExecutingRoles) ? null : cronExecutingRoles,
                     null);
     try {
-      note.runAll(authenticationInfo, true, true, new HashMap<>());
+      note.runAll(authenticationInfo, true, true, new HashMap<>(), Job.Priority.CRON);
     } catch (Exception e) {
       LOGGER.warn("Fail to run note: " + note.getName(), e);
     }
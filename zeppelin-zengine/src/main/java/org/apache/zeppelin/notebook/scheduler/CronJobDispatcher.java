@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.scheduler;
+
+import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Queue of cron runs of notes. Quartz only enqueues the note when the cron fires, the note is
+ * run when there is a free slot both globally and for each interpreter setting used by the note,
+ * so that many notes sharing the same cron expression don't all run at the same time.
+ * The start of each run can also be delayed by a jitter which is stable per note.
+ * Runs which can't start in time are handled by the {@link MisfirePolicy}.
+ */
+public class CronJobDispatcher {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CronJobDispatcher.class);
+  private static final String EXECUTOR_NAME = "CronJob-";
+  private static final String JITTER_EXECUTOR_NAME = "CronJobJitter-";
+
+  private final int maxConcurrency;
+  private final int maxConcurrencyPerInterpreter;
+  private final long maxJitter;
+  private final MisfirePolicy misfirePolicy;
+  private final Consumer<Note> runner;
+  private final ExecutorService executor;
+  private final ScheduledExecutorService jitterExecutor;
+
+  // guarded by this
+  private final LinkedList<CronRun> pendingRuns = new LinkedList<>();
+  private final Map<String, Integer> runningPerInterpreter = new HashMap<>();
+  private int running = 0;
+  private boolean terminated = false;
+  private long finished = 0;
+  private long dropped = 0;
+  private long totalWaitTime = 0;
+  private long maxWaitTime = 0;
+
+  /**
+   * What to do with the cron runs of a note which are still pending when the cron fires again.
+   */
+  public enum MisfirePolicy {
+    // drop the pending run once the next fire time of the note is passed
+    SKIP,
+    // keep the pending run, drop the new one, so that the note runs once
+    FIRE_ONCE,
+    // keep all the runs
+    CATCH_UP;
+
+    /**
+     * @return the policy of the given name, fire_once if the name is unknown
+     */
+    public static MisfirePolicy fromName(String name) {
+      for (MisfirePolicy policy : values()) {
+        if (policy.name().equalsIgnoreCase(name)) {
+          return policy;
+        }
+      }
+      LOGGER.warn("Unknown cron misfire policy: {}, use fire_once instead", name);
+      return FIRE_ONCE;
+    }
+  }
+
+  private static class CronRun {
+    private final Note note;
+    private final long enqueueTime;
+    // the next fire time of the note, 0 if unknown
+    private final long deadline;
+    private Set<String> interpreters;
+
+    CronRun(Note note, long enqueueTime, long deadline) {
+      this.note = note;
+      this.enqueueTime = enqueueTime;
+      this.deadline = deadline;
+    }
+  }
+
+  /**
+   * @param maxConcurrency max number of notes run by cron at the same time, 0 means unlimited
+   * @param maxConcurrencyPerInterpreter max number of notes using the same interpreter setting
+   *                                     run by cron at the same time, 0 means unlimited
+   * @param maxJitter max delay in milliseconds of the start of a cron run
+   * @param misfirePolicy what to do with the runs of a note which are still pending when its
+   *                      cron fires again
+   * @param runner run the note
+   */
+  public CronJobDispatcher(int maxConcurrency,
+                           int maxConcurrencyPerInterpreter,
+                           long maxJitter,
+                           MisfirePolicy misfirePolicy,
+                           Consumer<Note> runner) {
+    this.maxConcurrency = maxConcurrency;
+    this.maxConcurrencyPerInterpreter = maxConcurrencyPerInterpreter;
+    this.maxJitter = maxJitter;
+    this.misfirePolicy = misfirePolicy;
+    this.runner = runner;
+    this.executor = ExecutorFactory.singleton().createOrGetCached(EXECUTOR_NAME);
+    this.jitterExecutor =
+        ExecutorFactory.singleton().createOrGetScheduled(JITTER_EXECUTOR_NAME, 1);
+  }
+
+  /**
+   * Called when the cron of the note fires.
+   */
+  public void submit(Note note) {
+    submit(note, 0);
+  }
+
+  /**
+   * Called when the cron of the note fires.
+   *
+   * @param nextFireTime next fire time in milliseconds of the cron of the note, 0 if unknown
+   */
+  public void submit(Note note, long nextFireTime) {
+    long jitter = getJitter(note.getId());
+    // the run of the next fire is delayed by the same jitter
+    long deadline = nextFireTime > 0 ? nextFireTime + jitter : 0;
+    if (jitter > 0) {
+      LOGGER.debug("Delay cron run of note {} by {} ms", note.getId(), jitter);
+      jitterExecutor.schedule(() -> enqueue(note, deadline), jitter, TimeUnit.MILLISECONDS);
+    } else {
+      enqueue(note, deadline);
+    }
+  }
+
+  long getJitter(String noteId) {
+    if (maxJitter <= 0) {
+      return 0;
+    }
+    // stable per note, so that a note always starts at the same offset from its cron time
+    return Math.floorMod((long) noteId.hashCode() * 2654435761L, maxJitter + 1);
+  }
+
+  private synchronized void enqueue(Note note, long deadline) {
+    if (misfirePolicy != MisfirePolicy.CATCH_UP) {
+      Iterator<CronRun> it = pendingRuns.iterator();
+      while (it.hasNext()) {
+        CronRun run = it.next();
+        if (!run.note.getId().equals(note.getId())) {
+          continue;
+        }
+        if (misfirePolicy == MisfirePolicy.FIRE_ONCE) {
+          LOGGER.warn("Drop cron run of note {} because the previous one is still pending",
+              note.getId());
+          dropped++;
+          return;
+        }
+        LOGGER.warn("Drop cron run of note {} because it is still pending at the next fire time",
+            note.getId());
+        it.remove();
+        dropped++;
+      }
+    }
+    pendingRuns.add(new CronRun(note, System.currentTimeMillis(), deadline));
+    dispatch();
+  }
+
+  // guarded by this
+  private void dispatch() {
+    if (terminated) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    Iterator<CronRun> it = pendingRuns.iterator();
+    while (it.hasNext() && (maxConcurrency <= 0 || running < maxConcurrency)) {
+      CronRun run = it.next();
+      if (misfirePolicy == MisfirePolicy.SKIP && run.deadline > 0 && now >= run.deadline) {
+        LOGGER.warn("Drop cron run of note {} because it is still pending at the next fire time",
+            run.note.getId());
+        it.remove();
+        dropped++;
+        continue;
+      }
+      if (run.interpreters == null) {
+        run.interpreters = getInterpreters(run.note);
+      }
+      if (!hasCapacity(run.interpreters)) {
+        continue;
+      }
+      it.remove();
+      running++;
+      for (String interpreter : run.interpreters) {
+        runningPerInterpreter.merge(interpreter, 1, Integer::sum);
+      }
+      long waitTime = now - run.enqueueTime;
+      totalWaitTime += waitTime;
+      maxWaitTime = Math.max(maxWaitTime, waitTime);
+      executor.execute(() -> {
+        try {
+          runner.accept(run.note);
+        } catch (Exception e) {
+          LOGGER.warn("Fail to run cron of note {}", run.note.getId(), e);
+        } finally {
+          complete(run);
+        }
+      });
+    }
+  }
+
+  // guarded by this
+  private boolean hasCapacity(Set<String> interpreters) {
+    if (maxConcurrencyPerInterpreter <= 0) {
+      return true;
+    }
+    for (String interpreter : interpreters) {
+      if (runningPerInterpreter.getOrDefault(interpreter, 0) >= maxConcurrencyPerInterpreter) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private synchronized void complete(CronRun run) {
+    running--;
+    finished++;
+    for (String interpreter : run.interpreters) {
+      runningPerInterpreter.computeIfPresent(interpreter, (k, v) -> v > 1 ? v - 1 : null);
+    }
+    dispatch();
+  }
+
+  private Set<String> getInterpreters(Note note) {
+    Set<String> interpreters = new HashSet<>();
+    if (maxConcurrencyPerInterpreter > 0) {
+      for (InterpreterSetting setting : note.getUsedInterpreterSettings()) {
+        interpreters.add(setting.getName());
+      }
+    }
+    return interpreters;
+  }
+
+  /**
+   * Statistics of the cron runs: pending, running, finished and dropped runs, average and max
+   * wait time in milliseconds of the started runs, and the running notes per interpreter setting.
+   */
+  public synchronized Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    List<String> pendingNotes = new ArrayList<>();
+    for (CronRun run : pendingRuns) {
+      pendingNotes.add(run.note.getId());
+    }
+    long started = finished + running;
+    stats.put("pending", pendingRuns.size());
+    stats.put("pendingNotes", pendingNotes);
+    stats.put("running", running);
+    stats.put("finished", finished);
+    stats.put("dropped", dropped);
+    stats.put("avgWaitTime", started == 0 ? 0 : totalWaitTime / started);
+    stats.put("maxWaitTime", maxWaitTime);
+    stats.put("runningPerInterpreter", new HashMap<>(runningPerInterpreter));
+    return stats;
+  }
+
+  public void shutdown() {
+    synchronized (this) {
+      terminated = true;
+    }
+    ExecutorFactory.singleton().shutdownNow(JITTER_EXECUTOR_NAME);
+    ExecutorFactory.singleton().shutdownNow(EXECUTOR_NAME);
+  }
+}
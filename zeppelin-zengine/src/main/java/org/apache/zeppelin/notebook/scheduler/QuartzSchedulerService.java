@@ -48,6 +48,8 @@ public class QuartzSchedulerService implements SchedulerService {
   private final ZeppelinConfiguration zeppelinConfiguration;
   private final Notebook notebook;
   private final Scheduler scheduler;
+  private final CronJobDispatcher.MisfirePolicy misfirePolicy;
+  private final CronJobDispatcher dispatcher;
   private final Thread loadingNotesThread;
 
   @Inject
@@ -57,6 +59,14 @@ public class QuartzSchedulerService implements SchedulerService {
     this.notebook = notebook;
     this.scheduler = getScheduler();
     this.scheduler.start();
+    this.misfirePolicy = CronJobDispatcher.MisfirePolicy.fromName(
+        zeppelinConfiguration.getZeppelinNotebookCronMisfirePolicy());
+    this.dispatcher = new CronJobDispatcher(
+        zeppelinConfiguration.getZeppelinNotebookCronMaxConcurrency(),
+        zeppelinConfiguration.getZeppelinNotebookCronMaxConcurrencyPerInterpreter(),
+        zeppelinConfiguration.getZeppelinNotebookCronMaxJitter(),
+        misfirePolicy,
+        CronJob::runNote);
 
     // Do in a separated thread because there may be many notes,
     // loop all notes in the main thread may block the restarting of Zeppelin server
@@ -139,6 +149,7 @@ public class QuartzSchedulerService implements SchedulerService {
 
     JobDataMap jobDataMap = new JobDataMap();
     jobDataMap.put("note", note);
+    jobDataMap.put("dispatcher", dispatcher);
     JobDetail newJob =
         JobBuilder.newJob(CronJob.class)
             .withIdentity(noteId, "note")
@@ -153,7 +164,7 @@ public class QuartzSchedulerService implements SchedulerService {
       trigger =
           TriggerBuilder.newTrigger()
               .withIdentity("trigger_" + noteId, "note")
-              .withSchedule(CronScheduleBuilder.cronSchedule(cronExpr))
+              .withSchedule(withMisfirePolicy(CronScheduleBuilder.cronSchedule(cronExpr)))
               .forJob(noteId, "note")
               .build();
     } catch (Exception e) {
@@ -173,6 +184,40 @@ public class QuartzSchedulerService implements SchedulerService {
     }
   }
 
+  /**
+   * What to do when a cron fire is missed (e.g. there was no free quartz thread):
+   * fire_once - fire once as soon as possible (default)
+   * skip - skip the missed fires, wait for the next fire time
+   * catch_up - fire all the missed fires
+   * The same policy is applied by the dispatcher to the runs which are still pending when the
+   * cron fires again.
+   */
+  private CronScheduleBuilder withMisfirePolicy(CronScheduleBuilder builder) {
+    switch (misfirePolicy) {
+      case SKIP:
+        return builder.withMisfireHandlingInstructionDoNothing();
+      case CATCH_UP:
+        return builder.withMisfireHandlingInstructionIgnoreMisfires();
+      default:
+        return builder.withMisfireHandlingInstructionFireAndProceed();
+    }
+  }
+
+  @Override
+  public Map<String, Object> getCronQueueStats() {
+    return dispatcher.getStats();
+  }
+
+  @Override
+  public void close() {
+    try {
+      scheduler.shutdown();
+    } catch (SchedulerException e) {
+      LOGGER.error("Fail to shutdown quartz scheduler", e);
+    }
+    dispatcher.shutdown();
+  }
+
   @Override
   public Set<?> getJobs() {
     try {
@@ -17,9 +17,24 @@
 
 package org.apache.zeppelin.notebook.scheduler;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 public interface SchedulerService {
   boolean refreshCron(String noteId);
   Set<?> getJobs();
+
+  /**
+   * Statistics of the queue of cron runs.
+   */
+  default Map<String, Object> getCronQueueStats() {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Stop firing crons and running the queued cron runs.
+   */
+  default void close() {
+  }
 }
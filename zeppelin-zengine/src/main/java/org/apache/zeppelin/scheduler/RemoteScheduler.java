@@ -17,11 +17,15 @@
 
 package org.apache.zeppelin.scheduler;
 
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -31,6 +35,7 @@ import java.util.concurrent.ExecutorService;
  */
 public class RemoteScheduler extends AbstractScheduler {
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteScheduler.class);
+  private static final Gson GSON = new Gson();
 
   private RemoteInterpreter remoteInterpreter;
   private ExecutorService executor;
@@ -85,6 +90,7 @@ public class RemoteScheduler extends AbstractScheduler {
     private JobListener listener;
     private Job job;
     private volatile Status lastStatus;
+    private long lastQueueInfoTime = 0;
 
     public JobStatusPoller(Job job,
                            JobListener listener,
@@ -131,6 +137,44 @@ public class RemoteScheduler extends AbstractScheduler {
       }
     }
 
+    /**
+     * Fetch the queue position and the queue statistics of the group of the pending job from
+     * remote FairScheduler, at most once per second.
+     */
+    private void updateQueuePosition(Status status) {
+      if (status != Status.PENDING) {
+        job.setQueuePosition(-1);
+        job.setQueueStats(null);
+        return;
+      }
+      if (!"fair".equalsIgnoreCase(
+          remoteInterpreter.getProperty("zeppelin.interpreter.scheduler", "default")) ||
+          System.currentTimeMillis() - lastQueueInfoTime < 1000) {
+        return;
+      }
+      lastQueueInfoTime = System.currentTimeMillis();
+      try {
+        Map<String, Object> queueInfo = GSON.fromJson(remoteInterpreter.getQueueInfo(job.getId()),
+            new TypeToken<Map<String, Object>>() {}.getType());
+        Object position = queueInfo.get("position");
+        if (position != null) {
+          job.setQueuePosition(((Number) position).intValue());
+          LOGGER.debug("Job {} is at position {} of queue {}", job.getId(), position,
+              queueInfo.get("group"));
+        }
+        Object groupStats = queueInfo.get("groupStats");
+        if (groupStats instanceof Map) {
+          Map<String, Long> queueStats = new LinkedHashMap<>();
+          for (Map.Entry<?, ?> entry : ((Map<?, ?>) groupStats).entrySet()) {
+            queueStats.put(entry.getKey().toString(), ((Number) entry.getValue()).longValue());
+          }
+          job.setQueueStats(queueStats);
+        }
+      } catch (Exception e) {
+        LOGGER.warn("Fail to get queue info of job {}", job.getId(), e);
+      }
+    }
+
     public Status getStatus() {
       if (!remoteInterpreter.isOpened()) {
         if (lastStatus != null) {
@@ -147,6 +191,7 @@ public class RemoteScheduler extends AbstractScheduler {
       }
       listener.onStatusChange(job, lastStatus, status);
       lastStatus = status;
+      updateQueuePosition(status);
       return status;
     }
   }
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter;
+
+import org.apache.hadoop.yarn.api.records.ApplicationId;
+import org.apache.hadoop.yarn.api.records.ApplicationReport;
+import org.apache.hadoop.yarn.api.records.YarnApplicationState;
+import org.apache.hadoop.yarn.client.api.YarnClient;
+import org.apache.hadoop.yarn.exceptions.ApplicationNotFoundException;
+import org.apache.hadoop.yarn.exceptions.YarnException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class YarnAppMonitorTest {
+
+  // state of the yarn apps in the fake resource manager
+  private Map<ApplicationId, YarnApplicationState> rmApps;
+  private YarnClient yarnClient;
+  private YarnAppMonitor monitor;
+
+  @Before
+  public void setUp() throws IOException, YarnException {
+    rmApps = new HashMap<>();
+    yarnClient = mock(YarnClient.class);
+    when(yarnClient.getApplicationReport(any(ApplicationId.class))).thenAnswer(invocation ->
+        createReport((ApplicationId) invocation.getArguments()[0]));
+    when(yarnClient.getApplications(any(Set.class), anySet(), anySet(), any(EnumSet.class)))
+        .thenAnswer(invocation -> {
+          Set<String> users = (Set<String>) invocation.getArguments()[1];
+          Set<String> applicationTypes = (Set<String>) invocation.getArguments()[2];
+          EnumSet<YarnApplicationState> states =
+              (EnumSet<YarnApplicationState>) invocation.getArguments()[3];
+          return rmApps.keySet().stream()
+              .filter(appId -> users.contains("user1") &&
+                  applicationTypes.contains("ZEPPELIN INTERPRETER") &&
+                  states.contains(rmApps.get(appId)))
+              .map(this::createReport)
+              .collect(Collectors.toList());
+        });
+    // check every 10 seconds, back off to 40 seconds
+    System.setProperty(ZeppelinConfiguration.ConfVars
+        .ZEPPELIN_INTERPRETER_YARN_MONITOR_MAX_INTERVAL_SECS.getVarName(), "40");
+    try {
+      monitor = new YarnAppMonitor(ZeppelinConfiguration.create(), yarnClient);
+    } finally {
+      System.clearProperty(ZeppelinConfiguration.ConfVars
+          .ZEPPELIN_INTERPRETER_YARN_MONITOR_MAX_INTERVAL_SECS.getVarName());
+    }
+  }
+
+  private ApplicationReport createReport(ApplicationId appId) {
+    ApplicationReport report = mock(ApplicationReport.class);
+    when(report.getApplicationId()).thenReturn(appId);
+    when(report.getApplicationType()).thenReturn("ZEPPELIN INTERPRETER");
+    when(report.getUser()).thenReturn("user1");
+    when(report.getYarnApplicationState()).thenReturn(rmApps.get(appId));
+    when(report.getDiagnostics()).thenReturn("diagnostics of " + appId);
+    return report;
+  }
+
+  @Test
+  public void testBulkCheck() throws IOException, YarnException {
+    List<YarnApplicationState> states1 = new ArrayList<>();
+    List<YarnApplicationState> states2 = new ArrayList<>();
+    ApplicationId appId1 = ApplicationId.newInstance(0, 1);
+    ApplicationId appId2 = ApplicationId.newInstance(0, 2);
+    rmApps.put(appId1, YarnApplicationState.ACCEPTED);
+    rmApps.put(appId2, YarnApplicationState.RUNNING);
+    monitor.addYarnApp(appId1, report -> states1.add(report.getYarnApplicationState()));
+    monitor.addYarnApp(appId2, report -> states2.add(report.getYarnApplicationState()));
+
+    // the first check of each app
+    monitor.checkApps(0);
+    verify(yarnClient, times(2)).getApplicationReport(any(ApplicationId.class));
+    assertEquals(YarnApplicationState.ACCEPTED, states1.get(0));
+    assertEquals(YarnApplicationState.RUNNING, states2.get(0));
+
+    // then all of them are checked by one call
+    rmApps.put(appId1, YarnApplicationState.RUNNING);
+    monitor.checkApps(2000);
+    verify(yarnClient, times(2)).getApplicationReport(any(ApplicationId.class));
+    verify(yarnClient, times(1))
+        .getApplications(any(Set.class), anySet(), anySet(), any(EnumSet.class));
+    assertEquals(2, states1.size());
+    assertEquals(YarnApplicationState.RUNNING, states1.get(1));
+    assertEquals(1, states2.size());
+
+    // the app that is no longer active is checked by its own call
+    rmApps.put(appId2, YarnApplicationState.FAILED);
+    monitor.checkApps(12000);
+    verify(yarnClient, times(3)).getApplicationReport(any(ApplicationId.class));
+    verify(yarnClient, times(2))
+        .getApplications(any(Set.class), anySet(), anySet(), any(EnumSet.class));
+    assertEquals(YarnApplicationState.FAILED, states2.get(1));
+
+    // not checked any more
+    monitor.checkApps(100000);
+    verify(yarnClient, times(3)).getApplicationReport(any(ApplicationId.class));
+    assertEquals(2, states2.size());
+  }
+
+  @Test
+  public void testLostApps() throws IOException, YarnException {
+    List<ApplicationReport> reports1 = new ArrayList<>();
+    List<ApplicationReport> reports2 = new ArrayList<>();
+    // yarn reports no state of appId1, and doesn't find appId2
+    ApplicationId appId1 = ApplicationId.newInstance(0, 1);
+    ApplicationId appId2 = ApplicationId.newInstance(0, 2);
+    when(yarnClient.getApplicationReport(appId2))
+        .thenThrow(new ApplicationNotFoundException("not found"));
+    monitor.addYarnApp(appId1, reports1::add);
+    monitor.addYarnApp(appId2, reports2::add);
+
+    // their listeners are notified that they failed
+    monitor.checkApps(0);
+    assertEquals(1, reports1.size());
+    assertEquals(appId1, reports1.get(0).getApplicationId());
+    assertEquals(YarnApplicationState.FAILED, reports1.get(0).getYarnApplicationState());
+    assertEquals(1, reports2.size());
+    assertEquals(appId2, reports2.get(0).getApplicationId());
+    assertEquals(YarnApplicationState.FAILED, reports2.get(0).getYarnApplicationState());
+    assertEquals("Yarn app " + appId2 + " is not found", reports2.get(0).getDiagnostics());
+
+    // and they are removed
+    assertEquals(-1, monitor.getNextCheckTime(appId1));
+    assertEquals(-1, monitor.getNextCheckTime(appId2));
+  }
+
+  @Test
+  public void testBackoff() throws IOException, YarnException {
+    ApplicationId appId = ApplicationId.newInstance(0, 1);
+    rmApps.put(appId, YarnApplicationState.RUNNING);
+    monitor.addYarnApp(appId, report -> { });
+
+    monitor.checkApps(0);
+    for (long time = 1000; time <= 110000; time += 1000) {
+      monitor.checkApps(time);
+    }
+    // checked by getApplications at 10s, 30s, 70s and 110s
+    verify(yarnClient, times(1)).getApplicationReport(any(ApplicationId.class));
+    verify(yarnClient, times(4))
+        .getApplications(any(Set.class), anySet(), anySet(), any(EnumSet.class));
+  }
+
+  @Test
+  public void testBackoffOnlyOfDueApps() throws IOException, YarnException {
+    ApplicationId appId1 = ApplicationId.newInstance(0, 1);
+    ApplicationId appId2 = ApplicationId.newInstance(0, 2);
+    rmApps.put(appId1, YarnApplicationState.RUNNING);
+    monitor.addYarnApp(appId1, report -> { });
+    monitor.checkApps(0);
+    assertEquals(10000, monitor.getNextCheckTime(appId1));
+
+    // the bulk call for the starting app doesn't advance the running app which isn't due
+    rmApps.put(appId2, YarnApplicationState.ACCEPTED);
+    monitor.addYarnApp(appId2, report -> { });
+    monitor.checkApps(5000);
+    monitor.checkApps(7000);
+    verify(yarnClient, times(2))
+        .getApplications(any(Set.class), anySet(), anySet(), any(EnumSet.class));
+    assertEquals(10000, monitor.getNextCheckTime(appId1));
+    assertEquals(9000, monitor.getNextCheckTime(appId2));
+
+    // backs off when it is due
+    monitor.checkApps(10000);
+    assertEquals(30000, monitor.getNextCheckTime(appId1));
+    assertEquals(12000, monitor.getNextCheckTime(appId2));
+  }
+}
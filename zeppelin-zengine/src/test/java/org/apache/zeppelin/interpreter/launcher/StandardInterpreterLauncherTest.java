@@ -59,6 +59,20 @@ public class StandardInterpreterLauncherTest {
     assertTrue(interpreterProcess.getEnv().size() >= 2);
     assertEquals("VALUE_1", interpreterProcess.getEnv().get("ENV_1"));
     assertTrue(interpreterProcess.getEnv().containsKey("INTERPRETER_GROUP_ID"));
+    // the interpreter process uses the rpc mode of zeppelin server
+    assertEquals("false",
+        interpreterProcess.getEnv().get("ZEPPELIN_INTERPRETER_RPC_NONBLOCKING_ENABLED"));
+    assertEquals("false",
+        interpreterProcess.getEnv().get("ZEPPELIN_INTERPRETER_RPC_MULTIPLEXED_ENABLED"));
+    // and its rpc compression
+    assertEquals(String.valueOf(zConf.isInterpreterRpcCompressionEnabled()),
+        interpreterProcess.getEnv().get("ZEPPELIN_INTERPRETER_RPC_COMPRESSION_ENABLED"));
+    assertEquals(zConf.getInterpreterRpcCompressionCodec(),
+        interpreterProcess.getEnv().get("ZEPPELIN_INTERPRETER_RPC_COMPRESSION_CODEC"));
+    assertEquals(String.valueOf(zConf.getInterpreterRpcCompressionLevel()),
+        interpreterProcess.getEnv().get("ZEPPELIN_INTERPRETER_RPC_COMPRESSION_LEVEL"));
+    assertEquals(String.valueOf(zConf.getInterpreterRpcCompressionThreshold()),
+        interpreterProcess.getEnv().get("ZEPPELIN_INTERPRETER_RPC_COMPRESSION_THRESHOLD"));
     assertEquals(true, interpreterProcess.isUserImpersonated());
   }
 
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.lifecycle;
+
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
+import org.apache.zeppelin.scheduler.ExecutorFactory;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MemoryPressureLifecycleManagerTest {
+
+  private static final long GB = 1024L * 1024 * 1024;
+
+  private FakeMemoryLifecycleManager manager;
+
+  @After
+  public void tearDown() {
+    if (manager != null) {
+      manager.close();
+    }
+    ExecutorFactory.singleton().shutdownNow(TimeoutLifecycleManager.CHECK_EXECUTOR);
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsedIdleGroups() {
+    manager = new FakeMemoryLifecycleManager();
+    long now = System.currentTimeMillis();
+    ManagedInterpreterGroup oldest = mockGroup(manager, "oldest", now - 300000, 2 * GB);
+    ManagedInterpreterGroup older = mockGroup(manager, "older", now - 200000, 2 * GB);
+    ManagedInterpreterGroup old = mockGroup(manager, "old", now - 100000, 2 * GB);
+    ManagedInterpreterGroup busy = mockGroup(manager, "busy", now - 1000, 8 * GB);
+
+    // below high watermark (0.9), nothing is closed
+    manager.memoryUsed = 85 * GB;
+    manager.checkMemoryPressure(now);
+    verify(oldest, never()).close();
+    assertEquals(0, (long) manager.getMetrics().get("evictions"));
+
+    // 95% used, need to free 15GB to reach low watermark (0.8), but only 6GB is idle,
+    // and the busy group is never closed
+    manager.memoryUsed = 95 * GB;
+    manager.checkMemoryPressure(now);
+    verify(oldest).close();
+    verify(older).close();
+    verify(old).close();
+    verify(busy, never()).close();
+    assertEquals(1, manager.interpreterGroups.size());
+    Map<String, Long> metrics = manager.getMetrics();
+    assertEquals(3, (long) metrics.get("evictions"));
+    assertEquals(6 * GB, (long) metrics.get("evictedBytes"));
+    assertEquals(1, (long) metrics.get("pressureChecks"));
+  }
+
+  @Test
+  public void testStopAtLowWatermark() {
+    manager = new FakeMemoryLifecycleManager();
+    long now = System.currentTimeMillis();
+    ManagedInterpreterGroup oldest = mockGroup(manager, "oldest", now - 300000, 6 * GB);
+    ManagedInterpreterGroup older = mockGroup(manager, "older", now - 200000, 6 * GB);
+    ManagedInterpreterGroup old = mockGroup(manager, "old", now - 100000, 6 * GB);
+
+    // 91% used, freeing 12GB reaches the low watermark
+    manager.memoryUsed = 91 * GB;
+    manager.checkMemoryPressure(now);
+    verify(oldest).close();
+    verify(older).close();
+    verify(old, never()).close();
+    assertTrue(manager.interpreterGroups.containsKey(old));
+    assertFalse(manager.interpreterGroups.containsKey(oldest));
+  }
+
+  @Test
+  public void testUnknownProcessMemory() {
+    manager = new FakeMemoryLifecycleManager();
+    long now = System.currentTimeMillis();
+    ManagedInterpreterGroup oldest = mockGroup(manager, "oldest", now - 300000, -1);
+    ManagedInterpreterGroup older = mockGroup(manager, "older", now - 200000, 4 * GB);
+
+    // memory of the closed process is unknown, close only one group per check
+    manager.memoryUsed = 95 * GB;
+    manager.checkMemoryPressure(now);
+    verify(oldest).close();
+    verify(older, never()).close();
+    assertEquals(0, (long) manager.getMetrics().get("evictedBytes"));
+  }
+
+  @Test
+  public void testEvictOnlyGroupsOfHostUnderPressure() {
+    manager = new FakeMemoryLifecycleManager();
+    long now = System.currentTimeMillis();
+    ManagedInterpreterGroup oldestOnHost1 = mockGroup(manager, "oldest", now - 300000, 4 * GB);
+    ManagedInterpreterGroup olderOnHost2 = mockGroup(manager, "older", now - 200000, 4 * GB);
+    ManagedInterpreterGroup oldOnHost2 = mockGroup(manager, "old", now - 100000, 4 * GB);
+    manager.hosts.put(oldestOnHost1, "host1");
+    manager.hosts.put(olderOnHost2, "host2");
+    manager.hosts.put(oldOnHost2, "host2");
+
+    // host2 is at 95%, host1 is at 50%, only the groups of host2 are closed even though the
+    // group of host1 is the least recently used one
+    manager.memoryUsages.put("host1", new MemoryUsage(50 * GB, 100 * GB));
+    manager.memoryUsages.put("host2", new MemoryUsage(95 * GB, 100 * GB));
+    manager.checkMemoryPressure(now);
+    verify(oldestOnHost1, never()).close();
+    verify(olderOnHost2).close();
+    verify(oldOnHost2).close();
+    Map<String, Long> metrics = manager.getMetrics();
+    assertEquals(2, (long) metrics.get("evictions"));
+    assertEquals(2, (long) metrics.get("hosts"));
+    assertEquals(145 * GB, (long) metrics.get("memoryUsed"));
+    assertEquals(95 * GB, (long) metrics.get("memoryUsed.host2"));
+  }
+
+  private ManagedInterpreterGroup mockGroup(FakeMemoryLifecycleManager manager, String id,
+                                            long lastTimeUsing, long memory) {
+    ManagedInterpreterGroup interpreterGroup = mock(ManagedInterpreterGroup.class);
+    when(interpreterGroup.getId()).thenReturn(id);
+    manager.interpreterGroups.put(interpreterGroup, lastTimeUsing);
+    manager.processMemory.put(interpreterGroup, memory);
+    return interpreterGroup;
+  }
+
+  private static class FakeMemoryLifecycleManager extends MemoryPressureLifecycleManager {
+    private long memoryUsed;
+    // memory usage of each host, the usage of this host is used when it's empty
+    private final Map<String, MemoryUsage> memoryUsages = new HashMap<>();
+    private final Map<ManagedInterpreterGroup, String> hosts = new HashMap<>();
+    private final Map<ManagedInterpreterGroup, Long> processMemory = new HashMap<>();
+
+    FakeMemoryLifecycleManager() {
+      super(ZeppelinConfiguration.create());
+    }
+
+    @Override
+    protected Map<String, MemoryUsage> getMemoryUsages() {
+      if (!memoryUsages.isEmpty()) {
+        return memoryUsages;
+      }
+      return Collections.singletonMap(LOCAL_HOST, new MemoryUsage(memoryUsed, 100 * GB));
+    }
+
+    @Override
+    protected String getHost(ManagedInterpreterGroup interpreterGroup) {
+      return hosts.get(interpreterGroup);
+    }
+
+    @Override
+    protected long getProcessMemory(ManagedInterpreterGroup interpreterGroup) {
+      return processMemory.get(interpreterGroup);
+    }
+  }
+}
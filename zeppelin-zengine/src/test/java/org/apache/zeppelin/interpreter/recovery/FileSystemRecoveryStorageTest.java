@@ -27,6 +27,7 @@ import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterOption;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.launcher.InterpreterClient;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
 import org.junit.After;
 import org.junit.Before;
@@ -34,8 +35,14 @@ import org.junit.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class FileSystemRecoveryStorageTest extends AbstractInterpreterTest {
 
@@ -107,4 +114,59 @@ public class FileSystemRecoveryStorageTest extends AbstractInterpreterTest {
     assertEquals(0, interpreterSettingManager.getRecoveryStorage().restore().size());
   }
 
+  @Test
+  public void testAppendNotSupported() {
+    assertTrue(FileSystemRecoveryStorage.isAppendNotSupported(
+        new UnsupportedOperationException("Append is not supported by ChecksumFileSystem")));
+    // S3AFileSystem
+    assertTrue(FileSystemRecoveryStorage.isAppendNotSupported(new IOException("Not supported")));
+    assertTrue(FileSystemRecoveryStorage.isAppendNotSupported(
+        new IOException("Fail to append", new UnsupportedOperationException())));
+    // other failures are not taken as append not being supported
+    assertFalse(FileSystemRecoveryStorage.isAppendNotSupported(
+        new IOException("Connection refused")));
+    assertFalse(FileSystemRecoveryStorage.isAppendNotSupported(new IOException()));
+  }
+
+  @Test
+  public void testJournalCompaction() throws IOException {
+    System.setProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_RECOVERY_JOURNAL_COMPACTION_THRESHOLD.getVarName(),
+        "3");
+    try {
+      RecoveryStorage recoveryStorage = interpreterSettingManager.getRecoveryStorage();
+      // recovery file of the previous format
+      File legacyFile = new File(recoveryDir, "test.recovery");
+      FileUtils.writeStringToFile(legacyFile, "test-group1\tlocalhost:10001",
+          StandardCharsets.UTF_8);
+      recoveryStorage.onInterpreterClientStart(createClient("test-group2", 10002));
+      assertEquals(2, recoveryStorage.restore().size());
+      File journalFile = new File(recoveryDir, "recovery.journal");
+      assertTrue(journalFile.exists());
+
+      recoveryStorage.onInterpreterClientStop(createClient("test-group1", 10001));
+      recoveryStorage.onInterpreterClientStart(createClient("test-group3", 10003));
+      // the journal of 3 entries is compacted into snapshot
+      assertFalse(journalFile.exists());
+      assertFalse(legacyFile.exists());
+      assertTrue(new File(recoveryDir, "recovery.snapshot").exists());
+
+      Map<String, InterpreterClient> clients = recoveryStorage.restore();
+      assertEquals(2, clients.size());
+      assertEquals(10002, clients.get("test-group2").getPort());
+      assertEquals(10003, clients.get("test-group3").getPort());
+    } finally {
+      System.clearProperty(ZeppelinConfiguration.ConfVars
+          .ZEPPELIN_RECOVERY_JOURNAL_COMPACTION_THRESHOLD.getVarName());
+    }
+  }
+
+  private InterpreterClient createClient(String interpreterGroupId, int port) {
+    InterpreterClient client = mock(InterpreterClient.class);
+    when(client.getInterpreterSettingName()).thenReturn("test");
+    when(client.getInterpreterGroupId()).thenReturn(interpreterGroupId);
+    when(client.getHost()).thenReturn("localhost");
+    when(client.getPort()).thenReturn(port);
+    return client;
+  }
 }
@@ -29,6 +29,7 @@ import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.InterpreterOption;
+import org.apache.zeppelin.interpreter.InterpreterProcessPool;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
@@ -187,6 +188,49 @@ public class RemoteInterpreterTest extends AbstractInterpreterTest {
 
   }
 
+  @Test
+  public void testPrelaunchedProcess() throws InterpreterException, InterruptedException {
+    interpreterSetting.getOption().setPerUser(InterpreterOption.ISOLATED);
+    interpreterSetting.setProperty(InterpreterProcessPool.POOL_SIZE, "1");
+    InterpreterProcessPool processPool = interpreterSetting.getProcessPool();
+
+    // the pool is filled when the interpreter setting is updated, before any interpreter group
+    processPool.prefill();
+    waitForIdleProcess(processPool);
+
+    // the process of user1 is taken from the pool and bound to its interpreter group
+    RemoteInterpreter remoteInterpreter1 =
+        (RemoteInterpreter) interpreterSetting.getDefaultInterpreter("user1", "note1");
+    InterpreterContext context1 = createDummyInterpreterContext();
+    assertEquals("hello", remoteInterpreter1.interpret("hello", context1).message().get(0).getData());
+    RemoteInterpreterProcess process1 =
+        remoteInterpreter1.getInterpreterGroup().getRemoteInterpreterProcess();
+    assertEquals(remoteInterpreter1.getInterpreterGroup().getId(), process1.getInterpreterGroupId());
+
+    // the pool is refilled in the background, then the process of user2 is taken from it
+    waitForIdleProcess(processPool);
+    RemoteInterpreter remoteInterpreter2 =
+        (RemoteInterpreter) interpreterSetting.getDefaultInterpreter("user2", "note1");
+    assertEquals("hello", remoteInterpreter2.interpret("hello", context1).message().get(0).getData());
+    RemoteInterpreterProcess process2 =
+        remoteInterpreter2.getInterpreterGroup().getRemoteInterpreterProcess();
+    assertEquals(remoteInterpreter2.getInterpreterGroup().getId(), process2.getInterpreterGroupId());
+    assertNotEquals(remoteInterpreter1.getInterpreterGroup().getRemoteInterpreterProcess(),
+        process2);
+
+    remoteInterpreter1.getInterpreterGroup().close();
+    remoteInterpreter2.getInterpreterGroup().close();
+  }
+
+  private void waitForIdleProcess(InterpreterProcessPool processPool)
+      throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (processPool.getIdleCount() == 0 && (System.currentTimeMillis() - start) < 30 * 1000) {
+      Thread.sleep(100);
+    }
+    assertEquals(1, processPool.getIdleCount());
+  }
+
   @Test
   public void testExecuteIncorrectPrecode() throws TTransportException, IOException, InterpreterException {
     interpreterSetting.getOption().setPerUser(InterpreterOption.SHARED);
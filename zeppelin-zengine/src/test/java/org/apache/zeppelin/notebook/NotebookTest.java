@@ -29,6 +29,7 @@ import org.apache.zeppelin.interpreter.InterpreterNotFoundException;
 import org.apache.zeppelin.interpreter.InterpreterOption;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
 import org.apache.zeppelin.notebook.repo.NotebookRepo;
 import org.apache.zeppelin.notebook.repo.NotebookRepoSettingsInfo;
@@ -107,6 +108,7 @@ public class NotebookTest extends AbstractInterpreterTest implements ParagraphJo
 
   @After
   public void tearDown() throws Exception {
+    schedulerService.close();
     super.tearDown();
     System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_PUBLIC.getVarName());
     System.clearProperty(ConfVars.ZEPPELIN_NOTEBOOK_CRON_ENABLE.getVarName());
@@ -517,6 +519,58 @@ public class NotebookTest extends AbstractInterpreterTest implements ParagraphJo
     notebook.removeNote(note, anonymous);
   }
 
+  @Test
+  public void testRunAllParallelOfSameInterpreterSetting() throws Exception {
+    Note note = notebook.createNote("note1", anonymous);
+    note.getConfig().put("runAllParallelism", 2);
+
+    Paragraph p1 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p1.setText("%test.sleep 1000");
+    // different prefix, same interpreter setting as p1
+    Paragraph p2 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p2.setText("%echo p2");
+    Paragraph p3 = note.addNewParagraph(AuthenticationInfo.ANONYMOUS);
+    p3.setText("%mock1 p3");
+
+    note.runAll(anonymous, true, false, new HashMap<>());
+
+    assertEquals(Status.FINISHED, p1.getStatus());
+    assertEquals("p2", p2.getReturn().message().get(0).getData());
+    assertEquals("repl1: p3", p3.getReturn().message().get(0).getData());
+    // p2 waits for p1 because they share the interpreter group
+    assertTrue(p2.getDateStarted().getTime() >= p1.getDateFinished().getTime());
+
+    notebook.removeNote(note, anonymous);
+  }
+
+  @Test
+  public void testRunAllParallelOfPerUserIsolatedInterpreter() throws Exception {
+    InterpreterSetting setting = interpreterSettingManager.getByName("test");
+    setting.getOption().setPerUser(InterpreterOption.ISOLATED);
+    AuthenticationInfo user1 = new AuthenticationInfo("user1");
+    AuthenticationInfo user2 = new AuthenticationInfo("user2");
+    Note note = notebook.createNote("note1", user1);
+    note.getConfig().put("runAllParallelism", 2);
+
+    // paragraphs are written by user1, then the note is run by user2
+    Paragraph p1 = note.addNewParagraph(user1);
+    p1.setText("%test.sleep 1000");
+    Paragraph p2 = note.addNewParagraph(user1);
+    p2.setText("%echo p2");
+
+    note.runAll(user2, true, false, new HashMap<>());
+
+    assertEquals(Status.FINISHED, p1.getStatus());
+    assertEquals("p2", p2.getReturn().message().get(0).getData());
+    // p2 waits for p1 because they share the interpreter group of user2
+    assertTrue(p2.getDateStarted().getTime() >= p1.getDateFinished().getTime());
+    for (ManagedInterpreterGroup group : setting.getAllInterpreterGroups()) {
+      assertTrue(group.getId(), group.getId().endsWith("-user2"));
+    }
+
+    notebook.removeNote(note, user1);
+  }
+
   @Test
   public void testSchedule() throws InterruptedException, IOException {
     // create a note and a paragraph
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import com.google.common.collect.Sets;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParagraphDagTest {
+
+  private Paragraph createParagraph(String id, String text) {
+    Paragraph p = new Paragraph(id, null, null);
+    p.setText(text);
+    return p;
+  }
+
+  @Test
+  public void testDependencies() {
+    List<Paragraph> paragraphs = new ArrayList<>();
+    paragraphs.add(createParagraph("p1", "%spark\nval df = spark.range(10)"));
+    paragraphs.add(createParagraph("p2", "%jdbc(dependsOn=\"\")\nselect 1"));
+    paragraphs.add(createParagraph("p3", "%jdbc(dependsOn=\"\")\nselect 2"));
+    paragraphs.add(createParagraph("p4", "%spark.sql\nselect * from t"));
+    paragraphs.add(createParagraph("p5", "%python\nz.put('result', 1)"));
+    paragraphs.add(createParagraph("p6", "%sh(dependsOn=\"p2, p3, p9\")\nls"));
+    paragraphs.add(createParagraph("p7", "%md(dependsOn=\"\")\nz.get(\"result\")"));
+    ParagraphDag dag = new ParagraphDag(paragraphs);
+
+    assertEquals(Sets.newHashSet(), dag.getDependencies("p1"));
+    assertEquals(Sets.newHashSet(), dag.getDependencies("p2"));
+    assertEquals(Sets.newHashSet(), dag.getDependencies("p3"));
+    // same interpreter group
+    assertEquals(Sets.newHashSet("p1"), dag.getDependencies("p4"));
+    assertEquals(Sets.newHashSet(), dag.getDependencies("p5"));
+    // unknown paragraph is ignored
+    assertEquals(Sets.newHashSet("p2", "p3"), dag.getDependencies("p6"));
+    // resource pool dependency
+    assertEquals(Sets.newHashSet("p5"), dag.getDependencies("p7"));
+
+    assertEquals(Sets.newHashSet("p6"), dag.getDependents("p2"));
+    assertEquals(Sets.newHashSet("p4"), dag.getAllDependents("p1"));
+  }
+
+  @Test
+  public void testCriticalPath() {
+    List<Paragraph> paragraphs = new ArrayList<>();
+    paragraphs.add(createParagraph("p1", "%jdbc(dependsOn=\"\")\nselect 1"));
+    paragraphs.add(createParagraph("p2", "%jdbc(dependsOn=\"\")\nselect 2"));
+    paragraphs.add(createParagraph("p3", "%jdbc(dependsOn=\"p1,p2\")\nselect 3"));
+    paragraphs.add(createParagraph("p4", "%jdbc(dependsOn=\"p1\")\nselect 4"));
+    ParagraphDag dag = new ParagraphDag(paragraphs);
+
+    assertEquals(Sets.newHashSet("p3", "p4"), dag.getAllDependents("p1"));
+
+    Map<String, Long> runTimes = new HashMap<>();
+    runTimes.put("p1", 10L);
+    runTimes.put("p2", 30L);
+    runTimes.put("p3", 5L);
+    runTimes.put("p4", 20L);
+    assertEquals(Arrays.asList("p2", "p3"), dag.getCriticalPath(runTimes));
+
+    runTimes.put("p4", 40L);
+    assertEquals(Arrays.asList("p1", "p4"), dag.getCriticalPath(runTimes));
+  }
+}
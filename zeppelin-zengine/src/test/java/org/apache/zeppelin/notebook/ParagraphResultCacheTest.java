@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class ParagraphResultCacheTest {
+
+  private Map<String, String> properties(String... keyValues) {
+    Map<String, String> properties = new HashMap<>();
+    for (int i = 0; i < keyValues.length; i += 2) {
+      properties.put(keyValues[i], keyValues[i + 1]);
+    }
+    return properties;
+  }
+
+  private InterpreterResult success(String data) {
+    return new InterpreterResult(InterpreterResult.Code.SUCCESS, InterpreterResult.Type.TEXT, data);
+  }
+
+  @Test
+  public void testKey() {
+    Map<String, Object> params = new HashMap<>();
+    params.put("name", "a");
+    String key = ParagraphResultCache.getKey("spark", "select 1", params,
+        properties("cacheTtl", "60"));
+    assertEquals(key, ParagraphResultCache.getKey("spark", "select 1", params,
+        properties("cacheTtl", "600")));
+    assertNotEquals(key, ParagraphResultCache.getKey("jdbc", "select 1", params,
+        properties("cacheTtl", "60")));
+    assertNotEquals(key, ParagraphResultCache.getKey("spark", "select 2", params,
+        properties("cacheTtl", "60")));
+    assertNotEquals(key, ParagraphResultCache.getKey("spark", "select 1", new HashMap<>(),
+        properties("cacheTtl", "60")));
+    assertNotEquals(key, ParagraphResultCache.getKey("spark", "select 1", params,
+        properties("cacheTtl", "60", "type", "sql")));
+  }
+
+  @Test
+  public void testGetAndPut() throws InterruptedException {
+    ParagraphResultCache cache = new ParagraphResultCache(10, 1024);
+    assertEquals(0, cache.getTtl(properties()));
+    assertEquals(0, cache.getTtl(properties("cacheTtl", "invalid")));
+    assertEquals(60 * 1000, cache.getTtl(properties("cacheTtl", "60")));
+
+    assertNull(cache.get("k1"));
+    cache.put("k1", success("result1"), 60 * 1000);
+    assertEquals("result1", cache.get("k1").message().get(0).getData());
+
+    // failed results are not cached
+    cache.put("k2", new InterpreterResult(InterpreterResult.Code.ERROR, InterpreterResult.Type.TEXT, "error"), 60 * 1000);
+    assertNull(cache.get("k2"));
+
+    // expired
+    cache.put("k3", success("result3"), 100);
+    Thread.sleep(200);
+    assertNull(cache.get("k3"));
+
+    Map<String, Object> stats = cache.getStats();
+    assertEquals(1L, stats.get("hits"));
+    assertEquals(3L, stats.get("misses"));
+    assertEquals(1, stats.get("entries"));
+  }
+
+  @Test
+  public void testEviction() {
+    ParagraphResultCache cache = new ParagraphResultCache(2, 1024);
+    cache.put("k1", success("result1"), 60 * 1000);
+    cache.put("k2", success("result2"), 60 * 1000);
+    // k2 becomes the least recently used one
+    cache.get("k1");
+    cache.put("k3", success("result3"), 60 * 1000);
+    assertNull(cache.get("k2"));
+    assertEquals("result1", cache.get("k1").message().get(0).getData());
+    assertEquals("result3", cache.get("k3").message().get(0).getData());
+
+    // evicted by size, 2 bytes per char
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 510; i++) {
+      builder.append("a");
+    }
+    cache.put("k4", success(builder.toString()), 60 * 1000);
+    assertEquals(1, cache.getStats().get("entries"));
+    assertEquals(1020L, cache.getStats().get("bytes"));
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.scheduler;
+
+import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.notebook.Note;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CronJobDispatcherTest {
+
+  private CronJobDispatcher dispatcher;
+
+  @After
+  public void tearDown() {
+    if (dispatcher != null) {
+      dispatcher.shutdown();
+    }
+  }
+
+  private Note createNote(String id) {
+    Note note = new Note();
+    note.setId(id);
+    return note;
+  }
+
+  private Note createNote(String id, String... interpreters) {
+    Note note = new Note() {
+      @Override
+      public List<InterpreterSetting> getUsedInterpreterSettings() {
+        List<InterpreterSetting> settings = new ArrayList<>();
+        for (String interpreter : interpreters) {
+          settings.add(new InterpreterSetting.Builder().setName(interpreter).create());
+        }
+        return settings;
+      }
+    };
+    note.setId(id);
+    return note;
+  }
+
+  private void waitForFinished(long finished) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while ((long) dispatcher.getStats().get("finished") < finished
+        && System.currentTimeMillis() - start < 10 * 1000) {
+      Thread.sleep(10);
+    }
+    assertEquals(finished, dispatcher.getStats().get("finished"));
+  }
+
+  @Test
+  public void testMaxConcurrency() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    dispatcher = new CronJobDispatcher(2, 0, 0, CronJobDispatcher.MisfirePolicy.FIRE_ONCE, note -> {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    dispatcher.submit(createNote("note1"));
+    dispatcher.submit(createNote("note2"));
+    dispatcher.submit(createNote("note3"));
+    // dropped because the previous run of note3 is still pending
+    dispatcher.submit(createNote("note3"));
+
+    assertEquals(2, dispatcher.getStats().get("running"));
+    assertEquals(1, dispatcher.getStats().get("pending"));
+    assertEquals("note3", ((List) dispatcher.getStats().get("pendingNotes")).get(0));
+    assertEquals(1L, dispatcher.getStats().get("dropped"));
+
+    latch.countDown();
+    waitForFinished(3);
+    assertEquals(0, dispatcher.getStats().get("running"));
+  }
+
+  @Test
+  public void testMaxConcurrencyPerInterpreter() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    dispatcher = new CronJobDispatcher(0, 1, 0, CronJobDispatcher.MisfirePolicy.FIRE_ONCE,
+        note -> {
+          try {
+            latch.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    dispatcher.submit(createNote("note1", "spark"));
+    // waits for note1 which uses spark too
+    dispatcher.submit(createNote("note2", "spark", "md"));
+    // doesn't wait for note2 which is pending
+    dispatcher.submit(createNote("note3", "md"));
+
+    assertEquals(2, dispatcher.getStats().get("running"));
+    assertEquals(1, dispatcher.getStats().get("pending"));
+    assertEquals("note2", ((List) dispatcher.getStats().get("pendingNotes")).get(0));
+    Map<String, Integer> runningPerInterpreter =
+        (Map<String, Integer>) dispatcher.getStats().get("runningPerInterpreter");
+    assertEquals(1, (int) runningPerInterpreter.get("spark"));
+    assertEquals(1, (int) runningPerInterpreter.get("md"));
+
+    latch.countDown();
+    waitForFinished(3);
+    assertTrue(((Map) dispatcher.getStats().get("runningPerInterpreter")).isEmpty());
+  }
+
+  @Test
+  public void testSkip() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    List<String> runs = Collections.synchronizedList(new ArrayList<>());
+    dispatcher = new CronJobDispatcher(1, 0, 0, CronJobDispatcher.MisfirePolicy.SKIP, note -> {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      runs.add(note.getId());
+    });
+    long now = System.currentTimeMillis();
+    dispatcher.submit(createNote("note1"), now + 60 * 1000);
+    // its next fire time is passed before it can start
+    dispatcher.submit(createNote("note2"), now + 100);
+    dispatcher.submit(createNote("note3"), now + 60 * 1000);
+    // the pending run of note3 is replaced by the run of its next fire
+    dispatcher.submit(createNote("note3"), now + 60 * 1000);
+    assertEquals(2, dispatcher.getStats().get("pending"));
+    assertEquals(1L, dispatcher.getStats().get("dropped"));
+
+    Thread.sleep(200);
+    latch.countDown();
+    waitForFinished(2);
+    assertEquals(Arrays.asList("note1", "note3"), runs);
+    assertEquals(2L, dispatcher.getStats().get("dropped"));
+  }
+
+  @Test
+  public void testCatchUp() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    dispatcher = new CronJobDispatcher(1, 0, 0, CronJobDispatcher.MisfirePolicy.CATCH_UP, note -> {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    dispatcher.submit(createNote("note1"));
+    dispatcher.submit(createNote("note2"));
+    dispatcher.submit(createNote("note2"));
+    assertEquals(2, dispatcher.getStats().get("pending"));
+    assertEquals(0L, dispatcher.getStats().get("dropped"));
+    latch.countDown();
+  }
+
+  @Test
+  public void testJitter() {
+    dispatcher = new CronJobDispatcher(0, 0, 60 * 1000, CronJobDispatcher.MisfirePolicy.FIRE_ONCE, note -> { });
+    for (int i = 0; i < 100; i++) {
+      long jitter = dispatcher.getJitter("note" + i);
+      assertTrue(jitter >= 0 && jitter <= 60 * 1000);
+      assertEquals(jitter, dispatcher.getJitter("note" + i));
+    }
+    dispatcher.shutdown();
+    dispatcher = new CronJobDispatcher(0, 0, 0, CronJobDispatcher.MisfirePolicy.FIRE_ONCE, note -> { });
+    assertEquals(0, dispatcher.getJitter("note1"));
+  }
+}
@@ -28,6 +28,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.apache.zeppelin.interpreter.InterpreterOption.ISOLATED;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -147,6 +149,130 @@ public class DistributedResourcePoolTest extends AbstractInterpreterTest {
     assertEquals("value2", pool1.getAll().get(1).get());
   }
 
+  @Test
+  public void testRemoteResourceCache() {
+    final LocalResourcePool pool2 = new LocalResourcePool("pool2");
+    final AtomicInteger reads = new AtomicInteger();
+    final AtomicInteger listings = new AtomicInteger();
+    DistributedResourcePool pool1 = new DistributedResourcePool("pool1", new ResourcePoolConnector() {
+      @Override
+      public ResourceSet getAllResources() {
+        listings.incrementAndGet();
+        ResourceSet remoteSet = new ResourceSet();
+        for (Resource s : pool2.getAll()) {
+          RemoteResource remoteResource = RemoteResource.fromJson(s.toJson());
+          remoteResource.setResourcePoolConnector(this);
+          remoteSet.add(remoteResource);
+        }
+        return remoteSet;
+      }
+
+      @Override
+      public Object readResource(ResourceId id) {
+        reads.incrementAndGet();
+        Resource resource = pool2.get(id.getName());
+        return resource == null ? null : resource.get();
+      }
+
+      @Override
+      public Object invokeMethod(ResourceId id, String methodName, Class[] paramTypes, Object[] params) {
+        return null;
+      }
+
+      @Override
+      public Resource invokeMethod(ResourceId id, String methodName, Class[] paramTypes, Object[]
+          params, String returnResourceName) {
+        return null;
+      }
+    });
+    pool1.setRemoteCacheSize(10);
+    // invalidations are pushed from the owner pool
+    pool2.setResourcePoolListener(pool1::invalidateRemoteResource);
+
+    pool2.put("object1", "value1");
+    Resource resource = pool1.get("object1");
+    assertEquals("value1", resource.get());
+    assertEquals("value1", resource.get());
+    assertEquals("value1", pool1.get("object1").get());
+    assertEquals(1, reads.get());
+    assertEquals(2, pool1.getRemoteCacheHits());
+    // lookups are answered from the last listing
+    assertEquals(1, listings.get());
+
+    // update in the owner pool invalidates the cached value
+    pool2.put("object1", "value2");
+    assertEquals("value2", pool1.get("object1").get());
+    assertEquals(2, reads.get());
+    assertEquals(2, listings.get());
+
+    // a new resource is listed again
+    pool2.put("object2", "value3");
+    assertEquals("value3", pool1.get("object2").get());
+    assertEquals(3, listings.get());
+
+    // remove as well
+    pool2.remove("object1");
+    assertEquals(null, pool1.get("object1"));
+    assertEquals(null, resource.get());
+    assertEquals(4, reads.get());
+  }
+
+  @Test
+  public void testRemoteResourceOfUnpublishedPoolIsNotCached() {
+    // e.g. pool of an interpreter process launched before the cache is in use
+    final LocalResourcePool pool2 = new LocalResourcePool("pool2");
+    final AtomicInteger reads = new AtomicInteger();
+    final AtomicInteger listings = new AtomicInteger();
+    DistributedResourcePool pool1 = new DistributedResourcePool("pool1", new ResourcePoolConnector() {
+      @Override
+      public ResourceSet getAllResources() {
+        listings.incrementAndGet();
+        ResourceSet remoteSet = new ResourceSet();
+        for (Resource s : pool2.getAll()) {
+          RemoteResource remoteResource = RemoteResource.fromJson(s.toJson());
+          remoteResource.setResourcePoolConnector(this);
+          remoteSet.add(remoteResource);
+        }
+        return remoteSet;
+      }
+
+      @Override
+      public Object readResource(ResourceId id) {
+        reads.incrementAndGet();
+        Resource resource = pool2.get(id.getName());
+        return resource == null ? null : resource.get();
+      }
+
+      @Override
+      public Object invokeMethod(ResourceId id, String methodName, Class[] paramTypes, Object[] params) {
+        return null;
+      }
+
+      @Override
+      public Resource invokeMethod(ResourceId id, String methodName, Class[] paramTypes, Object[]
+          params, String returnResourceName) {
+        return null;
+      }
+    });
+    pool1.setRemoteCacheSize(10);
+
+    pool2.put("object1", "value1");
+    assertEquals("value1", pool1.get("object1").get());
+    // the update is not pushed, but it's read from the owner pool
+    pool2.put("object1", "value2");
+    assertEquals("value2", pool1.get("object1").get());
+    assertEquals(2, reads.get());
+    assertEquals(2, listings.get());
+    assertEquals(0, pool1.getRemoteCacheHits());
+
+    // cached once the owner pool publishes its updates
+    pool2.setResourcePoolListener(pool1::invalidateRemoteResource);
+    assertEquals("value2", pool1.get("object1").get());
+    assertEquals("value2", pool1.get("object1").get());
+    assertEquals(3, reads.get());
+    assertEquals(1, pool1.getRemoteCacheHits());
+  }
+
   @Test
   public void testResourcePoolUtils() throws InterpreterException {
     Gson gson = new Gson();